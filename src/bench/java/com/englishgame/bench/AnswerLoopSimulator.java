@@ -0,0 +1,284 @@
+package com.englishgame.bench;
+
+import com.englishgame.AppGameMode;
+import com.englishgame.controller.GameController;
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.ReviewDatabases;
+import com.englishgame.model.SpanishExpression;
+import com.englishgame.repository.implementations.DBRepositoryImpl;
+import com.englishgame.service.implementations.DatabaseServiceImpl;
+import com.englishgame.service.implementations.GameDataServiceImpl;
+import com.englishgame.service.implementations.GameLogicServiceImpl;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CyclicBarrier;
+
+/**
+ * Deterministic load simulator for the answer loop.
+ * <p>
+ * Every learner gets its own services and a synthetic vocabulary (as server profiles do) and plays
+ * {@code startNewRound} + {@code processAnswer}, with a learned-words review every {@code reviewEvery} rounds.
+ * All randomness (initial scores, round selection, right/wrong answers) comes from {@code seed}, so two runs
+ * with the same options play the same game; the final state checksum makes that easy to verify.
+ * <p>
+ * Options ({@code --name=value}): rows (10000), cohort (1), translations (2), learners (1), rounds (100000),
+ * warmup (10000), correct (0.7), reviewEvery (50), seed (42), mode (classic), persist (false), verbose (false).
+ */
+public final class AnswerLoopSimulator {
+
+    private final Options options;
+
+    private AnswerLoopSimulator(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        if (!options.verbose) {
+            BenchFixtures.quietLogs();
+        }
+        new AnswerLoopSimulator(options).run();
+    }
+
+    private void run() throws Exception {
+        SyntheticVocabulary vocabulary =
+                new SyntheticVocabulary(options.rows, options.cohort, options.translations);
+        long setupStart = System.nanoTime();
+        List<Learner> learners = new ArrayList<>();
+        for (int i = 0; i < options.learners; i++) {
+            learners.add(new Learner(i, vocabulary));
+        }
+        long setupNanos = System.nanoTime() - setupStart;
+
+        CyclicBarrier measuredPhase = new CyclicBarrier(options.learners + 1);
+        List<Thread> threads = new ArrayList<>();
+        for (Learner learner : learners) {
+            Thread thread = new Thread(() -> learner.play(measuredPhase), "learner-" + learner.index);
+            threads.add(thread);
+            thread.start();
+        }
+        measuredPhase.await();
+        long start = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long wallNanos = System.nanoTime() - start;
+
+        report(learners, setupNanos, wallNanos);
+        for (Learner learner : learners) {
+            learner.close();
+        }
+    }
+
+    private void report(List<Learner> learners, long setupNanos, long wallNanos) {
+        List<LatencyRecorder> answers = new ArrayList<>();
+        List<LatencyRecorder> reviews = new ArrayList<>();
+        long allocated = 0;
+        long checksum = 17;
+        int exhausted = 0;
+        for (Learner learner : learners) {
+            answers.add(learner.answerLatency);
+            reviews.add(learner.reviewLatency);
+            allocated += Math.max(0, learner.allocatedBytes);
+            checksum = 31 * checksum + learner.stateChecksum();
+            exhausted += learner.exhausted ? 1 : 0;
+        }
+        LatencyRecorder answerLatency = LatencyRecorder.merge(answers);
+        LatencyRecorder reviewLatency = LatencyRecorder.merge(reviews);
+        double seconds = wallNanos / 1e9;
+
+        System.out.println("English Game answer-loop simulation");
+        System.out.printf(Locale.ROOT, "  vocabulary  : %d rows/learner, cohort %d, %d translations/row, seed %d%n",
+                options.rows, options.cohort, options.translations, options.seed);
+        System.out.printf(Locale.ROOT, "  learners    : %d x %d rounds (+%d warm-up), %.0f%% correct, persist=%s%n",
+                options.learners, options.rounds, options.warmup, options.correct * 100, options.persist);
+        System.out.printf(Locale.ROOT, "  setup       : %.1f ms%n", setupNanos / 1e6);
+        System.out.printf(Locale.ROOT, "  rounds/sec  : %.0f (%d rounds in %.2f s)%n",
+                answerLatency.count() / seconds, answerLatency.count(), seconds);
+        System.out.printf(Locale.ROOT, "  round       : p50 %s, p99 %s%n",
+                micros(answerLatency.percentile(50)), micros(answerLatency.percentile(99)));
+        System.out.printf(Locale.ROOT, "  review      : %d attempts, p50 %s, p99 %s%n", reviewLatency.count(),
+                micros(reviewLatency.percentile(50)), micros(reviewLatency.percentile(99)));
+        if (allocated > 0) {
+            System.out.printf(Locale.ROOT, "  allocation  : %.1f MB/s, %.1f KB/round%n",
+                    allocated / seconds / (1024 * 1024),
+                    allocated / 1024.0 / Math.max(1, answerLatency.count() + reviewLatency.count()));
+        } else {
+            System.out.println("  allocation  : not supported by this JVM");
+        }
+        if (exhausted > 0) {
+            System.out.printf(Locale.ROOT, "  note        : %d learner(s) ran out of playable rows%n", exhausted);
+        }
+        System.out.printf(Locale.ROOT, "  checksum    : %016x%n", checksum);
+    }
+
+    private static String micros(long nanos) {
+        return String.format(Locale.ROOT, "%.1f us", nanos / 1e3);
+    }
+
+    /** One simulated player with its own services, data and RNG. */
+    private final class Learner {
+
+        private final int index;
+        private final Random random;
+        private final GameController controller;
+        private final Path dataDirectory;
+        private final LatencyRecorder answerLatency;
+        private final LatencyRecorder reviewLatency;
+        private long allocatedBytes = -1;
+        private boolean exhausted;
+
+        Learner(int index, SyntheticVocabulary vocabulary) throws IOException {
+            this.index = index;
+            this.random = new Random(options.seed * 31 + index);
+            DBRepositoryImpl repository = new DBRepositoryImpl();
+            vocabulary.writeTo(repository, options.mode, random);
+
+            GameDataServiceImpl gameDataService;
+            if (options.persist) {
+                dataDirectory = Files.createTempDirectory("english-game-bench-");
+                gameDataService = new GameDataServiceImpl(repository, options.mode);
+                gameDataService.setDataDirectory(dataDirectory.toString());
+            } else {
+                dataDirectory = null;
+                gameDataService = new UnsavedGameDataService(repository, options.mode);
+            }
+            DatabaseServiceImpl databaseService =
+                    new DatabaseServiceImpl(gameDataService, new Random(random.nextLong()));
+            GameLogicServiceImpl gameLogicService = new GameLogicServiceImpl(gameDataService, databaseService);
+            controller = new GameController(gameLogicService, databaseService, gameDataService, options.mode,
+                    false);
+            if (!controller.selectDatabase(SyntheticVocabulary.DATABASE)) {
+                throw new IllegalStateException("Synthetic database was not loaded");
+            }
+            answerLatency = new LatencyRecorder(options.rounds);
+            reviewLatency = new LatencyRecorder(options.reviewEvery > 0 ? options.rounds / options.reviewEvery : 0);
+        }
+
+        void play(CyclicBarrier measuredPhase) {
+            try {
+                playRounds(options.warmup, null, null);
+                measuredPhase.await();
+                long allocatedBefore = threadAllocatedBytes();
+                playRounds(options.rounds, answerLatency, reviewLatency);
+                long allocatedAfter = threadAllocatedBytes();
+                if (allocatedBefore >= 0 && allocatedAfter >= 0) {
+                    allocatedBytes = allocatedAfter - allocatedBefore;
+                }
+            } catch (Exception e) {
+                throw new IllegalStateException("Learner " + index + " failed", e);
+            }
+        }
+
+        private void playRounds(int rounds, LatencyRecorder answers, LatencyRecorder reviews) {
+            for (int round = 1; round <= rounds && !exhausted; round++) {
+                long t0 = System.nanoTime();
+                SpanishExpression prompt = controller.startNewRound();
+                if (prompt == null) {
+                    exhausted = true;
+                    return;
+                }
+                controller.processAnswer(random.nextDouble() < options.correct ? rightAnswer(prompt) : "no idea");
+                if (answers != null) {
+                    answers.record(System.nanoTime() - t0);
+                }
+                if (options.reviewEvery > 0 && round % options.reviewEvery == 0) {
+                    review(reviews);
+                }
+            }
+        }
+
+        private String rightAnswer(SpanishExpression prompt) {
+            List<EnglishExpression> translations = prompt.getTranslations();
+            return translations.get(random.nextInt(translations.size())).getExpression();
+        }
+
+        private void review(LatencyRecorder reviews) {
+            long t0 = System.nanoTime();
+            List<EnglishExpression> cards =
+                    controller.getEnglishExpressionsFromDatabase(ReviewDatabases.LEARNED_WORDS_KEY);
+            if (cards.isEmpty()) {
+                return;
+            }
+            EnglishExpression card = cards.get(random.nextInt(cards.size()));
+            String answer = random.nextDouble() < options.correct ? card.getExpression() : "no idea";
+            controller.submitLearnedWordsReviewAnswer(card, answer, ReviewDatabases.LEARNED_WORDS_KEY,
+                    card.getPracticeSourceDatabase());
+            if (reviews != null) {
+                reviews.record(System.nanoTime() - t0);
+            }
+        }
+
+        /** Order-independent digest of every score, to compare runs with the same seed. */
+        long stateChecksum() {
+            long sum = 0;
+            for (String database : controller.getAvailableDatabases()) {
+                for (SpanishExpression row : controller.getSpanishExpressionsFromDatabase(database)) {
+                    sum += (long) row.getExpression().hashCode() * (row.getScore() + 1);
+                    for (EnglishExpression en : row.getTranslations()) {
+                        sum += (long) en.getExpression().hashCode() * (en.getScore() + 7);
+                    }
+                }
+                for (EnglishExpression en : controller.getEnglishExpressionsFromDatabase(database)) {
+                    sum += (long) (database + en.getExpression()).hashCode() * (en.getScore() + 13);
+                }
+            }
+            return sum;
+        }
+
+        void close() throws IOException {
+            BenchFixtures.deleteRecursively(dataDirectory);
+        }
+    }
+
+    private static long threadAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    private record Options(int rows, int cohort, int translations, int learners, int rounds, int warmup,
+                           double correct, int reviewEvery, long seed, AppGameMode mode, boolean persist,
+                           boolean verbose) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--")) {
+                    throw new IllegalArgumentException("Unexpected argument: " + arg);
+                }
+                int eq = arg.indexOf('=');
+                values.put(eq < 0 ? arg.substring(2) : arg.substring(2, eq), eq < 0 ? "true" : arg.substring(eq + 1));
+            }
+            AppGameMode mode = AppGameMode.fromProgramArgument(values.getOrDefault("mode", "classic"));
+            Options options = new Options(
+                    Integer.parseInt(values.getOrDefault("rows", "10000")),
+                    Integer.parseInt(values.getOrDefault("cohort", "1")),
+                    Integer.parseInt(values.getOrDefault("translations", "2")),
+                    Integer.parseInt(values.getOrDefault("learners", "1")),
+                    Integer.parseInt(values.getOrDefault("rounds", "100000")),
+                    Integer.parseInt(values.getOrDefault("warmup", "10000")),
+                    Double.parseDouble(values.getOrDefault("correct", "0.7")),
+                    Integer.parseInt(values.getOrDefault("reviewEvery", "50")),
+                    Long.parseLong(values.getOrDefault("seed", "42")),
+                    mode != null ? mode : AppGameMode.CLASSIC,
+                    Boolean.parseBoolean(values.getOrDefault("persist", "false")),
+                    Boolean.parseBoolean(values.getOrDefault("verbose", "false")));
+            if (options.learners < 1 || options.rounds < 1 || options.warmup < 0) {
+                throw new IllegalArgumentException("learners and rounds must be positive, warmup non-negative");
+            }
+            return options;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.englishgame.bench;
+
+import ch.qos.logback.classic.Level;
+import com.englishgame.AppGameMode;
+import com.englishgame.repository.implementations.DBRepositoryImpl;
+import com.englishgame.service.implementations.DatabaseServiceImpl;
+import com.englishgame.service.implementations.GameDataServiceImpl;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+
+/** Shared setup for the simulator and the JMH benchmarks. */
+final class BenchFixtures {
+
+    static final long SEED = 42L;
+
+    private BenchFixtures() {
+    }
+
+    /** The app logs at DEBUG; at benchmark speed that would measure logback instead of the game. */
+    static void quietLogs() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.englishgame")).setLevel(Level.ERROR);
+    }
+
+    /** Services over an in-memory synthetic vocabulary that never write to disk. */
+    static DatabaseServiceImpl unsavedDatabaseService(SyntheticVocabulary vocabulary, long seed) {
+        Random random = new Random(seed);
+        DBRepositoryImpl repository = new DBRepositoryImpl();
+        vocabulary.writeTo(repository, AppGameMode.CLASSIC, random);
+        return load(new UnsavedGameDataService(repository, AppGameMode.CLASSIC), random);
+    }
+
+    /** Wires a database service to {@code gameDataService} and loads whatever its repository holds. */
+    static DatabaseServiceImpl load(GameDataServiceImpl gameDataService, Random random) {
+        DatabaseServiceImpl databaseService = new DatabaseServiceImpl(gameDataService, new Random(random.nextLong()));
+        gameDataService.setDatabaseService(databaseService);
+        databaseService.synchronizeWithRepository();
+        return databaseService;
+    }
+
+    static void deleteRecursively(Path directory) throws IOException {
+        if (directory == null || !Files.exists(directory)) {
+            return;
+        }
+        try (var walk = Files.walk(directory)) {
+            walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+}
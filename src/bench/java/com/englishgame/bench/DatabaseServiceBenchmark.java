@@ -0,0 +1,65 @@
+package com.englishgame.bench;
+
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.SpanishExpression;
+import com.englishgame.service.implementations.DatabaseServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Read paths of the in-memory databases plus insertion (fresh vocabulary per iteration, as adds grow it). */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DatabaseServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private DatabaseServiceImpl databaseService;
+    private String searchText;
+    private long added;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        BenchFixtures.quietLogs();
+        databaseService = BenchFixtures.unsavedDatabaseService(new SyntheticVocabulary(size, 1, 2), BenchFixtures.SEED);
+        searchText = "frase " + (size / 2);
+        added = 0;
+    }
+
+    @Benchmark
+    public SpanishExpression getRandomSpanishExpression() {
+        return databaseService.getRandomSpanishExpression(SyntheticVocabulary.DATABASE);
+    }
+
+    @Benchmark
+    public int searchSpanishExpressions() {
+        return databaseService.searchSpanishExpressions(SyntheticVocabulary.DATABASE, searchText).size();
+    }
+
+    @Benchmark
+    public boolean addSpanishExpression() {
+        long n = added++;
+        List<EnglishExpression> translations = new ArrayList<>();
+        translations.add(new EnglishExpression("new answer " + n, 0, new ArrayList<>()));
+        return databaseService.addSpanishExpression(SyntheticVocabulary.DATABASE,
+                new SpanishExpression("nueva frase " + n, 0, translations));
+    }
+}
@@ -0,0 +1,45 @@
+package com.englishgame.bench;
+
+import java.util.Arrays;
+
+/** Fixed-capacity latency samples (nanoseconds) with exact percentiles. Not thread-safe: one per thread. */
+final class LatencyRecorder {
+
+    private long[] samples;
+    private int count;
+
+    LatencyRecorder(int expectedSamples) {
+        this.samples = new long[Math.max(16, expectedSamples)];
+    }
+
+    void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    int count() {
+        return count;
+    }
+
+    static LatencyRecorder merge(Iterable<LatencyRecorder> recorders) {
+        LatencyRecorder merged = new LatencyRecorder(16);
+        for (LatencyRecorder recorder : recorders) {
+            for (int i = 0; i < recorder.count; i++) {
+                merged.record(recorder.samples[i]);
+            }
+        }
+        Arrays.sort(merged.samples, 0, merged.count);
+        return merged;
+    }
+
+    /** Requires a recorder produced by {@link #merge} (sorted). */
+    long percentile(double p) {
+        if (count == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p / 100.0 * count) - 1;
+        return samples[Math.max(0, Math.min(count - 1, index))];
+    }
+}
@@ -0,0 +1,68 @@
+package com.englishgame.bench;
+
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.SpanishExpression;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Content-based {@code hashCode}/{@code equals}, which every set lookup on the databases pays. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBenchmark {
+
+    @Param({"1", "4", "16"})
+    public int size;
+
+    private SpanishExpression phrase;
+    private SpanishExpression samePhrase;
+
+    @Setup
+    public void setUp() {
+        phrase = phrase(size);
+        samePhrase = phrase(size);
+    }
+
+    @Benchmark
+    public int spanishHashCode() {
+        return phrase.hashCode();
+    }
+
+    @Benchmark
+    public boolean spanishEquals() {
+        return phrase.equals(samePhrase);
+    }
+
+    @Benchmark
+    public int englishHashCode() {
+        return phrase.getTranslations().get(0).hashCode();
+    }
+
+    /** A prompt with {@code translations} answers; each answer links back to the prompt, as loaded data does. */
+    private static SpanishExpression phrase(int translations) {
+        List<EnglishExpression> answers = new ArrayList<>();
+        SpanishExpression phrase = new SpanishExpression("  Una frase de ejemplo ", 3, answers);
+        for (int i = 0; i < translations; i++) {
+            List<SpanishExpression> sources = new ArrayList<>();
+            sources.add(phrase);
+            answers.add(new EnglishExpression("Sample Answer " + i, 2, sources));
+        }
+        return phrase;
+    }
+}
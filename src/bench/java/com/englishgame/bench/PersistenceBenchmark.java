@@ -0,0 +1,69 @@
+package com.englishgame.bench;
+
+import com.englishgame.AppGameMode;
+import com.englishgame.repository.implementations.DBRepositoryImpl;
+import com.englishgame.service.implementations.GameDataServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/** Full JSON save and load of {@code game_data.json} in a temporary data directory. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistenceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private Path dataDirectory;
+    private GameDataServiceImpl gameDataService;
+
+    @Setup
+    public void setUp() throws IOException {
+        BenchFixtures.quietLogs();
+        dataDirectory = Files.createTempDirectory("english-game-jmh-");
+        Random random = new Random(BenchFixtures.SEED);
+        DBRepositoryImpl repository = new DBRepositoryImpl();
+        new SyntheticVocabulary(size, 1, 2).writeTo(repository, AppGameMode.CLASSIC, random);
+        gameDataService = new GameDataServiceImpl(repository, AppGameMode.CLASSIC);
+        gameDataService.setDataDirectory(dataDirectory.toString());
+        BenchFixtures.load(gameDataService, random);
+        if (!gameDataService.saveGameData()) {
+            throw new IllegalStateException("Initial save failed");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchFixtures.deleteRecursively(dataDirectory);
+    }
+
+    @Benchmark
+    public boolean saveGameData() {
+        return gameDataService.saveGameData();
+    }
+
+    @Benchmark
+    public boolean loadGameData() {
+        return gameDataService.loadGameData();
+    }
+}
@@ -0,0 +1,56 @@
+package com.englishgame.bench;
+
+import com.englishgame.model.SpanishExpression;
+import com.englishgame.service.implementations.DatabaseServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code promoteTranslationToLearned} consumes rows, so every iteration starts from a fresh vocabulary and
+ * times a fixed batch of promotions of distinct rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, batchSize = PromotionBenchmark.BATCH)
+@Measurement(iterations = 10, batchSize = PromotionBenchmark.BATCH)
+@Fork(1)
+public class PromotionBenchmark {
+
+    static final int BATCH = 100;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private DatabaseServiceImpl databaseService;
+    private List<SpanishExpression> hosts;
+    private int next;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        BenchFixtures.quietLogs();
+        databaseService = BenchFixtures.unsavedDatabaseService(new SyntheticVocabulary(size, 1, 2), BenchFixtures.SEED);
+        hosts = databaseService.getSpanishExpressions(SyntheticVocabulary.DATABASE);
+        next = 0;
+    }
+
+    @Benchmark
+    public boolean promoteTranslationToLearned() {
+        SpanishExpression host = hosts.get(next++ % hosts.size());
+        return databaseService.promoteTranslationToLearned(SyntheticVocabulary.DATABASE, host,
+                host.getTranslations().get(0));
+    }
+}
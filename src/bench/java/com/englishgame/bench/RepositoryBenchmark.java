@@ -0,0 +1,106 @@
+package com.englishgame.bench;
+
+import com.englishgame.repository.implementations.DBRepositoryImpl;
+import com.englishgame.repository.implementations.DataBaseImpl;
+import com.englishgame.repository.implementations.IndexedDBRepositoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Linear scans of the record-list repositories, against the hash lookups of {@link IndexedDBRepositoryImpl}.
+ * Destructive operations put the removed record back, so the
+ * size stays constant and each result is "remove + re-add".
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private DBRepositoryImpl repository;
+    private IndexedDBRepositoryImpl indexedRepository;
+    private DataBaseImpl dataBase;
+    private String target;
+    private Map<String, Object> targetRow;
+
+    @Setup
+    public void setUp() {
+        BenchFixtures.quietLogs();
+        repository = new DBRepositoryImpl();
+        indexedRepository = new IndexedDBRepositoryImpl();
+        dataBase = new DataBaseImpl();
+        for (int i = 0; i < size; i++) {
+            Map<String, Object> row = row(i);
+            repository.save(List.of(row));
+            indexedRepository.save(List.of(row));
+            dataBase.add(row);
+        }
+        target = "expression " + (size / 2);
+        targetRow = row(size / 2);
+    }
+
+    @Benchmark
+    public int repositoryFindBy() {
+        return repository.findBy("expression", target).size();
+    }
+
+    @Benchmark
+    public int repositoryDeleteBy() {
+        int deleted = repository.deleteBy("expression", target);
+        repository.save(List.of(targetRow));
+        return deleted;
+    }
+
+    @Benchmark
+    public int indexedFindBy() {
+        return indexedRepository.findBy("expression", target).size();
+    }
+
+    @Benchmark
+    public int indexedDeleteBy() {
+        int deleted = indexedRepository.deleteBy("expression", target);
+        indexedRepository.save(List.of(targetRow));
+        return deleted;
+    }
+
+    @Benchmark
+    public int dataBaseIndexOf() {
+        return dataBase.indexOf("expression", target);
+    }
+
+    @Benchmark
+    public int dataBaseRemoveBy() {
+        int removed = dataBase.removeBy("expression", target);
+        dataBase.add(targetRow);
+        return removed;
+    }
+
+    private static Map<String, Object> row(int i) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("type", "spanish_expression");
+        row.put("database", "db " + (i % 10));
+        row.put("language", "spanish");
+        row.put("expression", "expression " + i);
+        row.put("score", i % 21);
+        return row;
+    }
+}
@@ -0,0 +1,47 @@
+package com.englishgame.bench;
+
+import com.englishgame.AppGameMode;
+import com.englishgame.repository.implementations.DBRepositoryFactory;
+import com.englishgame.repository.interfaces.DBRepository;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Retained heap of each {@link DBRepository} implementation holding the same synthetic vocabulary.
+ * <p>
+ * Arguments: rows (100000), translations per row (2). Run with
+ * {@code mvn -Pbench test-compile exec:java -Dexec.mainClass=com.englishgame.bench.RepositoryFootprint}.
+ */
+public final class RepositoryFootprint {
+
+    private static final String[] KINDS = {"list", "indexed", "columnar"};
+
+    private RepositoryFootprint() {
+    }
+
+    public static void main(String[] args) {
+        BenchFixtures.quietLogs();
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int translations = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        SyntheticVocabulary vocabulary = new SyntheticVocabulary(rows, 1, translations);
+
+        System.out.printf(Locale.ROOT, "Repository footprint, %d rows x %d translations%n", rows, translations);
+        for (String kind : KINDS) {
+            long before = usedHeap();
+            DBRepository repository = DBRepositoryFactory.create(kind);
+            vocabulary.writeTo(repository, AppGameMode.CLASSIC, new Random(BenchFixtures.SEED));
+            long bytes = usedHeap() - before;
+            System.out.printf(Locale.ROOT, "  %-9s: %8.1f MB, %5d bytes/row (%d records)%n",
+                    kind, bytes / (1024.0 * 1024), bytes / rows, repository.size());
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
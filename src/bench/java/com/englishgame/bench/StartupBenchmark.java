@@ -0,0 +1,123 @@
+package com.englishgame.bench;
+
+import java.awt.GraphicsEnvironment;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Time from process start to the landing page, with and without the AppCDS archive built by
+ * {@code mvn -Pcds package}. Each launch is a fresh JVM; the two variants alternate so drift hits both equally.
+ * <p>
+ * With a display it launches {@code Main --classic} and stops at the "Landing page visible" log line (the process
+ * is then killed, so nothing is saved). Headless it launches {@code StartupTraining}, which loads the same classes
+ * without building windows, and stops when it finishes.
+ * <p>
+ * Arguments: launches per variant (10), directory with the JAR and archive (target). Run with
+ * {@code mvn -Pbench test-compile exec:java -Dexec.mainClass=com.englishgame.bench.StartupBenchmark}.
+ */
+public final class StartupBenchmark {
+
+    private static final String ARCHIVE = "english-game.jsa";
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int launches = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        Path directory = Paths.get(args.length > 1 ? args[1] : "target").toAbsolutePath();
+        Path jar = findJar(directory);
+        Path archive = directory.resolve(ARCHIVE);
+        if (!Files.exists(archive)) {
+            throw new IllegalStateException("No " + archive + "; build it first with mvn -Pcds package");
+        }
+
+        boolean headless = GraphicsEnvironment.isHeadless();
+        List<String> application = headless
+                ? List.of("com.englishgame.StartupTraining")
+                : List.of("com.englishgame.Main", "--classic");
+        String marker = headless ? "Startup training finished" : "Landing page visible";
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        List<String> plain = command(java, jar, List.of("-Xshare:auto"), application);
+        List<String> shared = command(java, jar, List.of("-XX:SharedArchiveFile=" + archive), application);
+
+        System.out.printf(Locale.ROOT, "Startup to %s, %d launches each (%s)%n",
+                headless ? "end of headless training run" : "landing page", launches, jar.getFileName());
+        launch(plain, marker);
+        launch(shared, marker);
+        long[] plainMillis = new long[launches];
+        long[] sharedMillis = new long[launches];
+        for (int i = 0; i < launches; i++) {
+            plainMillis[i] = launch(plain, marker);
+            sharedMillis[i] = launch(shared, marker);
+        }
+        report("JDK CDS only", plainMillis);
+        report("with AppCDS", sharedMillis);
+        System.out.printf(Locale.ROOT, "  median speed-up: %.2fx%n",
+                (double) median(plainMillis) / Math.max(1, median(sharedMillis)));
+    }
+
+    private static Path findJar(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(f -> {
+                        String name = f.getFileName().toString();
+                        return name.startsWith("english-game-") && name.endsWith(".jar");
+                    })
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No english-game JAR in " + directory));
+        }
+    }
+
+    private static List<String> command(String java, Path jar, List<String> options, List<String> application) {
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(options);
+        command.add("-cp");
+        command.add(jar.toString());
+        command.addAll(application);
+        return command;
+    }
+
+    /** Milliseconds until a line containing {@code marker} is printed. */
+    private static long launch(List<String> command, String marker) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .directory(new File(System.getProperty("java.io.tmpdir")))
+                .start();
+        try (BufferedReader output = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            for (String line = output.readLine(); line != null; line = output.readLine()) {
+                if (line.contains(marker)) {
+                    return (System.nanoTime() - start) / 1_000_000;
+                }
+            }
+            throw new IllegalStateException("Process exited with " + process.waitFor() + " before: " + marker);
+        } finally {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static void report(String label, long[] millis) {
+        long[] sorted = millis.clone();
+        Arrays.sort(sorted);
+        System.out.printf(Locale.ROOT, "  %-13s: median %5d ms, min %5d ms, max %5d ms%n",
+                label, median(sorted), sorted[0], sorted[sorted.length - 1]);
+    }
+
+    private static long median(long[] millis) {
+        long[] sorted = millis.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,61 @@
+package com.englishgame.bench;
+
+import com.englishgame.AppGameMode;
+import com.englishgame.repository.interfaces.DBRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates a practice database in the persisted record format, so it is loaded through the same path as a real
+ * {@code game_data.json}.
+ * <p>
+ * Rows are grouped in cohorts of {@code cohortSize} rows sharing one prompt phrase (like several records with
+ * the same Spanish text); every row has {@code translationsPerRow} distinct translations.
+ *
+ * @param rows               number of prompt rows
+ * @param cohortSize         rows per shared prompt phrase
+ * @param translationsPerRow translations per row
+ */
+record SyntheticVocabulary(int rows, int cohortSize, int translationsPerRow) {
+
+    static final String DATABASE = "synthetic";
+
+    SyntheticVocabulary {
+        if (rows < 1 || cohortSize < 1 || translationsPerRow < 1) {
+            throw new IllegalArgumentException("rows, cohort size and translations must be positive");
+        }
+    }
+
+    /** Writes the database into {@code repository}; initial scores are drawn from {@code random} (0–10). */
+    void writeTo(DBRepository repository, AppGameMode mode, Random random) {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("type", "database_metadata");
+        metadata.put("database", DATABASE);
+        metadata.put("created_at", 0L);
+        repository.save(List.of(metadata));
+
+        for (int row = 0; row < rows; row++) {
+            Map<String, Object> record = new HashMap<>();
+            record.put("type", mode.getPromptExpressionType());
+            record.put("database", DATABASE);
+            record.put("language", mode.getPromptLanguage());
+            record.put("expression", prompt(row));
+            record.put("score", random.nextInt(11));
+            List<String> translations = new ArrayList<>(translationsPerRow);
+            for (int k = 0; k < translationsPerRow; k++) {
+                translations.add("answer " + row + " " + k);
+            }
+            record.put("translations", translations);
+            record.put("included_at", (long) row);
+            repository.save(List.of(record));
+        }
+    }
+
+    String prompt(int row) {
+        return "frase " + (row / cohortSize);
+    }
+}
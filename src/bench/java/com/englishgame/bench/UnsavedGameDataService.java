@@ -0,0 +1,35 @@
+package com.englishgame.bench;
+
+import com.englishgame.AppGameMode;
+import com.englishgame.repository.interfaces.DBRepository;
+import com.englishgame.service.implementations.GameDataServiceImpl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link GameDataServiceImpl} that never touches disk, so simulations measure the game logic rather than JSON
+ * writes. Saves are only counted.
+ */
+class UnsavedGameDataService extends GameDataServiceImpl {
+
+    private final AtomicLong skippedSaves = new AtomicLong();
+
+    UnsavedGameDataService(DBRepository repository, AppGameMode mode) {
+        super(repository, mode);
+    }
+
+    @Override
+    public boolean saveGameDataToFile(String filename) {
+        skippedSaves.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public boolean loadGameDataFromFile(String filename) {
+        return false;
+    }
+
+    long getSkippedSaves() {
+        return skippedSaves.get();
+    }
+}
@@ -1,18 +1,33 @@
 package com.englishgame;
 
 import com.englishgame.controller.GameController;
+import com.englishgame.history.AnswerLog;
+import com.englishgame.history.AnswerLogRecorder;
+import com.englishgame.instrumentation.MetricsReporter;
 import com.englishgame.AppGameMode;
-import com.englishgame.repository.implementations.DBRepositoryImpl;
+import com.englishgame.repository.implementations.DBRepositoryFactory;
 import com.englishgame.repository.implementations.DataBaseImpl;
 import com.englishgame.repository.implementations.ExpressionsImpl;
+import com.englishgame.repository.interfaces.DBRepository;
+import com.englishgame.server.GameServer;
+import com.englishgame.server.ProfileRegistry;
 import com.englishgame.service.implementations.DatabaseServiceImpl;
 import com.englishgame.service.implementations.GameDataServiceImpl;
 import com.englishgame.service.implementations.GameLogicServiceImpl;
 import com.englishgame.service.implementations.ScoreServiceImpl;
 import com.englishgame.view.LandingPageView;
+import com.englishgame.view.ViewWarmup;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.swing.*;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Main application entry point
@@ -21,7 +36,18 @@ import javax.swing.*;
 @Slf4j
 public class Main {
     
+    private static final int DEFAULT_SERVER_PORT = 8080;
+    private static final String DEFAULT_PROFILES_DIR = "data/profiles";
+    
     public static void main(String[] args) {
+        applyRepositoryArgument(args);
+        applyMetricsArgument(args);
+        MetricsReporter.install();
+        Integer serverPort = parseServerPortFromArgs(args);
+        if (serverPort != null) {
+            startServer(args, serverPort);
+            return;
+        }
         SwingUtilities.invokeLater(() -> {
             try {
                 AppGameMode mode = resolveGameMode(args);
@@ -67,13 +93,124 @@ public class Main {
         return null;
     }
     
+    /**
+     * {@code --server} or {@code --server=PORT} runs the headless multi-profile server instead of the Swing app.
+     * It listens on loopback only; {@code --bind=ADDRESS} picks another interface.
+     */
+    private static Integer parseServerPortFromArgs(String[] args) {
+        String value = argumentValue(args, "--server");
+        if (value == null) {
+            return null;
+        }
+        if (value.isEmpty()) {
+            return DEFAULT_SERVER_PORT;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            log.warn("Invalid server port '{}', using {}", value, DEFAULT_SERVER_PORT);
+            return DEFAULT_SERVER_PORT;
+        }
+    }
+
+    /**
+     * {@code --repository=indexed|columnar} switches every game data store to another repository (same as
+     * {@code -Denglishgame.repository=...}).
+     */
+    private static void applyRepositoryArgument(String[] args) {
+        String value = argumentValue(args, "--repository");
+        if (value != null && !value.isEmpty()) {
+            System.setProperty(DBRepositoryFactory.PROPERTY, value);
+        }
+    }
+
+    /**
+     * {@code --metrics=PATH} rewrites timers and counters to PATH every minute (same as
+     * {@code -Denglishgame.metrics.file=PATH}); the JMX MBean is registered either way.
+     */
+    private static void applyMetricsArgument(String[] args) {
+        String value = argumentValue(args, "--metrics");
+        if (value != null && !value.isEmpty()) {
+            System.setProperty(MetricsReporter.FILE_PROPERTY, value);
+        }
+    }
+
+    /** Value of {@code --name=value}; empty string for a bare {@code --name}; null when absent. */
+    private static String argumentValue(String[] args, String name) {
+        if (args == null) {
+            return null;
+        }
+        for (String arg : args) {
+            if (arg == null) {
+                continue;
+            }
+            String trimmed = arg.trim();
+            if (trimmed.equalsIgnoreCase(name)) {
+                return "";
+            }
+            if (trimmed.startsWith(name + "=")) {
+                return trimmed.substring(name.length() + 1).trim();
+            }
+        }
+        return null;
+    }
+
+    private static void startServer(String[] args, int port) {
+        System.setProperty("java.awt.headless", "true");
+        AppGameMode mode = parseModeFromArgs(args);
+        if (mode == null) {
+            mode = AppGameMode.CLASSIC;
+        }
+        String profilesDir = argumentValue(args, "--profiles-dir");
+        if (profilesDir == null || profilesDir.isEmpty()) {
+            profilesDir = DEFAULT_PROFILES_DIR;
+        }
+        int threads = Runtime.getRuntime().availableProcessors() * 8;
+        String threadsArg = argumentValue(args, "--threads");
+        if (threadsArg != null && !threadsArg.isEmpty()) {
+            try {
+                threads = Integer.parseInt(threadsArg);
+            } catch (NumberFormatException e) {
+                log.warn("Invalid thread count '{}', using {}", threadsArg, threads);
+            }
+        }
+
+        // Sin autenticación: solo loopback salvo que se pida otra interfaz con --bind=ADDRESS
+        InetAddress bindAddress = InetAddress.getLoopbackAddress();
+        String bindArg = argumentValue(args, "--bind");
+        if (bindArg != null && !bindArg.isEmpty()) {
+            try {
+                bindAddress = InetAddress.getByName(bindArg);
+            } catch (UnknownHostException e) {
+                log.error("Invalid bind address '{}'", bindArg);
+                System.exit(1);
+            }
+            if (!bindAddress.isLoopbackAddress()) {
+                log.warn("Server bound to {}: the API has no authentication and is reachable from the network",
+                        bindAddress.getHostAddress());
+            }
+        }
+
+        log.info("Starting English Learning Game server (build {}, mode {}, profiles in {})",
+                AppVersion.getDisplayVersion(), mode.getTitleSuffix(), profilesDir);
+        try {
+            GameServer server = new GameServer(new ProfileRegistry(Paths.get(profilesDir), mode), bindAddress,
+                    port, threads);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(2), "english-game-server-stop"));
+            server.start();
+        } catch (IOException e) {
+            log.error("Failed to start server on port {}", port, e);
+            System.exit(1);
+        }
+    }
+    
     private static void initializeAndStartApplication(AppGameMode mode) {
         log.info("Initializing English Learning Game (build {}, mode {})...",
                 AppVersion.getDisplayVersion(), mode.getTitleSuffix());
         
         try {
             // Initialize repositories
-            DBRepositoryImpl dbRepository = new DBRepositoryImpl();
+            DBRepository dbRepository = DBRepositoryFactory.create();
             DataBaseImpl dataBase = new DataBaseImpl();
             ExpressionsImpl expressions = new ExpressionsImpl();
             
@@ -83,11 +220,34 @@ public class Main {
             ScoreServiceImpl scoreService = new ScoreServiceImpl();
             GameLogicServiceImpl gameLogicService = new GameLogicServiceImpl(gameDataService, databaseService);
             
-            GameController gameController = new GameController(gameLogicService, databaseService, gameDataService, mode);
+            // Load the saved game in the background, in parallel with the landing page; the buttons that need
+            // data are enabled when loading completes. Three threads: the two index builds of the load run side
+            // by side while the view warm-up holds the third.
+            ExecutorService startup = Executors.newFixedThreadPool(3, task -> {
+                Thread thread = new Thread(task, "englishgame-startup");
+                thread.setDaemon(true);
+                return thread;
+            });
+            GameController gameController = GameController.loadingInBackground(gameLogicService, databaseService,
+                    gameDataService, mode, startup);
+            // Answer history; the log opens its files on the first answer, not here
+            gameController.addGameEventListener(new AnswerLogRecorder(
+                    new AnswerLog(Paths.get(gameDataService.getDataDirectory(), AnswerLog.DIRECTORY))));
             
             LandingPageView landingPageView = new LandingPageView(gameController, mode);
             landingPageView.setVisible(true);
+            log.info("Landing page visible {} ms after JVM start", ManagementFactory.getRuntimeMXBean().getUptime());
+            
+            // Once it is on screen, warm up the other windows and JSON writing so the first game view and the
+            // first save do not pay for class loading, fonts and Jackson serializers.
+            CompletableFuture<Void> views = ViewWarmup.start(startup);
+            CompletableFuture<Void> json = gameController.whenReady()
+                    .thenRunAsync(gameDataService::warmUp, startup);
             
+            CompletableFuture.allOf(views, json).whenComplete((ignored, error) -> {
+                startup.shutdown();
+                log.info("Startup complete {} ms after JVM start", ManagementFactory.getRuntimeMXBean().getUptime());
+            });
             log.info("English Learning Game started successfully");
             
         } catch (Exception e) {
@@ -0,0 +1,79 @@
+package com.englishgame;
+
+import com.englishgame.engine.GameEngine;
+import com.englishgame.instrumentation.MetricsReporter;
+import com.englishgame.repository.implementations.DBRepositoryFactory;
+import com.englishgame.service.implementations.GameDataServiceImpl;
+import com.englishgame.view.LandingPageView;
+import com.englishgame.view.ViewWarmup;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.swing.*;
+import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Training run for the AppCDS archive ({@code mvn -Pcds package}): goes through what a desktop launch loads
+ * (logging, metrics, Jackson reading and writing {@code game_data.json}, the services, the landing page and the
+ * other window classes) and exits, so {@code -XX:ArchiveClassesAtExit} captures those classes.
+ * <p>
+ * Works on a temporary copy of the game data (argument: directory holding {@code game_data.json}; default the
+ * app's own data directory), so it never writes to the player's files. Without a display the windows are only
+ * loaded, not built. Also used by the startup benchmark as a headless stand-in for a launch.
+ */
+@Slf4j
+public final class StartupTraining {
+
+    static final String FINISHED_MARKER = "Startup training finished";
+    private static final String GAME_DATA_FILE = "game_data.json";
+
+    private StartupTraining() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        long start = System.nanoTime();
+        AppGameMode mode = AppGameMode.CLASSIC;
+        MetricsReporter.install();
+        Path source = args.length > 0 ? Paths.get(args[0])
+                : Paths.get(new GameDataServiceImpl(DBRepositoryFactory.create(), mode).getDataDirectory());
+        Path workDirectory = Files.createTempDirectory("englishgame-cds");
+        try {
+            Path gameData = source.resolve(GAME_DATA_FILE);
+            if (Files.exists(gameData)) {
+                Files.copy(gameData, workDirectory.resolve(GAME_DATA_FILE), StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                log.warn("No {} in {}; training without saved data", GAME_DATA_FILE, source);
+            }
+            GameEngine engine = GameEngine.open(workDirectory, mode, false);
+            engine.getAvailableDatabases().stream().findFirst().ifPresent(database -> {
+                engine.selectDatabase(database);
+                engine.startRound();
+            });
+            engine.save();
+            engine.getController().loadGameState();
+
+            ViewWarmup.start(Runnable::run).join();
+            if (!GraphicsEnvironment.isHeadless()) {
+                SwingUtilities.invokeAndWait(() -> new LandingPageView(engine.getController(), mode).dispose());
+            }
+        } finally {
+            deleteRecursively(workDirectory);
+        }
+        log.info("{} in {} ms", FINISHED_MARKER, (System.nanoTime() - start) / 1_000_000);
+        // AWT leaves non-daemon threads behind once a window has been built
+        System.exit(0);
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+}
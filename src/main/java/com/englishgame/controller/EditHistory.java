@@ -0,0 +1,216 @@
+package com.englishgame.controller;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Bounded undo/redo history of vocabulary edits. Edits live in a fixed ring: recording, undoing and redoing are
+ * O(1) bookkeeping (plus whatever the edit itself does), and once the ring is full the oldest edit is forgotten.
+ * Recording a new edit drops everything that could still be redone.
+ * <p>
+ * Edits recorded between {@link #beginGroup} and {@link #endGroup} collapse into one entry, undone in reverse
+ * order, so a bulk action is undone in a single step.
+ */
+@Slf4j
+public final class EditHistory {
+
+    public static final int DEFAULT_CAPACITY = 50;
+
+    /** A change already applied, able to revert and re-apply itself. */
+    public interface Edit {
+
+        String description();
+
+        /** @return false if the change could not be reverted (its rows are gone or moved on since) */
+        boolean undo();
+
+        /** @return false if the change could not be applied again */
+        boolean redo();
+
+        static Edit of(String description, BooleanSupplier undo, BooleanSupplier redo) {
+            return new Edit() {
+                @Override
+                public String description() {
+                    return description;
+                }
+
+                @Override
+                public boolean undo() {
+                    return undo.getAsBoolean();
+                }
+
+                @Override
+                public boolean redo() {
+                    return redo.getAsBoolean();
+                }
+            };
+        }
+    }
+
+    private final Edit[] ring;
+    /** Slot the next recorded edit goes into; the last undoable edit is the one just before it. */
+    private int head;
+    private int undoable;
+    private int redoable;
+    private int groupDepth;
+    private String groupDescription;
+    private final List<Edit> groupEdits = new ArrayList<>();
+
+    public EditHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public EditHistory(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.ring = new Edit[capacity];
+    }
+
+    public synchronized void record(Edit edit) {
+        if (edit == null) {
+            return;
+        }
+        if (groupDepth > 0) {
+            groupEdits.add(edit);
+            return;
+        }
+        // Lo que quedaba por rehacer ya no encaja tras un cambio nuevo
+        clearRedo();
+        ring[head] = edit;
+        head = (head + 1) % ring.length;
+        undoable = Math.min(undoable + 1, ring.length);
+    }
+
+    /** Starts collecting edits into one entry; groups nest, only the outermost description is kept. */
+    public synchronized void beginGroup(String description) {
+        if (groupDepth++ == 0) {
+            groupDescription = description;
+            groupEdits.clear();
+        }
+    }
+
+    public synchronized void endGroup() {
+        if (groupDepth == 0 || --groupDepth > 0) {
+            return;
+        }
+        List<Edit> edits = List.copyOf(groupEdits);
+        groupEdits.clear();
+        if (edits.size() == 1) {
+            record(edits.get(0));
+        } else if (!edits.isEmpty()) {
+            record(new GroupEdit(groupDescription, edits));
+        }
+    }
+
+    public synchronized boolean canUndo() {
+        return undoable > 0;
+    }
+
+    public synchronized boolean canRedo() {
+        return redoable > 0;
+    }
+
+    public synchronized Optional<String> nextUndo() {
+        return canUndo() ? Optional.of(ring[previous(head)].description()) : Optional.empty();
+    }
+
+    public synchronized Optional<String> nextRedo() {
+        return canRedo() ? Optional.of(ring[head].description()) : Optional.empty();
+    }
+
+    /**
+     * Reverts the last edit. An edit that cannot be reverted is dropped together with everything redoable, since
+     * the state it would lead back to no longer exists.
+     *
+     * @return the description of the reverted edit
+     */
+    public synchronized Optional<String> undo() {
+        if (!canUndo()) {
+            return Optional.empty();
+        }
+        int slot = previous(head);
+        Edit edit = ring[slot];
+        boolean undone = run(edit, true);
+        undoable--;
+        if (!undone) {
+            clearRedo();
+            ring[slot] = null;
+            head = slot;
+            return Optional.empty();
+        }
+        head = slot;
+        redoable++;
+        return Optional.of(edit.description());
+    }
+
+    /** Re-applies the last undone edit; one that cannot be re-applied ends the redo chain. */
+    public synchronized Optional<String> redo() {
+        if (!canRedo()) {
+            return Optional.empty();
+        }
+        Edit edit = ring[head];
+        if (!run(edit, false)) {
+            clearRedo();
+            return Optional.empty();
+        }
+        head = (head + 1) % ring.length;
+        undoable++;
+        redoable--;
+        return Optional.of(edit.description());
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(ring, null);
+        head = 0;
+        undoable = 0;
+        redoable = 0;
+    }
+
+    private void clearRedo() {
+        for (int i = 0; i < redoable; i++) {
+            ring[(head + i) % ring.length] = null;
+        }
+        redoable = 0;
+    }
+
+    private int previous(int slot) {
+        return (slot - 1 + ring.length) % ring.length;
+    }
+
+    private static boolean run(Edit edit, boolean undo) {
+        try {
+            return undo ? edit.undo() : edit.redo();
+        } catch (RuntimeException e) {
+            log.error("Could not {} '{}'", undo ? "undo" : "redo", edit.description(), e);
+            return false;
+        }
+    }
+
+    /** Edits of one bulk action: undone last-first, redone first-first. */
+    private record GroupEdit(String description, List<Edit> edits) implements Edit {
+
+        @Override
+        public boolean undo() {
+            boolean any = false;
+            for (int i = edits.size() - 1; i >= 0; i--) {
+                any |= edits.get(i).undo();
+            }
+            return any;
+        }
+
+        @Override
+        public boolean redo() {
+            boolean any = false;
+            for (Edit edit : edits) {
+                any |= edit.redo();
+            }
+            return any;
+        }
+    }
+}
@@ -1,20 +1,38 @@
 package com.englishgame.controller;
 
 import com.englishgame.AppGameMode;
+import com.englishgame.engine.GameEventListener;
+import com.englishgame.engine.ProgressAnalytics;
+import com.englishgame.instrumentation.FlightEvents;
+import com.englishgame.instrumentation.Instrumentation;
+import com.englishgame.instrumentation.Timer;
 import com.englishgame.model.AnswerResult;
 import com.englishgame.model.CorrectAnswerOutcome;
+import com.englishgame.model.DatabaseSnapshot;
+import com.englishgame.model.DatabaseStats;
+import com.englishgame.model.DetachedRows;
+import com.englishgame.model.EngineWarning;
 import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.ExpressionBatchResult;
 import com.englishgame.model.LearnedWordsReviewResult;
 import com.englishgame.model.ReviewDatabases;
 import com.englishgame.model.SpanishExpression;
 import com.englishgame.service.interfaces.DatabaseService;
 import com.englishgame.service.interfaces.GameDataService;
 import com.englishgame.service.interfaces.GameLogicService;
+import com.englishgame.service.interfaces.ReviewSession;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -24,6 +42,9 @@ import java.util.stream.Collectors;
 @Slf4j
 public class GameController {
 
+    private static final Timer ROUND_TIMER = Instrumentation.timer("game.startNewRound");
+    private static final Timer ANSWER_TIMER = Instrumentation.timer("game.processAnswer");
+
     private final GameLogicService gameLogicService;
     private final DatabaseService databaseService;
     private final GameDataService gameDataService;
@@ -31,6 +52,13 @@ public class GameController {
 
     private String currentDatabase;
     private SpanishExpression currentSpanishExpression;
+    private final List<GameEventListener> eventListeners = new CopyOnWriteArrayList<>();
+    /** Completes once the saved game is loaded; until then nothing is saved (see {@link #loadingInBackground}). */
+    private final CompletableFuture<Void> ready = new CompletableFuture<>();
+    /** Always subscribed: dashboards read it instead of rescanning databases. */
+    private final ProgressAnalytics analytics;
+    /** Deletes, moves and review demotions of this session, undoable until the app closes. */
+    private final EditHistory editHistory = new EditHistory();
 
     public GameController(GameLogicService gameLogicService, DatabaseService databaseService,
                           GameDataService gameDataService) {
@@ -39,6 +67,34 @@ public class GameController {
 
     public GameController(GameLogicService gameLogicService, DatabaseService databaseService,
                           GameDataService gameDataService, AppGameMode appGameMode) {
+        this(gameLogicService, databaseService, gameDataService, appGameMode, true);
+    }
+
+    /**
+     * @param saveOnShutdown register a JVM shutdown hook that saves this controller's data; hosts that save
+     *                       every controller themselves (server mode) pass {@code false}
+     */
+    public GameController(GameLogicService gameLogicService, DatabaseService databaseService,
+                          GameDataService gameDataService, AppGameMode appGameMode, boolean saveOnShutdown) {
+        this(gameLogicService, databaseService, gameDataService, appGameMode, saveOnShutdown, null);
+    }
+
+    /**
+     * Builds a controller that loads the saved game on {@code loader} instead of the calling thread, so the
+     * desktop app can show its landing page right away. {@link #whenReady()} completes when loading is done;
+     * saves requested before that are skipped (the service-level ones are deferred until then), so closing the
+     * window or editing mid-load cannot overwrite {@code game_data.json} with a partial state.
+     */
+    public static GameController loadingInBackground(GameLogicService gameLogicService,
+            DatabaseService databaseService, GameDataService gameDataService, AppGameMode appGameMode,
+            Executor loader) {
+        return new GameController(gameLogicService, databaseService, gameDataService, appGameMode, true,
+                Objects.requireNonNull(loader));
+    }
+
+    private GameController(GameLogicService gameLogicService, DatabaseService databaseService,
+                           GameDataService gameDataService, AppGameMode appGameMode, boolean saveOnShutdown,
+                           Executor loader) {
         this.gameLogicService = gameLogicService;
         this.databaseService = databaseService;
         this.gameDataService = gameDataService;
@@ -49,16 +105,66 @@ public class GameController {
             ((com.englishgame.service.implementations.GameDataServiceImpl) gameDataService).setDatabaseService(databaseService);
         }
         
-        initializeGame();
-        registerShutdownSaveHook();
+        databaseService.addWarningListener(this::fireWarning);
+        analytics = new ProgressAnalytics(databaseService::getWordsDefinitelyMasteredTotal);
+        eventListeners.add(analytics);
+        if (loader == null) {
+            initializeGame();
+        } else {
+            // Service-level saves (promotions, batch edits, review checkpoints) wait for the load as well
+            if (gameDataService instanceof com.englishgame.service.implementations.GameDataServiceImpl) {
+                ((com.englishgame.service.implementations.GameDataServiceImpl) gameDataService).deferSavesUntil(ready);
+            }
+            initializeGameInBackground(loader);
+        }
+        if (saveOnShutdown) {
+            registerShutdownSaveHook();
+        }
     }
 
     public AppGameMode getAppGameMode() {
         return appGameMode;
     }
 
+    public void addGameEventListener(GameEventListener listener) {
+        if (listener != null) {
+            eventListeners.add(listener);
+        }
+    }
+
+    public void removeGameEventListener(GameEventListener listener) {
+        eventListeners.remove(listener);
+    }
+
+    /** Completes (exceptionally if loading failed) once the saved game has been loaded and indexed. */
+    public CompletableFuture<Void> whenReady() {
+        return ready.copy();
+    }
+
+    public boolean isReady() {
+        return ready.isDone() && !ready.isCompletedExceptionally();
+    }
+
+    private void fireEvent(Consumer<GameEventListener> event) {
+        for (GameEventListener listener : eventListeners) {
+            try {
+                event.accept(listener);
+            } catch (RuntimeException e) {
+                log.error("Game event listener failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void fireWarning(EngineWarning warning) {
+        fireEvent(listener -> listener.onWarning(warning));
+    }
+
     private void registerShutdownSaveHook() {
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (!isReady()) {
+                log.warn("Game data still loading at shutdown; not saving");
+                return;
+            }
             try {
                 if (gameDataService.saveGameData()) {
                     log.info("Game data saved on application shutdown");
@@ -71,14 +177,63 @@ public class GameController {
 
     private void initializeGame() {
         log.info("Initializing game controller...");
-        gameDataService.loadGameData(); // Load previous game state
-        
-        // Synchronize loaded data with database service
-        databaseService.synchronizeWithRepository();
-        
+        try {
+            // Load previous game state
+            startupPhase("parse", gameDataService::loadGameData);
+            // Synchronize loaded data with database service (builds the in-memory buckets and indexes)
+            startupPhase("buildDatabases", databaseService::synchronizeWithRepository);
+            finishInitialization();
+        } catch (RuntimeException e) {
+            ready.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Same phases as {@link #initializeGame()} as tasks on {@code loader}; with the in-memory service the lemma and
+     * phrase indexes are built as two separate tasks once the buckets are.
+     */
+    private void initializeGameInBackground(Executor loader) {
+        log.info("Initializing game controller in the background...");
+        CompletableFuture.runAsync(() -> startupPhase("parse", gameDataService::loadGameData), loader)
+                .thenCompose(ignored -> buildDatabases(loader))
+                .thenRun(this::finishInitialization)
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        log.error("Failed to load the saved game: {}", error.getMessage(), error);
+                        ready.completeExceptionally(error);
+                    }
+                });
+    }
+
+    private CompletableFuture<Void> buildDatabases(Executor loader) {
+        if (!(databaseService instanceof com.englishgame.service.implementations.DatabaseServiceImpl)) {
+            startupPhase("buildDatabases", databaseService::synchronizeWithRepository);
+            return CompletableFuture.completedFuture(null);
+        }
+        long start = System.nanoTime();
+        return ((com.englishgame.service.implementations.DatabaseServiceImpl) databaseService)
+                .synchronizeWithRepository(loader)
+                .thenRun(() -> log.info("Startup phase 'buildDatabases' took {} ms",
+                        (System.nanoTime() - start) / 1_000_000));
+    }
+
+    private void finishInitialization() {
+        // A review session cut short by a crash left its checkpointed answers in a journal
+        startupPhase("recoverReviewSession", databaseService::recoverReviewSession);
+        // Views and saves read snapshots; building them now keeps the first screen from paying for it
+        startupPhase("snapshot", databaseService::snapshot);
+        ready.complete(null);
+
         log.info("Game initialized. Loaded {} databases.", databaseService.getAvailableDatabases().size());
     }
 
+    private static void startupPhase(String name, Runnable phase) {
+        long start = System.nanoTime();
+        phase.run();
+        log.info("Startup phase '{}' took {} ms", name, (System.nanoTime() - start) / 1_000_000);
+    }
+
     public List<String> getAvailableDatabases() {
         return databaseService.getAvailableDatabases().stream()
                 .filter(dbName -> !databaseService.isReviewOnlyDatabase(dbName))
@@ -107,6 +262,11 @@ public class GameController {
         return databaseService.getWordsDefinitelyMasteredTotal();
     }
 
+    /** Progreso por BBDD y nivel de review, acumulado a partir de los eventos de juego de esta sesión. */
+    public ProgressAnalytics getProgressAnalytics() {
+        return analytics;
+    }
+
     public int getWordsDefinitelyCurrentCount() {
         return databaseService.getEnglishExpressionCount(ReviewDatabases.WORDS_DEFINITELY_LEARNED_KEY);
     }
@@ -120,6 +280,11 @@ public class GameController {
         return databaseService.getSpanishExpressionCount(databaseName);
     }
 
+    /** Recuentos mantenidos por el servicio (filas, jugables, histograma de puntuación…) sin copiar listas. */
+    public Optional<DatabaseStats> getDatabaseStats(String databaseName) {
+        return databaseService.getDatabaseStats(databaseName);
+    }
+
     /**
      * Destinos al mover desde Learned words: vocabulario de práctica + Words definitely learned (solo review).
      */
@@ -148,7 +313,17 @@ public class GameController {
     }
 
     public SpanishExpression startNewRound() {
-        return Optional.ofNullable(currentDatabase)
+        FlightEvents.Round event = new FlightEvents.Round();
+        event.begin();
+        SpanishExpression prompt = ROUND_TIMER.time(this::selectNextRound);
+        event.database = currentDatabase;
+        event.found = prompt != null;
+        event.commit();
+        return prompt;
+    }
+
+    private SpanishExpression selectNextRound() {
+        SpanishExpression prompt = Optional.ofNullable(currentDatabase)
                 .map(databaseName -> {
                     log.debug("Starting new round with database: {}", databaseName);
                     return gameLogicService.getRandomSpanishExpression(databaseName, currentSpanishExpression);
@@ -166,9 +341,18 @@ public class GameController {
                     log.error("No database selected. Cannot start a new round.");
                     return null;
                 });
+        if (currentDatabase != null) {
+            String database = currentDatabase;
+            fireEvent(listener -> listener.onRoundStarted(database, prompt));
+        }
+        return prompt;
     }
 
     public AnswerResult processAnswer(String userTranslation) {
+        return ANSWER_TIMER.time(() -> scoreAnswer(userTranslation));
+    }
+
+    private AnswerResult scoreAnswer(String userTranslation) {
         if (currentSpanishExpression == null) {
             log.error("No current Spanish expression to process answer for.");
             return AnswerResult.incorrect();
@@ -184,8 +368,11 @@ public class GameController {
             processIncorrectAnswer(expr, userTranslation);
             result = AnswerResult.incorrect();
         }
+        AnswerResult scored = result;
 
         saveGameState();
+        String database = currentDatabase;
+        fireEvent(listener -> listener.onAnswer(database, expr, userTranslation, scored));
         return result;
     }
 
@@ -343,20 +530,24 @@ public class GameController {
                 .filter(name -> !name.trim().isEmpty())
                 .filter(databaseService::databaseExists)
                 .map(name -> {
-                    boolean deleted = databaseService.deleteDatabase(name);
-                    if (deleted) {
-                        gameDataService.saveGameData(); // Save changes after deleting database
-                        
-                        // If the deleted database was the current one, clear current database
-                        if (name.equals(currentDatabase)) {
-                            currentDatabase = null;
-                            currentSpanishExpression = null;
-                            log.info("Current database cleared after deletion of '{}'", name);
-                        }
+                    String canonical = databaseService.getCanonicalDatabaseName(name).orElse(name);
+                    Optional<DetachedRows> removed = databaseService.detachDatabase(name);
+                    removed.ifPresent(rows -> {
+                        forgetCurrentDatabase(name);
+                        editHistory.record(EditHistory.Edit.of("Delete database '" + canonical + "'",
+                                () -> databaseService.restoreDatabase(canonical, rows.spanishRows(),
+                                        rows.englishRows()),
+                                () -> {
+                                    boolean again = databaseService.withdrawDatabase(canonical);
+                                    if (again) {
+                                        forgetCurrentDatabase(canonical);
+                                    }
+                                    return again;
+                                }));
                         
                         log.info("Database '{}' deleted successfully", name);
-                    }
-                    return deleted;
+                    });
+                    return removed.isPresent();
                 })
                 .orElseGet(() -> {
                     log.warn("Cannot delete database '{}' - it may not exist or be protected", databaseName);
@@ -364,6 +555,15 @@ public class GameController {
                 });
     }
 
+    /** If the deleted database was the current one, clear current database. */
+    private void forgetCurrentDatabase(String deletedDatabase) {
+        if (deletedDatabase.equalsIgnoreCase(Objects.toString(currentDatabase, ""))) {
+            currentDatabase = null;
+            currentSpanishExpression = null;
+            log.info("Current database cleared after deletion of '{}'", deletedDatabase);
+        }
+    }
+
     /**
      * Renames a user vocabulary database (not {@code learned_words}). Updates {@link #currentDatabase} if it was the one renamed.
      *
@@ -393,6 +593,10 @@ public class GameController {
     }
 
     public void saveGameState() {
+        if (!isReady()) {
+            log.warn("Game data still loading; save skipped");
+            return;
+        }
         gameDataService.saveGameData();
         log.debug("Game state saved successfully");
     }
@@ -403,6 +607,14 @@ public class GameController {
         log.debug("Game state loaded and synchronized successfully");
     }
 
+    /**
+     * Immutable view of every database, safe to iterate from any thread without copying
+     * @return current database snapshot
+     */
+    public DatabaseSnapshot getDatabaseSnapshot() {
+        return databaseService.snapshot();
+    }
+
     /**
      * Gets all Spanish expressions from a specific database
      * @param databaseName name of the database
@@ -432,8 +644,78 @@ public class GameController {
     public Optional<LearnedWordsReviewResult> submitLearnedWordsReviewAnswer(EnglishExpression learnedCard,
             String userAnswer, String reviewDatabaseName, String userSelectedPracticeDatabase) {
         boolean requireSource = appGameMode == AppGameMode.DEFINITION;
-        return databaseService.submitLearnedWordsReviewAttempt(
+        int priorScore = learnedCard != null ? learnedCard.getScore() : 0;
+        Optional<LearnedWordsReviewResult> result = databaseService.submitLearnedWordsReviewAttempt(
                 learnedCard, userAnswer, reviewDatabaseName, requireSource, userSelectedPracticeDatabase);
+        result.ifPresent(r -> {
+            recordDemotion(learnedCard, priorScore, r);
+            fireEvent(listener -> listener.onReviewAttempt(reviewDatabaseName, r));
+        });
+        return result;
+    }
+
+    /**
+     * Abre una sesión de review con guardado diferido (checkpoints y guardado al cerrar); el modo de juego
+     * actual decide si también hay que acertar la BBDD de origen.
+     */
+    public ReviewSession beginReviewSession() {
+        return databaseService.beginReviewSession(appGameMode == AppGameMode.DEFINITION);
+    }
+
+    public Optional<LearnedWordsReviewResult> submitLearnedWordsReviewAnswer(ReviewSession session,
+            EnglishExpression learnedCard, String userAnswer, String reviewDatabaseName,
+            String userSelectedPracticeDatabase) {
+        int priorScore = learnedCard != null ? learnedCard.getScore() : 0;
+        Optional<LearnedWordsReviewResult> result = session.submit(learnedCard, userAnswer, reviewDatabaseName,
+                userSelectedPracticeDatabase);
+        result.ifPresent(r -> {
+            recordDemotion(learnedCard, priorScore, r);
+            fireEvent(listener -> listener.onReviewAttempt(reviewDatabaseName, r));
+        });
+        return result;
+    }
+
+    private void recordDemotion(EnglishExpression learnedCard, int priorScore, LearnedWordsReviewResult result) {
+        if (result.outcome() == LearnedWordsReviewResult.Outcome.DEMOTED_TO_PRACTICE
+                && result.restoredToPracticeDatabase() != null) {
+            editHistory.record(new ReviewDemotionEdit(databaseService, learnedCard, priorScore, result));
+        }
+    }
+
+    /** Reverts the last delete, move or review demotion; persisted as a journal entry, not a full save. */
+    public Optional<String> undoLastEdit() {
+        return editHistory.undo();
+    }
+
+    public Optional<String> redoLastEdit() {
+        return editHistory.redo();
+    }
+
+    public boolean canUndo() {
+        return editHistory.canUndo();
+    }
+
+    public boolean canRedo() {
+        return editHistory.canRedo();
+    }
+
+    /** Description of what {@link #undoLastEdit()} would revert, for buttons and tooltips. */
+    public Optional<String> nextUndoDescription() {
+        return editHistory.nextUndo();
+    }
+
+    public Optional<String> nextRedoDescription() {
+        return editHistory.nextRedo();
+    }
+
+    /** Runs a bulk action so that everything it deletes or moves is undone in one step. */
+    public <T> T asOneEdit(String description, Supplier<T> action) {
+        editHistory.beginGroup(description);
+        try {
+            return action.get();
+        } finally {
+            editHistory.endGroup();
+        }
     }
     
     /**
@@ -444,34 +726,42 @@ public class GameController {
      * @return true if moved successfully, false otherwise
      */
     public boolean moveExpression(String sourceDatabase, String targetDatabase, String expression) {
+        return moveExpressions(sourceDatabase, targetDatabase, List.of(Objects.toString(expression, ""))) == 1;
+    }
+
+    /**
+     * Moves several expressions in one pass with a single save, undone as one step.
+     * @return how many of {@code expressions} were moved
+     */
+    public int moveExpressions(String sourceDatabase, String targetDatabase, Collection<String> expressions) {
         return Optional.ofNullable(sourceDatabase)
                 .filter(databaseService::databaseExists)
                 .flatMap(sourceDb -> Optional.ofNullable(targetDatabase)
                         .filter(databaseService::databaseExists)
                         .filter(targetDb -> !sourceDb.equals(targetDb))
                         .map(targetDb -> {
-                            // Try to move as Spanish expression first
-                            boolean moved = databaseService.moveSpanishExpression(sourceDb, targetDb, expression);
-                            
-                            if (!moved) {
-                                // If not found as Spanish, try as English expression
-                                moved = databaseService.moveEnglishExpression(sourceDb, targetDb, expression);
+                            ExpressionBatchResult result =
+                                    databaseService.moveExpressions(sourceDb, targetDb, expressions);
+                            if (result.anyDone()) {
+                                Rows moved = Rows.of(result);
+                                editHistory.record(EditHistory.Edit.of(
+                                        describe("Move", result.done()) + " to '" + targetDb + "'",
+                                        () -> moved.withdrawFrom(databaseService, targetDb)
+                                                && moved.restoreTo(databaseService, sourceDb),
+                                        () -> moved.withdrawFrom(databaseService, sourceDb)
+                                                && moved.restoreTo(databaseService, targetDb)));
+                                log.info("{} expression(s) moved from '{}' to '{}' successfully",
+                                        result.done().size(), sourceDb, targetDb);
                             }
-                            
-                            if (moved) {
-                                // Save changes after successful move
-                                gameDataService.saveGameData();
-                                log.info("Expression '{}' moved from '{}' to '{}' successfully", expression, sourceDb, targetDb);
-                            } else {
-                                log.warn("Expression '{}' not found in source database '{}'", expression, sourceDb);
+                            if (!result.skipped().isEmpty()) {
+                                log.warn("Expression(s) {} not moved from '{}'", result.skipped(), sourceDb);
                             }
-                            
-                            return moved;
+                            return result.done().size();
                         }))
                 .orElseGet(() -> {
-                    log.warn("Cannot move expression '{}' from '{}' to '{}' - invalid databases", 
-                            expression, sourceDatabase, targetDatabase);
-                    return false;
+                    log.warn("Cannot move {} expression(s) from '{}' to '{}' - invalid databases",
+                            expressions.size(), sourceDatabase, targetDatabase);
+                    return 0;
                 });
     }
     
@@ -482,33 +772,41 @@ public class GameController {
      * @return true if deleted successfully, false otherwise
      */
     public boolean deleteExpression(String databaseName, String expression) {
+        return deleteExpressions(databaseName, List.of(Objects.toString(expression, ""))) == 1;
+    }
+
+    /**
+     * Deletes several expressions in one pass with a single save, undone as one step.
+     * @return how many of {@code expressions} were deleted
+     */
+    public int deleteExpressions(String databaseName, Collection<String> expressions) {
         return Optional.ofNullable(databaseName)
                 .filter(databaseService::databaseExists)
                 .map(dbName -> {
-                    // Try to delete as Spanish expression first
-                    boolean deleted = databaseService.removeSpanishExpression(dbName, expression);
-                    
-                    if (!deleted) {
-                        // If not found as Spanish, try as English expression
-                        deleted = databaseService.removeEnglishExpression(dbName, expression);
+                    ExpressionBatchResult result = databaseService.deleteExpressions(dbName, expressions);
+                    if (result.anyDone()) {
+                        recordRemoval(describe("Delete", result.done()) + " from '" + dbName + "'", dbName,
+                                Rows.of(result));
+                        log.info("{} expression(s) deleted from database '{}' successfully",
+                                result.done().size(), dbName);
                     }
-                    
-                    if (deleted) {
-                        // Save changes after successful deletion
-                        gameDataService.saveGameData();
-                        log.info("Expression '{}' deleted from database '{}' successfully", expression, dbName);
-                    } else {
-                        log.warn("Expression '{}' not found in database '{}'", expression, dbName);
+                    if (!result.skipped().isEmpty()) {
+                        log.warn("Expression(s) {} not found in database '{}'", result.skipped(), dbName);
                     }
-                    
-                    return deleted;
+                    return result.done().size();
                 })
                 .orElseGet(() -> {
-                    log.warn("Cannot delete expression '{}' from '{}' - database does not exist", 
-                            expression, databaseName);
-                    return false;
+                    log.warn("Cannot delete {} expression(s) from '{}' - database does not exist",
+                            expressions.size(), databaseName);
+                    return 0;
                 });
     }
+
+    private static String describe(String action, List<String> expressions) {
+        return expressions.size() == 1
+                ? action + " '" + expressions.get(0) + "'"
+                : action + " " + expressions.size() + " expressions";
+    }
     
     /**
      * Deletes all expressions from a database
@@ -522,30 +820,42 @@ public class GameController {
                 .filter(databaseService::databaseExists)
                 .map(dbName -> {
                     log.info("Database '{}' exists, proceeding with deletion", dbName);
-                    
-                    // Delete all Spanish expressions
-                    boolean spanishDeleted = databaseService.deleteAllSpanishExpressions(dbName);
-                    log.info("Spanish expressions deletion result: {}", spanishDeleted);
-                    
-                    // Delete all English expressions
-                    boolean englishDeleted = databaseService.deleteAllEnglishExpressions(dbName);
-                    log.info("English expressions deletion result: {}", englishDeleted);
-                    
-                    boolean anyDeleted = spanishDeleted || englishDeleted;
-                    
-                    if (anyDeleted) {
-                        // Save changes after successful deletion
-                        gameDataService.saveGameData();
+                    Optional<DetachedRows> removed = databaseService.detachAllExpressions(dbName);
+                    removed.ifPresent(rows -> {
+                        recordRemoval("Delete all expressions of '" + dbName + "'", dbName, Rows.of(rows));
                         log.info("All expressions deleted from database '{}' successfully", dbName);
-                    } else {
-                        log.warn("No expressions found in database '{}' to delete", dbName);
-                    }
-                    
-                    return anyDeleted;
+                    });
+                    return removed.isPresent();
                 })
                 .orElseGet(() -> {
                     log.warn("Cannot delete all expressions from '{}' - database does not exist", databaseName);
                     return false;
                 });
     }
-}
\ No newline at end of file
+
+    private void recordRemoval(String description, String databaseName, Rows removed) {
+        editHistory.record(EditHistory.Edit.of(description,
+                () -> removed.restoreTo(databaseService, databaseName),
+                () -> removed.withdrawFrom(databaseService, databaseName)));
+    }
+
+    /** The very row objects an edit took out or moved, so undo puts back exactly them, scores included. */
+    private record Rows(Collection<SpanishExpression> spanish, Collection<EnglishExpression> english) {
+
+        static Rows of(ExpressionBatchResult result) {
+            return new Rows(result.spanishRows(), result.englishRows());
+        }
+
+        static Rows of(DetachedRows removed) {
+            return new Rows(removed.spanishRows(), removed.englishRows());
+        }
+
+        boolean restoreTo(DatabaseService databaseService, String databaseName) {
+            return databaseService.restoreExpressions(databaseName, spanish, english) > 0;
+        }
+
+        boolean withdrawFrom(DatabaseService databaseService, String databaseName) {
+            return databaseService.withdrawExpressions(databaseName, spanish, english) > 0;
+        }
+    }
+}
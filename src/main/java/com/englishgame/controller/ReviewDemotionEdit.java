@@ -0,0 +1,75 @@
+package com.englishgame.controller;
+
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.LearnedWordsReviewResult;
+import com.englishgame.model.SpanishExpression;
+import com.englishgame.service.interfaces.DatabaseService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A learned card sent back to practice by a failed review. Undo lifts the translation out of the practice
+ * database into {@code learned_words} again with the score it had before the miss; redo grades the same wrong
+ * answer once more, which demotes it the same way. Neither counts as a review attempt.
+ */
+@Slf4j
+final class ReviewDemotionEdit implements EditHistory.Edit {
+
+    private final DatabaseService databaseService;
+    private final String english;
+    private final String spanishPhrase;
+    private final int priorScore;
+    private final int demotedScore;
+    private final String practiceDatabase;
+    /** The learned row after the last undo; redo reviews that one. */
+    private EnglishExpression restoredCard;
+
+    ReviewDemotionEdit(DatabaseService databaseService, EnglishExpression card, int priorScore,
+            LearnedWordsReviewResult demotion) {
+        this.databaseService = databaseService;
+        this.english = Objects.toString(card.getExpression(), "").trim();
+        this.spanishPhrase = Optional.ofNullable(card.getTranslations()).stream()
+                .flatMap(List::stream)
+                .filter(Objects::nonNull)
+                .map(SpanishExpression::getExpression)
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .findFirst()
+                .orElse(null);
+        this.priorScore = priorScore;
+        this.demotedScore = demotion.scoreAfter();
+        this.practiceDatabase = demotion.restoredToPracticeDatabase();
+    }
+
+    @Override
+    public String description() {
+        return "Review demotion of '" + english + "'";
+    }
+
+    @Override
+    public boolean undo() {
+        if (spanishPhrase == null) {
+            return false;
+        }
+        Optional<EnglishExpression> restored = databaseService.restoreDemotedTranslation(practiceDatabase,
+                spanishPhrase, english, priorScore);
+        if (restored.isEmpty()) {
+            log.warn("Cannot undo demotion of '{}': it is no longer in '{}'", english, practiceDatabase);
+            return false;
+        }
+        restoredCard = restored.get();
+        return true;
+    }
+
+    @Override
+    public boolean redo() {
+        if (restoredCard == null) {
+            return false;
+        }
+        return databaseService.redoReviewDemotion(restoredCard, practiceDatabase, demotedScore);
+    }
+}
@@ -0,0 +1,121 @@
+package com.englishgame.engine;
+
+import com.englishgame.AppGameMode;
+import com.englishgame.controller.GameController;
+import com.englishgame.history.AnswerLog;
+import com.englishgame.history.AnswerLogRecorder;
+import com.englishgame.model.AnswerResult;
+import com.englishgame.model.DatabaseSnapshot;
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.LearnedWordsReviewResult;
+import com.englishgame.model.SpanishExpression;
+import com.englishgame.repository.implementations.DBRepositoryFactory;
+import com.englishgame.service.implementations.DatabaseServiceImpl;
+import com.englishgame.service.implementations.GameDataServiceImpl;
+import com.englishgame.service.implementations.GameLogicServiceImpl;
+import com.englishgame.service.interfaces.DatabaseService;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Headless entry point to the game: wires the services for one player and exposes play without any AWT/Swing
+ * dependency. Warnings and progress are delivered through {@link GameEventListener}s.
+ * <p>
+ * Like {@link GameController}, an engine keeps one player's round state and is not meant to be driven by
+ * several threads at once; use one engine per player (see {@code com.englishgame.server}).
+ */
+public final class GameEngine {
+
+    private final GameController controller;
+    private final DatabaseService databaseService;
+    private final AnswerLog answerLog;
+
+    private GameEngine(GameController controller, DatabaseService databaseService, AnswerLog answerLog) {
+        this.controller = controller;
+        this.databaseService = databaseService;
+        this.answerLog = answerLog;
+    }
+
+    /**
+     * Loads (or creates) the game data stored in {@code dataDirectory}.
+     *
+     * @param saveOnShutdown also save on JVM exit, as the desktop app does; hosts that save themselves pass
+     *                       {@code false}
+     */
+    public static GameEngine open(Path dataDirectory, AppGameMode mode, boolean saveOnShutdown) {
+        GameDataServiceImpl gameDataService = new GameDataServiceImpl(DBRepositoryFactory.create(), mode);
+        gameDataService.setDataDirectory(dataDirectory.toString());
+        DatabaseServiceImpl databaseService = new DatabaseServiceImpl(gameDataService);
+        GameLogicServiceImpl gameLogicService = new GameLogicServiceImpl(gameDataService, databaseService);
+        GameController controller = new GameController(gameLogicService, databaseService, gameDataService, mode,
+                saveOnShutdown);
+        AnswerLog answerLog = new AnswerLog(Path.of(gameDataService.getDataDirectory(), AnswerLog.DIRECTORY));
+        controller.addGameEventListener(new AnswerLogRecorder(answerLog));
+        return new GameEngine(controller, databaseService, answerLog);
+    }
+
+    public void addListener(GameEventListener listener) {
+        controller.addGameEventListener(listener);
+    }
+
+    public void removeListener(GameEventListener listener) {
+        controller.removeGameEventListener(listener);
+    }
+
+    public List<String> getAvailableDatabases() {
+        return controller.getAvailableDatabases();
+    }
+
+    public boolean selectDatabase(String databaseName) {
+        return controller.selectDatabase(databaseName);
+    }
+
+    /** Draws the next prompt from the selected database. */
+    public Optional<SpanishExpression> startRound() {
+        return Optional.ofNullable(controller.startNewRound());
+    }
+
+    /** Scores {@code answer} against the current prompt and persists the new scores. */
+    public AnswerResult answer(String answer) {
+        return controller.processAnswer(answer);
+    }
+
+    /**
+     * Applies a review attempt on a card of a review database.
+     *
+     * @param practiceSourceDatabase database chosen by the player; only checked in {@link AppGameMode#DEFINITION}
+     */
+    public Optional<LearnedWordsReviewResult> review(EnglishExpression learnedCard, String answer,
+            String reviewDatabaseName, String practiceSourceDatabase) {
+        return controller.submitLearnedWordsReviewAnswer(learnedCard, answer, reviewDatabaseName,
+                practiceSourceDatabase);
+    }
+
+    public DatabaseSnapshot snapshot() {
+        return controller.getDatabaseSnapshot();
+    }
+
+    /** Every answer given through this engine, kept on disk under the data directory. */
+    public AnswerLog history() {
+        return answerLog;
+    }
+
+    /** Per-database and per-review-tier progress, kept up to date from this engine's events. */
+    public ProgressAnalytics analytics() {
+        return controller.getProgressAnalytics();
+    }
+
+    public void save() {
+        controller.saveGameState();
+    }
+
+    public GameController getController() {
+        return controller;
+    }
+
+    public DatabaseService getDatabaseService() {
+        return databaseService;
+    }
+}
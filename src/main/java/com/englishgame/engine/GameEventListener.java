@@ -0,0 +1,30 @@
+package com.englishgame.engine;
+
+import com.englishgame.model.AnswerResult;
+import com.englishgame.model.EngineWarning;
+import com.englishgame.model.LearnedWordsReviewResult;
+import com.englishgame.model.SpanishExpression;
+
+/**
+ * Callbacks fired by {@link com.englishgame.controller.GameController} after each step of play.
+ * <p>
+ * Listeners run synchronously on the thread that drove the step (the EDT in the desktop app, a request thread
+ * in server mode), after locks are released. All methods are optional.
+ */
+public interface GameEventListener {
+
+    /** A new prompt was drawn; {@code prompt} is {@code null} when the database had nothing to ask. */
+    default void onRoundStarted(String database, SpanishExpression prompt) {
+    }
+
+    /** A practice answer was scored (and persisted). */
+    default void onAnswer(String database, SpanishExpression prompt, String answer, AnswerResult result) {
+    }
+
+    /** A review attempt was applied to a learned card. */
+    default void onReviewAttempt(String reviewDatabase, LearnedWordsReviewResult result) {
+    }
+
+    default void onWarning(EngineWarning warning) {
+    }
+}
@@ -0,0 +1,238 @@
+package com.englishgame.engine;
+
+import com.englishgame.model.AnswerResult;
+import com.englishgame.model.DatabaseStats;
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.LearnedWordsReviewResult;
+import com.englishgame.model.ReviewDatabases;
+import com.englishgame.model.SpanishExpression;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Learning analytics folded from the {@link GameEventListener} stream, per practice database and per review tier
+ * ({@code learned_words}, {@code words_definitely_learned}): score distribution of the last {@link #WINDOW}
+ * answers, promotion / demotion / mastery counts, and how long words took to reach learned_words, measured from
+ * the prompt's {@code includedAtEpochMillis}.
+ * <p>
+ * Each event costs O(1) and reading never scans a database, so dashboards over dozens of vocabularies cost the
+ * same as over one. Counts cover the events seen since this instance was created; the persisted all-time total of
+ * mastered words is read from the supplier given at construction. Thread-safe.
+ */
+public final class ProgressAnalytics implements GameEventListener {
+
+    /** Answers kept per database for the rolling score distribution. */
+    public static final int WINDOW = 256;
+
+    private static final double MILLIS_PER_DAY = 86_400_000d;
+
+    /**
+     * Progress of one practice database or review tier.
+     *
+     * @param recentScoreBands scores after the last {@link #WINDOW} answers, in {@link DatabaseStats} bands
+     * @param learnedSamples   words promoted to learned_words whose inclusion date was known
+     */
+    public record Progress(String database, boolean reviewTier, long attempts, long correct, long promoted,
+                           long demoted, long mastered, List<Integer> recentScoreBands, double recentAverageScore,
+                           int learnedSamples, double meanDaysToLearn) {
+
+        public Progress {
+            recentScoreBands = List.copyOf(recentScoreBands);
+        }
+
+        public double accuracy() {
+            return rate(correct);
+        }
+
+        public double promotionRate() {
+            return rate(promoted);
+        }
+
+        public double demotionRate() {
+            return rate(demoted);
+        }
+
+        private double rate(long count) {
+            return attempts == 0 ? 0.0 : (double) count / attempts;
+        }
+    }
+
+    private final Map<String, Accumulator> accumulators = new ConcurrentHashMap<>();
+    private final IntSupplier masteredTotal;
+    private final LongSupplier clock;
+
+    /** @param masteredTotal all-time mastered words, e.g. {@code DatabaseService::getWordsDefinitelyMasteredTotal} */
+    public ProgressAnalytics(IntSupplier masteredTotal) {
+        this(masteredTotal, System::currentTimeMillis);
+    }
+
+    ProgressAnalytics(IntSupplier masteredTotal, LongSupplier clock) {
+        this.masteredTotal = masteredTotal;
+        this.clock = clock;
+    }
+
+    @Override
+    public void onAnswer(String database, SpanishExpression prompt, String answer, AnswerResult result) {
+        if (database == null || prompt == null || result == null) {
+            return;
+        }
+        Accumulator accumulator = accumulator(database, false);
+        if (result.isNewlyLearned()) {
+            long includedAt = prompt.getIncludedAtEpochMillis();
+            double days = includedAt > 0 ? Math.max(0, clock.getAsLong() - includedAt) / MILLIS_PER_DAY : -1;
+            accumulator.learned(DatabaseStats.LEARNED_AT, days);
+            return;
+        }
+        Optional<Integer> score = scoreAfter(prompt, answer);
+        if (score.isPresent()) {
+            accumulator.answered(result.correct(), score.get());
+        } else {
+            accumulator.answered(result.correct());
+        }
+    }
+
+    @Override
+    public void onReviewAttempt(String reviewDatabase, LearnedWordsReviewResult result) {
+        if (reviewDatabase == null || result == null) {
+            return;
+        }
+        String tier = ReviewDatabases.isReviewDatabaseKey(reviewDatabase)
+                ? reviewDatabase.trim()
+                : ReviewDatabases.keyForDisplayName(reviewDatabase.trim());
+        accumulator(tier, true).reviewed(result.answeredCorrectly(), result.scoreAfter(), result.outcome());
+    }
+
+    /** Every database and tier with at least one event, by name. */
+    public List<Progress> progress() {
+        return accumulators.values().stream()
+                .map(Accumulator::progress)
+                .sorted(Comparator.comparing(Progress::database, String.CASE_INSENSITIVE_ORDER))
+                .toList();
+    }
+
+    public Optional<Progress> progress(String database) {
+        return database == null ? Optional.empty()
+                : Optional.ofNullable(accumulators.get(key(database))).map(Accumulator::progress);
+    }
+
+    /** All-time words mastered in words_definitely_learned (persisted), not just this run's. */
+    public int wordsDefinitelyMasteredTotal() {
+        return masteredTotal.getAsInt();
+    }
+
+    private Accumulator accumulator(String database, boolean reviewTier) {
+        return accumulators.computeIfAbsent(key(database), k -> new Accumulator(database.trim(), reviewTier));
+    }
+
+    private static String key(String database) {
+        return database.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Score of the translation the player typed, or the best one when the answer matched none (a miss penalizes
+     * them all). The prompt row is the live model object, so these are the scores after the answer.
+     */
+    private static Optional<Integer> scoreAfter(SpanishExpression prompt, String answer) {
+        List<EnglishExpression> translations = prompt.getTranslations();
+        if (translations == null || translations.isEmpty()) {
+            return Optional.empty();
+        }
+        String typed = answer == null ? "" : String.join(" ", answer.trim().split("\\s+"));
+        Integer best = null;
+        for (EnglishExpression en : translations) {
+            if (en == null || en.getExpression() == null) {
+                continue;
+            }
+            if (en.getExpression().trim().equalsIgnoreCase(typed)) {
+                return Optional.of(en.getScore());
+            }
+            best = best == null ? en.getScore() : Math.max(best, en.getScore());
+        }
+        return Optional.ofNullable(best);
+    }
+
+    /** Counters and rolling window of one database; every update is O(1). */
+    private static final class Accumulator {
+
+        private final String database;
+        private final boolean reviewTier;
+        private final int[] window = new int[WINDOW];
+        private final int[] bands = new int[DatabaseStats.BANDS];
+        private int windowSize;
+        private int windowNext;
+        private long windowSum;
+        private long attempts;
+        private long correct;
+        private long promoted;
+        private long demoted;
+        private long mastered;
+        private int learnedSamples;
+        private double daysToLearnSum;
+
+        Accumulator(String database, boolean reviewTier) {
+            this.database = database;
+            this.reviewTier = reviewTier;
+        }
+
+        synchronized void answered(boolean wasCorrect) {
+            attempts++;
+            if (wasCorrect) {
+                correct++;
+            }
+        }
+
+        synchronized void answered(boolean wasCorrect, int score) {
+            answered(wasCorrect);
+            push(score);
+        }
+
+        /** A correct practice answer that moved the word to learned_words; {@code days} &lt; 0 when unknown. */
+        synchronized void learned(int score, double days) {
+            answered(true, score);
+            promoted++;
+            if (days >= 0) {
+                learnedSamples++;
+                daysToLearnSum += days;
+            }
+        }
+
+        synchronized void reviewed(boolean wasCorrect, int score, LearnedWordsReviewResult.Outcome outcome) {
+            answered(wasCorrect, score);
+            switch (outcome) {
+                case PROMOTED_TO_DEFINITELY_LEARNED -> promoted++;
+                case DEMOTED_TO_PRACTICE, RETURNED_TO_LEARNED -> demoted++;
+                case MASTERED_REMOVED_EVERYWHERE -> mastered++;
+                default -> {
+                }
+            }
+        }
+
+        private void push(int score) {
+            if (windowSize == WINDOW) {
+                int evicted = window[windowNext];
+                bands[DatabaseStats.bandOf(evicted)]--;
+                windowSum -= evicted;
+            } else {
+                windowSize++;
+            }
+            window[windowNext] = score;
+            windowNext = (windowNext + 1) % WINDOW;
+            bands[DatabaseStats.bandOf(score)]++;
+            windowSum += score;
+        }
+
+        synchronized Progress progress() {
+            return new Progress(database, reviewTier, attempts, correct, promoted, demoted, mastered,
+                    Arrays.stream(bands).boxed().toList(), windowSize == 0 ? 0.0 : (double) windowSum / windowSize,
+                    learnedSamples, learnedSamples == 0 ? 0.0 : daysToLearnSum / learnedSamples);
+        }
+    }
+}
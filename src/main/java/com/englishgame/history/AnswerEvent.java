@@ -0,0 +1,88 @@
+package com.englishgame.history;
+
+import com.englishgame.model.AnswerResult;
+import com.englishgame.model.LearnedWordsReviewResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * One answer as stored in the {@link AnswerLog}: when, where, to what, how it went and how long it took.
+ *
+ * @param phrase        the practice prompt, or the expected English word of a review card
+ * @param latencyMillis from the prompt being shown to the answer; -1 when unknown (review cards)
+ */
+public record AnswerEvent(long timestampMillis, String database, String phrase, boolean correct, int latencyMillis,
+                          Outcome outcome) {
+
+    /** What the answer did. Codes are part of the segment format: never renumber them. */
+    public enum Outcome {
+        PRACTICE_CORRECT(1),
+        PRACTICE_INCORRECT(2),
+        PRACTICE_LEARNED(3),
+        REVIEW_STILL_IN_LEARNED(10),
+        REVIEW_DEMOTED_TO_PRACTICE(11),
+        REVIEW_MASTERED(12),
+        REVIEW_PROMOTED_TO_DEFINITELY_LEARNED(13),
+        REVIEW_RETURNED_TO_LEARNED(14);
+
+        private final byte code;
+
+        Outcome(int code) {
+            this.code = (byte) code;
+        }
+
+        byte code() {
+            return code;
+        }
+
+        static Outcome ofCode(byte code) {
+            return Arrays.stream(values())
+                    .filter(outcome -> outcome.code == code)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown answer outcome code " + code));
+        }
+
+        public static Outcome of(AnswerResult result) {
+            if (result.isNewlyLearned()) {
+                return PRACTICE_LEARNED;
+            }
+            return result.correct() ? PRACTICE_CORRECT : PRACTICE_INCORRECT;
+        }
+
+        public static Outcome of(LearnedWordsReviewResult.Outcome outcome) {
+            return switch (outcome) {
+                case STILL_IN_LEARNED -> REVIEW_STILL_IN_LEARNED;
+                case DEMOTED_TO_PRACTICE -> REVIEW_DEMOTED_TO_PRACTICE;
+                case MASTERED_REMOVED_EVERYWHERE -> REVIEW_MASTERED;
+                case PROMOTED_TO_DEFINITELY_LEARNED -> REVIEW_PROMOTED_TO_DEFINITELY_LEARNED;
+                case RETURNED_TO_LEARNED -> REVIEW_RETURNED_TO_LEARNED;
+            };
+        }
+    }
+
+    public long phraseId() {
+        return phraseId(phrase);
+    }
+
+    /**
+     * Stable 64-bit id of a phrase (FNV-1a of its normalized text: trimmed, single-spaced, lower case), the key of
+     * the per-segment phrase index.
+     */
+    public static long phraseId(String phrase) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : normalize(phrase).getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    static String normalize(String phrase) {
+        if (phrase == null || phrase.isBlank()) {
+            return "";
+        }
+        return String.join(" ", phrase.trim().split("\\s+")).toLowerCase(Locale.ROOT);
+    }
+}
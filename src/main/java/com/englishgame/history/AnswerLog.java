@@ -0,0 +1,373 @@
+package com.englishgame.history;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Append-only history of every answer, split in segment files under {@code <data dir>/history}.
+ * <p>
+ * A segment ({@code answers-<first timestamp>.seg}) holds length-prefixed binary records in arrival order and is
+ * sealed when it reaches its size limit or the (UTC) month changes, so one segment never spans two months. Sealing
+ * writes its phrase index next to it ({@code .idx}: phrase id → record offsets); the open segment keeps that index
+ * in memory. Queries by time open only the segments whose range overlaps, queries by phrase read only the records
+ * the indexes point at, and both stream from disk, so months of history are never loaded at once.
+ * <p>
+ * Records are flushed to the file as they are appended; a record torn by a crash is cut off when the log is next
+ * opened. Timestamps are expected not to go backwards. Thread-safe: every call holds one lock (not the monitor,
+ * which would pin the carrier of a server request's virtual thread across the file I/O).
+ */
+@Slf4j
+public final class AnswerLog implements Closeable {
+
+    /** Subdirectory of the game data directory holding the segments. */
+    public static final String DIRECTORY = "history";
+    static final long DEFAULT_SEGMENT_BYTES = 4L << 20;
+
+    private static final String PREFIX = "answers-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final int MAX_RECORD_BYTES = 1 << 18;
+
+    private final Path directory;
+    private final long segmentBytes;
+    /** First timestamp of every segment, ascending; the last one may be the open segment. */
+    private final List<Long> segmentStarts = new ArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private boolean opened;
+
+    private FileChannel active;
+    private long activeStart;
+    private long activeSize;
+    private YearMonth activeMonth;
+    private Map<Long, List<Long>> activeIndex = new HashMap<>();
+
+    public AnswerLog(Path directory) {
+        this(directory, DEFAULT_SEGMENT_BYTES);
+    }
+
+    AnswerLog(Path directory, long segmentBytes) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+    }
+
+    public void append(AnswerEvent event) throws IOException {
+        lock.lock();
+        try {
+            ensureOpen();
+            if (active != null
+                    && (activeSize >= segmentBytes || !monthOf(event.timestampMillis()).equals(activeMonth))) {
+                seal();
+            }
+            if (active == null) {
+                startSegment(event.timestampMillis());
+            }
+            ByteBuffer record = ByteBuffer.wrap(encode(event));
+            long offset = activeSize;
+            while (record.hasRemaining()) {
+                activeSize += active.write(record);
+            }
+            activeIndex.computeIfAbsent(event.phraseId(), id -> new ArrayList<>()).add(offset);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Streams the events with {@code from <= timestamp < to}, oldest first. */
+    public void between(long fromMillis, long toMillis, Consumer<AnswerEvent> consumer)
+            throws IOException {
+        lock.lock();
+        try {
+            ensureOpen();
+            for (int i = 0; i < segmentStarts.size(); i++) {
+                long start = segmentStarts.get(i);
+                boolean overlaps = start < toMillis
+                        && (i == segmentStarts.size() - 1 || segmentStarts.get(i + 1) > fromMillis);
+                if (overlaps) {
+                    scan(start, (offset, event) -> {
+                        if (event.timestampMillis() >= fromMillis && event.timestampMillis() < toMillis) {
+                            consumer.accept(event);
+                        }
+                    });
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Every answer to {@code phrase} (compared normalized), oldest first, read through the phrase indexes. */
+    public List<AnswerEvent> forPhrase(String phrase) throws IOException {
+        lock.lock();
+        try {
+            ensureOpen();
+            long id = AnswerEvent.phraseId(phrase);
+            String normalized = AnswerEvent.normalize(phrase);
+            List<AnswerEvent> events = new ArrayList<>();
+            for (long start : segmentStarts) {
+                List<Long> offsets = indexOf(start).getOrDefault(id, List.of());
+                if (offsets.isEmpty()) {
+                    continue;
+                }
+                try (FileChannel channel = FileChannel.open(segmentPath(start), StandardOpenOption.READ)) {
+                    for (long offset : offsets) {
+                        AnswerEvent event = readAt(channel, offset);
+                        // Distinct phrases may share an id
+                        if (AnswerEvent.normalize(event.phrase()).equals(normalized)) {
+                            events.add(event);
+                        }
+                    }
+                }
+            }
+            return events;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int segmentCount() throws IOException {
+        lock.lock();
+        try {
+            ensureOpen();
+            return segmentStarts.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (active != null) {
+                active.close();
+                active = null;
+            }
+            opened = false;
+            segmentStarts.clear();
+            activeIndex = new HashMap<>();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (opened) {
+            return;
+        }
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> name.substring(PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()))
+                    .flatMap(AnswerLog::parseStart)
+                    .sorted()
+                    .forEach(segmentStarts::add);
+        }
+        if (!segmentStarts.isEmpty()) {
+            long last = segmentStarts.get(segmentStarts.size() - 1);
+            if (!Files.exists(indexPath(last))) {
+                resume(last);
+            }
+        }
+        opened = true;
+    }
+
+    private static Stream<Long> parseStart(String text) {
+        try {
+            return Stream.of(Long.parseLong(text));
+        } catch (NumberFormatException e) {
+            return Stream.empty();
+        }
+    }
+
+    /** Reopens the unsealed last segment for appending, rebuilding its index and cutting off a torn record. */
+    private void resume(long start) throws IOException {
+        Map<Long, List<Long>> index = new HashMap<>();
+        long valid = scan(start, (offset, event) ->
+                index.computeIfAbsent(event.phraseId(), id -> new ArrayList<>()).add(offset));
+        active = FileChannel.open(segmentPath(start), StandardOpenOption.WRITE);
+        if (active.size() > valid) {
+            log.warn("Answer log segment {} ends with a torn record; truncating {} byte(s)",
+                    segmentPath(start).getFileName(), active.size() - valid);
+            active.truncate(valid);
+        }
+        active.position(valid);
+        activeStart = start;
+        activeSize = valid;
+        activeMonth = monthOf(start);
+        activeIndex = index;
+    }
+
+    private void startSegment(long timestamp) throws IOException {
+        long start = segmentStarts.isEmpty() ? timestamp
+                : Math.max(timestamp, segmentStarts.get(segmentStarts.size() - 1) + 1);
+        active = FileChannel.open(segmentPath(start), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        segmentStarts.add(start);
+        activeStart = start;
+        activeSize = 0;
+        activeMonth = monthOf(start);
+        activeIndex = new HashMap<>();
+    }
+
+    private void seal() throws IOException {
+        writeIndex(activeStart, activeIndex);
+        active.close();
+        active = null;
+        activeIndex = new HashMap<>();
+        log.debug("Sealed answer log segment {}", segmentPath(activeStart).getFileName());
+    }
+
+    private Map<Long, List<Long>> indexOf(long start) throws IOException {
+        if (active != null && start == activeStart) {
+            return activeIndex;
+        }
+        Path indexPath = indexPath(start);
+        if (!Files.exists(indexPath)) {
+            // Sealing was interrupted: rebuild the index from the segment itself
+            Map<Long, List<Long>> index = new HashMap<>();
+            scan(start, (offset, event) -> index.computeIfAbsent(event.phraseId(), id -> new ArrayList<>())
+                    .add(offset));
+            writeIndex(start, index);
+            return index;
+        }
+        Map<Long, List<Long>> index = new HashMap<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexPath)))) {
+            int phrases = in.readInt();
+            for (int i = 0; i < phrases; i++) {
+                long id = in.readLong();
+                int count = in.readInt();
+                List<Long> offsets = new ArrayList<>(count);
+                for (int j = 0; j < count; j++) {
+                    offsets.add(in.readLong());
+                }
+                index.put(id, offsets);
+            }
+        }
+        return index;
+    }
+
+    private void writeIndex(long start, Map<Long, List<Long>> index) throws IOException {
+        Path target = indexPath(start);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(index.size());
+            for (Map.Entry<Long, List<Long>> entry : index.entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeInt(entry.getValue().size());
+                for (long offset : entry.getValue()) {
+                    out.writeLong(offset);
+                }
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private interface RecordVisitor {
+        void visit(long offset, AnswerEvent event);
+    }
+
+    /** Visits the complete records of a segment; returns the offset just past the last one. */
+    private long scan(long start, RecordVisitor visitor) throws IOException {
+        long offset = 0;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(segmentPath(start))))) {
+            while (true) {
+                int length;
+                byte[] payload;
+                try {
+                    length = in.readInt();
+                    if (length <= 0 || length > MAX_RECORD_BYTES) {
+                        return offset;
+                    }
+                    payload = new byte[length];
+                    in.readFully(payload);
+                } catch (EOFException e) {
+                    return offset;
+                }
+                visitor.visit(offset, decode(payload));
+                offset += Integer.BYTES + length;
+            }
+        }
+    }
+
+    private static AnswerEvent readAt(FileChannel channel, long offset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+        readFully(channel, header, offset);
+        ByteBuffer payload = ByteBuffer.allocate(header.flip().getInt());
+        readFully(channel, payload, offset + Integer.BYTES);
+        return decode(payload.array());
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Answer log record cut short at " + position);
+            }
+        }
+    }
+
+    private static byte[] encode(AnswerEvent event) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0);
+            out.writeLong(event.timestampMillis());
+            out.writeInt(event.latencyMillis());
+            out.writeByte(event.outcome().code());
+            out.writeBoolean(event.correct());
+            out.writeUTF(event.database() == null ? "" : event.database());
+            out.writeUTF(event.phrase() == null ? "" : event.phrase());
+        }
+        ByteBuffer record = ByteBuffer.wrap(bytes.toByteArray());
+        record.putInt(0, record.capacity() - Integer.BYTES);
+        return record.array();
+    }
+
+    private static AnswerEvent decode(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            long timestamp = in.readLong();
+            int latency = in.readInt();
+            AnswerEvent.Outcome outcome = AnswerEvent.Outcome.ofCode(in.readByte());
+            boolean correct = in.readBoolean();
+            String database = in.readUTF();
+            String phrase = in.readUTF();
+            return new AnswerEvent(timestamp, database, phrase, correct, latency, outcome);
+        }
+    }
+
+    private static YearMonth monthOf(long epochMillis) {
+        return YearMonth.from(Instant.ofEpochMilli(epochMillis).atZone(ZoneOffset.UTC));
+    }
+
+    private Path segmentPath(long start) {
+        return directory.resolve(PREFIX + start + SEGMENT_SUFFIX);
+    }
+
+    private Path indexPath(long start) {
+        return directory.resolve(PREFIX + start + INDEX_SUFFIX);
+    }
+}
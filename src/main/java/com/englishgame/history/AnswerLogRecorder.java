@@ -0,0 +1,75 @@
+package com.englishgame.history;
+
+import com.englishgame.engine.GameEventListener;
+import com.englishgame.model.AnswerResult;
+import com.englishgame.model.LearnedWordsReviewResult;
+import com.englishgame.model.SpanishExpression;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.function.LongSupplier;
+
+/**
+ * Writes every practice answer and review attempt of one player to an {@link AnswerLog}. Practice latency runs
+ * from {@link #onRoundStarted} to the answer; review events carry no "card shown" moment, so theirs is unknown.
+ * A failing write is logged and dropped: history must never get in the way of play.
+ */
+@Slf4j
+public final class AnswerLogRecorder implements GameEventListener {
+
+    private final AnswerLog answerLog;
+    private final LongSupplier clock;
+    private SpanishExpression roundPrompt;
+    private long roundStartedAt;
+
+    public AnswerLogRecorder(AnswerLog answerLog) {
+        this(answerLog, System::currentTimeMillis);
+    }
+
+    AnswerLogRecorder(AnswerLog answerLog, LongSupplier clock) {
+        this.answerLog = answerLog;
+        this.clock = clock;
+    }
+
+    public AnswerLog getAnswerLog() {
+        return answerLog;
+    }
+
+    @Override
+    public synchronized void onRoundStarted(String database, SpanishExpression prompt) {
+        roundPrompt = prompt;
+        roundStartedAt = clock.getAsLong();
+    }
+
+    @Override
+    public void onAnswer(String database, SpanishExpression prompt, String answer, AnswerResult result) {
+        if (prompt == null || result == null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        int latency;
+        synchronized (this) {
+            latency = prompt == roundPrompt ? (int) Math.min(Integer.MAX_VALUE, now - roundStartedAt) : -1;
+            roundPrompt = null;
+        }
+        record(new AnswerEvent(now, database, prompt.getExpression(), result.correct(), latency,
+                AnswerEvent.Outcome.of(result)));
+    }
+
+    @Override
+    public void onReviewAttempt(String reviewDatabase, LearnedWordsReviewResult result) {
+        if (result == null || result.outcome() == null) {
+            return;
+        }
+        record(new AnswerEvent(clock.getAsLong(), reviewDatabase, result.expectedEnglish(),
+                result.answeredCorrectly(), -1, AnswerEvent.Outcome.of(result.outcome())));
+    }
+
+    private void record(AnswerEvent event) {
+        try {
+            answerLog.append(event);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not record answer to '{}' in the answer log: {}", event.phrase(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.englishgame.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder events for game and persistence operations, under the "English Game" category of a
+ * recording. They cost a couple of checks when no recording is running; callers only compute non-trivial field
+ * values inside {@link Event#shouldCommit()}. Record with e.g.
+ * {@code -XX:StartFlightRecording=filename=game.jfr,settings=profile} and open the file in JDK Mission Control
+ * next to the GC and lock events.
+ */
+public final class FlightEvents {
+
+    private static final String CATEGORY = "English Game";
+
+    private FlightEvents() {
+    }
+
+    @Name("englishgame.Round")
+    @Label("Round")
+    @Category({CATEGORY, "Game"})
+    @Description("Selection of the next prompt")
+    public static final class Round extends Event {
+        @Label("Database")
+        public String database;
+        @Label("Prompt Found")
+        public boolean found;
+    }
+
+    @Name("englishgame.AnswerValidation")
+    @Label("Answer Validation")
+    @Category({CATEGORY, "Game"})
+    @Description("Check of a typed answer against every record of the prompt's cohort")
+    public static final class AnswerValidation extends Event {
+        @Label("Database")
+        public String database;
+        @Label("Cohort Size")
+        public int cohortSize;
+        @Label("Correct")
+        public boolean correct;
+    }
+
+    @Name("englishgame.CohortResolution")
+    @Label("Cohort Resolution")
+    @Category({CATEGORY, "Game"})
+    @Description("Lookup of the records sharing the prompt's Spanish phrase")
+    public static final class CohortResolution extends Event {
+        @Label("Database")
+        public String database;
+        @Label("Records Scanned")
+        public int scanned;
+        @Label("Cohort Size")
+        public int cohortSize;
+    }
+
+    @Name("englishgame.ReviewTransition")
+    @Label("Review Transition")
+    @Category({CATEGORY, "Game"})
+    @Description("Scored review attempt and where the card ended up")
+    public static final class ReviewTransition extends Event {
+        @Label("Database")
+        public String database;
+        @Label("Outcome")
+        public String outcome;
+        @Label("Score Before")
+        public int scoreBefore;
+        @Label("Score After")
+        public int scoreAfter;
+    }
+
+    @Name("englishgame.Save")
+    @Label("Save")
+    @Category({CATEGORY, "Persistence"})
+    @Description("Game state written and flushed to a JSON file")
+    public static final class Save extends Event {
+        @Label("File")
+        public String file;
+        @Label("Records")
+        public int records;
+        @Label("Bytes Written")
+        @DataAmount(DataAmount.BYTES)
+        public long bytes;
+    }
+
+    @Name("englishgame.LoadPhase")
+    @Label("Load Phase")
+    @Category({CATEGORY, "Persistence"})
+    @Description("One phase of loading: reading the JSON file, rebuilding the databases, reconciling scores")
+    public static final class LoadPhase extends Event {
+        @Label("Phase")
+        public String phase;
+        @Label("Records")
+        public int records;
+    }
+}
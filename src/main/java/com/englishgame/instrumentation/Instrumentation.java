@@ -0,0 +1,73 @@
+package com.englishgame.instrumentation;
+
+import org.slf4j.Logger;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Low-overhead instrumentation for hot paths: named counters that are always on, plus sampled debug events.
+ * <p>
+ * Callers resolve their counters once (usually into static fields) and call {@link LongAdder#increment()} per
+ * operation. Debug events are written only when {@link #sampled(Logger)} says so: the logger has DEBUG enabled
+ * and the event falls in the sample ({@value #SAMPLE_PROPERTY}, default one in {@value #DEFAULT_SAMPLE_EVERY};
+ * 1 logs every event). Events use {@code event=name key=value} messages so they are easy to grep.
+ * <p>
+ * Slower operations (saves, loads, rounds) get a {@link Timer} instead; {@link MetricsReporter} publishes
+ * counters and timers over JMX and to a periodic dump file.
+ */
+public final class Instrumentation {
+
+    public static final String SAMPLE_PROPERTY = "englishgame.log.sampleEvery";
+    private static final int DEFAULT_SAMPLE_EVERY = 64;
+
+    private static final Map<String, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, Probe> PROBES = new ConcurrentHashMap<>();
+    private static final Map<String, Timer> TIMERS = new ConcurrentHashMap<>();
+    private static final int SAMPLE_EVERY = Math.max(1, Integer.getInteger(SAMPLE_PROPERTY, DEFAULT_SAMPLE_EVERY));
+
+    private Instrumentation() {
+    }
+
+    /** The counter registered under {@code name}, created on first use. */
+    public static LongAdder counter(String name) {
+        return COUNTERS.computeIfAbsent(name, n -> new LongAdder());
+    }
+
+    /** A counter plus sampled {@code event=name} debug events, shared by everything using the same name. */
+    public static Probe probe(String name) {
+        return PROBES.computeIfAbsent(name, n -> new Probe(n, counter(n)));
+    }
+
+    /** The latency timer registered under {@code name}, created on first use. */
+    public static Timer timer(String name) {
+        return TIMERS.computeIfAbsent(name, Timer::new);
+    }
+
+    /** Current value of every counter, sorted by name. */
+    public static Map<String, Long> counters() {
+        Map<String, Long> values = new TreeMap<>();
+        COUNTERS.forEach((name, counter) -> values.put(name, counter.sum()));
+        return values;
+    }
+
+    /** Every timer, sorted by name. */
+    public static Map<String, Timer> timers() {
+        return new TreeMap<>(TIMERS);
+    }
+
+    /** Zeroes every counter and timer (names stay registered). */
+    public static void reset() {
+        COUNTERS.values().forEach(LongAdder::reset);
+        TIMERS.values().forEach(Timer::reset);
+    }
+
+    /** Whether a hot-path debug event should be written now; cheap when DEBUG is off. */
+    public static boolean sampled(Logger log) {
+        return log.isDebugEnabled()
+                && (SAMPLE_EVERY == 1 || ThreadLocalRandom.current().nextInt(SAMPLE_EVERY) == 0);
+    }
+}
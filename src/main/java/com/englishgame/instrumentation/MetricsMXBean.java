@@ -0,0 +1,19 @@
+package com.englishgame.instrumentation;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link Instrumentation}, registered as {@value MetricsReporter#OBJECT_NAME}. Timer values are in
+ * nanoseconds.
+ */
+public interface MetricsMXBean {
+
+    Map<String, Long> getCounters();
+
+    Map<String, LatencyHistogram.Snapshot> getTimers();
+
+    /** The same text that goes to the dump file. */
+    String dump();
+
+    void reset();
+}
@@ -0,0 +1,148 @@
+package com.englishgame.instrumentation;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes {@link Instrumentation} counters and timers: always as the {@link MetricsMXBean}
+ * {@value #OBJECT_NAME} (JConsole, VisualVM, {@code jcmd}), and, when {@value #FILE_PROPERTY} names a file,
+ * as a plain-text table rewritten every {@value #INTERVAL_PROPERTY} seconds (default
+ * {@value #DEFAULT_INTERVAL_SECONDS}) and once more at shutdown. Everything is in-process; nothing is sent
+ * anywhere.
+ */
+@Slf4j
+public final class MetricsReporter implements MetricsMXBean {
+
+    public static final String OBJECT_NAME = "com.englishgame:type=Metrics";
+    public static final String FILE_PROPERTY = "englishgame.metrics.file";
+    public static final String INTERVAL_PROPERTY = "englishgame.metrics.intervalSeconds";
+    private static final long DEFAULT_INTERVAL_SECONDS = 60;
+
+    private static final MetricsReporter INSTANCE = new MetricsReporter();
+    private static boolean installed;
+
+    private MetricsReporter() {
+    }
+
+    /** Registers the MBean and starts the file dump if configured. Safe to call more than once. */
+    public static synchronized void install() {
+        if (installed) {
+            return;
+        }
+        installed = true;
+        registerMBean();
+        String file = System.getProperty(FILE_PROPERTY);
+        if (file != null && !file.isBlank()) {
+            long interval = Math.max(1, Long.getLong(INTERVAL_PROPERTY, DEFAULT_INTERVAL_SECONDS));
+            startFileDump(Paths.get(file.trim()), interval);
+        }
+    }
+
+    private static void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(INSTANCE, name);
+            }
+        } catch (JMException e) {
+            log.warn("Could not register metrics MBean: {}", e.getMessage());
+        }
+    }
+
+    private static void startFileDump(Path file, long intervalSeconds) {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "englishgame-metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(() -> writeDump(file), intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            scheduler.shutdownNow();
+            writeDump(file);
+        }, "englishgame-metrics-final-dump"));
+        log.info("Writing metrics to {} every {}s", file.toAbsolutePath(), intervalSeconds);
+    }
+
+    /** Replaces {@code file} with the current report; readers never see a half-written file. */
+    public static void writeDump(Path file) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            Files.write(temp, report().getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write metrics to {}: {}", file, e.getMessage());
+        }
+    }
+
+    /** Timers (milliseconds) and counters as aligned text, one per line. */
+    public static String report() {
+        StringBuilder out = new StringBuilder();
+        out.append("# englishgame metrics ")
+                .append(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .append('\n');
+        out.append(String.format(Locale.ROOT, "%-32s %10s %10s %10s %10s %10s %10s%n",
+                "timer (ms)", "count", "mean", "p50", "p90", "p99", "max"));
+        Instrumentation.timers().forEach((name, timer) -> {
+            LatencyHistogram.Snapshot s = timer.snapshot();
+            out.append(String.format(Locale.ROOT, "%-32s %10d %10s %10s %10s %10s %10s%n", name, s.getCount(),
+                    millis(s.getMean()), millis(s.getP50()), millis(s.getP90()), millis(s.getP99()),
+                    millis(s.getMax())));
+        });
+        out.append(String.format(Locale.ROOT, "%n%-32s %10s%n", "counter", "value"));
+        Instrumentation.counters().forEach((name, value) ->
+                out.append(String.format(Locale.ROOT, "%-32s %10d%n", name, value)));
+        return out.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        return Instrumentation.counters();
+    }
+
+    @Override
+    public Map<String, LatencyHistogram.Snapshot> getTimers() {
+        Map<String, LatencyHistogram.Snapshot> timers = new LinkedHashMap<>();
+        Instrumentation.timers().forEach((name, timer) -> timers.put(name, timer.snapshot()));
+        return timers;
+    }
+
+    @Override
+    public String dump() {
+        return report();
+    }
+
+    @Override
+    public void reset() {
+        Instrumentation.reset();
+    }
+}
@@ -0,0 +1,46 @@
+package com.englishgame.instrumentation;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter for one operation that can also emit a sampled {@code event=name attribute=value} debug line.
+ * The fast path is a {@link LongAdder} increment and a level check; arguments are only boxed when logged.
+ */
+public final class Probe {
+
+    private final String name;
+    private final LongAdder counter;
+
+    Probe(String name, LongAdder counter) {
+        this.name = name;
+        this.counter = counter;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long count() {
+        return counter.sum();
+    }
+
+    public void hit() {
+        counter.increment();
+    }
+
+    public void hit(Logger log, String attribute, long value) {
+        counter.increment();
+        if (Instrumentation.sampled(log)) {
+            log.debug("event={} {}={}", name, attribute, value);
+        }
+    }
+
+    public void hit(Logger log, String attribute, long value, String attribute2, long value2) {
+        counter.increment();
+        if (Instrumentation.sampled(log)) {
+            log.debug("event={} {}={} {}={}", name, attribute, value, attribute2, value2);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.englishgame.model;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable, versioned view of every in-memory database at one point in time.
+ * <p>
+ * Built by {@link com.englishgame.service.interfaces.DatabaseService#snapshot()}. Databases that did not change
+ * between two snapshots share the same {@link Database} instance, so taking a snapshot only copies what was
+ * mutated since the previous one. Readers (persistence, tables, statistics) need no locks or defensive copies.
+ */
+public record DatabaseSnapshot(long version, List<Database> databases, int wordsDefinitelyMasteredTotal) {
+
+    public DatabaseSnapshot {
+        databases = List.copyOf(databases);
+    }
+
+    /** Looks a database up ignoring case and outer spaces, like the service does. */
+    public Optional<Database> find(String databaseName) {
+        if (databaseName == null || databaseName.isBlank()) {
+            return Optional.empty();
+        }
+        String trimmed = databaseName.trim();
+        return databases.stream()
+                .filter(db -> db.name().equalsIgnoreCase(trimmed))
+                .findFirst();
+    }
+
+    /** One database: prompt rows (Spanish / definition side) and standalone English rows. */
+    public record Database(String name, long version, List<PromptRow> promptRows, List<EnglishRow> englishRows) {
+
+        public Database {
+            promptRows = List.copyOf(promptRows);
+            englishRows = List.copyOf(englishRows);
+        }
+
+        public int size() {
+            return promptRows.size() + englishRows.size();
+        }
+    }
+
+    /** Prompt row with its English translations, as stored under a practice database. */
+    public record PromptRow(String expression, int score, long includedAtEpochMillis, List<Translation> translations) {
+
+        public PromptRow {
+            translations = List.copyOf(translations);
+        }
+    }
+
+    public record Translation(String expression, int score) {
+    }
+
+    /** Standalone English row (learned words and review buckets). */
+    public record EnglishRow(String expression, int score, long includedAtEpochMillis, List<String> spanishSources,
+                             String practiceSourceDatabase) {
+
+        public EnglishRow {
+            spanishSources = List.copyOf(spanishSources);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.englishgame.model;
+
+import java.util.List;
+
+/**
+ * Counters for one database at one version, as kept by
+ * {@link com.englishgame.service.interfaces.DatabaseService#getDatabaseStats(String)}.
+ * <p>
+ * Scored items are the English translations under prompt rows plus the standalone English rows; their scores feed
+ * the histogram, the average and the learned / near-learned counts. {@code playableRows} are the rows a round can
+ * be built from: prompt rows with at least one non-blank translation and standalone English rows with text.
+ *
+ * @param scoreHistogram scored items per band of {@link #BAND_WIDTH} points; the last band is open-ended.
+ */
+public record DatabaseStats(String database, long version, int promptRows, int englishRows, int playableRows,
+                           int scoredItems, List<Integer> scoreHistogram, double averageScore, int learned,
+                           int nearLearned) {
+
+    /** Score from which an item counts as learned (practice → learned_words). */
+    public static final int LEARNED_AT = ReviewDatabases.REVIEW_DEMOTION_UNDER_SCORE;
+    /** Items this close below {@link #LEARNED_AT} count as near-learned. */
+    public static final int NEAR_LEARNED_MARGIN = 5;
+    public static final int BAND_WIDTH = 5;
+    /** 0–4, 5–9, … 30–34 and 35+ (the mastery score of words_definitely_learned). */
+    public static final int BANDS = ReviewDatabases.DEFINITELY_REVIEW_MASTER_SCORE / BAND_WIDTH + 1;
+
+    public DatabaseStats {
+        scoreHistogram = List.copyOf(scoreHistogram);
+    }
+
+    public static int bandOf(int score) {
+        return Math.min(BANDS - 1, Math.max(0, score) / BAND_WIDTH);
+    }
+
+    public int totalRows() {
+        return promptRows + englishRows;
+    }
+}
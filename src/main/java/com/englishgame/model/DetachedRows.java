@@ -0,0 +1,17 @@
+package com.englishgame.model;
+
+import java.util.Collection;
+
+/**
+ * Every row a database held when it was deleted or emptied, kept so the removal can be undone. The collections are
+ * the detached buckets themselves, not copies; nothing writes to them once they are detached.
+ *
+ * @param spanishRows the prompt rows, as they were
+ * @param englishRows the standalone English rows, as they were
+ */
+public record DetachedRows(Collection<SpanishExpression> spanishRows, Collection<EnglishExpression> englishRows) {
+
+    public boolean isEmpty() {
+        return spanishRows.isEmpty() && englishRows.isEmpty();
+    }
+}
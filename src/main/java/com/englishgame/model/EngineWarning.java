@@ -0,0 +1,52 @@
+package com.englishgame.model;
+
+import com.englishgame.AppGameMode;
+import com.englishgame.UiText;
+
+/**
+ * Non-fatal problems reported by the game engine (services and controller) instead of showing dialogs.
+ * <p>
+ * The engine only emits the code; front ends decide how to present it ({@link #message(AppGameMode)} gives
+ * the same copy the desktop app always showed).
+ */
+public enum EngineWarning {
+
+    REVIEW_PROMOTION_FAILED(Severity.WARNING,
+            "Could not move the expression to Words definitely learned.",
+            "No se pudo mover la expresión a Words definitely learned."),
+    REVIEW_RETURN_TO_LEARNED_FAILED(Severity.WARNING,
+            "Could not return the expression to Learned words.",
+            "No se pudo devolver la expresión a Learned words."),
+    REVIEW_DEMOTION_FAILED(Severity.WARNING,
+            "Could not return the expression to the practice database (no linked prompt or no target database). The previous score was kept.",
+            "No se pudo devolver la expresión a la base de práctica (sin frase español enlazada o sin BBDD de destino). El score anterior se mantuvo."),
+    NO_PRACTICE_DATABASE_FOR_DEMOTION(Severity.ERROR,
+            "There is no vocabulary database where the expression can be reinserted.",
+            "No hay ninguna base de vocabulario donde reincorporar la expresión."),
+    LEARNED_ENTRY_WITHOUT_PROMPT(Severity.ERROR,
+            "This learned_words entry has no linked prompt text; it cannot be relocated.",
+            "Esta entrada en learned_words no lleva texto español enlazado; no se puede reubicar.");
+
+    public enum Severity {
+        WARNING,
+        ERROR
+    }
+
+    private final Severity severity;
+    private final String englishMessage;
+    private final String spanishMessage;
+
+    EngineWarning(Severity severity, String englishMessage, String spanishMessage) {
+        this.severity = severity;
+        this.englishMessage = englishMessage;
+        this.spanishMessage = spanishMessage;
+    }
+
+    public Severity getSeverity() {
+        return severity;
+    }
+
+    public String message(AppGameMode mode) {
+        return UiText.t(mode, englishMessage, spanishMessage);
+    }
+}
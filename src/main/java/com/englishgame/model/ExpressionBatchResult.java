@@ -0,0 +1,23 @@
+package com.englishgame.model;
+
+import java.util.List;
+
+/**
+ * Outcome of deleting or moving several expressions at once.
+ *
+ * @param done        requested expressions that were deleted or moved
+ * @param skipped     requested expressions not found (or, for a move, already in the target)
+ * @param spanishRows the prompt rows that left the source database, as they were
+ * @param englishRows the standalone English rows that left the source database, as they were
+ */
+public record ExpressionBatchResult(List<String> done, List<String> skipped,
+                                    List<SpanishExpression> spanishRows, List<EnglishExpression> englishRows) {
+
+    public static ExpressionBatchResult nothingDone(List<String> requested) {
+        return new ExpressionBatchResult(List.of(), List.copyOf(requested), List.of(), List.of());
+    }
+
+    public boolean anyDone() {
+        return !done.isEmpty();
+    }
+}
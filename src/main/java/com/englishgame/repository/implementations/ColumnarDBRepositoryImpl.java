@@ -0,0 +1,221 @@
+package com.englishgame.repository.implementations;
+
+import com.englishgame.repository.interfaces.DBRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * {@link DBRepository} adapter over a {@link ColumnarRecordStore}: each map of a record is one row, and
+ * {@code firstRow[i]} is where record {@code i} starts (every game record is a single map, so usually
+ * {@code firstRow[i] == i}).
+ * <p>
+ * Records are materialized on every read, so callers get copies instead of the stored data;
+ * otherwise it behaves like {@link DBRepositoryImpl}.
+ */
+@Slf4j
+public class ColumnarDBRepositoryImpl implements DBRepository {
+
+    private final ColumnarRecordStore rows = new ColumnarRecordStore();
+    /** Record {@code i} is rows {@code [firstRow[i], firstRow[i + 1])}; {@code firstRow[records] == rows.size()}. */
+    private int[] firstRow = new int[16];
+    private int records;
+
+    @Override
+    public List<List<Map<String, Object>>> findAll() {
+        RepositoryProbes.FIND_ALL.hit(log, "records", records);
+        List<List<Map<String, Object>>> all = new ArrayList<>(records);
+        for (int record = 0; record < records; record++) {
+            all.add(record(record));
+        }
+        return all;
+    }
+
+    /** Materializes one record at a time, so visiting everything never holds a second copy of the data. */
+    @Override
+    public Stream<List<Map<String, Object>>> stream() {
+        return IntStream.range(0, records).mapToObj(this::record);
+    }
+
+    @Override
+    public List<List<Map<String, Object>>> page(int offset, int limit) {
+        int from = Math.min(Math.max(0, offset), records);
+        int to = (int) Math.min((long) from + Math.max(0, limit), records);
+        List<List<Map<String, Object>>> page = new ArrayList<>(to - from);
+        for (int record = from; record < to; record++) {
+            page.add(record(record));
+        }
+        return page;
+    }
+
+    @Override
+    public List<List<Map<String, Object>>> findBy(String key, Object value) {
+        RepositoryProbes.FIND_BY.hit(log, "records", records);
+        IntPredicate matcher = rows.matcher(key, value);
+        List<List<Map<String, Object>>> found = new ArrayList<>();
+        for (int record = 0; record < records; record++) {
+            if (rowsMatch(firstRow[record], firstRow[record + 1], matcher)) {
+                found.add(record(record));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public List<Map<String, Object>> findById(int index) {
+        if (index < 0 || index >= records) {
+            log.warn("Index {} out of range. Database size: {}", index, records);
+            return null;
+        }
+
+        return record(index);
+    }
+
+    @Override
+    public boolean save(List<Map<String, Object>> record) {
+        if (record == null || record.isEmpty()) {
+            log.warn("Attempt to save null or empty record");
+            return false;
+        }
+
+        try {
+            for (Map<String, Object> map : record) {
+                rows.add(map);
+            }
+            ensureRecordCapacity(records + 2);
+            firstRow[++records] = rows.size();
+            RepositoryProbes.SAVE.hit(log, "records", records);
+            return true;
+        } catch (Exception e) {
+            log.error("Error saving record: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean update(int index, List<Map<String, Object>> record) {
+        if (record == null || record.isEmpty()) {
+            log.warn("Attempt to update with null or empty record");
+            return false;
+        }
+
+        if (index < 0 || index >= records) {
+            log.warn("Index {} out of range for update. Database size: {}", index, records);
+            return false;
+        }
+
+        try {
+            int start = firstRow[index];
+            int oldSize = firstRow[index + 1] - start;
+            int shared = Math.min(oldSize, record.size());
+            for (int i = 0; i < shared; i++) {
+                rows.set(start + i, record.get(i));
+            }
+            for (int i = shared; i < record.size(); i++) {
+                rows.insert(start + i, record.get(i));
+            }
+            if (oldSize > record.size()) {
+                rows.removeRange(start + record.size(), start + oldSize);
+            }
+            int delta = record.size() - oldSize;
+            for (int i = index + 1; i <= records; i++) {
+                firstRow[i] += delta;
+            }
+            RepositoryProbes.UPDATE.hit(log, "index", index);
+            return true;
+        } catch (Exception e) {
+            log.error("Error updating record at index {}: {}", index, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean delete(int index) {
+        if (index < 0 || index >= records) {
+            log.warn("Index {} out of range for deletion. Database size: {}", index, records);
+            return false;
+        }
+
+        int start = firstRow[index];
+        int removedRows = firstRow[index + 1] - start;
+        rows.removeRange(start, start + removedRows);
+        for (int i = index + 1; i <= records; i++) {
+            firstRow[i - 1] = firstRow[i] - removedRows;
+        }
+        records--;
+        RepositoryProbes.DELETE.hit(log, "index", index, "records", records);
+        return true;
+    }
+
+    @Override
+    public int deleteBy(String key, Object value) {
+        // Whole records go: mark the rows of every matching record, then drop them in one pass
+        IntPredicate matcher = rows.matcher(key, value);
+        BitSet doomedRows = new BitSet(rows.size());
+        int kept = 0;
+        for (int record = 0; record < records; record++) {
+            int start = firstRow[record];
+            int end = firstRow[record + 1];
+            if (rowsMatch(start, end, matcher)) {
+                doomedRows.set(start, end);
+            } else {
+                firstRow[kept + 1] = firstRow[kept] + (end - start);
+                kept++;
+            }
+        }
+        int deletedCount = records - kept;
+        if (deletedCount > 0) {
+            rows.removeIf(doomedRows::get);
+            records = kept;
+        }
+
+        RepositoryProbes.DELETE_BY.hit(log, "deleted", deletedCount);
+        return deletedCount;
+    }
+
+    @Override
+    public int size() {
+        return records;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return records == 0;
+    }
+
+    @Override
+    public void clear() {
+        rows.clear();
+        records = 0;
+        RepositoryProbes.CLEAR.hit();
+        log.debug("Database cleared completely");
+    }
+
+    private static boolean rowsMatch(int start, int end, IntPredicate matcher) {
+        for (int row = start; row < end; row++) {
+            if (matcher.test(row)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<Map<String, Object>> record(int record) {
+        int start = firstRow[record];
+        int end = firstRow[record + 1];
+        List<Map<String, Object>> maps = new ArrayList<>(end - start);
+        for (int row = start; row < end; row++) {
+            maps.add(rows.get(row));
+        }
+        return maps;
+    }
+
+    private void ensureRecordCapacity(int capacity) {
+        if (capacity > firstRow.length) {
+            firstRow = Arrays.copyOf(firstRow, Math.max(capacity, firstRow.length * 2));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.englishgame.repository.implementations;
+
+import com.englishgame.repository.interfaces.DataBase;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * {@link DataBase} adapter over a {@link ColumnarRecordStore}; one map per row. Reads return materialized
+ * copies; otherwise it behaves like {@link DataBaseImpl}.
+ */
+@Slf4j
+public class ColumnarDataBaseImpl implements DataBase {
+
+    private final ColumnarRecordStore rows = new ColumnarRecordStore();
+
+    @Override
+    public List<Map<String, Object>> findAll() {
+        List<Map<String, Object>> all = new ArrayList<>(rows.size());
+        for (int row = 0; row < rows.size(); row++) {
+            all.add(rows.get(row));
+        }
+        return all;
+    }
+
+    @Override
+    public Stream<Map<String, Object>> stream() {
+        return IntStream.range(0, rows.size()).mapToObj(rows::get);
+    }
+
+    @Override
+    public List<Map<String, Object>> findBy(String key, Object value) {
+        RepositoryProbes.DATABASE_FIND_BY.hit(log, "maps", rows.size());
+        IntPredicate matcher = rows.matcher(key, value);
+        List<Map<String, Object>> found = new ArrayList<>();
+        for (int row = 0; row < rows.size(); row++) {
+            if (matcher.test(row)) {
+                found.add(rows.get(row));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Map<String, Object> get(int index) {
+        return exists(index) ? rows.get(index) : null;
+    }
+
+    @Override
+    public boolean add(Map<String, Object> map) {
+        if (map == null) {
+            log.warn("Attempt to add null map");
+            return false;
+        }
+        rows.add(map);
+        RepositoryProbes.DATABASE_ADD.hit(log, "maps", rows.size());
+        return true;
+    }
+
+    @Override
+    public boolean update(int index, Map<String, Object> map) {
+        if (map == null || !exists(index)) {
+            log.warn("Invalid update at index {}", index);
+            return false;
+        }
+        rows.set(index, map);
+        RepositoryProbes.DATABASE_UPDATE.hit(log, "index", index);
+        return true;
+    }
+
+    @Override
+    public boolean remove(int index) {
+        if (!exists(index)) {
+            log.warn("Index {} out of range for removal. Size: {}", index, rows.size());
+            return false;
+        }
+        rows.removeRange(index, index + 1);
+        RepositoryProbes.DATABASE_REMOVE.hit(log, "index", index, "maps", rows.size());
+        return true;
+    }
+
+    @Override
+    public int removeBy(String key, Object value) {
+        int removedCount = rows.removeIf(rows.matcher(key, value));
+        RepositoryProbes.DATABASE_REMOVE.hit(log, "removed", removedCount);
+        return removedCount;
+    }
+
+    @Override
+    public int size() {
+        return rows.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return rows.size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        rows.clear();
+    }
+
+    @Override
+    public boolean exists(int index) {
+        return index >= 0 && index < rows.size();
+    }
+
+    @Override
+    public int indexOf(String key, Object value) {
+        IntPredicate matcher = rows.matcher(key, value);
+        for (int row = 0; row < rows.size(); row++) {
+            if (matcher.test(row)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,397 @@
+package com.englishgame.repository.implementations;
+
+import java.util.*;
+import java.util.function.IntPredicate;
+
+/**
+ * Typed, column-oriented storage for the persisted rows ({@code Map<String, Object>}).
+ * <p>
+ * The keys every game row uses ({@code type}, {@code database}, {@code expression}, {@code score},
+ * {@code translations}, ...) live in primitive columns: strings as ids into a {@link StringArena}, scores in an
+ * {@code int[]}, timestamps in a {@code long[]} and string lists as (offset, length) slices of one shared
+ * {@code int[]}. A row costs a few dozen bytes instead of a {@code HashMap} with boxed values. Values of an
+ * unexpected type and unknown keys go to a small per-row map, so any row round-trips unchanged.
+ * <p>
+ * {@link #get(int)} materializes a fresh mutable map. Interned strings are kept until {@link #clear()}.
+ * Not thread-safe, like the other repository implementations.
+ */
+public final class ColumnarRecordStore {
+
+    private enum Kind { STRING, INT, LONG, STRING_LIST }
+
+    private enum Column {
+        TYPE("type", Kind.STRING),
+        DATABASE("database", Kind.STRING),
+        LANGUAGE("language", Kind.STRING),
+        EXPRESSION("expression", Kind.STRING),
+        PRACTICE_SOURCE_DATABASE("practice_source_database", Kind.STRING),
+        SCORE("score", Kind.INT),
+        INCLUDED_AT("included_at", Kind.LONG),
+        CREATED_AT("created_at", Kind.LONG),
+        TRANSLATIONS("translations", Kind.STRING_LIST),
+        SPANISH_SOURCES("spanish_sources", Kind.STRING_LIST);
+
+        private static final Column[] ALL = values();
+        private static final Map<String, Column> BY_KEY = new HashMap<>();
+
+        static {
+            for (Column column : ALL) {
+                BY_KEY.put(column.key, column);
+            }
+        }
+
+        final String key;
+        final Kind kind;
+        final int bit = 1 << ordinal();
+
+        Column(String key, Kind kind) {
+            this.key = key;
+            this.kind = kind;
+        }
+    }
+
+    private static final int INITIAL_CAPACITY = 16;
+    /** Dead list items tolerated before the item pool is rewritten. */
+    private static final int MIN_GARBAGE_TO_COMPACT = 1024;
+
+    private final StringArena strings = new StringArena();
+
+    private int size;
+    /** Bit per column: the row has that key. */
+    private int[] present = new int[INITIAL_CAPACITY];
+    /** Bit per LONG column: the value was an {@code Integer} and is returned as one. */
+    private int[] narrow = new int[INITIAL_CAPACITY];
+    /** STRING: string id, INT: value, STRING_LIST: offset into {@link #items}; null for LONG columns. */
+    private final int[][] ints = new int[Column.ALL.length][];
+    /** STRING_LIST lengths; null for other columns. */
+    private final int[][] lengths = new int[Column.ALL.length][];
+    /** LONG values; null for other columns. */
+    private final long[][] longs = new long[Column.ALL.length][];
+    /** Keys and values that have no column; null for most rows. */
+    private Object[] extras = new Object[INITIAL_CAPACITY];
+
+    private int[] items = new int[64];
+    private int itemCount;
+    private int garbageItems;
+
+    public ColumnarRecordStore() {
+        for (Column column : Column.ALL) {
+            switch (column.kind) {
+                case LONG -> longs[column.ordinal()] = new long[INITIAL_CAPACITY];
+                case STRING_LIST -> {
+                    ints[column.ordinal()] = new int[INITIAL_CAPACITY];
+                    lengths[column.ordinal()] = new int[INITIAL_CAPACITY];
+                }
+                default -> ints[column.ordinal()] = new int[INITIAL_CAPACITY];
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void add(Map<String, Object> row) {
+        ensureCapacity(size + 1);
+        write(size++, row);
+    }
+
+    /** Inserts {@code row} before position {@code index}, shifting the following rows up. */
+    public void insert(int index, Map<String, Object> row) {
+        checkPosition(index, size + 1);
+        ensureCapacity(size + 1);
+        shift(index, index + 1, size - index);
+        size++;
+        write(index, row);
+    }
+
+    public void set(int index, Map<String, Object> row) {
+        checkPosition(index, size);
+        release(index);
+        write(index, row);
+        compactItemsIfNeeded();
+    }
+
+    public Map<String, Object> get(int index) {
+        checkPosition(index, size);
+        Map<String, Object> row = new HashMap<>();
+        int mask = present[index];
+        for (Column column : Column.ALL) {
+            if ((mask & column.bit) != 0) {
+                row.put(column.key, value(index, column));
+            }
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> extra = (Map<String, Object>) extras[index];
+        if (extra != null) {
+            row.putAll(extra);
+        }
+        return row;
+    }
+
+    /** Removes rows {@code [from, to)}. */
+    public void removeRange(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") of " + size);
+        }
+        for (int row = from; row < to; row++) {
+            release(row);
+        }
+        shift(to, from, size - to);
+        Arrays.fill(extras, size - (to - from), size, null);
+        size -= to - from;
+        compactItemsIfNeeded();
+    }
+
+    /** Removes every row accepted by {@code drop} in one pass, keeping the order of the others. */
+    public int removeIf(IntPredicate drop) {
+        int kept = 0;
+        for (int row = 0; row < size; row++) {
+            if (drop.test(row)) {
+                release(row);
+                continue;
+            }
+            if (kept != row) {
+                shift(row, kept, 1);
+            }
+            kept++;
+        }
+        int removed = size - kept;
+        Arrays.fill(extras, kept, size, null);
+        size = kept;
+        compactItemsIfNeeded();
+        return removed;
+    }
+
+    public void clear() {
+        Arrays.fill(extras, 0, size, null);
+        size = 0;
+        itemCount = 0;
+        garbageItems = 0;
+        strings.clear();
+    }
+
+    /**
+     * Row test equivalent to {@code row.containsKey(key) && Objects.equals(row.get(key), value)}, evaluated on
+     * the columns without materializing the row.
+     */
+    public IntPredicate matcher(String key, Object value) {
+        Column column = Column.BY_KEY.get(key);
+        if (column == null) {
+            return row -> extraMatches(row, key, value);
+        }
+        int c = column.ordinal();
+        int bit = column.bit;
+        IntPredicate typed;
+        switch (column.kind) {
+            case STRING -> {
+                int id = value instanceof String s ? strings.find(s) : -1;
+                if (id >= 0) {
+                    int expected = id;
+                    typed = row -> (present[row] & bit) != 0 && ints[c][row] == expected;
+                } else {
+                    typed = row -> false;
+                }
+            }
+            case INT -> {
+                if (value instanceof Integer i) {
+                    int expected = i;
+                    typed = row -> (present[row] & bit) != 0 && ints[c][row] == expected;
+                } else {
+                    typed = row -> false;
+                }
+            }
+            case LONG -> {
+                if (value instanceof Long || value instanceof Integer) {
+                    long expected = ((Number) value).longValue();
+                    int narrowBit = value instanceof Integer ? bit : 0;
+                    typed = row -> (present[row] & bit) != 0 && (narrow[row] & bit) == narrowBit
+                            && longs[c][row] == expected;
+                } else {
+                    typed = row -> false;
+                }
+            }
+            default -> typed = value instanceof List<?>
+                    ? row -> (present[row] & bit) != 0 && value.equals(value(row, column))
+                    : row -> false;
+        }
+        return row -> typed.test(row) || extraMatches(row, key, value);
+    }
+
+    private boolean extraMatches(int row, String key, Object value) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> extra = (Map<String, Object>) extras[row];
+        return extra != null && extra.containsKey(key) && Objects.equals(extra.get(key), value);
+    }
+
+    private void write(int row, Map<String, Object> values) {
+        int mask = 0;
+        int narrowMask = 0;
+        Map<String, Object> extra = null;
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            Column column = Column.BY_KEY.get(entry.getKey());
+            if (column != null && store(row, column, entry.getValue())) {
+                mask |= column.bit;
+                if (entry.getValue() instanceof Integer && column.kind == Kind.LONG) {
+                    narrowMask |= column.bit;
+                }
+            } else {
+                if (extra == null) {
+                    extra = new HashMap<>(4);
+                }
+                extra.put(entry.getKey(), entry.getValue());
+            }
+        }
+        present[row] = mask;
+        narrow[row] = narrowMask;
+        extras[row] = extra;
+    }
+
+    private boolean store(int row, Column column, Object value) {
+        int c = column.ordinal();
+        switch (column.kind) {
+            case STRING -> {
+                if (!(value instanceof String s)) {
+                    return false;
+                }
+                ints[c][row] = strings.intern(s);
+            }
+            case INT -> {
+                if (!(value instanceof Integer i)) {
+                    return false;
+                }
+                ints[c][row] = i;
+            }
+            case LONG -> {
+                if (!(value instanceof Long) && !(value instanceof Integer)) {
+                    return false;
+                }
+                longs[c][row] = ((Number) value).longValue();
+            }
+            default -> {
+                if (!(value instanceof List<?> list) || !allStrings(list)) {
+                    return false;
+                }
+                ensureItemCapacity(itemCount + list.size());
+                ints[c][row] = itemCount;
+                lengths[c][row] = list.size();
+                for (Object item : list) {
+                    items[itemCount++] = strings.intern((String) item);
+                }
+            }
+        }
+        return true;
+    }
+
+    private Object value(int row, Column column) {
+        int c = column.ordinal();
+        return switch (column.kind) {
+            case STRING -> strings.get(ints[c][row]);
+            case INT -> ints[c][row];
+            case LONG -> (narrow[row] & column.bit) != 0 ? (Object) (int) longs[c][row] : (Object) longs[c][row];
+            default -> {
+                int offset = ints[c][row];
+                int length = lengths[c][row];
+                List<String> list = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    list.add(strings.get(items[offset + i]));
+                }
+                yield list;
+            }
+        };
+    }
+
+    private static boolean allStrings(List<?> list) {
+        for (Object item : list) {
+            if (!(item instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Accounts for the list items of a row that is about to be overwritten or dropped. */
+    private void release(int row) {
+        for (Column column : Column.ALL) {
+            if (column.kind == Kind.STRING_LIST && (present[row] & column.bit) != 0) {
+                garbageItems += lengths[column.ordinal()][row];
+            }
+        }
+    }
+
+    private void compactItemsIfNeeded() {
+        if (garbageItems < MIN_GARBAGE_TO_COMPACT || garbageItems * 2 < itemCount) {
+            return;
+        }
+        int[] compacted = new int[Math.max(64, itemCount - garbageItems)];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            for (Column column : Column.ALL) {
+                if (column.kind == Kind.STRING_LIST && (present[row] & column.bit) != 0) {
+                    int c = column.ordinal();
+                    int length = lengths[c][row];
+                    System.arraycopy(items, ints[c][row], compacted, count, length);
+                    ints[c][row] = count;
+                    count += length;
+                }
+            }
+        }
+        items = compacted;
+        itemCount = count;
+        garbageItems = 0;
+    }
+
+    /** Moves {@code count} rows from {@code from} to {@code to} in every column. */
+    private void shift(int from, int to, int count) {
+        if (count <= 0) {
+            return;
+        }
+        System.arraycopy(present, from, present, to, count);
+        System.arraycopy(narrow, from, narrow, to, count);
+        System.arraycopy(extras, from, extras, to, count);
+        for (int c = 0; c < Column.ALL.length; c++) {
+            if (ints[c] != null) {
+                System.arraycopy(ints[c], from, ints[c], to, count);
+            }
+            if (lengths[c] != null) {
+                System.arraycopy(lengths[c], from, lengths[c], to, count);
+            }
+            if (longs[c] != null) {
+                System.arraycopy(longs[c], from, longs[c], to, count);
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= present.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, present.length * 2);
+        present = Arrays.copyOf(present, newCapacity);
+        narrow = Arrays.copyOf(narrow, newCapacity);
+        extras = Arrays.copyOf(extras, newCapacity);
+        for (int c = 0; c < Column.ALL.length; c++) {
+            if (ints[c] != null) {
+                ints[c] = Arrays.copyOf(ints[c], newCapacity);
+            }
+            if (lengths[c] != null) {
+                lengths[c] = Arrays.copyOf(lengths[c], newCapacity);
+            }
+            if (longs[c] != null) {
+                longs[c] = Arrays.copyOf(longs[c], newCapacity);
+            }
+        }
+    }
+
+    private void ensureItemCapacity(int capacity) {
+        if (capacity > items.length) {
+            items = Arrays.copyOf(items, Math.max(capacity, items.length * 2));
+        }
+    }
+
+    private static void checkPosition(int index, int limit) {
+        if (index < 0 || index >= limit) {
+            throw new IndexOutOfBoundsException("Row " + index + " of " + limit);
+        }
+    }
+}
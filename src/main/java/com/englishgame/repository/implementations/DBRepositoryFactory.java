@@ -0,0 +1,50 @@
+package com.englishgame.repository.implementations;
+
+import com.englishgame.repository.interfaces.DBRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Picks the {@link DBRepository} implementation from the {@value #PROPERTY} system property:
+ * {@code list} (default, {@link DBRepositoryImpl}), {@code indexed} ({@link IndexedDBRepositoryImpl}) or
+ * {@code columnar} ({@link ColumnarDBRepositoryImpl}).
+ */
+@Slf4j
+public final class DBRepositoryFactory {
+
+    public static final String PROPERTY = "englishgame.repository";
+
+    private DBRepositoryFactory() {
+    }
+
+    public static DBRepository create() {
+        return create(System.getProperty(PROPERTY));
+    }
+
+    public static DBRepository create(String kind) {
+        if (kind == null || kind.isBlank() || "list".equalsIgnoreCase(kind.trim())) {
+            return new DBRepositoryImpl();
+        }
+        if ("indexed".equalsIgnoreCase(kind.trim())) {
+            return new IndexedDBRepositoryImpl();
+        }
+        if ("columnar".equalsIgnoreCase(kind.trim())) {
+            return new ColumnarDBRepositoryImpl();
+        }
+        log.warn("Unknown repository '{}', using the list repository", kind);
+        return new DBRepositoryImpl();
+    }
+
+    /** A new, empty repository of the same kind as {@code template}, e.g. to stage a load before swapping it in. */
+    public static DBRepository createLike(DBRepository template) {
+        if (template instanceof IndexedDBRepositoryImpl) {
+            return new IndexedDBRepositoryImpl();
+        }
+        if (template instanceof ColumnarDBRepositoryImpl) {
+            return new ColumnarDBRepositoryImpl();
+        }
+        if (template instanceof DBRepositoryImpl) {
+            return new DBRepositoryImpl();
+        }
+        return create();
+    }
+}
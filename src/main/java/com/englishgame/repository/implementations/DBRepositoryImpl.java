@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 public class DBRepositoryImpl implements DBRepository {
@@ -17,13 +18,29 @@ public class DBRepositoryImpl implements DBRepository {
     
     @Override
     public List<List<Map<String, Object>>> findAll() {
-        log.debug("Retrieving all records from database");
+        RepositoryProbes.FIND_ALL.hit(log, "records", database.size());
         return new ArrayList<>(database);
     }
     
+    @Override
+    public Stream<List<Map<String, Object>>> stream() {
+        return database.stream().map(RecordViews::readOnly);
+    }
+    
+    @Override
+    public List<List<Map<String, Object>>> page(int offset, int limit) {
+        int from = Math.min(Math.max(0, offset), database.size());
+        int to = (int) Math.min((long) from + Math.max(0, limit), database.size());
+        List<List<Map<String, Object>>> page = new ArrayList<>(to - from);
+        for (List<Map<String, Object>> record : database.subList(from, to)) {
+            page.add(RecordViews.readOnly(record));
+        }
+        return page;
+    }
+    
     @Override
     public List<List<Map<String, Object>>> findBy(String key, Object value) {
-        log.debug("Searching records with key '{}' and value '{}'", key, value);
+        RepositoryProbes.FIND_BY.hit(log, "records", database.size());
         
         return database.stream()
                 .filter(record -> record.stream()
@@ -34,8 +51,6 @@ public class DBRepositoryImpl implements DBRepository {
     
     @Override
     public List<Map<String, Object>> findById(int index) {
-        log.debug("Searching record at index {}", index);
-        
         if (index < 0 || index >= database.size()) {
             log.warn("Index {} out of range. Database size: {}", index, database.size());
             return null;
@@ -58,7 +73,7 @@ public class DBRepositoryImpl implements DBRepository {
                     .collect(Collectors.toList());
             
             database.add(recordCopy);
-            log.debug("Record saved successfully. Total records: {}", database.size());
+            RepositoryProbes.SAVE.hit(log, "records", database.size());
             return true;
         } catch (Exception e) {
             log.error("Error saving record: {}", e.getMessage());
@@ -86,7 +101,7 @@ public class DBRepositoryImpl implements DBRepository {
                     .collect(Collectors.toList());
             
             database.set(index, recordCopy);
-            log.debug("Record at index {} updated successfully", index);
+            RepositoryProbes.UPDATE.hit(log, "index", index);
             return true;
         } catch (Exception e) {
             log.error("Error updating record at index {}: {}", index, e.getMessage());
@@ -104,8 +119,7 @@ public class DBRepositoryImpl implements DBRepository {
         
         try {
             database.remove(index);
-            log.debug("Record at index {} deleted successfully. Total records: {}", 
-                    index, database.size());
+            RepositoryProbes.DELETE.hit(log, "index", index, "records", database.size());
             return true;
         } catch (Exception e) {
             log.error("Error deleting record at index {}: {}", index, e.getMessage());
@@ -115,8 +129,6 @@ public class DBRepositoryImpl implements DBRepository {
     
     @Override
     public int deleteBy(String key, Object value) {
-        log.debug("Deleting records with key '{}' and value '{}'", key, value);
-        
         List<List<Map<String, Object>>> toDelete = findBy(key, value);
         int deletedCount = 0;
         
@@ -126,27 +138,24 @@ public class DBRepositoryImpl implements DBRepository {
             }
         }
         
-        log.debug("Deleted {} records", deletedCount);
+        RepositoryProbes.DELETE_BY.hit(log, "deleted", deletedCount);
         return deletedCount;
     }
     
     @Override
     public int size() {
-        int size = database.size();
-        log.debug("Database size: {}", size);
-        return size;
+        return database.size();
     }
     
     @Override
     public boolean isEmpty() {
-        boolean empty = database.isEmpty();
-        log.debug("Database empty: {}", empty);
-        return empty;
+        return database.isEmpty();
     }
     
     @Override
     public void clear() {
         database.clear();
+        RepositoryProbes.CLEAR.hit();
         log.debug("Database cleared completely");
     }
 }
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of DataBase interface for managing List<Map<String, Object>>
@@ -20,13 +21,17 @@ public class DataBaseImpl implements DataBase {
     
     @Override
     public List<Map<String, Object>> findAll() {
-        log.debug("Retrieving all maps from data list");
         return new ArrayList<>(dataList);
     }
     
+    @Override
+    public Stream<Map<String, Object>> stream() {
+        return dataList.stream().map(Collections::unmodifiableMap);
+    }
+    
     @Override
     public List<Map<String, Object>> findBy(String key, Object value) {
-        log.debug("Searching maps with key '{}' and value '{}'", key, value);
+        RepositoryProbes.DATABASE_FIND_BY.hit(log, "maps", dataList.size());
         return dataList.stream()
                 .filter(map -> map.containsKey(key) && Objects.equals(map.get(key), value))
                 .collect(Collectors.toList());
@@ -34,7 +39,6 @@ public class DataBaseImpl implements DataBase {
     
     @Override
     public Map<String, Object> get(int index) {
-        log.debug("Getting map at index {}", index);
         if (index < 0 || index >= dataList.size()) {
             log.warn("Index {} out of range. Data list size: {}", index, dataList.size());
             return null;
@@ -53,7 +57,7 @@ public class DataBaseImpl implements DataBase {
             // Create a deep copy to avoid external modifications
             Map<String, Object> mapCopy = new HashMap<>(map);
             dataList.add(mapCopy);
-            log.debug("Map added successfully. Total maps: {}", dataList.size());
+            RepositoryProbes.DATABASE_ADD.hit(log, "maps", dataList.size());
             return true;
         } catch (Exception e) {
             log.error("Error adding map: {}", e.getMessage());
@@ -77,7 +81,7 @@ public class DataBaseImpl implements DataBase {
             // Create a deep copy to avoid external modifications
             Map<String, Object> mapCopy = new HashMap<>(map);
             dataList.set(index, mapCopy);
-            log.debug("Map at index {} updated successfully", index);
+            RepositoryProbes.DATABASE_UPDATE.hit(log, "index", index);
             return true;
         } catch (Exception e) {
             log.error("Error updating map at index {}: {}", index, e.getMessage());
@@ -94,7 +98,7 @@ public class DataBaseImpl implements DataBase {
         
         try {
             dataList.remove(index);
-            log.debug("Map at index {} removed successfully. Total maps: {}", index, dataList.size());
+            RepositoryProbes.DATABASE_REMOVE.hit(log, "index", index, "maps", dataList.size());
             return true;
         } catch (Exception e) {
             log.error("Error removing map at index {}: {}", index, e.getMessage());
@@ -104,7 +108,6 @@ public class DataBaseImpl implements DataBase {
     
     @Override
     public int removeBy(String key, Object value) {
-        log.debug("Removing maps with key '{}' and value '{}'", key, value);
         List<Map<String, Object>> toRemove = findBy(key, value);
         int removedCount = 0;
         
@@ -114,22 +117,18 @@ public class DataBaseImpl implements DataBase {
             }
         }
         
-        log.debug("Removed {} maps", removedCount);
+        RepositoryProbes.DATABASE_REMOVE.hit(log, "removed", removedCount);
         return removedCount;
     }
     
     @Override
     public int size() {
-        int size = dataList.size();
-        log.debug("Data list size: {}", size);
-        return size;
+        return dataList.size();
     }
     
     @Override
     public boolean isEmpty() {
-        boolean empty = dataList.isEmpty();
-        log.debug("Data list empty: {}", empty);
-        return empty;
+        return dataList.isEmpty();
     }
     
     @Override
@@ -140,22 +139,17 @@ public class DataBaseImpl implements DataBase {
     
     @Override
     public boolean exists(int index) {
-        boolean exists = index >= 0 && index < dataList.size();
-        log.debug("Map exists at index {}: {}", index, exists);
-        return exists;
+        return index >= 0 && index < dataList.size();
     }
     
     @Override
     public int indexOf(String key, Object value) {
-        log.debug("Searching index of map with key '{}' and value '{}'", key, value);
         for (int i = 0; i < dataList.size(); i++) {
             Map<String, Object> map = dataList.get(i);
             if (map.containsKey(key) && Objects.equals(map.get(key), value)) {
-                log.debug("Found map at index {}", i);
                 return i;
             }
         }
-        log.debug("Map not found");
         return -1;
     }
 }
@@ -3,6 +3,7 @@ package com.englishgame.repository.implementations;
 import com.englishgame.repository.interfaces.Expressions;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -25,13 +26,16 @@ public class ExpressionsImpl implements Expressions {
     
     @Override
     public Map<String, Object> getAll() {
-        log.debug("Retrieving all key-value pairs from expression map");
         return new HashMap<>(expressionMap);
     }
     
+    @Override
+    public Map<String, Object> view() {
+        return Collections.unmodifiableMap(expressionMap);
+    }
+    
     @Override
     public Object get(String key) {
-        log.debug("Getting value for key '{}'", key);
         if (key == null) {
             log.warn("Attempt to get value with null key");
             return null;
@@ -48,10 +52,10 @@ public class ExpressionsImpl implements Expressions {
         
         try {
             expressionMap.put(key, value);
-            log.debug("Set key '{}' with value '{}' successfully", key, value);
+            RepositoryProbes.EXPRESSIONS_SET.hit(log, "entries", expressionMap.size());
             return true;
         } catch (Exception e) {
-            log.error("Error setting key '{}' with value '{}': {}", key, value, e.getMessage());
+            log.error("Error setting key '{}': {}", key, e.getMessage());
             return false;
         }
     }
@@ -70,10 +74,10 @@ public class ExpressionsImpl implements Expressions {
         
         try {
             expressionMap.put(key, value);
-            log.debug("Updated key '{}' with value '{}' successfully", key, value);
+            RepositoryProbes.EXPRESSIONS_SET.hit(log, "entries", expressionMap.size());
             return true;
         } catch (Exception e) {
-            log.error("Error updating key '{}' with value '{}': {}", key, value, e.getMessage());
+            log.error("Error updating key '{}': {}", key, e.getMessage());
             return false;
         }
     }
@@ -91,8 +95,8 @@ public class ExpressionsImpl implements Expressions {
         }
         
         try {
-            Object removedValue = expressionMap.remove(key);
-            log.debug("Removed key '{}' with value '{}' successfully", key, removedValue);
+            expressionMap.remove(key);
+            RepositoryProbes.EXPRESSIONS_REMOVE.hit(log, "entries", expressionMap.size());
             return true;
         } catch (Exception e) {
             log.error("Error removing key '{}': {}", key, e.getMessage());
@@ -102,40 +106,27 @@ public class ExpressionsImpl implements Expressions {
     
     @Override
     public boolean containsKey(String key) {
-        if (key == null) {
-            log.debug("Checking for null key - always false");
-            return false;
-        }
-        boolean contains = expressionMap.containsKey(key);
-        log.debug("Map contains key '{}': {}", key, contains);
-        return contains;
+        return key != null && expressionMap.containsKey(key);
     }
     
     @Override
     public boolean containsValue(Object value) {
-        boolean contains = expressionMap.containsValue(value);
-        log.debug("Map contains value '{}': {}", value, contains);
-        return contains;
+        return expressionMap.containsValue(value);
     }
     
     @Override
     public Set<String> getKeys() {
-        log.debug("Retrieving all keys from expression map");
         return expressionMap.keySet();
     }
     
     @Override
     public int size() {
-        int size = expressionMap.size();
-        log.debug("Expression map size: {}", size);
-        return size;
+        return expressionMap.size();
     }
     
     @Override
     public boolean isEmpty() {
-        boolean empty = expressionMap.isEmpty();
-        log.debug("Expression map empty: {}", empty);
-        return empty;
+        return expressionMap.isEmpty();
     }
     
     @Override
@@ -146,7 +137,6 @@ public class ExpressionsImpl implements Expressions {
     
     @Override
     public Object getOrDefault(String key, Object defaultValue) {
-        log.debug("Getting value for key '{}' with default '{}'", key, defaultValue);
         if (key == null) {
             log.warn("Attempt to get value with null key, returning default");
             return defaultValue;
@@ -173,8 +163,6 @@ public class ExpressionsImpl implements Expressions {
     
     @Override
     public String toString() {
-        String result = expressionMap.toString();
-        log.debug("Expression map toString: {}", result);
-        return result;
+        return expressionMap.toString();
     }
 }
@@ -0,0 +1,257 @@
+package com.englishgame.repository.implementations;
+
+import com.englishgame.repository.interfaces.DBRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link DBRepository} with hash indexes on the keys the services query ({@code type}, {@code database},
+ * {@code expression}, {@code language}).
+ * <p>
+ * Records live in slots; deletions leave a tombstone ({@code null}) instead of shifting the list, so
+ * {@link #deleteBy} costs O(matches) instead of a full scan plus one {@code remove(Object)} per hit. Tombstones
+ * are compacted away before the next positional access ({@link #findById}, {@link #update}, {@link #delete})
+ * and whenever they outnumber the live records. Lookups on any other key fall back to a scan, with the same
+ * results as {@link DBRepositoryImpl}.
+ * <p>
+ * Like {@link DBRepositoryImpl}, {@link #findAll} and {@link #findBy} return the stored records: treat them as
+ * read-only, otherwise the indexes go stale.
+ */
+@Slf4j
+public class IndexedDBRepositoryImpl implements DBRepository {
+
+    public static final Set<String> INDEXED_KEYS = Set.of("type", "database", "expression", "language");
+
+    /** Tombstones tolerated before compaction, on top of the "more dead than live" rule. */
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 64;
+
+    private final List<List<Map<String, Object>>> slots = new ArrayList<>();
+    /** key -> value -> slots (ascending, i.e. insertion order) of the records having that pair in some map. */
+    private final Map<String, Map<Object, NavigableSet<Integer>>> indexes = new HashMap<>();
+    private int tombstones;
+
+    public IndexedDBRepositoryImpl() {
+        for (String key : INDEXED_KEYS) {
+            indexes.put(key, new HashMap<>());
+        }
+    }
+
+    @Override
+    public List<List<Map<String, Object>>> findAll() {
+        RepositoryProbes.FIND_ALL.hit(log, "records", size());
+        if (tombstones == 0) {
+            return new ArrayList<>(slots);
+        }
+        List<List<Map<String, Object>>> all = new ArrayList<>(size());
+        for (List<Map<String, Object>> record : slots) {
+            if (record != null) {
+                all.add(record);
+            }
+        }
+        return all;
+    }
+
+    @Override
+    public Stream<List<Map<String, Object>>> stream() {
+        return slots.stream().filter(Objects::nonNull).map(RecordViews::readOnly);
+    }
+
+    @Override
+    public List<List<Map<String, Object>>> findBy(String key, Object value) {
+        RepositoryProbes.FIND_BY.hit(log, "records", size());
+        Map<Object, NavigableSet<Integer>> index = indexes.get(key);
+        if (index == null) {
+            return slots.stream()
+                    .filter(record -> record != null && matches(record, key, value))
+                    .collect(Collectors.toList());
+        }
+        NavigableSet<Integer> hits = index.get(value);
+        if (hits == null) {
+            return new ArrayList<>();
+        }
+        List<List<Map<String, Object>>> found = new ArrayList<>(hits.size());
+        for (int slot : hits) {
+            found.add(slots.get(slot));
+        }
+        return found;
+    }
+
+    @Override
+    public List<Map<String, Object>> findById(int index) {
+        if (index < 0 || index >= size()) {
+            log.warn("Index {} out of range. Database size: {}", index, size());
+            return null;
+        }
+
+        compact();
+        return new ArrayList<>(slots.get(index));
+    }
+
+    @Override
+    public boolean save(List<Map<String, Object>> record) {
+        if (record == null || record.isEmpty()) {
+            log.warn("Attempt to save null or empty record");
+            return false;
+        }
+
+        try {
+            List<Map<String, Object>> recordCopy = copyOf(record);
+            slots.add(recordCopy);
+            addToIndexes(slots.size() - 1, recordCopy);
+            RepositoryProbes.SAVE.hit(log, "records", size());
+            return true;
+        } catch (Exception e) {
+            log.error("Error saving record: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean update(int index, List<Map<String, Object>> record) {
+        if (record == null || record.isEmpty()) {
+            log.warn("Attempt to update with null or empty record");
+            return false;
+        }
+
+        if (index < 0 || index >= size()) {
+            log.warn("Index {} out of range for update. Database size: {}", index, size());
+            return false;
+        }
+
+        try {
+            List<Map<String, Object>> recordCopy = copyOf(record);
+            compact();
+            removeFromIndexes(index, slots.get(index));
+            slots.set(index, recordCopy);
+            addToIndexes(index, recordCopy);
+            RepositoryProbes.UPDATE.hit(log, "index", index);
+            return true;
+        } catch (Exception e) {
+            log.error("Error updating record at index {}: {}", index, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean delete(int index) {
+        if (index < 0 || index >= size()) {
+            log.warn("Index {} out of range for deletion. Database size: {}", index, size());
+            return false;
+        }
+
+        compact();
+        tombstone(index);
+        RepositoryProbes.DELETE.hit(log, "index", index, "records", size());
+        return true;
+    }
+
+    @Override
+    public int deleteBy(String key, Object value) {
+        List<Integer> toDelete = new ArrayList<>();
+        Map<Object, NavigableSet<Integer>> index = indexes.get(key);
+        if (index == null) {
+            for (int slot = 0; slot < slots.size(); slot++) {
+                List<Map<String, Object>> record = slots.get(slot);
+                if (record != null && matches(record, key, value)) {
+                    toDelete.add(slot);
+                }
+            }
+        } else if (index.containsKey(value)) {
+            toDelete.addAll(index.get(value));
+        }
+
+        for (int slot : toDelete) {
+            tombstone(slot);
+        }
+        if (tombstones >= MIN_TOMBSTONES_TO_COMPACT && tombstones > size()) {
+            compact();
+        }
+
+        RepositoryProbes.DELETE_BY.hit(log, "deleted", toDelete.size());
+        return toDelete.size();
+    }
+
+    @Override
+    public int size() {
+        return slots.size() - tombstones;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        slots.clear();
+        tombstones = 0;
+        for (Map<Object, NavigableSet<Integer>> index : indexes.values()) {
+            index.clear();
+        }
+        RepositoryProbes.CLEAR.hit();
+        log.debug("Database cleared completely");
+    }
+
+    private void tombstone(int slot) {
+        removeFromIndexes(slot, slots.get(slot));
+        slots.set(slot, null);
+        tombstones++;
+    }
+
+    /** Drops the tombstones so slot numbers equal positions again, and renumbers the indexes. */
+    private void compact() {
+        if (tombstones == 0) {
+            return;
+        }
+        slots.removeIf(Objects::isNull);
+        tombstones = 0;
+        for (Map<Object, NavigableSet<Integer>> index : indexes.values()) {
+            index.clear();
+        }
+        for (int slot = 0; slot < slots.size(); slot++) {
+            addToIndexes(slot, slots.get(slot));
+        }
+        log.debug("Compacted repository to {} records", slots.size());
+    }
+
+    private void addToIndexes(int slot, List<Map<String, Object>> record) {
+        for (Map<String, Object> map : record) {
+            for (Map.Entry<String, Map<Object, NavigableSet<Integer>>> index : indexes.entrySet()) {
+                if (map.containsKey(index.getKey())) {
+                    index.getValue().computeIfAbsent(map.get(index.getKey()), v -> new TreeSet<>()).add(slot);
+                }
+            }
+        }
+    }
+
+    private void removeFromIndexes(int slot, List<Map<String, Object>> record) {
+        for (Map<String, Object> map : record) {
+            for (Map.Entry<String, Map<Object, NavigableSet<Integer>>> index : indexes.entrySet()) {
+                if (!map.containsKey(index.getKey())) {
+                    continue;
+                }
+                Object value = map.get(index.getKey());
+                NavigableSet<Integer> hits = index.getValue().get(value);
+                if (hits != null) {
+                    hits.remove(slot);
+                    if (hits.isEmpty()) {
+                        index.getValue().remove(value);
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean matches(List<Map<String, Object>> record, String key, Object value) {
+        return record.stream().anyMatch(map -> map.containsKey(key) && Objects.equals(map.get(key), value));
+    }
+
+    private static List<Map<String, Object>> copyOf(List<Map<String, Object>> record) {
+        return record.stream()
+                .map(HashMap::new)
+                .collect(Collectors.toList());
+    }
+}
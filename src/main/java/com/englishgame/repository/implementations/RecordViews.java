@@ -0,0 +1,30 @@
+package com.englishgame.repository.implementations;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only views over stored records, handed out by the copy-free read methods ({@code stream},
+ * {@code forEach}, {@code page}). Shallow: list values inside a map (translations) are not wrapped.
+ */
+final class RecordViews {
+
+    private RecordViews() {
+    }
+
+    static List<Map<String, Object>> readOnly(List<Map<String, Object>> record) {
+        return new AbstractList<>() {
+            @Override
+            public Map<String, Object> get(int index) {
+                return Collections.unmodifiableMap(record.get(index));
+            }
+
+            @Override
+            public int size() {
+                return record.size();
+            }
+        };
+    }
+}
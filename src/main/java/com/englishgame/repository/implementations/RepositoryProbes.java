@@ -0,0 +1,30 @@
+package com.englishgame.repository.implementations;
+
+import com.englishgame.instrumentation.Instrumentation;
+import com.englishgame.instrumentation.Probe;
+
+/**
+ * Operation counters shared by the repository implementations (every {@code DBRepository} counts into the same
+ * {@code repository.*} names, every {@code DataBase} into {@code database.*}).
+ */
+final class RepositoryProbes {
+
+    static final Probe FIND_ALL = Instrumentation.probe("repository.findAll");
+    static final Probe FIND_BY = Instrumentation.probe("repository.findBy");
+    static final Probe SAVE = Instrumentation.probe("repository.save");
+    static final Probe UPDATE = Instrumentation.probe("repository.update");
+    static final Probe DELETE = Instrumentation.probe("repository.delete");
+    static final Probe DELETE_BY = Instrumentation.probe("repository.deleteBy");
+    static final Probe CLEAR = Instrumentation.probe("repository.clear");
+
+    static final Probe DATABASE_FIND_BY = Instrumentation.probe("database.findBy");
+    static final Probe DATABASE_ADD = Instrumentation.probe("database.add");
+    static final Probe DATABASE_UPDATE = Instrumentation.probe("database.update");
+    static final Probe DATABASE_REMOVE = Instrumentation.probe("database.remove");
+
+    static final Probe EXPRESSIONS_SET = Instrumentation.probe("expressions.set");
+    static final Probe EXPRESSIONS_REMOVE = Instrumentation.probe("expressions.remove");
+
+    private RepositoryProbes() {
+    }
+}
@@ -0,0 +1,110 @@
+package com.englishgame.repository.implementations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Intern pool for {@link ColumnarRecordStore}: every distinct string is stored once as UTF-8 in a shared
+ * {@code byte[]} and identified by a dense int id. The lookup table is open-addressed over the ids, so a
+ * string costs its bytes plus about 12 bytes instead of a {@code String} and a {@code HashMap} entry.
+ */
+final class StringArena {
+
+    private byte[] bytes = new byte[1024];
+    private int byteCount;
+    /** {@code starts[id]} .. {@code starts[id + 1]} are the bytes of string {@code id}. */
+    private int[] starts = new int[65];
+    private int count;
+    /** Open addressing: 0 is empty, otherwise {@code id + 1}. */
+    private int[] table = new int[128];
+
+    int size() {
+        return count;
+    }
+
+    /** Id of {@code value}, adding it if needed. */
+    int intern(String value) {
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(encoded, 0, encoded.length);
+        int mask = table.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int entry = table[slot];
+            if (entry == 0) {
+                int id = append(encoded);
+                table[slot] = id + 1;
+                if (count * 2 > table.length) {
+                    rehash(table.length * 2);
+                }
+                return id;
+            }
+            if (sameBytes(entry - 1, encoded)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    /** Id of {@code value}, or -1 when it was never interned. */
+    int find(String value) {
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        int mask = table.length - 1;
+        for (int slot = hash(encoded, 0, encoded.length) & mask; ; slot = (slot + 1) & mask) {
+            int entry = table[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            if (sameBytes(entry - 1, encoded)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    String get(int id) {
+        return new String(bytes, starts[id], starts[id + 1] - starts[id], StandardCharsets.UTF_8);
+    }
+
+    void clear() {
+        byteCount = 0;
+        count = 0;
+        Arrays.fill(table, 0);
+    }
+
+    private int append(byte[] encoded) {
+        if (byteCount + encoded.length > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(byteCount + encoded.length, bytes.length * 2));
+        }
+        if (count + 2 > starts.length) {
+            starts = Arrays.copyOf(starts, starts.length * 2);
+        }
+        System.arraycopy(encoded, 0, bytes, byteCount, encoded.length);
+        byteCount += encoded.length;
+        starts[++count] = byteCount;
+        return count - 1;
+    }
+
+    private boolean sameBytes(int id, byte[] encoded) {
+        int start = starts[id];
+        return starts[id + 1] - start == encoded.length
+                && Arrays.equals(bytes, start, start + encoded.length, encoded, 0, encoded.length);
+    }
+
+    private void rehash(int capacity) {
+        int[] rehashed = new int[capacity];
+        int mask = capacity - 1;
+        for (int id = 0; id < count; id++) {
+            int slot = hash(bytes, starts[id], starts[id + 1]) & mask;
+            while (rehashed[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            rehashed[slot] = id + 1;
+        }
+        table = rehashed;
+    }
+
+    private static int hash(byte[] data, int from, int to) {
+        int h = 1;
+        for (int i = from; i < to; i++) {
+            h = 31 * h + data[i];
+        }
+        return h ^ (h >>> 16);
+    }
+}
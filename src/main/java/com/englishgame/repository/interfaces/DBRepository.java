@@ -2,6 +2,9 @@ package com.englishgame.repository.interfaces;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing data with CRUD operations
@@ -15,6 +18,33 @@ public interface DBRepository {
      */
     List<List<Map<String, Object>>> findAll();
     
+    /**
+     * Streams all records in order without copying the record list. Records are read-only views
+     * (or one-off copies), valid until the repository is modified.
+     * @return lazy Stream over the records
+     */
+    default Stream<List<Map<String, Object>>> stream() {
+        return findAll().stream();
+    }
+    
+    /**
+     * Visits all records in order, like {@link #stream()}
+     * @param action visitor called once per record
+     */
+    default void forEach(Consumer<List<Map<String, Object>>> action) {
+        stream().forEach(action);
+    }
+    
+    /**
+     * Reads a page of records, for cursors over large repositories
+     * @param offset index of the first record
+     * @param limit maximum number of records
+     * @return List<List<Map>> with at most limit read-only records
+     */
+    default List<List<Map<String, Object>>> page(int offset, int limit) {
+        return stream().skip(Math.max(0, offset)).limit(Math.max(0, limit)).collect(Collectors.toList());
+    }
+    
     /**
      * Searches records by specific criteria
      * @param key key to search for
@@ -2,6 +2,8 @@ package com.englishgame.repository.interfaces;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing List<Map<String, Object>> data structure
@@ -15,6 +17,22 @@ public interface DataBase {
      */
     List<Map<String, Object>> findAll();
     
+    /**
+     * Streams all maps in order without copying the list; maps are read-only views
+     * @return lazy Stream over the maps
+     */
+    default Stream<Map<String, Object>> stream() {
+        return findAll().stream();
+    }
+    
+    /**
+     * Visits all maps in order, like {@link #stream()}
+     * @param action visitor called once per map
+     */
+    default void forEach(Consumer<Map<String, Object>> action) {
+        stream().forEach(action);
+    }
+    
     /**
      * Searches maps by specific key-value pair
      * @param key key to search for
@@ -2,6 +2,7 @@ package com.englishgame.repository.interfaces;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 /**
  * Repository interface for managing Map<String, Object> data structure
@@ -15,6 +16,22 @@ public interface Expressions {
      */
     Map<String, Object> getAll();
     
+    /**
+     * Gets a read-only view of the map, without copying it
+     * @return unmodifiable Map<String, Object> backed by the expressions
+     */
+    default Map<String, Object> view() {
+        return getAll();
+    }
+    
+    /**
+     * Visits every key-value pair without copying the map
+     * @param action visitor called once per entry
+     */
+    default void forEach(BiConsumer<String, Object> action) {
+        view().forEach(action);
+    }
+    
     /**
      * Gets a value by key
      * @param key key to search for
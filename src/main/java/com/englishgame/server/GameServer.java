@@ -0,0 +1,301 @@
+package com.englishgame.server;
+
+import com.englishgame.controller.GameController;
+import com.englishgame.engine.ProgressAnalytics;
+import com.englishgame.model.AnswerResult;
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.SpanishExpression;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Headless HTTP/JSON front end hosting many independent player profiles in one JVM.
+ * <p>
+ * Routes (all bodies and responses are JSON):
+ * <pre>
+ * GET  /api/health
+ * GET  /api/profiles/{id}/databases
+ * POST /api/profiles/{id}/databases            {"name": "..."}
+ * POST /api/profiles/{id}/expressions          {"database": "...", "expression": "...", "translations": [...]}
+ * POST /api/profiles/{id}/select               {"database": "..."}
+ * POST /api/profiles/{id}/round
+ * POST /api/profiles/{id}/answer               {"answer": "..."}
+ * GET  /api/profiles/{id}/analytics
+ * </pre>
+ * Every call goes through the profile's {@link GameController}, so scoring, promotion and persistence are the
+ * same as in the desktop app.
+ * <p>
+ * There is no authentication, so the server listens on the loopback interface unless another address is
+ * passed explicitly.
+ */
+@Slf4j
+public class GameServer {
+
+    private static final String API_PREFIX = "/api/";
+
+    private final ProfileRegistry profiles;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer httpServer;
+    private final ExecutorService executor;
+
+    /** Listens on the loopback interface only. */
+    public GameServer(ProfileRegistry profiles, int port, int poolSize) throws IOException {
+        this(profiles, InetAddress.getLoopbackAddress(), port, poolSize);
+    }
+
+    /**
+     * @param bindAddress interface to listen on; any address other than loopback exposes every profile to the
+     *                    network without authentication
+     */
+    public GameServer(ProfileRegistry profiles, InetAddress bindAddress, int port, int poolSize) throws IOException {
+        this.profiles = profiles;
+        InetAddress address = bindAddress != null ? bindAddress : InetAddress.getLoopbackAddress();
+        this.httpServer = HttpServer.create(new InetSocketAddress(address, port), 0);
+        this.executor = newRequestExecutor(poolSize);
+        httpServer.setExecutor(executor);
+        httpServer.createContext("/api", this::handle);
+    }
+
+    public void start() {
+        httpServer.start();
+        log.info("Game server listening on {}:{}", getAddress().getAddress().getHostAddress(), getPort());
+    }
+
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    public InetSocketAddress getAddress() {
+        return httpServer.getAddress();
+    }
+
+    /** Stops accepting requests, waits up to {@code delaySeconds} for running ones, then saves all profiles. */
+    public void stop(int delaySeconds) {
+        httpServer.stop(delaySeconds);
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(delaySeconds, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+        profiles.saveAll();
+        log.info("Game server stopped");
+    }
+
+    /**
+     * One virtual thread per request when the runtime has them (Java 21+); on older runtimes a bounded pool
+     * of platform threads. Looked up reflectively so the build keeps targeting Java 17.
+     */
+    static ExecutorService newRequestExecutor(int poolSize) {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            log.info("Serving requests on virtual threads");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            int threads = Math.max(1, poolSize);
+            log.info("Virtual threads unavailable, serving requests on {} pooled threads", threads);
+            AtomicInteger counter = new AtomicInteger();
+            return Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "game-server-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            if (!path.startsWith(API_PREFIX)) {
+                throw new RouteNotFoundException(method + " " + path);
+            }
+            String[] parts = path.substring(API_PREFIX.length()).split("/");
+            Object body;
+            if (parts.length == 1 && "health".equals(parts[0]) && "GET".equals(method)) {
+                body = Map.of("status", "ok", "profiles", profiles.size());
+            } else if (parts.length == 3 && "profiles".equals(parts[0])) {
+                body = handleProfile(parts[1], method, parts[2], exchange);
+            } else {
+                throw new RouteNotFoundException(method + " " + path);
+            }
+            respond(exchange, 200, body);
+        } catch (RouteNotFoundException e) {
+            respond(exchange, 404, Map.of("error", "Not found: " + e.getMessage()));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            respond(exchange, 400, Map.of("error", String.valueOf(e.getMessage())));
+        } catch (RuntimeException e) {
+            log.error("Request {} {} failed", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+            respond(exchange, 500, Map.of("error", "Internal error"));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Object handleProfile(String profileId, String method, String action, HttpExchange exchange)
+            throws IOException {
+        String route = method + " " + action;
+        return switch (route) {
+            case "GET databases" -> profiles.get(profileId).call(GameServer::describeDatabases);
+            case "POST databases" -> {
+                String name = requiredString(readBody(exchange), "name");
+                yield profiles.get(profileId).call(c -> Map.of("created", c.createNewDatabase(name)));
+            }
+            case "POST expressions" -> {
+                Map<String, Object> request = readBody(exchange);
+                String database = requiredString(request, "database");
+                SpanishExpression expression = toExpression(request);
+                yield profiles.get(profileId).call(c ->
+                        Map.of("added", c.addExpressionToDatabase(database, expression)));
+            }
+            case "POST select" -> {
+                String database = requiredString(readBody(exchange), "database");
+                yield profiles.get(profileId).call(c -> Map.of("selected", c.selectDatabase(database)));
+            }
+            case "GET analytics" -> profiles.get(profileId).call(GameServer::describeAnalytics);
+            case "POST round" -> profiles.get(profileId).call(GameServer::startRound);
+            case "POST answer" -> {
+                String answer = requiredString(readBody(exchange), "answer");
+                yield profiles.get(profileId).call(c -> answer(c, answer));
+            }
+            default -> throw new RouteNotFoundException(route);
+        };
+    }
+
+    private static Object describeDatabases(GameController controller) {
+        List<Map<String, Object>> databases = new ArrayList<>();
+        for (String name : controller.getAvailableDatabases()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("name", name);
+            row.put("expressions", controller.getDatabaseExpressionCount(name));
+            row.put("review", controller.isReviewOnlyDatabase(name));
+            databases.add(row);
+        }
+        return Map.of("databases", databases);
+    }
+
+    private static Object describeAnalytics(GameController controller) {
+        ProgressAnalytics analytics = controller.getProgressAnalytics();
+        List<Map<String, Object>> databases = new ArrayList<>();
+        for (ProgressAnalytics.Progress progress : analytics.progress()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("name", progress.database());
+            row.put("review", progress.reviewTier());
+            row.put("attempts", progress.attempts());
+            row.put("accuracy", progress.accuracy());
+            row.put("promotionRate", progress.promotionRate());
+            row.put("demotionRate", progress.demotionRate());
+            row.put("mastered", progress.mastered());
+            row.put("recentScoreBands", progress.recentScoreBands());
+            row.put("recentAverageScore", progress.recentAverageScore());
+            row.put("meanDaysToLearn", progress.learnedSamples() == 0 ? null : progress.meanDaysToLearn());
+            databases.add(row);
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("databases", databases);
+        response.put("wordsDefinitelyMasteredTotal", analytics.wordsDefinitelyMasteredTotal());
+        return response;
+    }
+
+    private static Object startRound(GameController controller) {
+        if (controller.getCurrentDatabase() == null) {
+            throw new IllegalStateException("Select a database first");
+        }
+        SpanishExpression prompt = controller.startNewRound();
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("database", controller.getCurrentDatabase());
+        response.put("prompt", prompt != null ? prompt.getExpression() : null);
+        return response;
+    }
+
+    private static Object answer(GameController controller, String answer) {
+        if (controller.getCurrentSpanishExpression() == null) {
+            throw new IllegalStateException("Start a round first");
+        }
+        String reveal = controller.getRevealAnswersLine().orElse(null);
+        AnswerResult result = controller.processAnswer(answer);
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("correct", result.correct());
+        response.put("newlyLearned", result.isNewlyLearned() ? result.newlyLearnedEnglishWord() : null);
+        response.put("answers", reveal);
+        return response;
+    }
+
+    private static SpanishExpression toExpression(Map<String, Object> request) {
+        String prompt = requiredString(request, "expression");
+        if (!(request.get("translations") instanceof List<?> raw) || raw.isEmpty()) {
+            throw new IllegalArgumentException("'translations' must be a non-empty list");
+        }
+        List<EnglishExpression> translations = new ArrayList<>();
+        for (Object item : raw) {
+            if (item instanceof String text && !text.isBlank()) {
+                translations.add(new EnglishExpression(text.trim(), 0, new ArrayList<>()));
+            }
+        }
+        if (translations.isEmpty()) {
+            throw new IllegalArgumentException("'translations' has no usable entries");
+        }
+        return new SpanishExpression(prompt, 0, translations);
+    }
+
+    private static String requiredString(Map<String, Object> request, String field) {
+        if (request.get(field) instanceof String value && !value.isBlank()) {
+            return value.trim();
+        }
+        throw new IllegalArgumentException("Missing field '" + field + "'");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readAllBytes();
+            if (bytes.length == 0) {
+                return Map.of();
+            }
+            try {
+                return objectMapper.readValue(bytes, Map.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Body is not a JSON object");
+            }
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static final class RouteNotFoundException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        RouteNotFoundException(String route) {
+            super(route);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.englishgame.server;
+
+import com.englishgame.controller.GameController;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * One learner hosted by {@link GameServer}: its own services, data directory and {@link GameController}.
+ * <p>
+ * The controller keeps per-player round state (current database and prompt), so requests of the same
+ * profile run one at a time; different profiles never contend.
+ */
+final class PlayerProfile {
+
+    private final String id;
+    private final GameController controller;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    PlayerProfile(String id, GameController controller) {
+        this.id = id;
+        this.controller = controller;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    <T> T call(Function<GameController, T> action) {
+        lock.lock();
+        try {
+            return action.apply(controller);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
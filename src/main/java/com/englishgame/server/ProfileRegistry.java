@@ -0,0 +1,122 @@
+package com.englishgame.server;
+
+import com.englishgame.AppGameMode;
+import com.englishgame.controller.GameController;
+import com.englishgame.engine.GameEngine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * Lazily creates and caches one {@link PlayerProfile} per profile id.
+ * <p>
+ * Each profile is a {@link GameEngine} whose data directory is {@code <profilesRoot>/<id>} (plus the mode
+ * subdirectory). The map only ever holds a cheap {@link Slot}; the profile's data is loaded under that slot's own
+ * lock, so opening one profile never blocks requests for another.
+ */
+@Slf4j
+public final class ProfileRegistry {
+
+    /** Profile ids become directory names, so keep them to a safe alphabet. */
+    private static final Pattern PROFILE_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private final Path profilesRoot;
+    private final AppGameMode mode;
+    private final Map<String, Slot> profiles = new ConcurrentHashMap<>();
+
+    public ProfileRegistry(Path profilesRoot, AppGameMode mode) {
+        this.profilesRoot = profilesRoot;
+        this.mode = mode != null ? mode : AppGameMode.CLASSIC;
+    }
+
+    public static boolean isValidProfileId(String id) {
+        return id != null && PROFILE_ID.matcher(id).matches();
+    }
+
+    PlayerProfile get(String id) {
+        if (!isValidProfileId(id)) {
+            throw new IllegalArgumentException("Invalid profile id: " + id);
+        }
+        return profiles.computeIfAbsent(id, Slot::new).get();
+    }
+
+    /** Number of profiles opened so far. */
+    public int size() {
+        return (int) profiles.values().stream().filter(Slot::isOpen).count();
+    }
+
+    /** Persists every open profile (server shutdown). */
+    public void saveAll() {
+        List<PlayerProfile> open = new ArrayList<>();
+        for (Slot slot : profiles.values()) {
+            if (slot.profile != null) {
+                open.add(slot.profile);
+            }
+        }
+        for (PlayerProfile profile : open) {
+            try {
+                profile.call(controller -> {
+                    controller.saveGameState();
+                    return null;
+                });
+            } catch (RuntimeException e) {
+                log.error("Failed to save profile '{}': {}", profile.getId(), e.getMessage());
+            }
+        }
+        log.info("Saved {} profile(s)", open.size());
+    }
+
+    private PlayerProfile open(String id) {
+        Path directory = profilesRoot.resolve(id);
+        String sub = mode.getDataSubdirectory();
+        if (sub != null && !sub.isBlank()) {
+            directory = directory.resolve(sub);
+        }
+
+        // No per-profile shutdown hook: GameServer.stop() saves every open profile.
+        GameController controller = GameEngine.open(directory, mode, false).getController();
+
+        log.info("Opened profile '{}' ({})", id, directory);
+        return new PlayerProfile(id, controller);
+    }
+
+    /** Map entry of one profile id; the profile is opened on first use, at most once. */
+    private final class Slot {
+
+        private final String id;
+        /** Not a monitor: opening reads the profile's files, which must not pin a virtual thread's carrier. */
+        private final ReentrantLock opening = new ReentrantLock();
+        private volatile PlayerProfile profile;
+
+        Slot(String id) {
+            this.id = id;
+        }
+
+        boolean isOpen() {
+            return profile != null;
+        }
+
+        PlayerProfile get() {
+            PlayerProfile opened = profile;
+            if (opened != null) {
+                return opened;
+            }
+            opening.lock();
+            try {
+                if (profile == null) {
+                    // Si falla, la entrada queda vacía y el siguiente acceso lo reintenta
+                    profile = open(id);
+                }
+                return profile;
+            } finally {
+                opening.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.englishgame.service.implementations;
+
+import com.englishgame.model.DatabaseStats;
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.SpanishExpression;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Running {@link DatabaseStats} counters of {@link DatabaseServiceImpl}, per database, so reading them never walks
+ * the buckets. The service reports every row entering or leaving a bucket and every row whose scores or
+ * translations changed; each counted row remembers what it contributed, so removing or refreshing it subtracts
+ * exactly that. Rows compare by identity, like in {@link EnglishLemmaIndex}; a database's counters are only
+ * touched under its write lock and read under its read lock.
+ */
+final class DatabaseCounters {
+
+    /** Which translations / English lines count: the service's notion of a blank line. */
+    private final Predicate<EnglishExpression> blank;
+    private final Map<String, Counts> databases = new ConcurrentHashMap<>();
+
+    DatabaseCounters(Predicate<EnglishExpression> blank) {
+        this.blank = blank;
+    }
+
+    /** What one row added to its database's counters. */
+    private record Contribution(boolean prompt, boolean playable, int[] scores) {
+    }
+
+    private static final class Counts {
+        final Map<Object, Contribution> rows = new IdentityHashMap<>();
+        final int[] bands = new int[DatabaseStats.BANDS];
+        int promptRows;
+        int englishRows;
+        int playableRows;
+        int scoredItems;
+        long scoreSum;
+        int learned;
+        int nearLearned;
+
+        void apply(Contribution c, int sign) {
+            if (c.prompt()) {
+                promptRows += sign;
+            } else {
+                englishRows += sign;
+            }
+            if (c.playable()) {
+                playableRows += sign;
+            }
+            for (int score : c.scores()) {
+                bands[DatabaseStats.bandOf(score)] += sign;
+                scoreSum += (long) sign * score;
+                scoredItems += sign;
+                if (score >= DatabaseStats.LEARNED_AT) {
+                    learned += sign;
+                } else if (score >= DatabaseStats.LEARNED_AT - DatabaseStats.NEAR_LEARNED_MARGIN) {
+                    nearLearned += sign;
+                }
+            }
+        }
+    }
+
+    void createDatabase(String database) {
+        databases.putIfAbsent(database, new Counts());
+    }
+
+    void removeDatabase(String database) {
+        databases.remove(database);
+    }
+
+    void renameDatabase(String oldDatabase, String newDatabase) {
+        Counts counts = databases.remove(oldDatabase);
+        if (counts != null) {
+            databases.put(newDatabase, counts);
+        }
+    }
+
+    void clear() {
+        databases.clear();
+    }
+
+    /** A row entered the bucket of {@code database}; counted again from scratch if it already was. */
+    void add(String database, Object row) {
+        Counts counts = databases.computeIfAbsent(database, db -> new Counts());
+        Contribution before = counts.rows.remove(row);
+        if (before != null) {
+            counts.apply(before, -1);
+        }
+        Contribution now = contributionOf(row);
+        counts.rows.put(row, now);
+        counts.apply(now, 1);
+    }
+
+    /** A row left the bucket of {@code database}. */
+    void remove(String database, Object row) {
+        Counts counts = databases.get(database);
+        if (counts == null) {
+            return;
+        }
+        Contribution before = counts.rows.remove(row);
+        if (before != null) {
+            counts.apply(before, -1);
+        }
+    }
+
+    /** The scores or translations of a counted row changed in place; rows not counted in {@code database} are ignored. */
+    void refresh(String database, Object row) {
+        Counts counts = databases.get(database);
+        if (counts != null && counts.rows.containsKey(row)) {
+            add(database, row);
+        }
+    }
+
+    /** Recounts {@code database} from {@code rows}, for changes the service was not told row by row. */
+    void recount(String database, Iterable<?>... rows) {
+        Counts counts = new Counts();
+        for (Iterable<?> bucket : rows) {
+            for (Object row : bucket) {
+                Contribution c = contributionOf(row);
+                counts.rows.put(row, c);
+                counts.apply(c, 1);
+            }
+        }
+        databases.put(database, counts);
+    }
+
+    DatabaseStats stats(String database, long version) {
+        Counts counts = databases.getOrDefault(database, new Counts());
+        int scored = counts.scoredItems;
+        return new DatabaseStats(database, version, counts.promptRows, counts.englishRows, counts.playableRows,
+                scored, Arrays.stream(counts.bands).boxed().toList(),
+                scored == 0 ? 0.0 : (double) counts.scoreSum / scored, counts.learned, counts.nearLearned);
+    }
+
+    private Contribution contributionOf(Object row) {
+        if (row instanceof SpanishExpression prompt) {
+            List<EnglishExpression> translations = prompt.getTranslations();
+            int[] scores = translations == null ? new int[0]
+                    : translations.stream().filter(blank.negate()).mapToInt(EnglishExpression::getScore).toArray();
+            return new Contribution(true, scores.length > 0, scores);
+        }
+        EnglishExpression english = (EnglishExpression) row;
+        boolean counted = !blank.test(english);
+        return new Contribution(false, counted, counted ? new int[] {english.getScore()} : new int[0]);
+    }
+}
@@ -0,0 +1,121 @@
+package com.englishgame.service.implementations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped read/write locks for the in-memory databases of {@link DatabaseServiceImpl}.
+ * <p>
+ * A catalog lock guards the set of databases; every database bucket has its own stripe. Single-database
+ * operations hold the catalog in read mode plus their stripe; operations spanning several databases (moves,
+ * promotions, review transitions, reload) hold the catalog in write mode, which excludes everyone else.
+ * Lock order is always catalog → stripes (sorted by key), so the only illegal pattern is upgrading a read
+ * lock to a write lock on the same thread; that is rejected with {@link IllegalStateException} instead of
+ * hanging.
+ */
+final class DatabaseLocks {
+
+    private final ReentrantReadWriteLock catalog = new ReentrantReadWriteLock();
+    private final ConcurrentMap<String, ReentrantReadWriteLock> stripes = new ConcurrentHashMap<>();
+
+    /** Registers the stripe for a new database key. Caller must hold {@link #writeAll}. */
+    void register(String databaseKey) {
+        stripes.putIfAbsent(databaseKey, new ReentrantReadWriteLock());
+    }
+
+    /** Drops the stripe of a removed database key. Caller must hold {@link #writeAll}. */
+    void unregister(String databaseKey) {
+        stripes.remove(databaseKey);
+    }
+
+    /** Drops every stripe (full reload). Caller must hold {@link #writeAll}. */
+    void clear() {
+        stripes.clear();
+    }
+
+    <T> T read(String databaseKey, Supplier<T> action) {
+        catalog.readLock().lock();
+        try {
+            ReentrantReadWriteLock stripe = stripe(databaseKey);
+            stripe.readLock().lock();
+            try {
+                return action.get();
+            } finally {
+                stripe.readLock().unlock();
+            }
+        } finally {
+            catalog.readLock().unlock();
+        }
+    }
+
+    <T> T write(String databaseKey, Supplier<T> action) {
+        catalog.readLock().lock();
+        try {
+            ReentrantReadWriteLock stripe = stripe(databaseKey);
+            rejectUpgrade(stripe, databaseKey);
+            stripe.writeLock().lock();
+            try {
+                return action.get();
+            } finally {
+                stripe.writeLock().unlock();
+            }
+        } finally {
+            catalog.readLock().unlock();
+        }
+    }
+
+    /** Consistent read across all databases; concurrent readers are allowed, writers wait. */
+    <T> T readAll(Supplier<T> action) {
+        catalog.readLock().lock();
+        List<ReentrantReadWriteLock> held = new ArrayList<>();
+        try {
+            List<String> keys = new ArrayList<>(stripes.keySet());
+            keys.sort(null);
+            for (String key : keys) {
+                ReentrantReadWriteLock stripe = stripes.get(key);
+                if (stripe != null) {
+                    stripe.readLock().lock();
+                    held.add(stripe);
+                }
+            }
+            return action.get();
+        } finally {
+            for (int i = held.size() - 1; i >= 0; i--) {
+                held.get(i).readLock().unlock();
+            }
+            catalog.readLock().unlock();
+        }
+    }
+
+    /** Exclusive access to every database (structural changes and cross-database transitions). */
+    <T> T writeAll(Supplier<T> action) {
+        rejectUpgrade(catalog, "catalog");
+        catalog.writeLock().lock();
+        try {
+            return action.get();
+        } finally {
+            catalog.writeLock().unlock();
+        }
+    }
+
+    void writeAll(Runnable action) {
+        writeAll(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private ReentrantReadWriteLock stripe(String databaseKey) {
+        return stripes.computeIfAbsent(databaseKey, k -> new ReentrantReadWriteLock());
+    }
+
+    private static void rejectUpgrade(ReentrantReadWriteLock lock, String name) {
+        if (lock.getReadHoldCount() > 0 && !lock.isWriteLockedByCurrentThread()) {
+            throw new IllegalStateException("Read lock on '" + name + "' cannot be upgraded to a write lock");
+        }
+    }
+}
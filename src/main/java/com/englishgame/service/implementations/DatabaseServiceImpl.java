@@ -1,19 +1,36 @@
 package com.englishgame.service.implementations;
 
 import com.englishgame.AppGameMode;
-import com.englishgame.UiText;
+import com.englishgame.instrumentation.FlightEvents;
+import com.englishgame.instrumentation.Instrumentation;
+import com.englishgame.instrumentation.Timer;
+import com.englishgame.model.DatabaseSnapshot;
+import com.englishgame.model.DatabaseStats;
+import com.englishgame.model.DetachedRows;
+import com.englishgame.model.EngineWarning;
+import com.englishgame.model.ExpressionBatchResult;
 import com.englishgame.model.LearnedWordsReviewResult;
 import com.englishgame.model.ReviewDatabases;
 import com.englishgame.model.SpanishExpression;
 import com.englishgame.model.EnglishExpression;
 import com.englishgame.service.interfaces.DatabaseService;
 import com.englishgame.service.interfaces.GameDataService;
+import com.englishgame.service.interfaces.ReviewSession;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.Optional;
-import javax.swing.JOptionPane;
 
 /**
  * Implementation of DatabaseService for managing game databases
@@ -23,6 +40,7 @@ import javax.swing.JOptionPane;
 public class DatabaseServiceImpl implements DatabaseService {
     
     private final GameDataService gameDataService;
+    private final Random random;
     private static final String LEARNED_WORDS_DATABASE = ReviewDatabases.LEARNED_WORDS_KEY;
     private static final String WORDS_DEFINITELY_LEARNED_DATABASE = ReviewDatabases.WORDS_DEFINITELY_LEARNED_KEY;
     private static final String PHRASAL_VERBS_DATABASE = "Phrasal verbs";
@@ -36,22 +54,246 @@ public class DatabaseServiceImpl implements DatabaseService {
     /** words_definitely_learned: dominio final y purga en todas las BBDD. */
     private static final int DEFINITELY_REVIEW_MASTER_AT = ReviewDatabases.DEFINITELY_REVIEW_MASTER_SCORE;
 
+    private static final Timer SYNCHRONIZE_TIMER = Instrumentation.timer("database.synchronize");
+    private static final Timer SEARCH_TIMER = Instrumentation.timer("database.search");
+    private static final Timer REVIEW_TIMER = Instrumentation.timer("review.submit");
+    /** Práctica → learned_words. */
+    private static final LongAdder PROMOTED_TO_LEARNED = Instrumentation.counter("learning.promoted.learned");
+    /** learned_words → words_definitely_learned. */
+    private static final LongAdder PROMOTED_TO_DEFINITELY = Instrumentation.counter("learning.promoted.definitely");
+    /** learned_words → práctica. */
+    private static final LongAdder DEMOTED_TO_PRACTICE = Instrumentation.counter("learning.demoted.practice");
+    /** words_definitely_learned → learned_words. */
+    private static final LongAdder DEMOTED_TO_LEARNED = Instrumentation.counter("learning.demoted.learned");
+    private static final LongAdder MASTERED = Instrumentation.counter("learning.mastered");
+    /** Filas españolas podadas por quedarse sin traducciones. */
+    private static final LongAdder PRUNED_SPANISH_ROWS = Instrumentation.counter("database.pruned.spanish");
+
     
-    // In-memory storage for databases
+    // In-memory storage for databases. Keys may be read lock-free; buckets are guarded by {@link #locks}.
     private final Map<String, Set<SpanishExpression>> spanishDatabases;
     private final Map<String, Set<EnglishExpression>> englishDatabases;
+    private final DatabaseLocks locks = new DatabaseLocks();
+    /** English lemma → rows holding it, for purge and promotion; updated next to every bucket mutation. */
+    private final EnglishLemmaIndex lemmaIndex = new EnglishLemmaIndex();
+    /** Normalized prompt phrase → databases and rows holding it; updated with {@link #lemmaIndex}. */
+    private final SpanishPhraseIndex phraseIndex = new SpanishPhraseIndex();
+    /** Rows (or whole databases) the next prune has to look at; everything else is known to have translations. */
+    private final PruneCandidates pruneCandidates = new PruneCandidates();
+    /** Practice (non-review) database keys in case-insensitive order; null after the catalog changes. */
+    private volatile List<String> practiceDatabases;
+
+    /** Copy-on-write snapshots: each database carries the clock value of its last mutation. */
+    private final AtomicLong versionClock = new AtomicLong();
+    private final Map<String, Long> databaseVersions = new ConcurrentHashMap<>();
+    private final Map<String, DatabaseSnapshot.Database> snapshotCache = new ConcurrentHashMap<>();
+    /** Running counters per database, moved by every add, remove and score change the service sees. */
+    private final DatabaseCounters counters = new DatabaseCounters(DatabaseServiceImpl::englishLineBlank);
+    /** Statistics per database, valid while the database stays at the version they were taken at. */
+    private final Map<String, DatabaseStats> statsCache = new ConcurrentHashMap<>();
+
+    private final List<Consumer<EngineWarning>> warningListeners = new CopyOnWriteArrayList<>();
+    /** Review sessions not closed yet; their pending attempts are checkpointed before any edit is journaled. */
+    private final Set<ReviewSessionImpl> openSessions = ConcurrentHashMap.newKeySet();
 
     /** Dominadas en words_definitely_learned (35) y purgadas; persiste en metadata de la BBDD. */
-    private int definitelyMasteredTotal;
+    private volatile int definitelyMasteredTotal;
 
     /** Evita escrituras parciales a JSON mientras se rehidrata desde el repositorio. */
-    private boolean loadingFromRepository;
+    private volatile boolean loadingFromRepository;
     
     public DatabaseServiceImpl(GameDataService gameDataService) {
+        this(gameDataService, new Random());
+    }
+
+    /**
+     * @param random source for round selection; pass a seeded instance for reproducible runs (simulations, tests)
+     */
+    public DatabaseServiceImpl(GameDataService gameDataService, Random random) {
         this.gameDataService = gameDataService;
-        this.spanishDatabases = new HashMap<>();
-        this.englishDatabases = new HashMap<>();
-        initializeDefaultDatabases();
+        this.random = Objects.requireNonNull(random);
+        this.spanishDatabases = new ConcurrentHashMap<>();
+        this.englishDatabases = new ConcurrentHashMap<>();
+        locks.writeAll(this::initializeDefaultDatabases);
+        // Los guardados se construyen desde nuestro snapshot: el repositorio ya no sigue las ediciones
+        if (gameDataService instanceof GameDataServiceImpl) {
+            ((GameDataServiceImpl) gameDataService).setDatabaseService(this);
+        }
+    }
+
+    /**
+     * Runs {@code reader} while no database can be mutated, so multi-database reads (e.g. building the
+     * persisted state) see a single consistent version. Must not be called while holding a database lock.
+     */
+    public <T> T readConsistently(Supplier<T> reader) {
+        return locks.readAll(reader);
+    }
+
+    /** Creates both buckets and the lock stripe for {@code name}. Caller holds {@link DatabaseLocks#writeAll}. */
+    private void putBuckets(String name, Set<SpanishExpression> spanish, Set<EnglishExpression> english) {
+        spanishDatabases.put(name, spanish);
+        englishDatabases.put(name, english);
+        locks.register(name);
+        counters.createDatabase(name);
+        practiceDatabases = null;
+        markDirty(name);
+    }
+
+    /** Drops buckets, stripe and cached snapshot of {@code name}. Caller holds {@link DatabaseLocks#writeAll}. */
+    private boolean removeBuckets(String name) {
+        if (spanishDatabases.remove(name) == null) {
+            return false;
+        }
+        englishDatabases.remove(name);
+        locks.unregister(name);
+        practiceDatabases = null;
+        databaseVersions.remove(name);
+        snapshotCache.remove(name);
+        statsCache.remove(name);
+        return true;
+    }
+
+    /** A prompt row entered the bucket of {@code database}. */
+    private void indexPrompt(String database, SpanishExpression row) {
+        lemmaIndex.addPrompt(database, row);
+        phraseIndex.add(normalize(row.getExpression()), database, row);
+        if (translationsEffectivelyEmpty(row)) {
+            pruneCandidates.markRow(database, row);
+        }
+        counters.add(database, row);
+    }
+
+    /** A prompt row left the bucket of {@code database}. */
+    private void unindexPrompt(String database, SpanishExpression row) {
+        lemmaIndex.removePrompt(database, row);
+        phraseIndex.remove(normalize(row.getExpression()), database, row);
+        pruneCandidates.remove(database, row);
+        counters.remove(database, row);
+    }
+
+    /** A standalone English row entered the bucket of {@code database}. */
+    private void indexEnglish(String database, EnglishExpression row) {
+        lemmaIndex.addEnglish(database, row);
+        counters.add(database, row);
+    }
+
+    /** A standalone English row left the bucket of {@code database}. */
+    private void unindexEnglish(String database, EnglishExpression row) {
+        lemmaIndex.removeEnglish(database, row);
+        counters.remove(database, row);
+    }
+
+    /** Must be called after (never before) mutating a bucket or the rows it holds. */
+    private void markDirty(String databaseKey) {
+        databaseVersions.put(databaseKey, versionClock.incrementAndGet());
+    }
+
+    @Override
+    public DatabaseSnapshot snapshot() {
+        return locks.readAll(() -> {
+            List<String> names = getAvailableDatabases();
+            List<DatabaseSnapshot.Database> views = new ArrayList<>(names.size());
+            for (String name : names) {
+                // Read the version before copying: a concurrent in-place change marks a newer one.
+                long version = databaseVersions.computeIfAbsent(name, k -> versionClock.incrementAndGet());
+                DatabaseSnapshot.Database view = snapshotCache.get(name);
+                if (view == null || view.version() != version) {
+                    view = snapshotOf(name, version);
+                    snapshotCache.put(name, view);
+                }
+                views.add(view);
+            }
+            return new DatabaseSnapshot(versionClock.get(), views, definitelyMasteredTotal);
+        });
+    }
+
+    @Override
+    public void markModified(String databaseName) {
+        resolveCanonicalDatabaseKey(databaseName).ifPresent(db -> {
+            // No sabemos qué filas cambiaron: la próxima poda revisa esta BBDD entera y los contadores se rehacen
+            locks.write(db, () -> {
+                counters.recount(db, bucketOrEmpty(spanishDatabases, db), bucketOrEmpty(englishDatabases, db));
+                return null;
+            });
+            markDirty(db);
+            pruneCandidates.markDatabase(db);
+        });
+    }
+
+    @Override
+    public void markScoresModified(String databaseName, Collection<SpanishExpression> rows) {
+        resolveCanonicalDatabaseKey(databaseName).ifPresent(db -> {
+            if (rows != null && !rows.isEmpty()) {
+                locks.write(db, () -> {
+                    rows.forEach(row -> counters.refresh(db, row));
+                    return null;
+                });
+            }
+            markDirty(db);
+        });
+    }
+
+    @Override
+    public void markTranslationsModified(String databaseName, SpanishExpression row) {
+        resolveCanonicalDatabaseKey(databaseName).ifPresent(db -> {
+            if (row != null) {
+                locks.write(db, () -> {
+                    pruneCandidates.markRow(db, row);
+                    counters.refresh(db, row);
+                    return null;
+                });
+            }
+            markDirty(db);
+        });
+    }
+
+    @Override
+    public Optional<DatabaseStats> getDatabaseStats(String databaseName) {
+        return resolveCanonicalDatabaseKey(databaseName).map(name -> {
+            // Same versioning as the snapshot: read it first, a concurrent change marks a newer one.
+            long version = databaseVersions.computeIfAbsent(name, k -> versionClock.incrementAndGet());
+            DatabaseStats cached = statsCache.get(name);
+            if (cached != null && cached.version() == version) {
+                return cached;
+            }
+            DatabaseStats stats = locks.read(name, () -> counters.stats(name, version));
+            statsCache.put(name, stats);
+            return stats;
+        });
+    }
+
+    private DatabaseSnapshot.Database snapshotOf(String name, long version) {
+        List<DatabaseSnapshot.PromptRow> promptRows = new ArrayList<>();
+        for (SpanishExpression sp : bucketOrEmpty(spanishDatabases, name)) {
+            List<DatabaseSnapshot.Translation> translations = new ArrayList<>();
+            if (sp.getTranslations() != null) {
+                for (EnglishExpression en : sp.getTranslations()) {
+                    if (en != null) {
+                        translations.add(new DatabaseSnapshot.Translation(en.getExpression(), en.getScore()));
+                    }
+                }
+            }
+            promptRows.add(new DatabaseSnapshot.PromptRow(sp.getExpression(), sp.getScore(),
+                    sp.getIncludedAtEpochMillis(), translations));
+        }
+        List<DatabaseSnapshot.EnglishRow> englishRows = new ArrayList<>();
+        for (EnglishExpression en : bucketOrEmpty(englishDatabases, name)) {
+            List<String> spanishSources = new ArrayList<>();
+            if (en.getTranslations() != null) {
+                for (SpanishExpression sp : en.getTranslations()) {
+                    if (sp != null && sp.getExpression() != null && !sp.getExpression().trim().isEmpty()) {
+                        spanishSources.add(sp.getExpression().trim());
+                    }
+                }
+            }
+            String practiceSource = en.getPracticeSourceDatabase() != null
+                    && !en.getPracticeSourceDatabase().trim().isEmpty()
+                    ? en.getPracticeSourceDatabase().trim()
+                    : null;
+            englishRows.add(new DatabaseSnapshot.EnglishRow(en.getExpression(), en.getScore(),
+                    en.getIncludedAtEpochMillis(), spanishSources, practiceSource));
+        }
+        return new DatabaseSnapshot.Database(name, version, promptRows, englishRows);
     }
 
     /**
@@ -89,6 +331,11 @@ public class DatabaseServiceImpl implements DatabaseService {
         return expr.getTranslations().stream().allMatch(DatabaseServiceImpl::englishLineBlank);
     }
 
+    private static <E> Set<E> bucketOrEmpty(Map<String, Set<E>> databases, String key) {
+        Set<E> bucket = databases.get(key);
+        return bucket != null ? bucket : Set.of();
+    }
+
     private static boolean englishLineBlank(EnglishExpression en) {
         return en == null || en.getExpression() == null || en.getExpression().trim().isEmpty();
     }
@@ -102,6 +349,10 @@ public class DatabaseServiceImpl implements DatabaseService {
         if (bucket == null || bucket.isEmpty()) {
             return false;
         }
+        return containsExactPair(bucket, candidate);
+    }
+
+    private static boolean containsExactPair(Collection<SpanishExpression> rows, SpanishExpression candidate) {
         String candEs = normalize(candidate.getExpression());
         Set<String> candEn = candidate.getTranslations() == null
                 ? Set.of()
@@ -113,7 +364,7 @@ public class DatabaseServiceImpl implements DatabaseService {
         if (candEn.isEmpty()) {
             return false;
         }
-        for (SpanishExpression existing : bucket) {
+        for (SpanishExpression existing : rows) {
             if (existing == null || existing.getExpression() == null) {
                 continue;
             }
@@ -141,14 +392,15 @@ public class DatabaseServiceImpl implements DatabaseService {
         return Optional.ofNullable(databaseName)
                 .map(String::trim)
                 .filter(name -> !name.isEmpty())
-                .filter(name -> resolveCanonicalDatabaseKey(name).isEmpty())
+                .filter(name -> locks.writeAll(() -> {
+                    if (resolveCanonicalDatabaseKey(name).isPresent()) {
+                        return false;
+                    }
+                    // Create in-memory databases
+                    putBuckets(name, new HashSet<>(), new HashSet<>());
+                    return true;
+                }))
                 .map(name -> {
-                       // Create in-memory databases
-                       spanishDatabases.put(name, new HashSet<>());
-                       englishDatabases.put(name, new HashSet<>());
-                    
-                    // Save database metadata to repository for persistence
-                    saveDatabaseMetadataToRepository(name);
                     // Persist to JSON
                     gameDataService.saveGameData();
                     
@@ -193,22 +445,22 @@ public class DatabaseServiceImpl implements DatabaseService {
 
     @Override
     public boolean deleteDatabase(String databaseName) {
+        return detachDatabase(databaseName).isPresent();
+    }
+
+    @Override
+    public Optional<DetachedRows> detachDatabase(String databaseName) {
         return resolveCanonicalDatabaseKey(databaseName)
                 .filter(canonical -> !isSystemDatabase(canonical))
-                .map(canonical -> {
-                    // Remove from in-memory databases
-                    spanishDatabases.remove(canonical);
-                    englishDatabases.remove(canonical);
-                    
-                    // Remove from repository for persistence
-                    removeDatabaseFromRepository(canonical);
-                    // Persist to JSON
-                    gameDataService.saveGameData();
-                    
-                    log.info("Database '{}' deleted successfully", canonical);
-                    return true;
-                })
-                .orElseGet(() -> {
+                .flatMap(canonical -> Optional.ofNullable(locks.writeAll(() -> dropDatabaseLocked(canonical)))
+                        .map(rows -> {
+                            // Persist to JSON
+                            gameDataService.saveGameData();
+
+                            log.info("Database '{}' deleted successfully", canonical);
+                            return rows;
+                        }))
+                .or(() -> {
                     if (databaseName == null || databaseName.trim().isEmpty()) {
                         log.warn("Cannot delete database with null or empty name");
                     } else if (!databaseExists(databaseName)) {
@@ -216,10 +468,33 @@ public class DatabaseServiceImpl implements DatabaseService {
                     } else if (isSystemDatabase(databaseName)) {
                         log.warn("Cannot delete system database '{}'", databaseName);
                     }
-                    return false;
+                    return Optional.empty();
                 });
     }
 
+    /**
+     * Removes the buckets and index entries of {@code canonical}. Caller holds {@link DatabaseLocks#writeAll}.
+     * @return the removed buckets themselves (never touched again, so no copy is needed), or null if absent
+     */
+    private DetachedRows dropDatabaseLocked(String canonical) {
+        Set<SpanishExpression> phrases = spanishDatabases.get(canonical);
+        Set<EnglishExpression> words = englishDatabases.get(canonical);
+        if (!removeBuckets(canonical)) {
+            return null;
+        }
+        lemmaIndex.removeDatabase(canonical);
+        phraseIndex.removeDatabase(canonical);
+        pruneCandidates.removeDatabase(canonical);
+        counters.removeDatabase(canonical);
+        return detached(phrases, words);
+    }
+
+    private static DetachedRows detached(Set<SpanishExpression> phrases, Set<EnglishExpression> words) {
+        return new DetachedRows(
+                phrases != null ? Collections.unmodifiableSet(phrases) : Set.of(),
+                words != null ? Collections.unmodifiableSet(words) : Set.of());
+    }
+
     @Override
     public Optional<String> renameDatabase(String oldDatabaseName, String newDatabaseName) {
         Optional<String> oldKeyOpt = resolveCanonicalDatabaseKey(oldDatabaseName);
@@ -255,16 +530,25 @@ public class DatabaseServiceImpl implements DatabaseService {
             return Optional.of(oldKey);
         }
 
-        Set<SpanishExpression> spanishBucket = spanishDatabases.remove(oldKey);
-        Set<EnglishExpression> englishBucket = englishDatabases.remove(oldKey);
-        if (spanishBucket == null || englishBucket == null) {
-            log.error("renameDatabase: internal error, missing buckets for '{}'", oldKey);
+        boolean renamed = locks.writeAll(() -> {
+            Set<SpanishExpression> spanishBucket = spanishDatabases.get(oldKey);
+            Set<EnglishExpression> englishBucket = englishDatabases.get(oldKey);
+            if (spanishBucket == null || englishBucket == null) {
+                log.error("renameDatabase: internal error, missing buckets for '{}'", oldKey);
+                return false;
+            }
+            removeBuckets(oldKey);
+            putBuckets(newKey, spanishBucket, englishBucket);
+            lemmaIndex.renameDatabase(oldKey, newKey);
+            phraseIndex.renameDatabase(oldKey, newKey);
+            pruneCandidates.renameDatabase(oldKey, newKey);
+            counters.renameDatabase(oldKey, newKey);
+            return true;
+        });
+        if (!renamed) {
             return Optional.empty();
         }
 
-        spanishDatabases.put(newKey, spanishBucket);
-        englishDatabases.put(newKey, englishBucket);
-
         gameDataService.saveGameData();
         log.info("Renamed database '{}' -> '{}'", oldKey, newKey);
         return Optional.of(newKey);
@@ -285,7 +569,7 @@ public class DatabaseServiceImpl implements DatabaseService {
     @Override
     public List<SpanishExpression> getSpanishExpressions(String databaseName) {
         return resolveCanonicalDatabaseKey(databaseName)
-                .map(key -> new ArrayList<>(spanishDatabases.get(key)))
+                .map(key -> locks.read(key, () -> new ArrayList<>(bucketOrEmpty(spanishDatabases, key))))
                 .orElseGet(() -> {
                     log.warn("Database '{}' does not exist", databaseName);
                     return new ArrayList<>();
@@ -295,7 +579,7 @@ public class DatabaseServiceImpl implements DatabaseService {
     @Override
     public List<EnglishExpression> getEnglishExpressions(String databaseName) {
         return resolveCanonicalDatabaseKey(databaseName)
-                .map(key -> new ArrayList<>(englishDatabases.get(key)))
+                .map(key -> locks.read(key, () -> new ArrayList<>(bucketOrEmpty(englishDatabases, key))))
                 .orElseGet(() -> {
                     log.warn("Database '{}' does not exist", databaseName);
                     return new ArrayList<>();
@@ -310,20 +594,33 @@ public class DatabaseServiceImpl implements DatabaseService {
                         .map(expr -> {
                             String trimmedPhrase = expr.getExpression().trim();
                             expr.setExpression(trimmedPhrase);
-                            if (hasExactSpanishEnglishDuplicate(dbKey, expr)) {
-                                log.warn("Exact duplicate pair rejected in '{}': '{}' + '{}'",
-                                        dbKey,
-                                        trimmedPhrase,
-                                        expr.getTranslations().stream()
-                                                .map(EnglishExpression::getExpression)
-                                                .findFirst().orElse("-"));
+                            Boolean added = locks.write(dbKey, () -> {
+                                Set<SpanishExpression> bucket = spanishDatabases.get(dbKey);
+                                if (bucket == null) {
+                                    return false;
+                                }
+                                if (hasExactSpanishEnglishDuplicate(dbKey, expr)) {
+                                    log.warn("Exact duplicate pair rejected in '{}': '{}' + '{}'",
+                                            dbKey,
+                                            trimmedPhrase,
+                                            expr.getTranslations().stream()
+                                                    .map(EnglishExpression::getExpression)
+                                                    .findFirst().orElse("-"));
+                                    return null;
+                                }
+                                boolean inserted = bucket.add(expr);
+                                if (inserted) {
+                                    indexPrompt(dbKey, expr);
+                                    markDirty(dbKey);
+                                }
+                                return inserted;
+                            });
+                            if (added == null) {
                                 return false;
                             }
-                            boolean added = spanishDatabases.get(dbKey).add(expr);
                             
                             if (added) {
                                 if (!loadingFromRepository) {
-                                    saveExpressionToRepository(dbKey, expr);
                                     gameDataService.saveGameData();
                                 }
                                 log.debug("Added Spanish expression '{}' to database '{}'",
@@ -362,7 +659,15 @@ public class DatabaseServiceImpl implements DatabaseService {
         }
         englishExpression.setExpression(trimmed);
 
-        boolean added = englishDatabases.get(dbKey).add(englishExpression);
+        boolean added = locks.write(dbKey, () -> {
+            Set<EnglishExpression> bucket = englishDatabases.get(dbKey);
+            boolean inserted = bucket != null && bucket.add(englishExpression);
+            if (inserted) {
+                indexEnglish(dbKey, englishExpression);
+                markDirty(dbKey);
+            }
+            return inserted;
+        });
         if (added) {
             log.debug("Added English expression '{}' to database '{}'", trimmed, dbKey);
             gameDataService.saveGameData();
@@ -377,13 +682,24 @@ public class DatabaseServiceImpl implements DatabaseService {
     public boolean removeSpanishExpression(String databaseName, String expression) {
         return resolveCanonicalDatabaseKey(databaseName)
                 .map(canonical -> {
-                    Set<SpanishExpression> expressions = spanishDatabases.get(canonical);
-                    log.debug("Before removal: {} expressions in database '{}'", expressions.size(), canonical);
-
-                    boolean removed = expressions.removeIf(spanishExpr ->
-                            expressionsEqualNormalized(spanishExpr.getExpression(), expression));
-
-                    log.debug("After removal: {} expressions in database '{}'", expressions.size(), canonical);
+                    boolean removed = locks.write(canonical, () -> {
+                        Set<SpanishExpression> expressions = bucketOrEmpty(spanishDatabases, canonical);
+                        log.debug("Before removal: {} expressions in database '{}'", expressions.size(), canonical);
+                        boolean any = false;
+                        for (Iterator<SpanishExpression> it = expressions.iterator(); it.hasNext(); ) {
+                            SpanishExpression spanishExpr = it.next();
+                            if (expressionsEqualNormalized(spanishExpr.getExpression(), expression)) {
+                                it.remove();
+                                unindexPrompt(canonical, spanishExpr);
+                                any = true;
+                            }
+                        }
+                        log.debug("After removal: {} expressions in database '{}'", expressions.size(), canonical);
+                        if (any) {
+                            markDirty(canonical);
+                        }
+                        return any;
+                    });
 
                     if (removed) {
                         log.info("Successfully removed Spanish expression '{}' from database '{}'",
@@ -404,15 +720,26 @@ public class DatabaseServiceImpl implements DatabaseService {
     public boolean removeEnglishExpression(String databaseName, String expression) {
         return resolveCanonicalDatabaseKey(databaseName)
                 .map(canonical -> {
-                    Set<EnglishExpression> expressions = englishDatabases.get(canonical);
-                    log.debug("Before removal: {} English expressions in database '{}'", expressions.size(),
-                            canonical);
-
-                    boolean removed = expressions.removeIf(englishExpr ->
-                            expressionsEqualNormalized(englishExpr.getExpression(), expression));
-
-                    log.debug("After removal: {} English expressions in database '{}'", expressions.size(),
-                            canonical);
+                    boolean removed = locks.write(canonical, () -> {
+                        Set<EnglishExpression> expressions = bucketOrEmpty(englishDatabases, canonical);
+                        log.debug("Before removal: {} English expressions in database '{}'", expressions.size(),
+                                canonical);
+                        boolean any = false;
+                        for (Iterator<EnglishExpression> it = expressions.iterator(); it.hasNext(); ) {
+                            EnglishExpression englishExpr = it.next();
+                            if (expressionsEqualNormalized(englishExpr.getExpression(), expression)) {
+                                it.remove();
+                                unindexEnglish(canonical, englishExpr);
+                                any = true;
+                            }
+                        }
+                        log.debug("After removal: {} English expressions in database '{}'", expressions.size(),
+                                canonical);
+                        if (any) {
+                            markDirty(canonical);
+                        }
+                        return any;
+                    });
 
                     if (removed) {
                         log.info("Successfully removed English expression '{}' from database '{}'",
@@ -437,10 +764,16 @@ public class DatabaseServiceImpl implements DatabaseService {
             return false;
         }
 
-        Set<SpanishExpression> expressions = spanishDatabases.get(key.get());
-        int countBefore = expressions.size();
-        
-        expressions.clear();
+        int countBefore = locks.write(key.get(), () -> {
+            Set<SpanishExpression> expressions = bucketOrEmpty(spanishDatabases, key.get());
+            int count = expressions.size();
+            if (count > 0) {
+                expressions.forEach(row -> unindexPrompt(key.get(), row));
+                expressions.clear();
+                markDirty(key.get());
+            }
+            return count;
+        });
         
         log.info("Deleted all {} Spanish expressions from database '{}'", countBefore, key.get());
         // Persist to JSON
@@ -456,10 +789,16 @@ public class DatabaseServiceImpl implements DatabaseService {
             return false;
         }
 
-        Set<EnglishExpression> expressions = englishDatabases.get(key.get());
-        int countBefore = expressions.size();
-        
-        expressions.clear();
+        int countBefore = locks.write(key.get(), () -> {
+            Set<EnglishExpression> expressions = bucketOrEmpty(englishDatabases, key.get());
+            int count = expressions.size();
+            if (count > 0) {
+                expressions.forEach(row -> unindexEnglish(key.get(), row));
+                expressions.clear();
+                markDirty(key.get());
+            }
+            return count;
+        });
         
         log.info("Deleted all {} English expressions from database '{}'", countBefore, key.get());
         // Persist to JSON
@@ -467,18 +806,407 @@ public class DatabaseServiceImpl implements DatabaseService {
         return countBefore > 0;
     }
 
+    @Override
+    public ExpressionBatchResult deleteExpressions(String databaseName, Collection<String> expressions) {
+        List<String> requested = List.copyOf(expressions);
+        Optional<String> key = resolveCanonicalDatabaseKey(databaseName);
+        if (key.isEmpty()) {
+            log.warn("Database '{}' does not exist", databaseName);
+            return ExpressionBatchResult.nothingDone(requested);
+        }
+        String db = key.get();
+        ExpressionBatchResult result = locks.writeAll(() -> {
+            Set<SpanishExpression> phrases = bucketOrEmpty(spanishDatabases, db);
+            Set<EnglishExpression> words = bucketOrEmpty(englishDatabases, db);
+            List<String> done = new ArrayList<>();
+            List<String> skipped = new ArrayList<>();
+            List<SpanishExpression> spanishRows = new ArrayList<>();
+            List<EnglishExpression> englishRows = new ArrayList<>();
+            for (String expression : requested) {
+                String trimmed = Objects.toString(expression, "").trim();
+                // Los índices dan las filas de cada frase: nada de recorrer el bucket entero por cada una
+                List<SpanishExpression> prompts = phraseIndex.rows(normalize(trimmed), db);
+                List<EnglishExpression> standalone = prompts.isEmpty() && !trimmed.isEmpty()
+                        ? standaloneEnglishRows(db, trimmed) : List.of();
+                if (prompts.isEmpty() && standalone.isEmpty()) {
+                    skipped.add(expression);
+                    continue;
+                }
+                for (SpanishExpression row : prompts) {
+                    removeRow(phrases, row);
+                    unindexPrompt(db, row);
+                    spanishRows.add(row);
+                }
+                for (EnglishExpression row : standalone) {
+                    removeRow(words, row);
+                    unindexEnglish(db, row);
+                    englishRows.add(row);
+                }
+                done.add(expression);
+            }
+            if (!done.isEmpty()) {
+                markDirty(db);
+            }
+            return new ExpressionBatchResult(done, skipped, spanishRows, englishRows);
+        });
+        if (result.anyDone()) {
+            gameDataService.saveGameData();
+        }
+        log.info("Deleted {} of {} expression(s) from database '{}'", result.done().size(), requested.size(), db);
+        return result;
+    }
+
+    @Override
+    public ExpressionBatchResult moveExpressions(String sourceDatabase, String targetDatabase,
+                                                 Collection<String> expressions) {
+        List<String> requested = List.copyOf(expressions);
+        Optional<String> sourceOpt = resolveCanonicalDatabaseKey(sourceDatabase);
+        Optional<String> targetOpt = resolveCanonicalDatabaseKey(targetDatabase);
+        if (sourceOpt.isEmpty() || targetOpt.isEmpty() || sourceOpt.get().equals(targetOpt.get())) {
+            log.warn("Cannot move {} expression(s) from '{}' to '{}' - invalid databases",
+                    requested.size(), sourceDatabase, targetDatabase);
+            return ExpressionBatchResult.nothingDone(requested);
+        }
+        String sourceDb = sourceOpt.get();
+        String targetDb = targetOpt.get();
+
+        ExpressionBatchResult result = locks.writeAll(() -> {
+            Set<SpanishExpression> sourcePhrases = spanishDatabases.get(sourceDb);
+            Set<SpanishExpression> targetPhrases = spanishDatabases.get(targetDb);
+            Set<EnglishExpression> sourceWords = englishDatabases.get(sourceDb);
+            Set<EnglishExpression> targetWords = englishDatabases.get(targetDb);
+            if (sourcePhrases == null || targetPhrases == null || sourceWords == null || targetWords == null) {
+                return ExpressionBatchResult.nothingDone(requested);
+            }
+            List<String> done = new ArrayList<>();
+            List<String> skipped = new ArrayList<>();
+            List<SpanishExpression> spanishRows = new ArrayList<>();
+            List<EnglishExpression> englishRows = new ArrayList<>();
+            for (String expression : requested) {
+                String trimmed = Objects.toString(expression, "").trim();
+                Optional<SpanishExpression> prompt = phraseIndex.anyRow(normalize(trimmed), sourceDb)
+                        .filter(row -> !targetPhrases.contains(row));
+                if (prompt.isPresent()) {
+                    SpanishExpression moved = prompt.get();
+                    removeRow(sourcePhrases, moved);
+                    targetPhrases.add(moved);
+                    unindexPrompt(sourceDb, moved);
+                    indexPrompt(targetDb, moved);
+                    spanishRows.add(moved);
+                    done.add(expression);
+                    continue;
+                }
+                Optional<EnglishExpression> english = trimmed.isEmpty() ? Optional.empty()
+                        : standaloneEnglishRows(sourceDb, trimmed).stream().findFirst();
+                if (english.isEmpty() || targetWords.contains(english.get())) {
+                    skipped.add(expression);
+                    continue;
+                }
+                EnglishExpression moved = english.get();
+                if (ReviewDatabases.isReviewDatabaseKey(targetDb)) {
+                    moved.setPracticeSourceDatabase(sourceDb);
+                }
+                removeRow(sourceWords, moved);
+                targetWords.add(moved);
+                unindexEnglish(sourceDb, moved);
+                indexEnglish(targetDb, moved);
+                englishRows.add(moved);
+                done.add(expression);
+            }
+            if (!done.isEmpty()) {
+                markDirty(sourceDb);
+                markDirty(targetDb);
+            }
+            return new ExpressionBatchResult(done, skipped, spanishRows, englishRows);
+        });
+        if (result.anyDone()) {
+            gameDataService.saveGameData();
+        }
+        log.info("Moved {} of {} expression(s) from '{}' to '{}'",
+                result.done().size(), requested.size(), sourceDb, targetDb);
+        return result;
+    }
+
+    @Override
+    public int restoreExpressions(String databaseName, Collection<SpanishExpression> spanishRows,
+                                  Collection<EnglishExpression> englishRows) {
+        Optional<String> key = resolveCanonicalDatabaseKey(databaseName);
+        if (key.isEmpty()) {
+            log.warn("Database '{}' does not exist", databaseName);
+            return 0;
+        }
+        String db = key.get();
+        List<Map<String, Object>> records = new ArrayList<>();
+        int restored = locks.write(db, () -> restoreRowsLocked(db, spanishRows, englishRows, records));
+        if (restored > 0) {
+            log.info("Restored {} row(s) to database '{}'", restored, db);
+            persistEdit(ReviewJournal.Entry.edit(db, ReviewJournal.Change.RESTORED, records));
+        }
+        return restored;
+    }
+
+    @Override
+    public int withdrawExpressions(String databaseName, Collection<SpanishExpression> spanishRows,
+                                   Collection<EnglishExpression> englishRows) {
+        Optional<String> key = resolveCanonicalDatabaseKey(databaseName);
+        if (key.isEmpty()) {
+            log.warn("Database '{}' does not exist", databaseName);
+            return 0;
+        }
+        String db = key.get();
+        List<Map<String, Object>> records = new ArrayList<>();
+        int withdrawn = locks.write(db, () -> withdrawRowsLocked(db, spanishRows, englishRows, records));
+        if (withdrawn > 0) {
+            log.info("Withdrew {} row(s) from database '{}'", withdrawn, db);
+            persistEdit(ReviewJournal.Entry.edit(db, ReviewJournal.Change.WITHDRAWN, records));
+        }
+        return withdrawn;
+    }
+
+    @Override
+    public Optional<DetachedRows> detachAllExpressions(String databaseName) {
+        Optional<String> key = resolveCanonicalDatabaseKey(databaseName);
+        if (key.isEmpty()) {
+            log.warn("Database '{}' does not exist", databaseName);
+            return Optional.empty();
+        }
+        String db = key.get();
+        DetachedRows removed = locks.write(db, () -> {
+            Set<SpanishExpression> phrases = spanishDatabases.get(db);
+            Set<EnglishExpression> words = englishDatabases.get(db);
+            if (phrases == null || words == null || (phrases.isEmpty() && words.isEmpty())) {
+                return null;
+            }
+            // Los buckets viejos salen enteros (sin copiarlos) y quedan como filas para deshacer
+            phrases.forEach(row -> unindexPrompt(db, row));
+            words.forEach(row -> unindexEnglish(db, row));
+            spanishDatabases.put(db, new HashSet<>());
+            englishDatabases.put(db, new HashSet<>());
+            markDirty(db);
+            return detached(phrases, words);
+        });
+        if (removed == null) {
+            log.warn("No expressions found in database '{}' to delete", db);
+            return Optional.empty();
+        }
+        log.info("Deleted all {} Spanish and {} English expressions from database '{}'",
+                removed.spanishRows().size(), removed.englishRows().size(), db);
+        gameDataService.saveGameData();
+        return Optional.of(removed);
+    }
+
+    @Override
+    public boolean restoreDatabase(String databaseName, Collection<SpanishExpression> spanishRows,
+                                   Collection<EnglishExpression> englishRows) {
+        String name = Optional.ofNullable(databaseName).map(String::trim).orElse("");
+        if (name.isEmpty()) {
+            return false;
+        }
+        List<Map<String, Object>> records = new ArrayList<>();
+        String restored = locks.writeAll(() -> {
+            Optional<String> existing = resolveCanonicalDatabaseKey(name);
+            String db = existing.orElse(name);
+            if (existing.isEmpty()) {
+                putBuckets(db, new HashSet<>(), new HashSet<>());
+            }
+            int rows = restoreRowsLocked(db, spanishRows, englishRows, records);
+            return existing.isEmpty() || rows > 0 ? db : null;
+        });
+        if (restored == null) {
+            return false;
+        }
+        log.info("Restored database '{}' with {} row(s)", restored, records.size());
+        persistEdit(ReviewJournal.Entry.edit(restored, ReviewJournal.Change.DATABASE_RESTORED, records));
+        return true;
+    }
+
+    @Override
+    public boolean withdrawDatabase(String databaseName) {
+        Optional<String> key = resolveCanonicalDatabaseKey(databaseName).filter(db -> !isSystemDatabase(db));
+        if (key.isEmpty() || locks.writeAll(() -> dropDatabaseLocked(key.get())) == null) {
+            return false;
+        }
+        log.info("Withdrew database '{}'", key.get());
+        persistEdit(ReviewJournal.Entry.edit(key.get(), ReviewJournal.Change.DATABASE_DROPPED, null));
+        return true;
+    }
+
+    /**
+     * Adds the rows the bucket does not hold yet. Caller holds the write lock of {@code db}.
+     * @param records receives the persisted shape of each row added, for the journal; may be null
+     */
+    private int restoreRowsLocked(String db, Collection<SpanishExpression> spanishRows,
+            Collection<EnglishExpression> englishRows, List<Map<String, Object>> records) {
+        int count = 0;
+        Set<SpanishExpression> phrases = spanishDatabases.get(db);
+        for (SpanishExpression row : spanishRows) {
+            if (phrases != null && row != null && phrases.add(row)) {
+                indexPrompt(db, row);
+                if (records != null) {
+                    records.add(promptRecord(db, row));
+                }
+                count++;
+            }
+        }
+        Set<EnglishExpression> words = englishDatabases.get(db);
+        for (EnglishExpression row : englishRows) {
+            if (words != null && row != null && words.add(row)) {
+                indexEnglish(db, row);
+                if (records != null) {
+                    records.add(englishRecord(db, row));
+                }
+                count++;
+            }
+        }
+        if (count > 0) {
+            markDirty(db);
+        }
+        return count;
+    }
+
+    /**
+     * Removes the bucket's rows equal to the given ones (the very objects for live rows, their loaded twins for
+     * replayed ones). Caller holds the write lock of {@code db}.
+     * @param records receives the persisted shape of each row removed, for the journal; may be null
+     */
+    private int withdrawRowsLocked(String db, Collection<SpanishExpression> spanishRows,
+            Collection<EnglishExpression> englishRows, List<Map<String, Object>> records) {
+        int count = 0;
+        Set<SpanishExpression> phrases = spanishDatabases.get(db);
+        for (SpanishExpression row : spanishRows) {
+            Optional<SpanishExpression> live = row == null || phrases == null ? Optional.empty()
+                    : phraseIndex.rows(normalize(row.getExpression()), db).stream().filter(row::equals).findFirst();
+            if (live.isPresent() && removeRow(phrases, live.get())) {
+                unindexPrompt(db, live.get());
+                if (records != null) {
+                    records.add(promptRecord(db, live.get()));
+                }
+                count++;
+            }
+        }
+        Set<EnglishExpression> words = englishDatabases.get(db);
+        for (EnglishExpression row : englishRows) {
+            Optional<EnglishExpression> live = row == null || words == null ? Optional.empty()
+                    : standaloneEnglishRows(db, Objects.toString(row.getExpression(), "").trim()).stream()
+                            .filter(row::equals).findFirst();
+            if (live.isPresent() && removeRow(words, live.get())) {
+                unindexEnglish(db, live.get());
+                if (records != null) {
+                    records.add(englishRecord(db, live.get()));
+                }
+                count++;
+            }
+        }
+        if (count > 0) {
+            markDirty(db);
+        }
+        return count;
+    }
+
+    /**
+     * Persists an undo/redo as one journal entry instead of a full save; the next full save folds it into the game
+     * data file. Falls back to a full save if the journal cannot be written.
+     */
+    private void persistEdit(ReviewJournal.Entry entry) {
+        // Los intentos pendientes de una sesión abierta van antes: un deshacer puede revertir uno de ellos.
+        openSessions.forEach(ReviewSessionImpl::checkpoint);
+        try {
+            appendJournal(List.of(entry));
+        } catch (IOException e) {
+            log.warn("Could not journal the edit ({}); saving the game data instead", e.getMessage());
+            gameDataService.saveGameData();
+        }
+    }
+
+    /**
+     * Appends to the journal. Full saves delete it, so with {@link GameDataServiceImpl} the append shares its save
+     * lock (see {@link GameDataServiceImpl#appendToReviewJournal}).
+     */
+    void appendJournal(List<ReviewJournal.Entry> entries) throws IOException {
+        if (gameDataService instanceof GameDataServiceImpl) {
+            ((GameDataServiceImpl) gameDataService).appendToReviewJournal(entries);
+        } else {
+            ReviewJournal.in(gameDataService.getDataDirectory()).append(entries);
+        }
+    }
+
+    /** A prompt row in the record shape of the game data file. */
+    private Map<String, Object> promptRecord(String db, SpanishExpression row) {
+        Map<String, Object> record = new HashMap<>();
+        AppGameMode mode = resolveAppGameMode();
+        record.put("type", mode.getPromptExpressionType());
+        record.put("database", db);
+        record.put("language", mode.getPromptLanguage());
+        record.put("expression", row.getExpression());
+        record.put("score", row.getScore());
+        record.put("translations", Optional.ofNullable(row.getTranslations()).stream()
+                .flatMap(List::stream)
+                .filter(en -> en != null && en.getExpression() != null && !en.getExpression().isBlank())
+                .map(EnglishExpression::getExpression)
+                .collect(Collectors.toList()));
+        record.put("included_at", row.getIncludedAtEpochMillis());
+        return record;
+    }
+
+    /** A standalone English row in the record shape of the game data file. */
+    private Map<String, Object> englishRecord(String db, EnglishExpression row) {
+        Map<String, Object> record = new HashMap<>();
+        record.put("type", "english_expression");
+        record.put("database", db);
+        record.put("language", "english");
+        record.put("expression", row.getExpression());
+        record.put("score", row.getScore());
+        record.put("spanish_sources", Optional.ofNullable(row.getTranslations()).stream()
+                .flatMap(List::stream)
+                .filter(sp -> sp != null && sp.getExpression() != null && !sp.getExpression().isBlank())
+                .map(SpanishExpression::getExpression)
+                .collect(Collectors.toList()));
+        record.put("included_at", row.getIncludedAtEpochMillis());
+        if (row.getPracticeSourceDatabase() != null) {
+            record.put("practice_source_database", row.getPracticeSourceDatabase());
+        }
+        return record;
+    }
+
     @Override
     public void pruneSpanishRowsWithoutTranslations() {
-        for (Map.Entry<String, Set<SpanishExpression>> e : spanishDatabases.entrySet()) {
-            Set<SpanishExpression> bucket = e.getValue();
-            if (bucket == null || bucket.isEmpty()) {
+        for (String db : pruneCandidates.databases()) {
+            if (!spanishDatabases.containsKey(db)) {
+                pruneCandidates.removeDatabase(db);
                 continue;
             }
-            int before = bucket.size();
-            bucket.removeIf(DatabaseServiceImpl::translationsEffectivelyEmpty);
-            int removed = before - bucket.size();
+            int removed = locks.write(db, () -> {
+                Set<SpanishExpression> bucket = spanishDatabases.get(db);
+                PruneCandidates.Batch batch = pruneCandidates.drain(db);
+                if (bucket == null || bucket.isEmpty()) {
+                    return 0;
+                }
+                int pruned = 0;
+                if (batch.wholeDatabase()) {
+                    for (Iterator<SpanishExpression> it = bucket.iterator(); it.hasNext(); ) {
+                        SpanishExpression row = it.next();
+                        if (translationsEffectivelyEmpty(row)) {
+                            it.remove();
+                            unindexPrompt(db, row);
+                            pruned++;
+                        }
+                    }
+                } else {
+                    for (SpanishExpression row : batch.rows()) {
+                        if (translationsEffectivelyEmpty(row) && removeRow(bucket, row)) {
+                            unindexPrompt(db, row);
+                            pruned++;
+                        }
+                    }
+                }
+                if (pruned > 0) {
+                    markDirty(db);
+                }
+                return pruned;
+            });
             if (removed > 0) {
-                log.debug("Pruned {} invalid Spanish row(s) (no translations) from '{}'", removed, e.getKey());
+                PRUNED_SPANISH_ROWS.add(removed);
+                log.debug("Pruned {} invalid Spanish row(s) (no translations) from '{}'", removed, db);
             }
         }
     }
@@ -506,7 +1234,6 @@ public class DatabaseServiceImpl implements DatabaseService {
             pool = new ArrayList<>(expressions);
         }
         
-        Random random = new Random();
         SpanishExpression selected = pool.get(random.nextInt(pool.size()));
         log.debug("Selected random Spanish expression '{}' from database '{}'",
                 selected.getExpression(), databaseName);
@@ -522,7 +1249,6 @@ public class DatabaseServiceImpl implements DatabaseService {
             return null;
         }
         
-        Random random = new Random();
         EnglishExpression selected = expressions.get(random.nextInt(expressions.size()));
         log.debug("Selected random English expression '{}' from database '{}'", 
                 selected.getExpression(), databaseName);
@@ -533,17 +1259,14 @@ public class DatabaseServiceImpl implements DatabaseService {
     @Override
     public int getSpanishExpressionCount(String databaseName) {
         return resolveCanonicalDatabaseKey(databaseName)
-                .map(k -> spanishDatabases.get(k).size())
+                .map(k -> locks.read(k, () -> bucketOrEmpty(spanishDatabases, k).size()))
                 .orElse(0);
     }
     
     @Override
     public int getEnglishExpressionCount(String databaseName) {
         return resolveCanonicalDatabaseKey(databaseName)
-                .map(k -> {
-                    Set<EnglishExpression> bucket = englishDatabases.get(k);
-                    return bucket != null ? bucket.size() : 0;
-                })
+                .map(k -> locks.read(k, () -> bucketOrEmpty(englishDatabases, k).size()))
                 .orElse(0);
     }
     
@@ -554,22 +1277,22 @@ public class DatabaseServiceImpl implements DatabaseService {
     
     @Override
     public List<SpanishExpression> searchSpanishExpressions(String databaseName, String searchText) {
-        return resolveCanonicalDatabaseKey(databaseName)
-                .map(canonical -> spanishDatabases.get(canonical).stream()
+        return SEARCH_TIMER.time(() -> resolveCanonicalDatabaseKey(databaseName)
+                .map(canonical -> locks.read(canonical, () -> bucketOrEmpty(spanishDatabases, canonical).stream()
                         .filter(spanishExpr -> spanishExpr.getExpression().toLowerCase()
                                 .contains(searchText.toLowerCase()))
-                        .collect(Collectors.toList()))
-                .orElseGet(ArrayList::new);
+                        .collect(Collectors.toList())))
+                .orElseGet(ArrayList::new));
     }
     
     @Override
     public List<EnglishExpression> searchEnglishExpressions(String databaseName, String searchText) {
-        return resolveCanonicalDatabaseKey(databaseName)
-                .map(canonical -> englishDatabases.get(canonical).stream()
+        return SEARCH_TIMER.time(() -> resolveCanonicalDatabaseKey(databaseName)
+                .map(canonical -> locks.read(canonical, () -> bucketOrEmpty(englishDatabases, canonical).stream()
                         .filter(englishExpr -> englishExpr.getExpression().toLowerCase()
                                 .contains(searchText.toLowerCase()))
-                        .collect(Collectors.toList()))
-                .orElseGet(ArrayList::new);
+                        .collect(Collectors.toList())))
+                .orElseGet(ArrayList::new));
     }
     
     @Override
@@ -602,6 +1325,89 @@ public class DatabaseServiceImpl implements DatabaseService {
     @Override
     public boolean promoteTranslationToLearned(String practiceDatabaseName, SpanishExpression hostPhrase,
                                               EnglishExpression englishTranslation) {
+        boolean promoted = locks.writeAll(
+                () -> promoteTranslationToLearnedLocked(practiceDatabaseName, hostPhrase, englishTranslation));
+        if (promoted) {
+            PROMOTED_TO_LEARNED.increment();
+            gameDataService.saveGameData();
+        }
+        return promoted;
+    }
+
+    @Override
+    public Optional<EnglishExpression> restoreDemotedTranslation(String practiceDatabaseName, String spanishPhrase,
+                                                                 String englishTranslation, int score) {
+        Optional<String> key = resolveCanonicalDatabaseKey(practiceDatabaseName);
+        if (key.isEmpty() || spanishPhrase == null || englishTranslation == null) {
+            return Optional.empty();
+        }
+        EnglishExpression restored = locks.writeAll(
+                () -> restoreDemotedLocked(key.get(), spanishPhrase, englishTranslation.trim(), score));
+        if (restored == null) {
+            return Optional.empty();
+        }
+        persistEdit(ReviewJournal.Entry.edit(key.get(), ReviewJournal.Change.DEMOTION_UNDONE,
+                List.of(englishRecord(LEARNED_WORDS_DATABASE, restored))));
+        return Optional.of(restored);
+    }
+
+    /** Promotes {@code trimmedEnglish} of a {@code phrase} row of {@code db} with {@code score}. Caller holds all write locks. */
+    private EnglishExpression restoreDemotedLocked(String db, String phrase, String trimmedEnglish, int score) {
+        for (SpanishExpression host : phraseIndex.rows(normalize(phrase), db)) {
+            Optional<EnglishExpression> translation = Optional.ofNullable(host.getTranslations()).stream()
+                    .flatMap(List::stream)
+                    .filter(en -> isTranslation(en, trimmedEnglish))
+                    .findFirst();
+            if (translation.isPresent() && promoteTranslationToLearnedLocked(db, host, translation.get())) {
+                translation.get().setScore(score);
+                counters.refresh(LEARNED_WORDS_DATABASE, translation.get());
+                return translation.get();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean redoReviewDemotion(EnglishExpression learnedCard, String practiceDatabaseName, int score) {
+        Optional<String> key = resolveCanonicalDatabaseKey(practiceDatabaseName);
+        if (learnedCard == null || key.isEmpty()) {
+            return false;
+        }
+        List<EngineWarning> warnings = new ArrayList<>();
+        Map<String, Object> record = locks.writeAll(() -> {
+            Map<String, Object> card = englishRecord(LEARNED_WORDS_DATABASE, learnedCard);
+            if (!redoDemotionLocked(learnedCard, score, warnings)) {
+                return null;
+            }
+            card.put("score", score);
+            return card;
+        });
+        warnings.forEach(this::publishWarning);
+        if (record == null) {
+            return false;
+        }
+        persistEdit(ReviewJournal.Entry.edit(key.get(), ReviewJournal.Change.DEMOTION_REDONE, List.of(record)));
+        return true;
+    }
+
+    /** Sends learned {@code card} back to its practice database with {@code score}. Caller holds all write locks. */
+    private boolean redoDemotionLocked(EnglishExpression card, int score, List<EngineWarning> warnings) {
+        Set<EnglishExpression> learned = englishDatabases.get(LEARNED_WORDS_DATABASE);
+        if (learned == null || !learned.contains(card)) {
+            return false;
+        }
+        int prior = card.getScore();
+        if (!demoteLearnedCardToPractice(card, score, learned, warnings)) {
+            card.setScore(prior);
+            counters.refresh(LEARNED_WORDS_DATABASE, card);
+            return false;
+        }
+        pruneSpanishRowsWithoutTranslations();
+        return true;
+    }
+
+    private boolean promoteTranslationToLearnedLocked(String practiceDatabaseName, SpanishExpression hostPhrase,
+                                                      EnglishExpression englishTranslation) {
         if (englishTranslation == null || hostPhrase == null || practiceDatabaseName == null
                 || practiceDatabaseName.isBlank()) {
             log.warn("promoteTranslationToLearned: invalid arguments");
@@ -631,84 +1437,376 @@ public class DatabaseServiceImpl implements DatabaseService {
             return false;
         }
 
+        // Solo las filas que el índice da para ese inglés: misma frase en esta BBDD, o copias sueltas a retirar.
+        String promotedKey = EnglishLemmaIndex.key(promotedEnTrimmed);
         String normalizedHostSpanish = normalize(hostPhrase.getExpression());
-        List<SpanishExpression> cohortBySpanishPhrase = practicePhrases.stream()
-                .filter(expr -> normalize(expr.getExpression()).equals(normalizedHostSpanish))
-                .collect(Collectors.toList());
-
-        boolean translationExistsSomewhere = cohortBySpanishPhrase.stream()
-                .map(SpanishExpression::getTranslations)
-                .filter(Objects::nonNull)
-                .flatMap(List::stream)
-                .filter(Objects::nonNull)
-                .anyMatch(en -> en.getExpression() != null && en.getExpression().trim().equalsIgnoreCase(promotedEnTrimmed));
-        if (!translationExistsSomewhere) {
+        List<SpanishExpression> cohortWithTranslation = new ArrayList<>();
+        List<EnglishExpression> learnedCopies = new ArrayList<>();
+        for (EnglishLemmaIndex.Occurrence occurrence : lemmaIndex.occurrences(promotedKey)) {
+            if (occurrence.row() instanceof SpanishExpression expr) {
+                if (occurrence.database().equals(practiceDb)
+                        && normalize(expr.getExpression()).equals(normalizedHostSpanish)
+                        && expr.getTranslations().stream().anyMatch(en -> isTranslation(en, promotedEnTrimmed))) {
+                    cohortWithTranslation.add(expr);
+                }
+            } else if (occurrence.database().equals(LEARNED_WORDS_DATABASE)
+                    && occurrence.row() instanceof EnglishExpression en
+                    && en.getExpression().equalsIgnoreCase(englishTranslation.getExpression())) {
+                learnedCopies.add(en);
+            }
+        }
+        if (cohortWithTranslation.isEmpty()) {
             log.warn("English '{}' not found under any '{}' row(s) in '{}'",
                     englishTranslation.getExpression(),
                     Optional.ofNullable(hostPhrase.getExpression()).orElse("(null)"), practiceDb);
             return false;
         }
-
-        // Keep source Spanish phrase for Learned Words UI and JSON round-trip (spanish_sources)
-        String hostExpr = Optional.ofNullable(hostPhrase.getExpression()).map(String::trim).orElse("");
-        boolean hasSameSource = englishTranslation.getTranslations() != null && englishTranslation.getTranslations()
-                .stream()
-                .anyMatch(sp -> sp != null && expressionsEqualNormalized(sp.getExpression(), hostExpr));
-        if (!hostExpr.isEmpty() && !hasSameSource) {
-            SpanishExpression link = new SpanishExpression();
-            link.setExpression(hostExpr);
-            link.setScore(0);
-            englishTranslation.getTranslations().add(link);
+
+        // Keep source Spanish phrase for Learned Words UI and JSON round-trip (spanish_sources)
+        String hostExpr = Optional.ofNullable(hostPhrase.getExpression()).map(String::trim).orElse("");
+        boolean hasSameSource = englishTranslation.getTranslations() != null && englishTranslation.getTranslations()
+                .stream()
+                .anyMatch(sp -> sp != null && expressionsEqualNormalized(sp.getExpression(), hostExpr));
+        if (!hostExpr.isEmpty() && !hasSameSource) {
+            SpanishExpression link = new SpanishExpression();
+            link.setExpression(hostExpr);
+            link.setScore(0);
+            englishTranslation.getTranslations().add(link);
+        }
+        englishTranslation.setPracticeSourceDatabase(practiceDb);
+
+        // Las filas que se quedan sin traducciones salen del bucket: no debe quedar vestigio de la frase.
+        int phrasesRemoved = 0;
+        for (SpanishExpression expr : cohortWithTranslation) {
+            lemmaIndex.remove(promotedKey, practiceDb, expr);
+            if (!changeTranslations(practiceDb, practicePhrases, expr,
+                    () -> expr.getTranslations().removeIf(en -> isTranslation(en, promotedEnTrimmed)))) {
+                phrasesRemoved++;
+            }
+        }
+
+        Set<EnglishExpression> learned = englishDatabases.get(LEARNED_WORDS_DATABASE);
+        for (EnglishExpression copy : learnedCopies) {
+            removeRow(learned, copy);
+            unindexEnglish(LEARNED_WORDS_DATABASE, copy);
+        }
+        if (englishTranslation.getIncludedAtEpochMillis() <= 0L) {
+            englishTranslation.setIncludedAtEpochMillis(System.currentTimeMillis());
+        }
+        if (learned.add(englishTranslation)) {
+            indexEnglish(LEARNED_WORDS_DATABASE, englishTranslation);
+        }
+
+        // Quitar también filas inglés sueltas duplicadas (misma gráfía) que queden en esta BBDD de práctica.
+        Set<EnglishExpression> practiceEnglish = englishDatabases.get(practiceDb);
+        if (practiceEnglish != null) {
+            for (EnglishExpression duplicate : standaloneEnglishRows(practiceDb, promotedEnTrimmed)) {
+                removeRow(practiceEnglish, duplicate);
+                unindexEnglish(practiceDb, duplicate);
+            }
+        }
+
+        markDirty(practiceDb);
+        markDirty(LEARNED_WORDS_DATABASE);
+        log.info(
+                "Learned '{}' moved to '{}' and removed from '{}' ({} row(s) had that translation, {} emptied). No duplicate EN left under same phrase.",
+                englishTranslation.getExpression(), LEARNED_WORDS_DATABASE, practiceDb,
+                cohortWithTranslation.size(), phrasesRemoved);
+        return true;
+    }
+
+    private static boolean isTranslation(EnglishExpression en, String trimmedEnglish) {
+        return en != null && en.getExpression() != null && en.getExpression().trim().equalsIgnoreCase(trimmedEnglish);
+    }
+
+    /**
+     * Standalone English rows of {@code database} equal to {@code trimmedEnglish} (case and outer spaces ignored),
+     * looked up in the lemma index.
+     */
+    private List<EnglishExpression> standaloneEnglishRows(String database, String trimmedEnglish) {
+        List<EnglishExpression> rows = new ArrayList<>();
+        for (EnglishLemmaIndex.Occurrence occurrence : lemmaIndex.occurrences(EnglishLemmaIndex.key(trimmedEnglish))) {
+            if (occurrence.database().equals(database) && occurrence.row() instanceof EnglishExpression en
+                    && isTranslation(en, trimmedEnglish)) {
+                rows.add(en);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Applies {@code change} to a prompt row's translations without leaving the row filed under a stale hash
+     * (equals/hashCode follow the translations): the row leaves its bucket first and goes back afterwards, unless
+     * it ended up with no translations or identical to another row of the bucket.
+     *
+     * @return whether the row is still in the bucket
+     */
+    private boolean changeTranslations(String database, Set<SpanishExpression> bucket, SpanishExpression row,
+            Runnable change) {
+        boolean filed = bucket.remove(row);
+        change.run();
+        if (translationsEffectivelyEmpty(row)) {
+            if (!filed) {
+                removeRow(bucket, row);
+            }
+            unindexPrompt(database, row);
+            return false;
+        }
+        if (filed && !bucket.add(row)) {
+            unindexPrompt(database, row);
+            log.debug("Spanish '{}' in '{}' merged into an identical row", row.getExpression(), database);
+            return false;
+        }
+        counters.refresh(database, row);
+        return true;
+    }
+
+    /** Removes {@code row} itself, also when it is still filed under its hash from before an in-place change. */
+    private static <E> boolean removeRow(Set<E> bucket, E row) {
+        return bucket.remove(row) || bucket.removeIf(r -> r == row);
+    }
+
+    @Override
+    public Optional<LearnedWordsReviewResult> submitLearnedWordsReviewAttempt(EnglishExpression learnedCard,
+            String userAnswer, String reviewDatabaseName, boolean requirePracticeSourceMatch,
+            String userSelectedPracticeDatabase) {
+        Optional<LearnedWordsReviewResult> result = applyReviewAttempt(learnedCard, userAnswer, reviewDatabaseName,
+                requirePracticeSourceMatch, userSelectedPracticeDatabase);
+        if (result.isPresent()) {
+            gameDataService.saveGameData();
+        }
+        return result;
+    }
+
+    @Override
+    public ReviewSession beginReviewSession(boolean requirePracticeSourceMatch) {
+        ReviewSessionImpl session = new ReviewSessionImpl(this, gameDataService, requirePracticeSourceMatch);
+        openSessions.add(session);
+        return session;
+    }
+
+    void sessionClosed(ReviewSessionImpl session) {
+        openSessions.remove(session);
+    }
+
+    /** {@link #submitLearnedWordsReviewAttempt} without the save: the caller decides when to persist. */
+    Optional<LearnedWordsReviewResult> applyReviewAttempt(EnglishExpression learnedCard, String userAnswer,
+            String reviewDatabaseName, boolean requirePracticeSourceMatch, String userSelectedPracticeDatabase) {
+        long start = REVIEW_TIMER.start();
+        FlightEvents.ReviewTransition event = new FlightEvents.ReviewTransition();
+        event.begin();
+        int scoreBefore = learnedCard == null ? 0 : learnedCard.getScore();
+        List<EngineWarning> warnings = new ArrayList<>();
+        Optional<LearnedWordsReviewResult> result = locks.writeAll(() -> {
+            Optional<LearnedWordsReviewResult> applied = applyReviewAttemptLocked(learnedCard, userAnswer,
+                    reviewDatabaseName, requirePracticeSourceMatch, userSelectedPracticeDatabase, warnings);
+            // Los movimientos entre BBDD marcan las suyas; aquí solo queda el cambio de score de la tarjeta
+            applied.flatMap(r -> resolveReviewDatabaseKey(reviewDatabaseName)).ifPresent(db -> {
+                counters.refresh(db, learnedCard);
+                markDirty(db);
+            });
+            return applied;
+        });
+        if (result.isPresent()) {
+            countReviewOutcome(result.get().outcome());
+            event.database = reviewDatabaseName;
+            event.outcome = result.get().outcome().name();
+            event.scoreBefore = scoreBefore;
+            event.scoreAfter = result.get().scoreAfter();
+            event.commit();
+        }
+        REVIEW_TIMER.stop(start);
+        // Los avisos se publican fuera del lock: un listener puede abrir un diálogo o volver a llamar al servicio.
+        warnings.forEach(this::publishWarning);
+        return result;
+    }
+
+    @Override
+    public int recoverReviewSession() {
+        ReviewJournal journal = ReviewJournal.in(gameDataService.getDataDirectory());
+        List<ReviewJournal.Entry> entries;
+        try {
+            entries = journal.read();
+        } catch (IOException e) {
+            log.error("Could not read review journal {}: {}", journal.file(), e.getMessage());
+            return 0;
+        }
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        List<EngineWarning> warnings = new ArrayList<>();
+        int replayed = locks.writeAll(() -> {
+            int applied = 0;
+            for (ReviewJournal.Entry entry : entries) {
+                boolean changed = entry.change() != null
+                        ? replayEditLocked(entry)
+                        : replayReviewEntryLocked(entry, warnings);
+                if (changed) {
+                    applied++;
+                    resolveCanonicalDatabaseKey(entry.database()).ifPresent(this::markDirty);
+                }
+            }
+            return applied;
+        });
+        log.info("Recovered {} of {} journal entries since the last full save", replayed, entries.size());
+        // El guardado completo borra el diario bajo el mismo lock que los appends
+        gameDataService.saveGameData();
+        warnings.forEach(this::publishWarning);
+        return replayed;
+    }
+
+    /**
+     * Lleva la tarjeta del diario al estado que registró el intento. Si ya no está en la BBDD de review (el
+     * fichero guardado ya refleja el movimiento), no hace nada: reaplicar el diario es idempotente.
+     */
+    private boolean replayReviewEntryLocked(ReviewJournal.Entry entry, List<EngineWarning> warnings) {
+        Set<EnglishExpression> bucket = englishDatabases.get(entry.database());
+        String expression = Optional.ofNullable(entry.expression()).map(String::trim).orElse("");
+        if (bucket == null || expression.isEmpty() || entry.outcome() == null) {
+            return false;
+        }
+        List<EnglishExpression> cards = standaloneEnglishRows(entry.database(), expression);
+        if (cards.isEmpty()) {
+            log.debug("Review journal: '{}' no longer in '{}'", expression, entry.database());
+            return false;
+        }
+        EnglishExpression card = cards.get(0);
+        switch (entry.outcome()) {
+            case STILL_IN_LEARNED -> {
+                card.setScore(entry.score());
+                counters.refresh(entry.database(), card);
+            }
+            // Como en el camino en vivo, el score solo cambia si la transición se hace
+            case PROMOTED_TO_DEFINITELY_LEARNED -> {
+                if (!promoteLearnedCardToDefinitelyLearned(card, bucket)) {
+                    return false;
+                }
+                card.setScore(LEARNED_REVIEW_GRADUATE_TO_DEFINITELY_AT);
+                counters.refresh(WORDS_DEFINITELY_LEARNED_DATABASE, card);
+            }
+            case RETURNED_TO_LEARNED -> {
+                if (!returnDefinitelyLearnedCardToLearned(card, bucket)) {
+                    return false;
+                }
+                card.setScore(entry.score());
+                counters.refresh(LEARNED_WORDS_DATABASE, card);
+            }
+            case DEMOTED_TO_PRACTICE -> {
+                if (entry.practiceDatabase() != null) {
+                    card.setPracticeSourceDatabase(entry.practiceDatabase());
+                }
+                if (!demoteLearnedCardToPractice(card, entry.score(), bucket, warnings)) {
+                    return false;
+                }
+                pruneSpanishRowsWithoutTranslations();
+            }
+            case MASTERED_REMOVED_EVERYWHERE -> {
+                removeRow(bucket, card);
+                unindexEnglish(entry.database(), card);
+                definitelyMasteredTotal++;
+                purgeEnglishLemmaEverywhere(expression);
+                pruneSpanishRowsWithoutTranslations();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reaplica un deshacer/rehacer del diario. Las filas se comparan por contenido, así que una entrada que el fichero
+     * ya refleja no cambia nada.
+     */
+    private boolean replayEditLocked(ReviewJournal.Entry entry) {
+        String name = Optional.ofNullable(entry.database()).map(String::trim).orElse("");
+        if (name.isEmpty()) {
+            return false;
+        }
+        List<SpanishExpression> prompts = new ArrayList<>();
+        List<EnglishExpression> words = new ArrayList<>();
+        for (Map<String, Object> record : Optional.ofNullable(entry.rows()).orElse(List.of())) {
+            String expression = record.get("expression") instanceof String text ? text.trim() : "";
+            if (expression.isEmpty()) {
+                continue;
+            }
+            if (resolveAppGameMode().matchesPromptLanguage(String.valueOf(record.get("language")))) {
+                prompts.add(promptExpressionFromLoadedMap(expression, record));
+            } else if ("english".equals(record.get("language"))) {
+                words.add(englishExpressionFromLoadedMap(expression, record));
+            }
         }
-        englishTranslation.setPracticeSourceDatabase(practiceDb);
-
-        int phrasesTouched = 0;
-        for (SpanishExpression expr : cohortBySpanishPhrase) {
-            if (expr.getTranslations() != null && expr.getTranslations().removeIf(en -> en != null
-                    && en.getExpression() != null
-                    && en.getExpression().trim().equalsIgnoreCase(promotedEnTrimmed))) {
-                phrasesTouched++;
+        Optional<String> db = resolveCanonicalDatabaseKey(name);
+        switch (entry.change()) {
+            case RESTORED -> {
+                return db.isPresent() && restoreRowsLocked(db.get(), prompts, words, null) > 0;
+            }
+            case WITHDRAWN -> {
+                return db.isPresent() && withdrawRowsLocked(db.get(), prompts, words, null) > 0;
+            }
+            case DATABASE_RESTORED -> {
+                boolean created = db.isEmpty();
+                ensureDatabaseBucketsInMemory(name);
+                String key = resolveCanonicalDatabaseKey(name).orElse(name);
+                return restoreRowsLocked(key, prompts, words, null) > 0 || created;
+            }
+            case DATABASE_DROPPED -> {
+                return db.filter(key -> !isSystemDatabase(key)).map(this::dropDatabaseLocked).isPresent();
+            }
+            case DEMOTION_REDONE -> {
+                List<EngineWarning> ignored = new ArrayList<>();
+                return db.isPresent() && words.stream().anyMatch(card -> standaloneEnglishRows(LEARNED_WORDS_DATABASE,
+                                card.getExpression()).stream()
+                        .filter(live -> db.get().equals(live.getPracticeSourceDatabase()))
+                        .findFirst()
+                        .filter(live -> redoDemotionLocked(live, card.getScore(), ignored))
+                        .isPresent());
+            }
+            case DEMOTION_UNDONE -> {
+                return db.isPresent() && words.stream().anyMatch(card -> card.getTranslations().stream()
+                        .anyMatch(sp -> restoreDemotedLocked(db.get(), sp.getExpression(), card.getExpression(),
+                                card.getScore()) != null));
+            }
+            default -> {
+                return false;
             }
         }
+    }
 
-        Set<EnglishExpression> learned = englishDatabases.get(LEARNED_WORDS_DATABASE);
-        learned.removeIf(en -> en.getExpression().equalsIgnoreCase(englishTranslation.getExpression()));
-        if (englishTranslation.getIncludedAtEpochMillis() <= 0L) {
-            englishTranslation.setIncludedAtEpochMillis(System.currentTimeMillis());
+    private static void countReviewOutcome(LearnedWordsReviewResult.Outcome outcome) {
+        switch (outcome) {
+            case PROMOTED_TO_DEFINITELY_LEARNED -> PROMOTED_TO_DEFINITELY.increment();
+            case DEMOTED_TO_PRACTICE -> DEMOTED_TO_PRACTICE.increment();
+            case RETURNED_TO_LEARNED -> DEMOTED_TO_LEARNED.increment();
+            case MASTERED_REMOVED_EVERYWHERE -> MASTERED.increment();
+            default -> {
+            }
         }
-        learned.add(englishTranslation);
+    }
 
-        // Quitar también filas inglés sueltas duplicadas (misma gráfía) que queden en esta BBDD de práctica.
-        Set<EnglishExpression> practiceEnglish = englishDatabases.get(practiceDb);
-        if (practiceEnglish != null && !practiceEnglish.isEmpty()) {
-            practiceEnglish.removeIf(en -> en != null && en.getExpression() != null
-                    && en.getExpression().trim().equalsIgnoreCase(promotedEnTrimmed));
+    @Override
+    public void addWarningListener(Consumer<EngineWarning> listener) {
+        if (listener != null) {
+            warningListeners.add(listener);
         }
+    }
 
-        for (SpanishExpression expr : cohortBySpanishPhrase) {
-            List<EnglishExpression> tr = expr.getTranslations();
-            if (tr == null || tr.isEmpty()) {
-                practicePhrases.remove(expr);
-                log.debug("Removed emptied Spanish '{}' from '{}'", expr.getExpression(), practiceDb);
+    @Override
+    public void removeWarningListener(Consumer<EngineWarning> listener) {
+        warningListeners.remove(listener);
+    }
+
+    private void publishWarning(EngineWarning warning) {
+        log.warn("Engine warning: {}", warning);
+        for (Consumer<EngineWarning> listener : warningListeners) {
+            try {
+                listener.accept(warning);
+            } catch (RuntimeException e) {
+                log.error("Warning listener failed for {}: {}", warning, e.getMessage());
             }
         }
-
-        // Cualquier otra fila ES con ese texto y sin traducciones válidas no debe quedar vestigio.
-        practicePhrases.removeIf(expr -> normalize(expr.getExpression()).equals(normalizedHostSpanish)
-                && translationsEffectivelyEmpty(expr));
-
-        gameDataService.saveGameData();
-        log.info(
-                "Learned '{}' moved to '{}' and removed from '{}' ({} Spanish row(s); {} row(s) had that translation). No duplicate EN left under same phrase.",
-                englishTranslation.getExpression(), LEARNED_WORDS_DATABASE, practiceDb,
-                cohortBySpanishPhrase.size(), phrasesTouched);
-        return true;
     }
 
-    @Override
-    public Optional<LearnedWordsReviewResult> submitLearnedWordsReviewAttempt(EnglishExpression learnedCard,
+    private Optional<LearnedWordsReviewResult> applyReviewAttemptLocked(EnglishExpression learnedCard,
             String userAnswer, String reviewDatabaseName, boolean requirePracticeSourceMatch,
-            String userSelectedPracticeDatabase) {
+            String userSelectedPracticeDatabase, List<EngineWarning> warnings) {
         if (learnedCard == null || userAnswer == null) {
             return Optional.empty();
         }
@@ -747,16 +1845,15 @@ public class DatabaseServiceImpl implements DatabaseService {
             if (definitelyReview) {
                 if (s >= DEFINITELY_REVIEW_MASTER_AT) {
                     learnedBucket.remove(learnedCard);
+                    unindexEnglish(reviewDb, learnedCard);
                     definitelyMasteredTotal++;
                     purgeEnglishLemmaEverywhere(expectedRaw);
                     pruneSpanishRowsWithoutTranslations();
-                    gameDataService.saveGameData();
                     return Optional.of(reviewResult(
                             LearnedWordsReviewResult.Outcome.MASTERED_REMOVED_EVERYWHERE,
                             true, DEFINITELY_REVIEW_MASTER_AT, expectedRaw, typed, null,
                             true, expectedSourceLabel, userSourceLabel));
                 }
-                gameDataService.saveGameData();
                 return Optional.of(reviewResult(
                         LearnedWordsReviewResult.Outcome.STILL_IN_LEARNED, true, s, expectedRaw, typed, null,
                         true, expectedSourceLabel, userSourceLabel));
@@ -765,16 +1862,11 @@ public class DatabaseServiceImpl implements DatabaseService {
                 learnedCard.setScore(LEARNED_REVIEW_GRADUATE_TO_DEFINITELY_AT);
                 if (!promoteLearnedCardToDefinitelyLearned(learnedCard, learnedBucket)) {
                     learnedCard.setScore(prior);
-                    gameDataService.saveGameData();
-                    JOptionPane.showMessageDialog(null,
-                            ui("Could not move the expression to Words definitely learned.",
-                                    "No se pudo mover la expresión a Words definitely learned."),
-                            "Review Learned Words", JOptionPane.WARNING_MESSAGE);
+                    warnings.add(EngineWarning.REVIEW_PROMOTION_FAILED);
                     return Optional.of(reviewResult(
                             LearnedWordsReviewResult.Outcome.STILL_IN_LEARNED, true, prior, expectedRaw, typed, null,
                             true, expectedSourceLabel, userSourceLabel));
                 }
-                gameDataService.saveGameData();
                 return Optional.of(reviewResult(
                         LearnedWordsReviewResult.Outcome.PROMOTED_TO_DEFINITELY_LEARNED,
                         true,
@@ -782,7 +1874,6 @@ public class DatabaseServiceImpl implements DatabaseService {
                         expectedRaw, typed, null,
                         true, expectedSourceLabel, userSourceLabel));
             }
-            gameDataService.saveGameData();
             return Optional.of(reviewResult(
                     LearnedWordsReviewResult.Outcome.STILL_IN_LEARNED, true, s, expectedRaw, typed, null,
                     true, expectedSourceLabel, userSourceLabel));
@@ -793,7 +1884,6 @@ public class DatabaseServiceImpl implements DatabaseService {
         if (definitelyReview) {
             if (penalized < DEFINITELY_REVIEW_DEMOTION_UNDER) {
                 if (returnDefinitelyLearnedCardToLearned(learnedCard, learnedBucket)) {
-                    gameDataService.saveGameData();
                     return Optional.of(reviewResult(
                             LearnedWordsReviewResult.Outcome.RETURNED_TO_LEARNED,
                             false,
@@ -802,24 +1892,18 @@ public class DatabaseServiceImpl implements DatabaseService {
                             expressionOk, expectedSourceLabel, userSourceLabel));
                 }
                 learnedCard.setScore(prior);
-                gameDataService.saveGameData();
-                JOptionPane.showMessageDialog(null,
-                        ui("Could not return the expression to Learned words.",
-                                "No se pudo devolver la expresión a Learned words."),
-                        "Review Learned Words", JOptionPane.WARNING_MESSAGE);
+                warnings.add(EngineWarning.REVIEW_RETURN_TO_LEARNED_FAILED);
                 return Optional.of(reviewResult(
                         LearnedWordsReviewResult.Outcome.STILL_IN_LEARNED, false, prior, expectedRaw, typed, null,
                         expressionOk, expectedSourceLabel, userSourceLabel));
             }
-            gameDataService.saveGameData();
             return Optional.of(reviewResult(
                     LearnedWordsReviewResult.Outcome.STILL_IN_LEARNED, false, penalized, expectedRaw, typed, null,
                     expressionOk, expectedSourceLabel, userSourceLabel));
         }
         if (penalized < LEARNED_REVIEW_DEMOTION_UNDER) {
-            if (demoteLearnedCardToPractice(learnedCard, penalized, learnedBucket)) {
+            if (demoteLearnedCardToPractice(learnedCard, penalized, learnedBucket, warnings)) {
                 pruneSpanishRowsWithoutTranslations();
-                gameDataService.saveGameData();
                 String restoredDb = Optional.ofNullable(learnedCard.getPracticeSourceDatabase())
                         .map(String::trim)
                         .filter(s -> !s.isEmpty())
@@ -832,17 +1916,12 @@ public class DatabaseServiceImpl implements DatabaseService {
                         expressionOk, expectedSourceLabel, userSourceLabel));
             }
             learnedCard.setScore(prior);
-            gameDataService.saveGameData();
-            JOptionPane.showMessageDialog(null,
-                    ui("Could not return the expression to the practice database (no linked prompt or no target database). The previous score was kept.",
-                            "No se pudo devolver la expresión a la base de práctica (sin frase español enlazada o sin BBDD de destino). El score anterior se mantuvo."),
-                    "Review Learned Words", JOptionPane.WARNING_MESSAGE);
+            warnings.add(EngineWarning.REVIEW_DEMOTION_FAILED);
             return Optional.of(reviewResult(
                     LearnedWordsReviewResult.Outcome.STILL_IN_LEARNED, false, prior, expectedRaw, typed, null,
                     expressionOk, expectedSourceLabel, userSourceLabel));
         }
 
-        gameDataService.saveGameData();
         return Optional.of(reviewResult(
                 LearnedWordsReviewResult.Outcome.STILL_IN_LEARNED, false, penalized, expectedRaw, typed, null,
                 expressionOk, expectedSourceLabel, userSourceLabel));
@@ -906,8 +1985,7 @@ public class DatabaseServiceImpl implements DatabaseService {
             return false;
         }
         String phrase = Optional.ofNullable(card.getExpression()).map(String::trim).orElse("");
-        if (!phrase.isEmpty() && definitelyBucket.stream().anyMatch(e -> e != null && e.getExpression() != null
-                && e.getExpression().trim().equalsIgnoreCase(phrase))) {
+        if (!phrase.isEmpty() && !standaloneEnglishRows(WORDS_DEFINITELY_LEARNED_DATABASE, phrase).isEmpty()) {
             log.warn("Review promotion: '{}' already in words_definitely_learned", phrase);
             return false;
         }
@@ -915,6 +1993,10 @@ public class DatabaseServiceImpl implements DatabaseService {
             return false;
         }
         definitelyBucket.add(card);
+        unindexEnglish(LEARNED_WORDS_DATABASE, card);
+        indexEnglish(WORDS_DEFINITELY_LEARNED_DATABASE, card);
+        markDirty(LEARNED_WORDS_DATABASE);
+        markDirty(WORDS_DEFINITELY_LEARNED_DATABASE);
         return true;
     }
 
@@ -922,16 +2004,16 @@ public class DatabaseServiceImpl implements DatabaseService {
      * Repara datos legacy: entradas en {@code words_definitely_learned} con score &lt; 28 vuelven a
      * {@code learned_words} (p. ej. sancionadas antes de corregir el umbral de degradación).
      */
-    private void reconcileDefinitelyBelowGraduateScore() {
+    private int reconcileDefinitelyBelowGraduateScore() {
         Set<EnglishExpression> definitelyBucket = englishDatabases.get(WORDS_DEFINITELY_LEARNED_DATABASE);
         if (definitelyBucket == null || definitelyBucket.isEmpty()) {
-            return;
+            return 0;
         }
         List<EnglishExpression> toMove = definitelyBucket.stream()
                 .filter(card -> card != null && card.getScore() < DEFINITELY_REVIEW_DEMOTION_UNDER)
                 .toList();
         if (toMove.isEmpty()) {
-            return;
+            return 0;
         }
         int moved = 0;
         for (EnglishExpression card : toMove) {
@@ -942,10 +2024,8 @@ public class DatabaseServiceImpl implements DatabaseService {
         if (moved > 0) {
             log.info("Reconciled {} expression(s) from words_definitely_learned to learned_words (score < {})",
                     moved, DEFINITELY_REVIEW_DEMOTION_UNDER);
-            if (!loadingFromRepository) {
-                gameDataService.saveGameData();
-            }
         }
+        return moved;
     }
 
     private boolean returnDefinitelyLearnedCardToLearned(EnglishExpression card,
@@ -955,8 +2035,7 @@ public class DatabaseServiceImpl implements DatabaseService {
             return false;
         }
         String phrase = Optional.ofNullable(card.getExpression()).map(String::trim).orElse("");
-        if (!phrase.isEmpty() && learnedBucket.stream().anyMatch(e -> e != null && e.getExpression() != null
-                && e.getExpression().trim().equalsIgnoreCase(phrase))) {
+        if (!phrase.isEmpty() && !standaloneEnglishRows(LEARNED_WORDS_DATABASE, phrase).isEmpty()) {
             log.warn("Review return: '{}' already in learned_words", phrase);
             return false;
         }
@@ -964,6 +2043,10 @@ public class DatabaseServiceImpl implements DatabaseService {
             return false;
         }
         learnedBucket.add(card);
+        unindexEnglish(WORDS_DEFINITELY_LEARNED_DATABASE, card);
+        indexEnglish(LEARNED_WORDS_DATABASE, card);
+        markDirty(WORDS_DEFINITELY_LEARNED_DATABASE);
+        markDirty(LEARNED_WORDS_DATABASE);
         return true;
     }
 
@@ -980,16 +2063,13 @@ public class DatabaseServiceImpl implements DatabaseService {
     }
 
     private boolean demoteLearnedCardToPractice(EnglishExpression card, int penalizedLearnedScore,
-            Set<EnglishExpression> learnedBucket) {
+            Set<EnglishExpression> learnedBucket, List<EngineWarning> warnings) {
         String canonicalDb = resolveCanonicalDatabaseKey(
                 Optional.ofNullable(card.getPracticeSourceDatabase()).orElse("")).orElse("");
         if (canonicalDb.isEmpty() || ReviewDatabases.isReviewDatabaseKey(canonicalDb)) {
             Optional<String> auto = resolveAutomaticPracticeDatabaseForDemotion(card);
             if (auto.isEmpty()) {
-                JOptionPane.showMessageDialog(null,
-                        ui("There is no vocabulary database where the expression can be reinserted.",
-                                "No hay ninguna base de vocabulario donde reincorporar la expresión."),
-                        "Review Learned Words", JOptionPane.ERROR_MESSAGE);
+                warnings.add(EngineWarning.NO_PRACTICE_DATABASE_FOR_DEMOTION);
                 return false;
             }
             canonicalDb = auto.get();
@@ -1002,10 +2082,7 @@ public class DatabaseServiceImpl implements DatabaseService {
         }
         String spanishPhrase = firstSpanishPhraseFor(card);
         if (spanishPhrase == null || spanishPhrase.trim().isEmpty()) {
-            JOptionPane.showMessageDialog(null,
-                    ui("This learned_words entry has no linked prompt text; it cannot be relocated.",
-                            "Esta entrada en learned_words no lleva texto español enlazado; no se puede reubicar."),
-                    "Review Learned Words", JOptionPane.ERROR_MESSAGE);
+            warnings.add(EngineWarning.LEARNED_ENTRY_WITHOUT_PROMPT);
             return false;
         }
 
@@ -1015,18 +2092,24 @@ public class DatabaseServiceImpl implements DatabaseService {
         if (!learnedBucket.remove(card)) {
             return false;
         }
+        unindexEnglish(LEARNED_WORDS_DATABASE, card);
         boolean attached = attachEnglishUnderSpanishPhrase(canonicalDb, spanishPhrase.trim(), card);
         if (!attached) {
             learnedBucket.add(card);
+            indexEnglish(LEARNED_WORDS_DATABASE, card);
             card.setScore(rollbackLearnedScore);
             return false;
         }
         Set<EnglishExpression> practiceStandalone = englishDatabases.get(canonicalDb);
         if (practiceStandalone != null) {
-            practiceStandalone.removeIf(e -> e != null && e.getExpression() != null && e.getExpression()
-                    .trim()
-                    .equalsIgnoreCase(Optional.ofNullable(card.getExpression()).orElse("").trim()));
+            String english = Optional.ofNullable(card.getExpression()).orElse("").trim();
+            for (EnglishExpression duplicate : standaloneEnglishRows(canonicalDb, english)) {
+                removeRow(practiceStandalone, duplicate);
+                unindexEnglish(canonicalDb, duplicate);
+            }
         }
+        markDirty(LEARNED_WORDS_DATABASE);
+        markDirty(canonicalDb);
         return true;
     }
 
@@ -1048,42 +2131,19 @@ public class DatabaseServiceImpl implements DatabaseService {
      * si la frase español enlazada existe en una sola BBDD candidata, esa; si no, la primera disponible (orden estable).
      */
     private Optional<String> resolveAutomaticPracticeDatabaseForDemotion(EnglishExpression card) {
-        List<String> displayNames = getAvailableDatabases().stream()
-                .filter(Objects::nonNull)
-                .filter(name -> !ReviewDatabases.isReviewDatabaseKey(name))
-                .sorted(String.CASE_INSENSITIVE_ORDER)
-                .collect(Collectors.toList());
-        if (displayNames.isEmpty()) {
-            return Optional.empty();
-        }
-        List<String> canonicalOrdered = displayNames.stream()
-                .map(d -> resolveCanonicalDatabaseKey(d).orElse(d.trim()))
-                .filter(d -> !d.isEmpty())
-                .distinct()
-                .sorted(String.CASE_INSENSITIVE_ORDER)
-                .collect(Collectors.toList());
-        if (canonicalOrdered.isEmpty()) {
+        List<String> candidates = practiceDatabases();
+        if (candidates.isEmpty()) {
             return Optional.empty();
         }
-        if (canonicalOrdered.size() == 1) {
-            return Optional.of(canonicalOrdered.get(0));
+        if (candidates.size() == 1) {
+            return Optional.of(candidates.get(0));
         }
         String phrase = firstSpanishPhraseFor(card);
-        if (phrase != null && !phrase.trim().isEmpty()) {
-            String norm = normalize(phrase.trim());
-            List<String> hits = new ArrayList<>();
-            for (String canon : canonicalOrdered) {
-                Set<SpanishExpression> phrases = spanishDatabases.get(canon);
-                if (phrases == null) {
-                    continue;
-                }
-                boolean found = phrases.stream()
-                        .filter(Objects::nonNull)
-                        .anyMatch(p -> p.getExpression() != null && normalize(p.getExpression()).equals(norm));
-                if (found) {
-                    hits.add(canon);
-                }
-            }
+        if (phrase != null) {
+            String norm = normalize(phrase);
+            List<String> hits = phraseIndex.databases(norm).stream()
+                    .filter(db -> !ReviewDatabases.isReviewDatabaseKey(db))
+                    .toList();
             if (hits.size() == 1) {
                 return Optional.of(hits.get(0));
             }
@@ -1091,7 +2151,20 @@ public class DatabaseServiceImpl implements DatabaseService {
                 log.debug("Demotion resolve: '{}' aparece en varias bases; usando la primera estable.", norm);
             }
         }
-        return Optional.of(canonicalOrdered.get(0));
+        return Optional.of(candidates.get(0));
+    }
+
+    /** Claves de las BBDD de práctica (sin las de review), orden estable sin distinguir mayúsculas; cacheadas. */
+    private List<String> practiceDatabases() {
+        List<String> cached = practiceDatabases;
+        if (cached == null) {
+            cached = spanishDatabases.keySet().stream()
+                    .filter(name -> !ReviewDatabases.isReviewDatabaseKey(name))
+                    .sorted(String.CASE_INSENSITIVE_ORDER)
+                    .toList();
+            practiceDatabases = cached;
+        }
+        return cached;
     }
 
     /**
@@ -1107,11 +2180,7 @@ public class DatabaseServiceImpl implements DatabaseService {
         if (es.isEmpty()) {
             return false;
         }
-        String norm = normalize(es);
-        SpanishExpression host = phrases.stream()
-                .filter(p -> p != null && p.getExpression() != null && normalize(p.getExpression()).equals(norm))
-                .findFirst()
-                .orElse(null);
+        SpanishExpression host = phraseIndex.anyRow(normalize(es), canonicalDb).orElse(null);
         if (host == null) {
             host = new SpanishExpression();
             host.setExpression(es);
@@ -1119,7 +2188,9 @@ public class DatabaseServiceImpl implements DatabaseService {
             List<EnglishExpression> list = new ArrayList<>();
             list.add(english);
             host.setTranslations(list);
-            phrases.add(host);
+            if (phrases.add(host)) {
+                indexPrompt(canonicalDb, host);
+            }
             return true;
         }
         if (host.getTranslations() == null) {
@@ -1130,10 +2201,14 @@ public class DatabaseServiceImpl implements DatabaseService {
                     .equalsIgnoreCase(english.getExpression().trim())) {
                 ex.setScore(english.getScore());
                 host.setScore(Math.max(host.getScore(), english.getScore()));
+                counters.refresh(canonicalDb, host);
                 return true;
             }
         }
-        host.getTranslations().add(english);
+        SpanishExpression target = host;
+        if (changeTranslations(canonicalDb, phrases, target, () -> target.getTranslations().add(english))) {
+            lemmaIndex.addTranslation(canonicalDb, target, english);
+        }
         host.setScore(Math.max(host.getScore(), english.getScore()));
         return true;
     }
@@ -1142,37 +2217,29 @@ public class DatabaseServiceImpl implements DatabaseService {
      * Elimina el lema inglés como fila standalone y como traducción anidada en todas las BD (learned incluido).
      */
     private void purgeEnglishLemmaEverywhere(String englishLemmaRaw) {
-        if (englishLemmaRaw == null) {
-            return;
-        }
-        String canon = squashWhitespace(englishLemmaRaw).trim().toLowerCase(Locale.ROOT);
+        String canon = EnglishLemmaIndex.key(englishLemmaRaw);
         if (canon.isEmpty()) {
             return;
         }
-        for (String db : new ArrayList<>(englishDatabases.keySet())) {
-            Set<EnglishExpression> bucket = englishDatabases.get(db);
-            if (bucket == null) {
-                continue;
-            }
-            bucket.removeIf(e -> e != null && e.getExpression() != null
-                    && squashWhitespace(e.getExpression()).trim().toLowerCase(Locale.ROOT).equals(canon));
-        }
-        for (String db : new ArrayList<>(spanishDatabases.keySet())) {
-            Set<SpanishExpression> spans = spanishDatabases.get(db);
-            if (spans == null) {
-                continue;
-            }
-            List<SpanishExpression> snapshot = new ArrayList<>(spans);
-            for (SpanishExpression sp : snapshot) {
-                if (sp.getTranslations() != null) {
-                    sp.getTranslations().removeIf(en -> en != null && en.getExpression() != null
-                            && squashWhitespace(en.getExpression()).trim().toLowerCase(Locale.ROOT).equals(canon));
+        Set<String> touched = new HashSet<>();
+        for (EnglishLemmaIndex.Occurrence occurrence : lemmaIndex.occurrences(canon)) {
+            String db = occurrence.database();
+            touched.add(db);
+            if (occurrence.row() instanceof EnglishExpression english) {
+                Set<EnglishExpression> bucket = englishDatabases.get(db);
+                if (bucket != null && removeRow(bucket, english)) {
+                    counters.remove(db, english);
                 }
-                if (translationsEffectivelyEmpty(sp)) {
-                    spans.remove(sp);
+            } else if (occurrence.row() instanceof SpanishExpression sp) {
+                Set<SpanishExpression> spans = spanishDatabases.get(db);
+                if (spans != null) {
+                    changeTranslations(db, spans, sp, () -> sp.getTranslations().removeIf(en -> en != null
+                            && EnglishLemmaIndex.key(en.getExpression()).equals(canon)));
                 }
             }
         }
+        lemmaIndex.removeAll(canon);
+        touched.forEach(this::markDirty);
     }
     
     @Override
@@ -1183,20 +2250,116 @@ public class DatabaseServiceImpl implements DatabaseService {
     @Override
     public void synchronizeWithRepository() {
         log.info("Synchronizing database service with repository data...");
+        long start = SYNCHRONIZE_TIMER.start();
+        int reconciled = locks.writeAll(() -> {
+            rebuildBucketsLocked();
+            loadPhase("lemmaIndex", this::buildLemmaIndex);
+            loadPhase("phraseIndex", this::buildPhraseIndex);
+            return loadPhase("reconcileScores", this::reconcileDefinitelyBelowGraduateScore);
+        });
+        finishSynchronize(reconciled, start);
+    }
+
+    /**
+     * {@link #synchronizeWithRepository()} for startup: the buckets are rebuilt on the calling thread, then the
+     * lemma and phrase indexes are built as two tasks on {@code executor}, each in a single pass over the buckets.
+     * The returned future completes once both are built and the scores reconciled; nothing may use the service
+     * before that.
+     */
+    public CompletableFuture<Void> synchronizeWithRepository(Executor executor) {
+        log.info("Synchronizing database service with repository data...");
+        long start = SYNCHRONIZE_TIMER.start();
+        locks.writeAll(this::rebuildBucketsLocked);
+        // Solo leen los buckets y cada tarea escribe en su propio índice
+        CompletableFuture<Void> lemmas = CompletableFuture.runAsync(
+                () -> locks.readAll(() -> timedIndexBuild("lemmaIndex", this::buildLemmaIndex)), executor);
+        CompletableFuture<Void> phrases = CompletableFuture.runAsync(
+                () -> locks.readAll(() -> timedIndexBuild("phraseIndex", this::buildPhraseIndex)), executor);
+        return CompletableFuture.allOf(lemmas, phrases).thenRun(() -> finishSynchronize(
+                locks.writeAll(() -> loadPhase("reconcileScores", this::reconcileDefinitelyBelowGraduateScore)),
+                start));
+    }
+
+    /** Empties everything and loads the buckets (not the lookup indexes) from the repository. */
+    private void rebuildBucketsLocked() {
         loadingFromRepository = true;
         try {
             spanishDatabases.clear();
             englishDatabases.clear();
+            lemmaIndex.clear();
+            phraseIndex.clear();
+            pruneCandidates.clear();
+            counters.clear();
+            locks.clear();
+            databaseVersions.clear();
+            snapshotCache.clear();
+            statsCache.clear();
             definitelyMasteredTotal = 0;
             initializeDefaultDatabases();
-            loadDataFromRepository();
+            loadPhase("rebuildDatabases", this::loadDataFromRepository);
         } finally {
             loadingFromRepository = false;
         }
-        reconcileDefinitelyBelowGraduateScore();
+        // Versiones y cachés se vaciaron arriba: cada BBDD toma versión nueva en su primera lectura
+    }
+
+    private void finishSynchronize(int reconciled, long start) {
+        if (reconciled > 0) {
+            gameDataService.saveGameData();
+        }
+        SYNCHRONIZE_TIMER.stop(start);
         log.info("Database synchronization completed. Available databases: {}", getAvailableDatabases());
     }
 
+    /** Indexes every row's English lemmas. Caller holds at least every read lock. */
+    private int buildLemmaIndex() {
+        int rows = 0;
+        for (Map.Entry<String, Set<SpanishExpression>> database : spanishDatabases.entrySet()) {
+            for (SpanishExpression row : database.getValue()) {
+                lemmaIndex.addPrompt(database.getKey(), row);
+                rows++;
+            }
+        }
+        for (Map.Entry<String, Set<EnglishExpression>> database : englishDatabases.entrySet()) {
+            for (EnglishExpression row : database.getValue()) {
+                lemmaIndex.addEnglish(database.getKey(), row);
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    /** Indexes every prompt row by normalized phrase. Caller holds at least every read lock. */
+    private int buildPhraseIndex() {
+        int rows = 0;
+        for (Map.Entry<String, Set<SpanishExpression>> database : spanishDatabases.entrySet()) {
+            for (SpanishExpression row : database.getValue()) {
+                phraseIndex.add(normalize(row.getExpression()), database.getKey(), row);
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private static int timedIndexBuild(String name, IntSupplier build) {
+        long start = System.nanoTime();
+        int rows = loadPhase(name, build);
+        log.info("Startup phase '{}' indexed {} rows in {} ms on {}", name, rows,
+                (System.nanoTime() - start) / 1_000_000, Thread.currentThread().getName());
+        return rows;
+    }
+
+    /** Runs one load phase inside a {@link FlightEvents.LoadPhase}; {@code phase} returns the records it handled. */
+    private static int loadPhase(String name, IntSupplier phase) {
+        FlightEvents.LoadPhase event = new FlightEvents.LoadPhase();
+        event.begin();
+        int records = phase.getAsInt();
+        event.phase = name;
+        event.records = records;
+        event.commit();
+        return records;
+    }
+
     /** Solo memoria: usado al cargar JSON; no persiste (evita sobrescribir game_data.json a medias). */
     private void ensureDatabaseBucketsInMemory(String databaseName) {
         if (databaseName == null || databaseName.trim().isEmpty()) {
@@ -1206,8 +2369,7 @@ public class DatabaseServiceImpl implements DatabaseService {
         if (resolveCanonicalDatabaseKey(name).isPresent()) {
             return;
         }
-        spanishDatabases.put(name, new HashSet<>());
-        englishDatabases.put(name, new HashSet<>());
+        putBuckets(name, new HashSet<>(), new HashSet<>());
         log.debug("Ensured in-memory buckets for database '{}'", name);
     }
     
@@ -1218,14 +2380,12 @@ public class DatabaseServiceImpl implements DatabaseService {
          * GameDataServiceImpl has no databaseService, so saveGameData falls back to a nearly
          * empty repository and overwrites game_data.json.
          */
-        spanishDatabases.put(LEARNED_WORDS_DATABASE, new HashSet<>());
-        englishDatabases.put(LEARNED_WORDS_DATABASE, new HashSet<>());
-        spanishDatabases.put(WORDS_DEFINITELY_LEARNED_DATABASE, new HashSet<>());
-        englishDatabases.put(WORDS_DEFINITELY_LEARNED_DATABASE, new HashSet<>());
+        putBuckets(LEARNED_WORDS_DATABASE, new HashSet<>(), new HashSet<>());
+        putBuckets(WORDS_DEFINITELY_LEARNED_DATABASE, new HashSet<>(), new HashSet<>());
         log.info("Initialized review databases: {}, {}", LEARNED_WORDS_DATABASE, WORDS_DEFINITELY_LEARNED_DATABASE);
     }
 
-    private Optional<String> resolveReviewDatabaseKey(String reviewDatabaseName) {
+    Optional<String> resolveReviewDatabaseKey(String reviewDatabaseName) {
         if (reviewDatabaseName == null || reviewDatabaseName.isBlank()) {
             return Optional.empty();
         }
@@ -1240,95 +2400,113 @@ public class DatabaseServiceImpl implements DatabaseService {
     /**
      * Loads data from the GameDataService repository and creates corresponding databases
      */
-    private void loadDataFromRepository() {
+    /** @return records visited */
+    private int loadDataFromRepository() {
         try {
-            // Get all data from repository
-            List<List<Map<String, Object>>> allData = gameDataService.getAllData();
-            
-            if (allData == null || allData.isEmpty()) {
+            if (gameDataService.getRepository().isEmpty()) {
                 log.debug("No data found in repository to load");
-                return;
+                return 0;
             }
             
-            // Process each record
-            for (List<Map<String, Object>> record : allData) {
-                if (record == null || record.isEmpty()) {
-                    continue;
+            // Frases ya cargadas por BBDD: el chequeo de duplicados no recorre el bucket entero por fila.
+            Map<String, Map<String, List<SpanishExpression>>> loadedPhrases = new HashMap<>();
+
+            // Visit the records in place instead of copying the whole repository first
+            int[] loaded = {0};
+            gameDataService.getRepository().forEach(record -> {
+                loadRecord(record, loadedPhrases);
+                loaded[0]++;
+            });
+            
+            log.info("Successfully loaded {} records from repository", loaded[0]);
+            return loaded[0];
+            
+        } catch (Exception e) {
+            log.error("Error loading data from repository: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private void loadRecord(List<Map<String, Object>> record,
+            Map<String, Map<String, List<SpanishExpression>>> loadedPhrases) {
+        if (record == null || record.isEmpty()) {
+            return;
+        }
+        
+        // Check if this is a database metadata record
+        Map<String, Object> firstMap = record.get(0);
+        if ("database_metadata".equals(firstMap.get("type"))) {
+            String databaseName = (String) firstMap.get("database");
+            if (databaseName != null && !databaseName.trim().isEmpty()) {
+                ensureDatabaseBucketsInMemory(databaseName);
+                if (WORDS_DEFINITELY_LEARNED_DATABASE.equalsIgnoreCase(databaseName.trim())) {
+                    definitelyMasteredTotal = getIntValue(firstMap,
+                            ReviewDatabases.METADATA_DEFINITELY_MASTERED_TOTAL, definitelyMasteredTotal);
+                }
+                log.debug("Ensured database '{}' from loaded metadata", databaseName);
+            }
+        } else {
+            // This is an expression record, find its database
+            String databaseName = (String) firstMap.get("database");
+            String language = (String) firstMap.get("language");
+            String expression = (String) firstMap.get("expression");
+            
+            if (databaseName != null && language != null && expression != null) {
+                ensureDatabaseBucketsInMemory(databaseName);
+
+                Optional<String> dbKey = resolveCanonicalDatabaseKey(databaseName);
+                if (dbKey.isEmpty()) {
+                    log.warn("Could not resolve database key for '{}' while loading JSON", databaseName);
+                    return;
                 }
                 
-                // Check if this is a database metadata record
-                Map<String, Object> firstMap = record.get(0);
-                if ("database_metadata".equals(firstMap.get("type"))) {
-                    String databaseName = (String) firstMap.get("database");
-                    if (databaseName != null && !databaseName.trim().isEmpty()) {
-                        ensureDatabaseBucketsInMemory(databaseName);
-                        if (WORDS_DEFINITELY_LEARNED_DATABASE.equalsIgnoreCase(databaseName.trim())) {
-                            definitelyMasteredTotal = getIntValue(firstMap,
-                                    ReviewDatabases.METADATA_DEFINITELY_MASTERED_TOTAL, definitelyMasteredTotal);
-                        }
-                        log.debug("Ensured database '{}' from loaded metadata", databaseName);
+                if (resolveAppGameMode().matchesPromptLanguage(language)) {
+                    // Prompt card (Spanish in classic mode, English definition in definition mode)
+                    SpanishExpression spanishExpr = promptExpressionFromLoadedMap(expression, firstMap);
+                    if (translationsEffectivelyEmpty(spanishExpr)) {
+                        log.warn("Skipping load of Spanish '{}' in '{}': no non-blank translations",
+                                expression, databaseName);
+                        return;
                     }
-                } else {
-                    // This is an expression record, find its database
-                    String databaseName = (String) firstMap.get("database");
-                    String language = (String) firstMap.get("language");
-                    String expression = (String) firstMap.get("expression");
-                    
-                    if (databaseName != null && language != null && expression != null) {
-                        ensureDatabaseBucketsInMemory(databaseName);
-
-                        Optional<String> dbKey = resolveCanonicalDatabaseKey(databaseName);
-                        if (dbKey.isEmpty()) {
-                            log.warn("Could not resolve database key for '{}' while loading JSON", databaseName);
-                            continue;
-                        }
-                        
-                        if (resolveAppGameMode().matchesPromptLanguage(language)) {
-                            // Prompt card (Spanish in classic mode, English definition in definition mode)
-                            SpanishExpression spanishExpr = new SpanishExpression();
-                            spanishExpr.setExpression(expression);
-                            spanishExpr.setScore(getIntValue(firstMap, "score", 0));
-                            
-                            // Add translations if they exist
-                            Object translationsObj = firstMap.get("translations");
-                            if (translationsObj instanceof List) {
-                                @SuppressWarnings("unchecked")
-                                List<String> translations = (List<String>) translationsObj;
-                                for (String translation : translations) {
-                                    if (translation == null || translation.trim().isEmpty()) {
-                                        continue;
-                                    }
-                                    EnglishExpression englishExpr = new EnglishExpression();
-                                    englishExpr.setExpression(translation);
-                                    englishExpr.setScore(getIntValue(firstMap, "score", 0));
-                                    spanishExpr.getTranslations().add(englishExpr);
-                                }
-                            }
-                            
-                            spanishExpr.setIncludedAtEpochMillis(getLongValue(firstMap, "included_at", 0L));
-                            if (translationsEffectivelyEmpty(spanishExpr)) {
-                                log.warn("Skipping load of Spanish '{}' in '{}': no non-blank translations",
-                                        expression, databaseName);
-                                continue;
-                            }
-                            addSpanishExpression(databaseName, spanishExpr);
-                            log.debug("Loaded Spanish expression '{}' into database '{}'", expression, databaseName);
-                        } else if ("english".equals(language)) {
-                            EnglishExpression en = englishExpressionFromLoadedMap(expression, firstMap);
-                            englishDatabases.get(dbKey.get()).add(en);
-                            log.debug("Loaded standalone English '{}' into database '{}'", expression, dbKey.get());
-                        }
+                    addLoadedSpanishExpression(dbKey.get(), spanishExpr, loadedPhrases);
+                    log.debug("Loaded Spanish expression '{}' into database '{}'", expression, databaseName);
+                } else if ("english".equals(language)) {
+                    EnglishExpression en = englishExpressionFromLoadedMap(expression, firstMap);
+                    if (englishDatabases.get(dbKey.get()).add(en)) {
+                        counters.add(dbKey.get(), en);
                     }
+                    log.debug("Loaded standalone English '{}' into database '{}'", expression, dbKey.get());
                 }
             }
-            
-            log.info("Successfully loaded {} records from repository", allData.size());
-            
-        } catch (Exception e) {
-            log.error("Error loading data from repository: {}", e.getMessage());
         }
     }
     
+    /**
+     * Same effect as {@link #addSpanishExpression} while loading, but the exact-duplicate check only looks at rows
+     * with the same normalized phrase, so loading n rows is O(n) instead of O(n²).
+     */
+    private void addLoadedSpanishExpression(String dbKey, SpanishExpression expr,
+            Map<String, Map<String, List<SpanishExpression>>> loadedPhrases) {
+        String trimmedPhrase = expr.getExpression().trim();
+        Set<SpanishExpression> bucket = spanishDatabases.get(dbKey);
+        if (trimmedPhrase.isEmpty() || bucket == null) {
+            return;
+        }
+        expr.setExpression(trimmedPhrase);
+        List<SpanishExpression> samePhrase = loadedPhrases
+                .computeIfAbsent(dbKey, k -> new HashMap<>())
+                .computeIfAbsent(normalize(trimmedPhrase), k -> new ArrayList<>());
+        if (containsExactPair(samePhrase, expr)) {
+            log.warn("Exact duplicate pair rejected in '{}': '{}'", dbKey, trimmedPhrase);
+            return;
+        }
+        if (bucket.add(expr)) {
+            samePhrase.add(expr);
+            // Los índices de búsqueda se construyen después de la carga, de una pasada cada uno
+            counters.add(dbKey, expr);
+        }
+    }
+
     /**
      * Helper method to safely get integer values from map
      */
@@ -1348,6 +2526,30 @@ public class DatabaseServiceImpl implements DatabaseService {
         return defaultValue;
     }
 
+    /** Rehydrates a prompt row from persisted JSON; its translations take the row's score. */
+    private SpanishExpression promptExpressionFromLoadedMap(String expressionText, Map<String, Object> row) {
+        SpanishExpression spanishExpr = new SpanishExpression();
+        spanishExpr.setExpression(expressionText);
+        spanishExpr.setScore(getIntValue(row, "score", 0));
+        
+        // Add translations if they exist
+        Object translationsObj = row.get("translations");
+        if (translationsObj instanceof List<?> translations) {
+            for (Object translation : translations) {
+                if (!(translation instanceof String text) || text.trim().isEmpty()) {
+                    continue;
+                }
+                EnglishExpression englishExpr = new EnglishExpression();
+                englishExpr.setExpression(text);
+                englishExpr.setScore(getIntValue(row, "score", 0));
+                spanishExpr.getTranslations().add(englishExpr);
+            }
+        }
+        
+        spanishExpr.setIncludedAtEpochMillis(getLongValue(row, "included_at", 0L));
+        return spanishExpr;
+    }
+
     /** Rehydrates a lone {@code english_expression} row (e.g. learned words) from persisted JSON. */
     private EnglishExpression englishExpressionFromLoadedMap(String expressionText, Map<String, Object> row) {
         EnglishExpression en = new EnglishExpression();
@@ -1375,122 +2577,6 @@ public class DatabaseServiceImpl implements DatabaseService {
         return en;
     }
     
-    /**
-     * Saves database metadata to the repository for persistence
-     */
-    private void enrichReviewDatabaseMetadata(String databaseName, Map<String, Object> metadata) {
-        if (WORDS_DEFINITELY_LEARNED_DATABASE.equalsIgnoreCase(databaseName)) {
-            metadata.put(ReviewDatabases.METADATA_DEFINITELY_MASTERED_TOTAL, definitelyMasteredTotal);
-        }
-    }
-
-    private void saveDatabaseMetadataToRepository(String databaseName) {
-        try {
-            Map<String, Object> metadata = new HashMap<>();
-            metadata.put("type", "database_metadata");
-            metadata.put("database", databaseName);
-            metadata.put("created_at", System.currentTimeMillis());
-            enrichReviewDatabaseMetadata(databaseName, metadata);
-
-            List<Map<String, Object>> record = Arrays.asList(metadata);
-            gameDataService.getRepository().save(record);
-            
-            log.debug("Database metadata saved to repository for '{}'", databaseName);
-        } catch (Exception e) {
-            log.error("Error saving database metadata to repository: {}", e.getMessage());
-        }
-    }
-    
-    /**
-     * Saves Spanish expression to the repository for persistence
-     */
-    private void saveExpressionToRepository(String databaseName, SpanishExpression spanishExpression) {
-        try {
-            Map<String, Object> expressionData = new HashMap<>();
-            populatePromptExpressionMap(expressionData, databaseName, spanishExpression);
-
-            List<Map<String, Object>> record = Arrays.asList(expressionData);
-            gameDataService.getRepository().save(record);
-
-            log.debug("Prompt expression '{}' saved to repository", spanishExpression.getExpression());
-        } catch (Exception e) {
-            log.error("Error saving Spanish expression to repository: {}", e.getMessage());
-        }
-    }
-    
-    /**
-     * Removes database and all its expressions from the repository
-     * Uses the same strategy as saveGameData() to ensure consistency
-     */
-    private void removeDatabaseFromRepository(String databaseName) {
-        try {
-            // Instead of manipulating repository directly, we let GameDataService
-            // rebuild the repository from current database state
-            // This ensures consistency and avoids data corruption
-            
-            // Clear the repository completely
-            gameDataService.getRepository().clear();
-            
-            // Rebuild repository from current database state (excluding deleted database)
-            List<String> databases = getAvailableDatabases();
-            
-            for (String dbName : databases) {
-                // Skip the database being deleted (it's already removed from memory)
-                if (databaseName.equals(dbName)) {
-                    continue;
-                }
-                
-                // Add database metadata
-                Map<String, Object> metadata = new HashMap<>();
-                metadata.put("type", "database_metadata");
-                metadata.put("database", dbName);
-                metadata.put("created_at", System.currentTimeMillis());
-                enrichReviewDatabaseMetadata(dbName, metadata);
-
-                List<Map<String, Object>> record = Arrays.asList(metadata);
-                gameDataService.getRepository().save(record);
-
-                // Add all Spanish expressions from this database
-                List<SpanishExpression> spanishExpressions = getSpanishExpressions(dbName);
-                for (SpanishExpression spanishExpr : spanishExpressions) {
-                    Map<String, Object> expressionData = new HashMap<>();
-                    populatePromptExpressionMap(expressionData, dbName, spanishExpr);
-
-                    List<Map<String, Object>> exprRecord = Arrays.asList(expressionData);
-                    gameDataService.getRepository().save(exprRecord);
-                }
-
-                List<EnglishExpression> loneEnglish = getEnglishExpressions(dbName);
-                for (EnglishExpression en : loneEnglish) {
-                    Map<String, Object> englishRow = new HashMap<>();
-                    englishRow.put("type", "english_expression");
-                    englishRow.put("database", dbName);
-                    englishRow.put("language", "english");
-                    englishRow.put("expression", en.getExpression());
-                    englishRow.put("score", en.getScore());
-                    List<String> spanishSources = new ArrayList<>();
-                    if (en.getTranslations() != null) {
-                        for (SpanishExpression sp : en.getTranslations()) {
-                            if (sp != null && sp.getExpression() != null && !sp.getExpression().trim().isEmpty()) {
-                                spanishSources.add(sp.getExpression().trim());
-                            }
-                        }
-                    }
-                    englishRow.put("spanish_sources", spanishSources);
-                    englishRow.put("included_at", en.getIncludedAtEpochMillis());
-                    if (en.getPracticeSourceDatabase() != null && !en.getPracticeSourceDatabase().trim().isEmpty()) {
-                        englishRow.put("practice_source_database", en.getPracticeSourceDatabase().trim());
-                    }
-                    gameDataService.getRepository().save(Arrays.asList(englishRow));
-                }
-            }
-
-            log.debug("Database '{}' and all its expressions removed from repository", databaseName);
-        } catch (Exception e) {
-            log.error("Error removing database from repository: {}", e.getMessage());
-        }
-    }
-    
     @Override
     public boolean moveSpanishExpression(String sourceDatabase, String targetDatabase, String expression) {
         Optional<String> sourceOpt = resolveCanonicalDatabaseKey(sourceDatabase);
@@ -1503,27 +2589,40 @@ public class DatabaseServiceImpl implements DatabaseService {
         String sourceDb = sourceOpt.get();
         String targetDb = targetOpt.get();
 
-        Optional<SpanishExpression> spanishExpr = spanishDatabases.get(sourceDb).stream()
-                .filter(expr -> expressionsEqualNormalized(expr.getExpression(), expression))
-                .findFirst();
+        String phrase = locks.writeAll(() -> {
+            Set<SpanishExpression> source = spanishDatabases.get(sourceDb);
+            Set<SpanishExpression> target = spanishDatabases.get(targetDb);
+            if (source == null || target == null) {
+                return null;
+            }
+            Optional<SpanishExpression> spanishExpr = source.stream()
+                    .filter(expr -> expressionsEqualNormalized(expr.getExpression(), expression))
+                    .findFirst();
 
-        if (spanishExpr.isEmpty()) {
-            log.warn("Spanish expression '{}' not found in source database '{}'", expression, sourceDb);
-            return false;
-        }
+            if (spanishExpr.isEmpty()) {
+                log.warn("Spanish expression '{}' not found in source database '{}'", expression, sourceDb);
+                return null;
+            }
+
+            SpanishExpression moved = spanishExpr.get();
+            String movedPhrase = moved.getExpression() != null ? moved.getExpression().trim() : "";
+            if (target.contains(moved)) {
+                log.warn("Target database '{}' already has exact duplicate for Spanish '{}'; move cancelled",
+                        targetDb, movedPhrase);
+                return null;
+            }
 
-        SpanishExpression moved = spanishExpr.get();
-        String phrase = moved.getExpression() != null ? moved.getExpression().trim() : "";
-        if (spanishDatabases.get(targetDb).contains(moved)) {
-            log.warn("Target database '{}' already has exact duplicate for Spanish '{}'; move cancelled",
-                    targetDb, phrase);
+            source.remove(moved);
+            target.add(moved);
+            unindexPrompt(sourceDb, moved);
+            indexPrompt(targetDb, moved);
+            markDirty(sourceDb);
+            markDirty(targetDb);
+            return movedPhrase;
+        });
+        if (phrase == null) {
             return false;
         }
-
-        spanishDatabases.get(sourceDb).remove(moved);
-        spanishDatabases.get(targetDb).add(moved);
-
-        updateRepositoryAfterMove(sourceDb, targetDb, moved, "spanish");
         gameDataService.saveGameData();
 
         log.info("Spanish expression '{}' moved from '{}' to '{}'", phrase, sourceDb, targetDb);
@@ -1542,112 +2641,48 @@ public class DatabaseServiceImpl implements DatabaseService {
         String sourceDb = sourceOpt.get();
         String targetDb = targetOpt.get();
 
-        Optional<EnglishExpression> englishExpr = englishDatabases.get(sourceDb).stream()
-                .filter(expr -> expressionsEqualNormalized(expr.getExpression(), expression))
-                .findFirst();
+        String phrase = locks.writeAll(() -> {
+            Set<EnglishExpression> source = englishDatabases.get(sourceDb);
+            Set<EnglishExpression> target = englishDatabases.get(targetDb);
+            if (source == null || target == null) {
+                return null;
+            }
+            Optional<EnglishExpression> englishExpr = source.stream()
+                    .filter(expr -> expressionsEqualNormalized(expr.getExpression(), expression))
+                    .findFirst();
 
-        if (englishExpr.isEmpty()) {
-            log.warn("English expression '{}' not found in source database '{}'", expression, sourceDb);
-            return false;
-        }
+            if (englishExpr.isEmpty()) {
+                log.warn("English expression '{}' not found in source database '{}'", expression, sourceDb);
+                return null;
+            }
 
-        EnglishExpression moved = englishExpr.get();
-        String phrase = moved.getExpression() != null ? moved.getExpression().trim() : "";
-        if (ReviewDatabases.isReviewDatabaseKey(targetDb) && !targetDb.equalsIgnoreCase(sourceDb)) {
-            moved.setPracticeSourceDatabase(sourceDb);
-        }
-        if (englishDatabases.get(targetDb).contains(moved)) {
-            log.warn("Target database '{}' already has exact duplicate for English '{}'; move cancelled",
-                    targetDb, phrase);
+            EnglishExpression moved = englishExpr.get();
+            String movedPhrase = moved.getExpression() != null ? moved.getExpression().trim() : "";
+            if (ReviewDatabases.isReviewDatabaseKey(targetDb) && !targetDb.equalsIgnoreCase(sourceDb)) {
+                moved.setPracticeSourceDatabase(sourceDb);
+            }
+            if (target.contains(moved)) {
+                log.warn("Target database '{}' already has exact duplicate for English '{}'; move cancelled",
+                        targetDb, movedPhrase);
+                return null;
+            }
+
+            source.remove(moved);
+            target.add(moved);
+            unindexEnglish(sourceDb, moved);
+            indexEnglish(targetDb, moved);
+            markDirty(sourceDb);
+            markDirty(targetDb);
+            return movedPhrase;
+        });
+        if (phrase == null) {
             return false;
         }
-
-        englishDatabases.get(sourceDb).remove(moved);
-        englishDatabases.get(targetDb).add(moved);
-
-        updateRepositoryAfterMove(sourceDb, targetDb, moved, "english");
         gameDataService.saveGameData();
 
         log.info("English expression '{}' moved from '{}' to '{}'", phrase, sourceDb, targetDb);
         return true;
     }
-    
-    /**
-     * Updates repository after moving an expression between databases
-     */
-    private void updateRepositoryAfterMove(String sourceDb, String targetDb, Object expression, String type) {
-        try {
-            // Clear repository and rebuild from current state
-            gameDataService.getRepository().clear();
-            
-            // Rebuild repository from current database state
-            List<String> databases = getAvailableDatabases();
-            
-            for (String dbName : databases) {
-                // Add database metadata
-                Map<String, Object> metadata = new HashMap<>();
-                metadata.put("type", "database_metadata");
-                metadata.put("database", dbName);
-                metadata.put("created_at", System.currentTimeMillis());
-                enrichReviewDatabaseMetadata(dbName, metadata);
-
-                List<Map<String, Object>> record = Arrays.asList(metadata);
-                gameDataService.getRepository().save(record);
-
-                // Add all Spanish expressions from this database
-                List<SpanishExpression> spanishExpressions = getSpanishExpressions(dbName);
-                for (SpanishExpression spanishExpr : spanishExpressions) {
-                    saveExpressionToRepository(dbName, spanishExpr);
-                }
-                
-                // Add all English expressions from this database
-                List<EnglishExpression> englishExpressions = getEnglishExpressions(dbName);
-                for (EnglishExpression englishExpr : englishExpressions) {
-                    saveEnglishExpressionToRepository(dbName, englishExpr);
-                }
-            }
-            
-            log.debug("Repository updated after moving {} expression from '{}' to '{}'", type, sourceDb, targetDb);
-        } catch (Exception e) {
-            log.error("Error updating repository after move: {}", e.getMessage());
-        }
-    }
-    
-    /**
-     * Saves English expression to the repository for persistence
-     */
-    private void saveEnglishExpressionToRepository(String databaseName, EnglishExpression englishExpression) {
-        try {
-            Map<String, Object> expressionData = new HashMap<>();
-            expressionData.put("type", "english_expression");
-            expressionData.put("database", databaseName);
-            expressionData.put("language", "english");
-            expressionData.put("expression", englishExpression.getExpression());
-            expressionData.put("score", englishExpression.getScore());
-            expressionData.put("included_at", englishExpression.getIncludedAtEpochMillis());
-            List<String> spanishSources = new ArrayList<>();
-            if (englishExpression.getTranslations() != null) {
-                for (SpanishExpression sp : englishExpression.getTranslations()) {
-                    if (sp != null && sp.getExpression() != null && !sp.getExpression().trim().isEmpty()) {
-                        spanishSources.add(sp.getExpression().trim());
-                    }
-                }
-            }
-            expressionData.put("spanish_sources", spanishSources);
-            if (englishExpression.getPracticeSourceDatabase() != null
-                    && !englishExpression.getPracticeSourceDatabase().trim().isEmpty()) {
-                expressionData.put("practice_source_database",
-                        englishExpression.getPracticeSourceDatabase().trim());
-            }
-
-            List<Map<String, Object>> record = Arrays.asList(expressionData);
-            gameDataService.getRepository().save(record);
-
-            log.debug("English expression '{}' saved to repository", englishExpression.getExpression());
-        } catch (Exception e) {
-            log.error("Error saving English expression to repository: {}", e.getMessage());
-        }
-    }
 
     private AppGameMode resolveAppGameMode() {
         if (gameDataService instanceof GameDataServiceImpl impl) {
@@ -1655,29 +2690,4 @@ public class DatabaseServiceImpl implements DatabaseService {
         }
         return AppGameMode.CLASSIC;
     }
-
-    private String ui(String en, String es) {
-        return UiText.t(resolveAppGameMode(), en, es);
-    }
-
-    private void populatePromptExpressionMap(Map<String, Object> expressionData, String databaseName,
-                                             SpanishExpression spanishExpression) {
-        AppGameMode mode = resolveAppGameMode();
-        expressionData.put("type", mode.getPromptExpressionType());
-        expressionData.put("database", databaseName);
-        expressionData.put("language", mode.getPromptLanguage());
-        expressionData.put("expression", spanishExpression.getExpression());
-        expressionData.put("score", spanishExpression.getScore());
-
-        List<String> translations = new ArrayList<>();
-        if (spanishExpression.getTranslations() != null) {
-            for (EnglishExpression translation : spanishExpression.getTranslations()) {
-                if (translation != null && translation.getExpression() != null) {
-                    translations.add(translation.getExpression());
-                }
-            }
-        }
-        expressionData.put("translations", translations);
-        expressionData.put("included_at", spanishExpression.getIncludedAtEpochMillis());
-    }
 }
@@ -0,0 +1,181 @@
+package com.englishgame.service.implementations;
+
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.SpanishExpression;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Where every English lemma occurs in the in-memory databases of {@link DatabaseServiceImpl}: as a translation
+ * under a prompt row, or as a standalone English row. Purge and promotion look a lemma up here instead of
+ * scanning every bucket.
+ * <p>
+ * Lemmas are keyed by {@link #key} (inner whitespace squashed, lower-cased). Occurrences compare rows by
+ * identity, because the model's equals/hashCode follow mutable content. The service updates the index next to
+ * every bucket mutation, the same way it calls markDirty. A row must never hold a lemma without an entry; the
+ * opposite (an entry whose row has since lost the lemma) is tolerated and dropped by {@link #occurrences}.
+ */
+final class EnglishLemmaIndex {
+
+    /** One row holding a lemma in one database: a {@link SpanishExpression} or an {@link EnglishExpression}. */
+    static final class Occurrence {
+        private final String database;
+        private final Object row;
+
+        private Occurrence(String database, Object row) {
+            this.database = database;
+            this.row = row;
+        }
+
+        String database() {
+            return database;
+        }
+
+        Object row() {
+            return row;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Occurrence that && row == that.row && database.equals(that.database);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * database.hashCode() + System.identityHashCode(row);
+        }
+    }
+
+    private final Map<String, Set<Occurrence>> occurrences = new ConcurrentHashMap<>();
+
+    /** Index key of an English expression: trimmed, inner whitespace squashed, lower-cased; "" for null. */
+    static String key(String expression) {
+        if (expression == null) {
+            return "";
+        }
+        String trimmed = expression.trim();
+        return trimmed.isEmpty() ? "" : String.join(" ", trimmed.split("\\s+")).toLowerCase(Locale.ROOT);
+    }
+
+    /** Indexes every translation of a prompt row stored in {@code database}. */
+    void addPrompt(String database, SpanishExpression row) {
+        if (row.getTranslations() != null) {
+            for (EnglishExpression translation : row.getTranslations()) {
+                if (translation != null) {
+                    add(key(translation.getExpression()), database, row);
+                }
+            }
+        }
+    }
+
+    /** Indexes one translation just attached to a prompt row stored in {@code database}. */
+    void addTranslation(String database, SpanishExpression row, EnglishExpression translation) {
+        add(key(translation.getExpression()), database, row);
+    }
+
+    /** Indexes a standalone English row stored in {@code database}. */
+    void addEnglish(String database, EnglishExpression row) {
+        add(key(row.getExpression()), database, row);
+    }
+
+    void removePrompt(String database, SpanishExpression row) {
+        if (row.getTranslations() != null) {
+            for (EnglishExpression translation : row.getTranslations()) {
+                if (translation != null) {
+                    remove(key(translation.getExpression()), database, row);
+                }
+            }
+        }
+    }
+
+    void removeEnglish(String database, EnglishExpression row) {
+        remove(key(row.getExpression()), database, row);
+    }
+
+    /** Drops a lemma from one row only (the row keeps its other translations). */
+    void remove(String key, String database, Object row) {
+        occurrences.computeIfPresent(key, (k, rows) -> {
+            rows.remove(new Occurrence(database, row));
+            return rows.isEmpty() ? null : rows;
+        });
+    }
+
+    /** Drops every occurrence of a lemma, after it has been purged from all databases. */
+    void removeAll(String key) {
+        occurrences.remove(key);
+    }
+
+    /** Drops every occurrence in a deleted database. Scans the whole index; databases are rarely deleted. */
+    void removeDatabase(String database) {
+        occurrences.replaceAll((k, rows) -> {
+            rows.removeIf(o -> o.database.equals(database));
+            return rows;
+        });
+        occurrences.values().removeIf(Set::isEmpty);
+    }
+
+    /** Re-keys the occurrences of a renamed database. Scans the whole index; renames are rare. */
+    void renameDatabase(String oldDatabase, String newDatabase) {
+        for (Set<Occurrence> rows : occurrences.values()) {
+            List<Occurrence> renamed = new ArrayList<>();
+            rows.removeIf(o -> o.database.equals(oldDatabase) && renamed.add(new Occurrence(newDatabase, o.row)));
+            rows.addAll(renamed);
+        }
+    }
+
+    void clear() {
+        occurrences.clear();
+    }
+
+    /**
+     * Rows currently holding {@code key}, in no particular order. Entries whose row no longer holds the lemma
+     * are dropped from the index on the way.
+     */
+    List<Occurrence> occurrences(String key) {
+        Set<Occurrence> rows = occurrences.get(key);
+        if (rows == null) {
+            return List.of();
+        }
+        List<Occurrence> live = new ArrayList<>(rows.size());
+        for (Occurrence occurrence : rows) {
+            if (holds(occurrence.row, key)) {
+                live.add(occurrence);
+            } else {
+                remove(key, occurrence.database, occurrence.row);
+            }
+        }
+        return live;
+    }
+
+    /** Number of distinct lemmas with at least one entry. */
+    int size() {
+        return occurrences.size();
+    }
+
+    private static boolean holds(Object row, String key) {
+        if (row instanceof EnglishExpression english) {
+            return key(english.getExpression()).equals(key);
+        }
+        SpanishExpression prompt = (SpanishExpression) row;
+        return prompt.getTranslations() != null && prompt.getTranslations().stream()
+                .filter(Objects::nonNull)
+                .anyMatch(en -> key(en.getExpression()).equals(key));
+    }
+
+    private void add(String key, String database, Object row) {
+        if (key.isEmpty()) {
+            return;
+        }
+        occurrences.compute(key, (k, rows) -> {
+            Set<Occurrence> updated = rows != null ? rows : ConcurrentHashMap.newKeySet();
+            updated.add(new Occurrence(database, row));
+            return updated;
+        });
+    }
+}
@@ -1,14 +1,31 @@
 package com.englishgame.service.implementations;
 
 import com.englishgame.AppGameMode;
+import com.englishgame.instrumentation.FlightEvents;
+import com.englishgame.instrumentation.Instrumentation;
+import com.englishgame.instrumentation.Timer;
+import com.englishgame.model.DatabaseSnapshot;
 import com.englishgame.model.ReviewDatabases;
+import com.englishgame.repository.implementations.DBRepositoryFactory;
 import com.englishgame.repository.interfaces.DBRepository;
 import com.englishgame.service.interfaces.GameDataService;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -19,6 +36,10 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 /**
  * Implementation of GameDataService for managing game data persistence
@@ -27,14 +48,40 @@ import java.util.Map;
 @Slf4j
 public class GameDataServiceImpl implements GameDataService {
     
-    private final DBRepository repository;
+    /**
+     * Records as last read from disk (or imported), from which {@code DatabaseService.synchronizeWithRepository}
+     * builds the in-memory databases. Not kept in step with later edits: saves and exports are built from the
+     * database snapshot instead.
+     */
+    /** Replaced whole by a load (see {@link #readRecords}), so always read through this field. */
+    private volatile DBRepository repository;
     private final ObjectMapper objectMapper;
+    /** Writes one record into an open generator; no flush per record. */
+    private final ObjectWriter recordWriter;
+    /** Reads one record from an open parser. */
+    private final ObjectReader recordReader;
+    /** Reads a whole JSON array of records (imports). */
+    private final ObjectReader recordsReader;
     private final AppGameMode appGameMode;
-    private String dataDirectory;
-    private com.englishgame.service.interfaces.DatabaseService databaseService;
+    private volatile String dataDirectory;
+    private volatile com.englishgame.service.interfaces.DatabaseService databaseService;
     private static final String DEFAULT_DATA_DIR = "data";
     private static final String GAME_DATA_FILE = "game_data.json";
     private static final String BACKUP_DIR = "backups";
+    private static final Timer SAVE_TIMER = Instrumentation.timer("data.save");
+    private static final Timer LOAD_TIMER = Instrumentation.timer("data.load");
+    private static final Timer IMPORT_TIMER = Instrumentation.timer("data.importJson");
+    /**
+     * Serializes writers (EDT saves and the shutdown hook) so they never interleave on the same file. A lock rather
+     * than a monitor: it is held across file I/O, which must not pin the carrier of a virtual thread (server mode).
+     */
+    private final ReentrantLock saveLock = new ReentrantLock();
+    /** Guards {@link #loadGate} and {@link #savePending}. */
+    private final Object gateMonitor = new Object();
+    /** Completes when the saved game is fully loaded; {@link #saveGameData()} waits for it (see deferSavesUntil). */
+    private CompletableFuture<?> loadGate = CompletableFuture.completedFuture(null);
+    /** A save was requested while {@link #loadGate} was still open; it runs once the load completes. */
+    private boolean savePending;
     
     public GameDataServiceImpl(DBRepository repository) {
         this(repository, AppGameMode.CLASSIC);
@@ -43,7 +90,14 @@ public class GameDataServiceImpl implements GameDataService {
     public GameDataServiceImpl(DBRepository repository, AppGameMode appGameMode) {
         this.repository = repository;
         this.appGameMode = appGameMode != null ? appGameMode : AppGameMode.CLASSIC;
-        this.objectMapper = new ObjectMapper();
+        // Readers resolve their deserializers on first use (the load or warmUp), not here on the caller's thread
+        this.objectMapper = new ObjectMapper().disable(DeserializationFeature.EAGER_DESERIALIZER_FETCH);
+        this.recordWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JavaType recordType = objectMapper.getTypeFactory().constructCollectionType(List.class,
+                objectMapper.getTypeFactory().constructMapType(Map.class, String.class, Object.class));
+        this.recordReader = objectMapper.readerFor(recordType);
+        this.recordsReader = objectMapper.readerFor(
+                objectMapper.getTypeFactory().constructCollectionType(List.class, recordType));
         this.dataDirectory = getAbsoluteDataDirectory();
         initializeDataDirectory();
     }
@@ -59,8 +113,46 @@ public class GameDataServiceImpl implements GameDataService {
         this.databaseService = databaseService;
     }
     
+    /**
+     * Holds back saves of the game data file until {@code loaded} completes, so nothing saved while a background
+     * load is still filling the databases overwrites {@code game_data.json} with a partial state. Saves requested
+     * meanwhile are collapsed into one, run when the load completes normally; after a failed load they are
+     * refused.
+     */
+    public void deferSavesUntil(CompletionStage<?> loaded) {
+        CompletableFuture<?> gate = loaded.toCompletableFuture();
+        synchronized (gateMonitor) {
+            loadGate = gate;
+            savePending = false;
+        }
+        gate.whenComplete((ignored, failure) -> {
+            boolean deferred;
+            synchronized (gateMonitor) {
+                deferred = savePending && loadGate == gate;
+                savePending = false;
+            }
+            if (deferred && failure == null) {
+                log.info("Game data loaded; running the save deferred during loading");
+                saveGameData();
+            } else if (deferred) {
+                log.warn("Game data failed to load; dropping the save deferred during loading");
+            }
+        });
+    }
+    
     @Override
     public boolean saveGameData() {
+        synchronized (gateMonitor) {
+            if (!loadGate.isDone()) {
+                savePending = true;
+                log.info("Game data still loading; save deferred until it completes");
+                return false;
+            }
+            if (loadGate.isCompletedExceptionally()) {
+                log.warn("Game data failed to load; not saving over {}", GAME_DATA_FILE);
+                return false;
+            }
+        }
         return saveGameDataToFile(GAME_DATA_FILE);
     }
     
@@ -76,13 +168,21 @@ public class GameDataServiceImpl implements GameDataService {
             return false;
         }
         
+        saveLock.lock();
+        long start = SAVE_TIMER.start();
+        try {
+            return writeCurrentState(filename);
+        } finally {
+            SAVE_TIMER.stop(start);
+            saveLock.unlock();
+        }
+    }
+
+    private boolean writeCurrentState(String filename) {
         try {
             if (databaseService != null) {
                 databaseService.pruneSpanishRowsWithoutTranslations();
             }
-            // Get current state from database service instead of repository
-            List<List<Map<String, Object>>> currentState = buildCurrentStateFromDatabases();
-            
             // Create data directory if it doesn't exist
             Path dataPath = Paths.get(dataDirectory);
             if (!Files.exists(dataPath)) {
@@ -90,12 +190,26 @@ public class GameDataServiceImpl implements GameDataService {
                 log.debug("Created data directory: {}", dataDirectory);
             }
             
-            // Save to JSON file
+            // Stream the current state (from the database service, not the repository) record by record
             Path filePath = dataPath.resolve(filename);
-            objectMapper.writerWithDefaultPrettyPrinter().writeValue(filePath.toFile(), currentState);
+            FlightEvents.Save event = new FlightEvents.Save();
+            event.begin();
+            int saved = writeRecords(filePath.toFile(), this::forEachCurrentRecord);
+            event.end();
+            if (event.shouldCommit()) {
+                event.file = filePath.toString();
+                event.records = saved;
+                event.bytes = Files.size(filePath);
+                event.commit();
+            }
+            
+            if (GAME_DATA_FILE.equals(filename)) {
+                // El fichero completo ya incluye todo lo que registraba el diario de la sesión de review
+                Files.deleteIfExists(dataPath.resolve(ReviewJournal.FILE_NAME));
+            }
             
             log.debug("Game data saved successfully to: {}", filePath);
-            log.info("Saved {} records to JSON file", currentState.size());
+            log.info("Saved {} records to JSON file", saved);
             return true;
             
         } catch (IOException e) {
@@ -104,6 +218,20 @@ public class GameDataServiceImpl implements GameDataService {
         }
     }
     
+    /**
+     * Appends review attempts to the session journal under the save lock. A full save deletes the journal once
+     * {@code game_data.json} is written, so an append landing between its snapshot and that delete would be lost
+     * from both; this way the append runs wholly before the save (and is in its snapshot) or after it.
+     */
+    void appendToReviewJournal(List<ReviewJournal.Entry> entries) throws IOException {
+        saveLock.lock();
+        try {
+            ReviewJournal.in(dataDirectory).append(entries);
+        } finally {
+            saveLock.unlock();
+        }
+    }
+    
     @Override
     public boolean loadGameDataFromFile(String filename) {
         if (filename == null || filename.trim().isEmpty()) {
@@ -111,6 +239,7 @@ public class GameDataServiceImpl implements GameDataService {
             return false;
         }
         
+        long start = LOAD_TIMER.start();
         try {
             Path filePath = Paths.get(dataDirectory, filename);
             log.info("Attempting to load game data from: {}", filePath.toAbsolutePath());
@@ -120,27 +249,18 @@ public class GameDataServiceImpl implements GameDataService {
                 return false;
             }
             
-            // Read JSON file
-            @SuppressWarnings("unchecked")
-            List<List<Map<String, Object>>> loadedData = objectMapper.readValue(
-                filePath.toFile(), 
-                objectMapper.getTypeFactory().constructCollectionType(List.class, 
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class))
-            );
-            
-            // Clear current repository and load new data
-            repository.clear();
-            for (List<Map<String, Object>> record : loadedData) {
-                repository.save(record);
-            }
+            // Stream the JSON file into a cleared repository
+            int loaded = readRecords(filePath.toFile());
             
             log.debug("Game data loaded successfully from: {}", filePath);
-            log.info("Loaded {} records from JSON file", loadedData.size());
+            log.info("Loaded {} records from JSON file", loaded);
             return true;
             
         } catch (IOException e) {
             log.error("Error loading game data from file '{}': {}", filename, e.getMessage());
             return false;
+        } finally {
+            LOAD_TIMER.stop(start);
         }
     }
     
@@ -157,8 +277,7 @@ public class GameDataServiceImpl implements GameDataService {
             }
             
             Path backupFilePath = backupPath.resolve(backupFilename);
-            List<List<Map<String, Object>>> allData = repository.findAll();
-            objectMapper.writerWithDefaultPrettyPrinter().writeValue(backupFilePath.toFile(), allData);
+            writeRecords(backupFilePath.toFile(), this::forEachCurrentRecord);
             
             log.debug("Backup created successfully: {}", backupFilePath);
             return true;
@@ -195,17 +314,8 @@ public class GameDataServiceImpl implements GameDataService {
             }
             
             // Load from backup
-            @SuppressWarnings("unchecked")
-            List<List<Map<String, Object>>> backupData = objectMapper.readValue(
-                latestBackup, 
-                objectMapper.getTypeFactory().constructCollectionType(List.class, 
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class))
-            );
-            
-            repository.clear();
-            for (List<Map<String, Object>> record : backupData) {
-                repository.save(record);
-            }
+            readRecords(latestBackup);
+            synchronizeDatabases();
             
             log.debug("Game data restored from backup: {}", latestBackup.getName());
             return true;
@@ -256,14 +366,46 @@ public class GameDataServiceImpl implements GameDataService {
     @Override
     public String exportToJSON() {
         try {
-            List<List<Map<String, Object>>> allData = repository.findAll();
-            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(allData);
+            StringWriter json = new StringWriter();
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(json)) {
+                writeRecords(generator, this::forEachCurrentRecord);
+            }
+            return json.toString();
         } catch (IOException e) {
             log.error("Error exporting to JSON: {}", e.getMessage());
             return null;
         }
     }
     
+    /**
+     * Builds Jackson's serializers and deserializers for the record shape ahead of time by writing and reading
+     * one sample record in memory, so the first save or import does not pay for it. Touches no file and leaves
+     * the repository alone; meant for a background thread during startup.
+     */
+    public void warmUp() {
+        Map<String, Object> sample = new HashMap<>();
+        sample.put("type", "spanish_expression");
+        sample.put("expression", "warm-up");
+        sample.put("score", 0);
+        sample.put("created_at", 0L);
+        sample.put("translations", List.of("warm-up"));
+        List<Map<String, Object>> record = List.of(sample);
+        try {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(OutputStream.nullOutputStream())) {
+                writeRecords(generator, write -> write.accept(record));
+            }
+            String json = recordWriter.writeValueAsString(List.of(record));
+            recordsReader.readValue(json);
+            try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+                parser.nextToken();
+                parser.nextToken();
+                recordReader.readValue(parser);
+            }
+        } catch (IOException e) {
+            log.debug("JSON warm-up failed: {}", e.getMessage());
+        }
+    }
+    
     @Override
     public boolean importFromJSON(String jsonData) {
         if (jsonData == null || jsonData.trim().isEmpty()) {
@@ -271,18 +413,15 @@ public class GameDataServiceImpl implements GameDataService {
             return false;
         }
         
+        long start = IMPORT_TIMER.start();
         try {
-            @SuppressWarnings("unchecked")
-            List<List<Map<String, Object>>> importedData = objectMapper.readValue(
-                jsonData, 
-                objectMapper.getTypeFactory().constructCollectionType(List.class, 
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class))
-            );
+            List<List<Map<String, Object>>> importedData = recordsReader.readValue(jsonData);
             
             repository.clear();
             for (List<Map<String, Object>> record : importedData) {
                 repository.save(record);
             }
+            synchronizeDatabases();
             
             log.debug("Game data imported successfully from JSON");
             return true;
@@ -290,12 +429,31 @@ public class GameDataServiceImpl implements GameDataService {
         } catch (IOException e) {
             log.error("Error importing from JSON: {}", e.getMessage());
             return false;
+        } finally {
+            IMPORT_TIMER.stop(start);
         }
     }
     
     @Override
     public List<List<Map<String, Object>>> getAllData() {
-        return repository.findAll();
+        List<List<Map<String, Object>>> records = new ArrayList<>();
+        forEachCurrentRecord(records::add);
+        return records;
+    }
+    
+    @Override
+    public void forEachRecord(Consumer<List<Map<String, Object>>> action) {
+        forEachCurrentRecord(action);
+    }
+    
+    /**
+     * Saves are built from the database service, not the repository: after replacing the repository contents the
+     * in-memory databases must be rebuilt from them, or the next save would write the old data back.
+     */
+    private void synchronizeDatabases() {
+        if (databaseService != null) {
+            databaseService.synchronizeWithRepository();
+        }
     }
     
     @Override
@@ -357,21 +515,20 @@ public class GameDataServiceImpl implements GameDataService {
     }
     
     /**
-     * Builds current state from database service instead of repository
-     * This prevents duplicate records
+     * Visits the current state, built from an immutable database snapshot instead of repository
+     * This prevents duplicate records and needs no lock while serializing
      */
-    private List<List<Map<String, Object>>> buildCurrentStateFromDatabases() {
-        List<List<Map<String, Object>>> currentState = new ArrayList<>();
-        
+    private void forEachCurrentRecord(Consumer<List<Map<String, Object>>> currentState) {
         if (databaseService == null) {
             log.warn("Database service not set, falling back to repository");
-            return repository.findAll();
+            repository.forEach(currentState);
+            return;
         }
         
-        // Get all available databases
-        List<String> databases = databaseService.getAvailableDatabases();
+        DatabaseSnapshot snapshot = databaseService.snapshot();
         
-        for (String databaseName : databases) {
+        for (DatabaseSnapshot.Database database : snapshot.databases()) {
+            String databaseName = database.name();
             // Add database metadata
             Map<String, Object> metadata = new HashMap<>();
             metadata.put("type", "database_metadata");
@@ -379,27 +536,23 @@ public class GameDataServiceImpl implements GameDataService {
             metadata.put("created_at", System.currentTimeMillis());
             if (ReviewDatabases.WORDS_DEFINITELY_LEARNED_KEY.equalsIgnoreCase(databaseName)) {
                 metadata.put(ReviewDatabases.METADATA_DEFINITELY_MASTERED_TOTAL,
-                        databaseService.getWordsDefinitelyMasteredTotal());
+                        snapshot.wordsDefinitelyMasteredTotal());
             }
-            currentState.add(Arrays.asList(metadata));
+            currentState.accept(Arrays.asList(metadata));
             
             // Add all Spanish expressions from this database
-            List<com.englishgame.model.SpanishExpression> spanishExpressions = databaseService.getSpanishExpressions(databaseName);
-            for (com.englishgame.model.SpanishExpression spanishExpr : spanishExpressions) {
+            for (DatabaseSnapshot.PromptRow spanishExpr : database.promptRows()) {
                 // Add translations
                 List<String> translations = new ArrayList<>();
-                if (spanishExpr.getTranslations() != null) {
-                    for (com.englishgame.model.EnglishExpression translation : spanishExpr.getTranslations()) {
-                        if (translation == null || translation.getExpression() == null
-                                || translation.getExpression().trim().isEmpty()) {
-                            continue;
-                        }
-                        translations.add(translation.getExpression());
+                for (DatabaseSnapshot.Translation translation : spanishExpr.translations()) {
+                    if (translation.expression() == null || translation.expression().trim().isEmpty()) {
+                        continue;
                     }
+                    translations.add(translation.expression());
                 }
                 if (translations.isEmpty()) {
                     log.debug("Omitiendo persistencia de '{}' en '{}': español sin traducciones válidas",
-                            spanishExpr.getExpression(), databaseName);
+                            spanishExpr.expression(), databaseName);
                     continue;
                 }
 
@@ -407,42 +560,87 @@ public class GameDataServiceImpl implements GameDataService {
                 expressionData.put("type", appGameMode.getPromptExpressionType());
                 expressionData.put("database", databaseName);
                 expressionData.put("language", appGameMode.getPromptLanguage());
-                expressionData.put("expression", spanishExpr.getExpression());
-                expressionData.put("score", spanishExpr.getScore());
+                expressionData.put("expression", spanishExpr.expression());
+                expressionData.put("score", spanishExpr.score());
                 expressionData.put("translations", translations);
-                expressionData.put("included_at", spanishExpr.getIncludedAtEpochMillis());
+                expressionData.put("included_at", spanishExpr.includedAtEpochMillis());
 
-                currentState.add(Arrays.asList(expressionData));
+                currentState.accept(Arrays.asList(expressionData));
             }
 
             // Standalone English rows (learned_words and any other english-only bucket)
-            List<com.englishgame.model.EnglishExpression> loneEnglish =
-                    databaseService.getEnglishExpressions(databaseName);
-            for (com.englishgame.model.EnglishExpression en : loneEnglish) {
+            for (DatabaseSnapshot.EnglishRow en : database.englishRows()) {
                 Map<String, Object> row = new HashMap<>();
                 row.put("type", "english_expression");
                 row.put("database", databaseName);
                 row.put("language", "english");
-                row.put("expression", en.getExpression());
-                row.put("score", en.getScore());
-                List<String> spanishSources = new ArrayList<>();
-                if (en.getTranslations() != null) {
-                    for (com.englishgame.model.SpanishExpression sp : en.getTranslations()) {
-                        if (sp != null && sp.getExpression() != null && !sp.getExpression().trim().isEmpty()) {
-                            spanishSources.add(sp.getExpression().trim());
-                        }
-                    }
-                }
-                row.put("spanish_sources", spanishSources);
-                row.put("included_at", en.getIncludedAtEpochMillis());
-                if (en.getPracticeSourceDatabase() != null && !en.getPracticeSourceDatabase().trim().isEmpty()) {
-                    row.put("practice_source_database", en.getPracticeSourceDatabase().trim());
+                row.put("expression", en.expression());
+                row.put("score", en.score());
+                row.put("spanish_sources", en.spanishSources());
+                row.put("included_at", en.includedAtEpochMillis());
+                if (en.practiceSourceDatabase() != null) {
+                    row.put("practice_source_database", en.practiceSourceDatabase());
                 }
-                currentState.add(Arrays.asList(row));
+                currentState.accept(Arrays.asList(row));
             }
         }
 
-        log.debug("Built current state with {} records from {} databases", currentState.size(), databases.size());
-        return currentState;
+        log.debug("Visited current state of {} databases (snapshot v{})", snapshot.databases().size(),
+                snapshot.version());
+    }
+
+    /** Writes the visited records as a pretty-printed JSON array, one record at a time. */
+    private int writeRecords(File file, Consumer<Consumer<List<Map<String, Object>>>> records) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(file, JsonEncoding.UTF8)) {
+            return writeRecords(generator, records);
+        }
+    }
+
+    private int writeRecords(JsonGenerator generator, Consumer<Consumer<List<Map<String, Object>>>> records)
+            throws IOException {
+        generator.useDefaultPrettyPrinter();
+        generator.writeStartArray();
+        int[] written = {0};
+        try {
+            records.accept(record -> {
+                try {
+                    recordWriter.writeValue(generator, record);
+                    written[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        generator.writeEndArray();
+        return written[0];
+    }
+
+    /**
+     * Replaces the repository with the records of a JSON array file, parsed one record at a time so the file text
+     * is never held in memory. Records go straight into a fresh repository of the same kind, swapped in only once
+     * the whole file has parsed; a corrupt or truncated file leaves the current one as it was.
+     */
+    private int readRecords(File file) throws IOException {
+        FlightEvents.LoadPhase event = new FlightEvents.LoadPhase();
+        event.begin();
+        DBRepository staged = DBRepositoryFactory.createLike(repository);
+        try (JsonParser parser = objectMapper.getFactory().createParser(file)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array of records in " + file.getName());
+            }
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                if (token == null) {
+                    throw new IOException("Unexpected end of " + file.getName());
+                }
+                staged.save(recordReader.readValue(parser));
+            }
+        }
+        repository = staged;
+        event.phase = "readFile";
+        event.records = staged.size();
+        event.commit();
+        return staged.size();
     }
 }
@@ -1,5 +1,6 @@
 package com.englishgame.service.implementations;
 
+import com.englishgame.instrumentation.FlightEvents;
 import com.englishgame.model.SpanishExpression;
 import com.englishgame.model.EnglishExpression;
 import com.englishgame.model.CorrectAnswerOutcome;
@@ -52,11 +53,18 @@ public class GameLogicServiceImpl implements GameLogicService {
         if (databaseName == null || databaseName.isBlank() || databaseService == null) {
             return List.of(anchor);
         }
+        FlightEvents.CohortResolution event = new FlightEvents.CohortResolution();
+        event.begin();
         String needle = normalizeSpanishPhrase(anchor.getExpression());
-        List<SpanishExpression> cohort = databaseService.getSpanishExpressions(databaseName).stream()
+        List<SpanishExpression> candidates = databaseService.getSpanishExpressions(databaseName);
+        List<SpanishExpression> cohort = candidates.stream()
                 .filter(e -> e != null && e.getExpression() != null
                         && normalizeSpanishPhrase(e.getExpression()).equals(needle))
                 .collect(Collectors.toList());
+        event.database = databaseName;
+        event.scanned = candidates.size();
+        event.cohortSize = cohort.size();
+        event.commit();
         return cohort.isEmpty() ? List.of(anchor) : cohort;
     }
 
@@ -117,12 +125,18 @@ public class GameLogicServiceImpl implements GameLogicService {
             log.warn("Invalid parameters for translation validation");
             return false;
         }
+        FlightEvents.AnswerValidation event = new FlightEvents.AnswerValidation();
+        event.begin();
         String userTrim = userTranslation.trim();
         List<SpanishExpression> cohort = spanishPhraseCohort(practiceDatabaseName, promptCard);
         boolean isValid = cohort.stream()
                 .filter(e -> e.getTranslations() != null)
                 .flatMap(e -> e.getTranslations().stream())
                 .anyMatch(en -> englishMatchesUser(userTrim, en));
+        event.database = practiceDatabaseName;
+        event.cohortSize = cohort.size();
+        event.correct = isValid;
+        event.commit();
         log.debug("Validating '{}' for '{}' ({} cohort records): {}",
                 userTrim, promptCard.getExpression(), cohort.size(), isValid);
         return isValid;
@@ -150,6 +164,7 @@ public class GameLogicServiceImpl implements GameLogicService {
                 expr.setScore(expr.getScore() + 1);
                 log.debug("Added 1 point to English '{}'. New score: {}",
                         englishExpr.getExpression(), englishExpr.getScore());
+                markScoresChanged(practiceDatabaseName, List.of(expr));
 
                 boolean promoted = false;
                 if (isExpressionLearned(englishExpr)
@@ -192,6 +207,7 @@ public class GameLogicServiceImpl implements GameLogicService {
             log.debug("Phrase score penalty for '{}' (score {} -> {})",
                     expr.getExpression(), phraseScoreBefore, expr.getScore());
         }
+        markScoresChanged(practiceDatabaseName, cohort);
         return promptCard.getTranslations() != null ? promptCard.getTranslations() : Collections.emptyList();
     }
 
@@ -200,6 +216,13 @@ public class GameLogicServiceImpl implements GameLogicService {
         return new ArrayList<>(spanishPhraseCohort(practiceDatabaseName, anchor));
     }
     
+    /** Scores are mutated on the shared model objects, so the database snapshot and stats have to be told. */
+    private void markScoresChanged(String practiceDatabaseName, List<SpanishExpression> rows) {
+        if (databaseService != null && practiceDatabaseName != null) {
+            databaseService.markScoresModified(practiceDatabaseName, rows);
+        }
+    }
+    
     /**
      * Calculates dynamic penalty based on current score
      * @param currentScore the current score of the expression
@@ -0,0 +1,85 @@
+package com.englishgame.service.implementations;
+
+import com.englishgame.model.SpanishExpression;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Prompt rows of {@link DatabaseServiceImpl} that may have been left without translations, per database, so
+ * {@link DatabaseServiceImpl#pruneSpanishRowsWithoutTranslations()} inspects only those instead of every row.
+ * <p>
+ * Rows are registered when they enter a bucket with nothing to translate them to, or when their translation list
+ * is changed outside the service ({@link DatabaseServiceImpl#markTranslationsModified}). Score-only changes register
+ * nothing; only databases mutated in unknown ways ({@link DatabaseServiceImpl#markModified}) are flagged whole.
+ * Rows compare by identity, like in {@link EnglishLemmaIndex}; row sets are only touched under the owning
+ * database's write lock.
+ */
+final class PruneCandidates {
+
+    /** What one database needs inspected: all of it, or just {@code rows}. */
+    record Batch(boolean wholeDatabase, List<SpanishExpression> rows) {
+        static final Batch NONE = new Batch(false, List.of());
+    }
+
+    private final Map<String, Set<SpanishExpression>> rows = new ConcurrentHashMap<>();
+    private final Set<String> wholeDatabases = ConcurrentHashMap.newKeySet();
+
+    void markRow(String database, SpanishExpression row) {
+        rows.computeIfAbsent(database, db -> Collections.newSetFromMap(new IdentityHashMap<>())).add(row);
+    }
+
+    /** The row left its bucket; nothing to prune any more. */
+    void remove(String database, SpanishExpression row) {
+        Set<SpanishExpression> pending = rows.get(database);
+        if (pending != null) {
+            pending.remove(row);
+        }
+    }
+
+    void markDatabase(String database) {
+        wholeDatabases.add(database);
+    }
+
+    void removeDatabase(String database) {
+        rows.remove(database);
+        wholeDatabases.remove(database);
+    }
+
+    void renameDatabase(String oldDatabase, String newDatabase) {
+        Set<SpanishExpression> pending = rows.remove(oldDatabase);
+        if (pending != null) {
+            rows.put(newDatabase, pending);
+        }
+        if (wholeDatabases.remove(oldDatabase)) {
+            wholeDatabases.add(newDatabase);
+        }
+    }
+
+    void clear() {
+        rows.clear();
+        wholeDatabases.clear();
+    }
+
+    /** Databases with something to inspect. */
+    Set<String> databases() {
+        Set<String> databases = new HashSet<>(rows.keySet());
+        databases.addAll(wholeDatabases);
+        return databases;
+    }
+
+    /** Takes and forgets what {@code database} needs inspected. */
+    Batch drain(String database) {
+        boolean whole = wholeDatabases.remove(database);
+        Set<SpanishExpression> pending = rows.remove(database);
+        if (!whole && (pending == null || pending.isEmpty())) {
+            return Batch.NONE;
+        }
+        return new Batch(whole, whole || pending == null ? List.of() : List.copyOf(pending));
+    }
+}
@@ -0,0 +1,136 @@
+package com.englishgame.service.implementations;
+
+import com.englishgame.model.LearnedWordsReviewResult;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only file of changes not yet in the game data file, one JSON object per line: review outcomes, written by
+ * a {@link ReviewSessionImpl} at checkpoints, and the rows put back or taken out by undo/redo. Replayed in order by
+ * {@link DatabaseServiceImpl#recoverReviewSession()} after a crash, and deleted by every full save (which
+ * supersedes it).
+ * <p>
+ * Entries describe where a card or row ended up, not the answer typed or the button pressed, so replaying one that
+ * the game data file already reflects is a no-op. A line torn by a crash mid-append is ignored.
+ */
+@Slf4j
+final class ReviewJournal {
+
+    static final String FILE_NAME = "review_session.journal";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectWriter ENTRY_WRITER = MAPPER.writerFor(Entry.class);
+    private static final ObjectReader ENTRY_READER = MAPPER.readerFor(Entry.class);
+
+    /** Undo/redo edits the journal can carry; see {@link Entry#rows}. */
+    enum Change {
+        /** {@code rows} went back into {@code database}. */
+        RESTORED,
+        /** {@code rows} were taken out of {@code database}. */
+        WITHDRAWN,
+        /** {@code database} exists again (created if missing) and holds {@code rows}. */
+        DATABASE_RESTORED,
+        /** {@code database} is gone. */
+        DATABASE_DROPPED,
+        /** The learned card in {@code rows} left practice database {@code database} for learned words again. */
+        DEMOTION_UNDONE,
+        /** The learned card in {@code rows} went back to practice database {@code database} with its score. */
+        DEMOTION_REDONE
+    }
+
+    /**
+     * One journaled change. A review entry ({@link #review}) is the outcome of one attempt on the card
+     * {@code expression} of review database {@code database}: its score after the attempt and, for demotions, the
+     * practice database it went back to. An edit entry ({@link #edit}) has a {@code change} and its {@code rows},
+     * in the same record shape as the game data file.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Entry(String database, String expression, LearnedWordsReviewResult.Outcome outcome, int score,
+            String practiceDatabase, Change change, List<Map<String, Object>> rows) {
+
+        static Entry review(String database, String expression, LearnedWordsReviewResult.Outcome outcome, int score,
+                String practiceDatabase) {
+            return new Entry(database, expression, outcome, score, practiceDatabase, null, null);
+        }
+
+        static Entry edit(String database, Change change, List<Map<String, Object>> rows) {
+            return new Entry(database, null, null, 0, null, change, rows);
+        }
+    }
+
+    private final Path file;
+
+    ReviewJournal(Path file) {
+        this.file = file;
+    }
+
+    static ReviewJournal in(String dataDirectory) {
+        return new ReviewJournal(Path.of(dataDirectory).resolve(FILE_NAME));
+    }
+
+    Path file() {
+        return file;
+    }
+
+    boolean exists() {
+        return Files.exists(file);
+    }
+
+    /** Appends the entries and forces them to disk before returning. */
+    void append(List<Entry> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (Entry entry : entries) {
+            lines.append(ENTRY_WRITER.writeValueAsString(entry)).append('\n');
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        }
+    }
+
+    /** Entries in the order they were appended; empty when there is no journal. */
+    List<Entry> read() throws IOException {
+        if (!exists()) {
+            return List.of();
+        }
+        List<Entry> entries = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                entries.add(ENTRY_READER.readValue(line));
+            } catch (JsonProcessingException e) {
+                log.warn("Ignoring unreadable review journal line ({}): {}", e.getOriginalMessage(), line);
+            }
+        }
+        return entries;
+    }
+
+    void delete() throws IOException {
+        Files.deleteIfExists(file);
+    }
+}
@@ -0,0 +1,101 @@
+package com.englishgame.service.implementations;
+
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.LearnedWordsReviewResult;
+import com.englishgame.service.interfaces.GameDataService;
+import com.englishgame.service.interfaces.ReviewSession;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link ReviewSession} over {@link DatabaseServiceImpl}: attempts are applied without saving and journaled every
+ * {@link #CHECKPOINT_EVERY} attempts, or before the service journals an edit; closing saves the game data, which
+ * deletes the journal.
+ */
+@Slf4j
+final class ReviewSessionImpl implements ReviewSession {
+
+    /** Attempts between automatic checkpoints: at most this many answers are lost on a crash. */
+    static final int CHECKPOINT_EVERY = 10;
+
+    private final DatabaseServiceImpl databaseService;
+    private final GameDataService gameDataService;
+    private final boolean requirePracticeSourceMatch;
+    private final List<ReviewJournal.Entry> pending = new ArrayList<>();
+    private int applied;
+    private boolean closed;
+
+    ReviewSessionImpl(DatabaseServiceImpl databaseService, GameDataService gameDataService,
+            boolean requirePracticeSourceMatch) {
+        this.databaseService = databaseService;
+        this.gameDataService = gameDataService;
+        this.requirePracticeSourceMatch = requirePracticeSourceMatch;
+    }
+
+    @Override
+    public Optional<LearnedWordsReviewResult> submit(EnglishExpression learnedCard, String userAnswer,
+            String reviewDatabaseName, String userSelectedPracticeDatabase) {
+        if (closed) {
+            throw new IllegalStateException("Review session already closed");
+        }
+        String expression = learnedCard == null ? null : learnedCard.getExpression();
+        Optional<LearnedWordsReviewResult> result = databaseService.applyReviewAttempt(learnedCard, userAnswer,
+                reviewDatabaseName, requirePracticeSourceMatch, userSelectedPracticeDatabase);
+        result.ifPresent(r -> {
+            applied++;
+            String database = databaseService.resolveReviewDatabaseKey(reviewDatabaseName)
+                    .orElse(reviewDatabaseName.trim());
+            pending.add(ReviewJournal.Entry.review(database, expression, r.outcome(), r.scoreAfter(),
+                    r.restoredToPracticeDatabase()));
+            if (pending.size() >= CHECKPOINT_EVERY) {
+                checkpoint();
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void checkpoint() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            databaseService.appendJournal(pending);
+            log.debug("Review checkpoint: {} attempt(s) journaled", pending.size());
+            pending.clear();
+        } catch (IOException e) {
+            // Sin diario no hay recuperación: mejor pagar un guardado completo que arriesgar las respuestas.
+            log.warn("Could not append to the review journal ({}); saving the game data instead", e.getMessage());
+            if (gameDataService.saveGameData()) {
+                pending.clear();
+            }
+        }
+    }
+
+    @Override
+    public int pendingAttempts() {
+        return pending.size();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        databaseService.sessionClosed(this);
+        if (applied == 0) {
+            return;
+        }
+        if (gameDataService.saveGameData()) {
+            pending.clear();
+            log.info("Review session closed after {} attempt(s)", applied);
+        } else {
+            checkpoint();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.englishgame.service.implementations;
+
+import com.englishgame.model.SpanishExpression;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Normalized prompt phrase → databases holding a row with that phrase → those rows, for the in-memory
+ * databases of {@link DatabaseServiceImpl}. Backs the lookups that used to stream every phrase of every database:
+ * where a failed review card goes back to, and which row it is attached under.
+ * <p>
+ * Rows compare by identity, like in {@link EnglishLemmaIndex}. A row's phrase does not change once it is in a
+ * bucket, so the index is exact as long as the service reports every row entering or leaving a bucket. Updates
+ * are atomic per phrase; lookups are made with every database locked.
+ */
+final class SpanishPhraseIndex {
+
+    private final Map<String, Map<String, Set<SpanishExpression>>> phrases = new ConcurrentHashMap<>();
+
+    void add(String phrase, String database, SpanishExpression row) {
+        if (phrase.isEmpty()) {
+            return;
+        }
+        phrases.compute(phrase, (k, databases) -> {
+            Map<String, Set<SpanishExpression>> updated = databases != null ? databases : new HashMap<>();
+            updated.computeIfAbsent(database, db -> Collections.newSetFromMap(new IdentityHashMap<>())).add(row);
+            return updated;
+        });
+    }
+
+    void remove(String phrase, String database, SpanishExpression row) {
+        phrases.computeIfPresent(phrase, (k, databases) -> {
+            Set<SpanishExpression> rows = databases.get(database);
+            if (rows != null && rows.remove(row) && rows.isEmpty()) {
+                databases.remove(database);
+            }
+            return databases.isEmpty() ? null : databases;
+        });
+    }
+
+    /** Drops a deleted database. Scans the whole index; databases are rarely deleted. */
+    void removeDatabase(String database) {
+        for (String phrase : phrases.keySet()) {
+            phrases.computeIfPresent(phrase, (k, databases) -> {
+                databases.remove(database);
+                return databases.isEmpty() ? null : databases;
+            });
+        }
+    }
+
+    /** Re-keys a renamed database. Scans the whole index; renames are rare. */
+    void renameDatabase(String oldDatabase, String newDatabase) {
+        for (String phrase : phrases.keySet()) {
+            phrases.computeIfPresent(phrase, (k, databases) -> {
+                Set<SpanishExpression> rows = databases.remove(oldDatabase);
+                if (rows != null) {
+                    databases.put(newDatabase, rows);
+                }
+                return databases;
+            });
+        }
+    }
+
+    void clear() {
+        phrases.clear();
+    }
+
+    /** Databases with at least one row for {@code phrase}, in no particular order. */
+    List<String> databases(String phrase) {
+        Map<String, Set<SpanishExpression>> databases = phrases.get(phrase);
+        return databases == null ? List.of() : List.copyOf(databases.keySet());
+    }
+
+    /** Every row of {@code database} with {@code phrase}. */
+    List<SpanishExpression> rows(String phrase, String database) {
+        Map<String, Set<SpanishExpression>> databases = phrases.get(phrase);
+        Set<SpanishExpression> rows = databases == null ? null : databases.get(database);
+        return rows == null ? List.of() : List.copyOf(rows);
+    }
+
+    /** Some row of {@code database} with {@code phrase}; which one is unspecified when there are several. */
+    Optional<SpanishExpression> anyRow(String phrase, String database) {
+        Map<String, Set<SpanishExpression>> databases = phrases.get(phrase);
+        Set<SpanishExpression> rows = databases == null ? null : databases.get(database);
+        return rows == null ? Optional.empty() : rows.stream().findFirst();
+    }
+}
@@ -1,10 +1,18 @@
 package com.englishgame.service.interfaces;
 
+import com.englishgame.model.DatabaseSnapshot;
+import com.englishgame.model.DatabaseStats;
+import com.englishgame.model.DetachedRows;
+import com.englishgame.model.EngineWarning;
+import com.englishgame.model.ExpressionBatchResult;
 import com.englishgame.model.LearnedWordsReviewResult;
 import com.englishgame.model.SpanishExpression;
 import com.englishgame.model.EnglishExpression;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing game databases
@@ -26,6 +34,12 @@ public interface DatabaseService {
      */
     boolean deleteDatabase(String databaseName);
 
+    /**
+     * Deletes a database like {@link #deleteDatabase}, handing back the rows it held so the deletion can be undone.
+     * @return the removed rows (no copy is made), or empty if nothing was deleted
+     */
+    Optional<DetachedRows> detachDatabase(String databaseName);
+
     /**
      * Renames an existing vocabulary database (not {@link #getLearnedWordsDatabaseName()}).
      * {@code newName} must not collide with another database when compared case‑ and outer‑space insensitive.
@@ -115,6 +129,44 @@ public interface DatabaseService {
      * @return true if removed successfully, false otherwise
      */
     boolean removeEnglishExpression(String databaseName, String expression);
+
+    /**
+     * Deletes several expressions of a database in one go, with a single save. Like
+     * {@link #removeSpanishExpression}, each expression removes every prompt row with that phrase; one with no prompt
+     * row removes the standalone English rows with that text instead.
+     * @param databaseName name of the database
+     * @param expressions  expressions to delete
+     * @return what was deleted, including the removed rows
+     */
+    ExpressionBatchResult deleteExpressions(String databaseName, Collection<String> expressions);
+
+    /**
+     * Moves several expressions between databases in one go, with a single save. Like
+     * {@link #moveSpanishExpression}, each expression moves one prompt row with that phrase, or failing that one
+     * standalone English row; a row the target already holds stays where it is.
+     * @return what was moved, including the moved rows
+     */
+    ExpressionBatchResult moveExpressions(String sourceDatabase, String targetDatabase,
+                                          Collection<String> expressions);
+
+    /**
+     * Puts back rows taken out earlier (undoing a delete or a move): the same objects, with their scores and
+     * translations. Rows the database already holds are skipped. Persisted as one journal entry, not a full save
+     * (see {@link #recoverReviewSession}).
+     * @param databaseName name of the database
+     * @return number of rows put back
+     */
+    int restoreExpressions(String databaseName, Collection<SpanishExpression> spanishRows,
+                           Collection<EnglishExpression> englishRows);
+
+    /**
+     * Takes exactly these rows out of a database (redoing a delete, undoing a move). Persisted as one journal entry,
+     * like {@link #restoreExpressions}.
+     * @param databaseName name of the database
+     * @return number of rows taken out
+     */
+    int withdrawExpressions(String databaseName, Collection<SpanishExpression> spanishRows,
+                            Collection<EnglishExpression> englishRows);
     
     /**
      * Gets a random Spanish expression from a database
@@ -200,6 +252,32 @@ public interface DatabaseService {
     boolean promoteTranslationToLearned(String practiceDatabaseName, SpanishExpression hostPhrase,
                                          EnglishExpression englishTranslation);
 
+    /**
+     * Undoes a review demotion: lifts {@code englishTranslation} of the phrase {@code spanishPhrase} out of the
+     * practice database back into {@link #getLearnedWordsDatabaseName()} with {@code score}, like
+     * {@link #promoteTranslationToLearned} but not counted as a promotion. Persisted as one journal entry.
+     *
+     * @return the learned row, or empty if the translation is no longer in {@code practiceDatabaseName}
+     */
+    Optional<EnglishExpression> restoreDemotedTranslation(String practiceDatabaseName, String spanishPhrase,
+                                                          String englishTranslation, int score);
+
+    /**
+     * Redoes an undone review demotion: sends {@code learnedCard} back to {@code practiceDatabaseName} with
+     * {@code score}, as the failed review did, but counts no review attempt. Persisted as one journal entry.
+     *
+     * @return false if the card is no longer in {@link #getLearnedWordsDatabaseName()} or cannot be placed back
+     */
+    boolean redoReviewDemotion(EnglishExpression learnedCard, String practiceDatabaseName, int score);
+
+    /**
+     * Registers a listener for {@link EngineWarning}s (e.g. a review transition that could not be applied).
+     * Listeners run on the calling thread after all locks are released.
+     */
+    void addWarningListener(Consumer<EngineWarning> listener);
+
+    void removeWarningListener(Consumer<EngineWarning> listener);
+
     /**
      * Review en cualquier BBDD de {@link com.englishgame.model.ReviewDatabases}: +1/−5. En {@code learned_words},
      * score &lt; 21 → práctica; en {@code words_definitely_learned}, score &lt; 28 → {@code learned_words}; dominio en 35.
@@ -210,6 +288,22 @@ public interface DatabaseService {
      */
     Optional<LearnedWordsReviewResult> submitLearnedWordsReviewAttempt(EnglishExpression learnedCard, String userAnswer,
             String reviewDatabaseName, boolean requirePracticeSourceMatch, String userSelectedPracticeDatabase);
+
+    /**
+     * Abre una sesión de review: los intentos se aplican en memoria igual que en
+     * {@link #submitLearnedWordsReviewAttempt}, pero se guardan en checkpoints y al cerrar, no tras cada tarjeta.
+     *
+     * @param requirePracticeSourceMatch igual que en {@link #submitLearnedWordsReviewAttempt}, para toda la sesión.
+     */
+    ReviewSession beginReviewSession(boolean requirePracticeSourceMatch);
+
+    /**
+     * Reaplica el diario (intentos de una sesión de review interrumpida hasta su último checkpoint, y los
+     * deshacer/rehacer posteriores al último guardado completo), guarda y lo borra. Llamar tras cargar los datos.
+     *
+     * @return entradas recuperadas; 0 si no había diario.
+     */
+    int recoverReviewSession();
     
     /**
      * Gets all learned expressions
@@ -255,6 +349,58 @@ public interface DatabaseService {
      */
     boolean deleteAllEnglishExpressions(String databaseName);
 
+    /**
+     * Empties a database (prompt and English rows) with a single save, handing back the rows it held so it can be
+     * undone.
+     * @return the removed rows (no copy is made), or empty if the database was already empty or does not exist
+     */
+    Optional<DetachedRows> detachAllExpressions(String databaseName);
+
+    /**
+     * Brings back a deleted database (undo): creates it again if missing and puts back {@code spanishRows} and
+     * {@code englishRows} like {@link #restoreExpressions}. Persisted as one journal entry.
+     * @return false if the database already existed and none of the rows were missing from it
+     */
+    boolean restoreDatabase(String databaseName, Collection<SpanishExpression> spanishRows,
+                            Collection<EnglishExpression> englishRows);
+
+    /**
+     * Deletes a user database again (redo of a deletion). Persisted as one journal entry, not a full save.
+     * @return false if the database does not exist or is a system database
+     */
+    boolean withdrawDatabase(String databaseName);
+
+    /**
+     * Returns a consistent, immutable view of all databases. Unchanged databases are shared between
+     * consecutive snapshots, so callers may take one whenever they need to read without locking.
+     */
+    DatabaseSnapshot snapshot();
+
+    /**
+     * Recuentos de una BBDD (filas, filas jugables, histograma y media de puntuación, aprendidas y casi
+     * aprendidas) sin copiar sus listas. Son contadores que cada alta, baja y cambio de puntuación ajusta; consultarlos
+     * nunca recorre la BBDD.
+     */
+    Optional<DatabaseStats> getDatabaseStats(String databaseName);
+
+    /**
+     * Records that rows of {@code databaseName} were mutated in place outside this service in unknown ways, so the
+     * next {@link #snapshot()} reflects them. Its statistics are recounted in full; prefer the narrower calls below.
+     */
+    void markModified(String databaseName);
+
+    /**
+     * Like {@link #markModified}, for in-place changes that touched the scores of {@code rows} only: the next
+     * {@link #snapshot()} reflects them and only those rows are recounted in the statistics.
+     */
+    void markScoresModified(String databaseName, Collection<SpanishExpression> rows);
+
+    /**
+     * Like {@link #markModified}, for a prompt {@code row} whose translation list was changed in place: only that
+     * row is checked by the next {@link #pruneSpanishRowsWithoutTranslations()}.
+     */
+    void markTranslationsModified(String databaseName, SpanishExpression row);
+
     /**
      * Quita en memoria filas españolas sin ninguna traducción visible (solo blancos o lista vacía), para que no se
      * puedan elegir en el juego ni queden fantasmas hasta reiniciar. Convoca antes de persistir cuando proceda.
@@ -72,7 +72,7 @@ public interface GameDataService {
     long getGameDataSize();
     
     /**
-     * Exports game data to JSON string
+     * Exports the current game data (same records as a save) to JSON string
      * @return String JSON representation of game data
      */
     String exportToJSON();
@@ -85,13 +85,22 @@ public interface GameDataService {
     boolean importFromJSON(String jsonData);
     
     /**
-     * Gets all data from the repository
-     * @return List<List<Map<String, Object>>> with all repository data
+     * Gets the current game data, with every edit since the last load (the repository alone when no
+     * database service is set)
+     * @return List<List<Map<String, Object>>> with one entry per record, in save order
      */
     List<List<Map<String, Object>>> getAllData();
     
     /**
-     * Gets access to the repository for direct operations
+     * Visits the current game data in save order, like {@link #getAllData()} but without collecting it
+     * @param action visitor called once per (read-only) record
+     */
+    void forEachRecord(java.util.function.Consumer<List<Map<String, Object>>> action);
+    
+    /**
+     * Gets access to the repository for direct operations. It holds the records last loaded or imported; edits
+     * made through {@link DatabaseService} do not write to it. Loading a file swaps in a new instance, so call this
+     * again rather than keeping the result.
      * @return DBRepository instance
      */
     com.englishgame.repository.interfaces.DBRepository getRepository();
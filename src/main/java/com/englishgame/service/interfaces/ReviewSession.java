@@ -0,0 +1,32 @@
+package com.englishgame.service.interfaces;
+
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.LearnedWordsReviewResult;
+
+import java.util.Optional;
+
+/**
+ * A run of review attempts whose persistence is deferred. Each attempt is applied in memory right away (same
+ * rules as {@link DatabaseService#submitLearnedWordsReviewAttempt}), but instead of rewriting the whole game data
+ * file per card, the session appends a compact record of each outcome to a journal next to it at checkpoints, and
+ * saves once when it is closed.
+ * <p>
+ * If the application dies mid-session, the next start replays the journal: attempts up to the last checkpoint
+ * are recovered, later ones are rolled back. Not thread-safe; use it from one thread (the review window's EDT).
+ */
+public interface ReviewSession extends AutoCloseable {
+
+    /** Applies one attempt in memory and queues it for the next checkpoint; empty if the card is not reviewable. */
+    Optional<LearnedWordsReviewResult> submit(EnglishExpression learnedCard, String userAnswer,
+            String reviewDatabaseName, String userSelectedPracticeDatabase);
+
+    /** Makes the attempts applied so far durable by appending them to the journal (forced to disk). */
+    void checkpoint();
+
+    /** Attempts applied since the last checkpoint. */
+    int pendingAttempts();
+
+    /** Saves the game data and discards the journal. Further submits are rejected. */
+    @Override
+    void close();
+}
@@ -3,6 +3,8 @@ package com.englishgame.view;
 import com.englishgame.AppGameMode;
 import com.englishgame.UiText;
 import com.englishgame.controller.GameController;
+import com.englishgame.instrumentation.Instrumentation;
+import com.englishgame.instrumentation.Timer;
 import com.englishgame.model.EnglishExpression;
 import com.englishgame.model.SpanishExpression;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +26,8 @@ import java.util.regex.Pattern;
 @Slf4j
 public class DataManagementView extends JFrame {
 
+    private static final Timer BULK_IMPORT_TIMER = Instrumentation.timer("import.bulk");
+
     /**
      * No es el nombre de una BBDD: fuerza elegir una opción real para evitar añadir datos a la primera de la lista por descuido.
      */
@@ -554,7 +558,7 @@ public class DataManagementView extends JFrame {
         }
         
         // Get expression count for confirmation message
-        int expressionCount = gameController.getSpanishExpressionsFromDatabase(selectedDb).size();
+        int expressionCount = gameController.getDatabaseExpressionCount(selectedDb);
         String confirmationMessage = ui(
                 String.format(
                         "Are you sure you want to delete database '%s'?\n\n"
@@ -780,6 +784,7 @@ public class DataManagementView extends JFrame {
         String selectedDb = dbOpt.get();
 
         try {
+            long start = BULK_IMPORT_TIMER.start();
             // Split by lines
             String[] lines = content.split("\n");
             int processedCount = 0;
@@ -844,6 +849,7 @@ public class DataManagementView extends JFrame {
                     }
                 }
             }
+            BULK_IMPORT_TIMER.stop(start);
             
             // Show result message
             String messageEn = formatBulkProcessingResultMessage(processedCount, ignoredCount, ignoredLines, false);
@@ -42,10 +42,41 @@ public class LandingPageView extends JFrame {
         setSize(initialWidth, initialHeight);
         setLocationRelativeTo(null);
         addListeners();
+        gateDataButtonsUntilLoaded();
         
         log.info("Landing page initialized");
     }
 
+    /**
+     * The saved game may still be loading in the background (see {@link GameController#loadingInBackground}):
+     * everything except Exit needs the data, so those buttons stay disabled until it is there.
+     */
+    private void gateDataButtonsUntilLoaded() {
+        if (gameController.isReady()) {
+            return;
+        }
+        JButton[] dataButtons = {dataManagementButton, viewWordsButton, playGameButton, learnedWordsButton};
+        String instruction = instructionLabel.getText();
+        for (JButton button : dataButtons) {
+            button.setEnabled(false);
+        }
+        instructionLabel.setText("Loading your words...");
+        gameController.whenReady().whenComplete((ignored, error) -> SwingUtilities.invokeLater(() -> {
+            if (error != null) {
+                log.error("Failed to load game data", error);
+                instructionLabel.setText("Your saved data could not be loaded.");
+                JOptionPane.showMessageDialog(this,
+                        "Failed to load game data: " + error.getMessage(),
+                        "Application Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+            for (JButton button : dataButtons) {
+                button.setEnabled(true);
+            }
+            instructionLabel.setText(instruction);
+        }));
+    }
+
     private void initComponents() {
         // Main title
         JLabel titleLabel = new JLabel("English Learning Game", SwingConstants.CENTER);
@@ -4,10 +4,13 @@ import com.englishgame.AppGameMode;
 import com.englishgame.AppVersion;
 import com.englishgame.UiText;
 import com.englishgame.controller.GameController;
+import com.englishgame.engine.GameEventListener;
+import com.englishgame.model.EngineWarning;
 import com.englishgame.model.EnglishExpression;
 import com.englishgame.model.LearnedWordsReviewResult;
 import com.englishgame.model.ReviewDatabases;
 import com.englishgame.model.SpanishExpression;
+import com.englishgame.service.interfaces.ReviewSession;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.swing.*;
@@ -64,6 +67,8 @@ public class LearnedWordsReviewView extends JFrame {
     private final LearnedWordsView learnedWordsOwner;
     private final LandingPageView landingPage;
     private final Runnable whenClosed;
+    /** Los intentos se guardan en checkpoints y al cerrar la ventana, no tras cada tarjeta. */
+    private final ReviewSession reviewSession;
 
     private volatile boolean navigatedToMainMenu;
 
@@ -102,6 +107,18 @@ public class LearnedWordsReviewView extends JFrame {
     /** Igual que GameView: tras acierto pasa sola a la siguiente tarjeta. */
     private Timer correctAnswerNextRoundTimer;
 
+    /** El motor solo emite códigos de aviso; esta ventana los muestra mientras está abierta. */
+    private final GameEventListener warningDialogs = new GameEventListener() {
+        @Override
+        public void onWarning(EngineWarning warning) {
+            int type = warning.getSeverity() == EngineWarning.Severity.ERROR
+                    ? JOptionPane.ERROR_MESSAGE
+                    : JOptionPane.WARNING_MESSAGE;
+            JOptionPane.showMessageDialog(LearnedWordsReviewView.this,
+                    warning.message(gameController.getAppGameMode()), "Review Learned Words", type);
+        }
+    };
+
     public LearnedWordsReviewView(GameController gameController, LearnedWordsView learnedWordsOwner,
             LandingPageView landingPage, Runnable whenClosed) {
         super();
@@ -112,6 +129,7 @@ public class LearnedWordsReviewView extends JFrame {
         this.learnedWordsOwner = learnedWordsOwner;
         this.landingPage = landingPage;
         this.whenClosed = whenClosed == null ? () -> {} : whenClosed;
+        this.reviewSession = gameController.beginReviewSession();
 
         setTitle("Review — " + ReviewDatabases.displayNameForKey(currentReviewDatabaseKey) + " ["
                 + AppVersion.getDisplayVersion() + "]");
@@ -125,6 +143,7 @@ public class LearnedWordsReviewView extends JFrame {
         buildUi();
         reloadDeck();
         showCurrentRound();
+        gameController.addGameEventListener(warningDialogs);
 
         addWindowListener(new WindowAdapter() {
             @Override
@@ -134,6 +153,8 @@ public class LearnedWordsReviewView extends JFrame {
 
             @Override
             public void windowClosed(WindowEvent e) {
+                LearnedWordsReviewView.this.gameController.removeGameEventListener(warningDialogs);
+                reviewSession.close();
                 if (navigatedToMainMenu) {
                     return;
                 }
@@ -156,8 +177,7 @@ public class LearnedWordsReviewView extends JFrame {
                         : ui("Learned words — totals", "Learned words — totales")));
         if (definitelyDb) {
             int mastered = gameController.getWordsDefinitelyMasteredTotal();
-            int current = gameController.getEnglishExpressionsFromDatabase(
-                    ReviewDatabases.WORDS_DEFINITELY_LEARNED_KEY).size();
+            int current = gameController.getWordsDefinitelyCurrentCount();
             reviewStatsPrimaryLabel.setVisible(true);
             reviewStatsSecondaryLabel.setVisible(true);
             reviewStatsPrimaryLabel.setText(ui("Words learned and deleted: ", "Palabras aprendidas y borradas: ")
@@ -165,7 +185,7 @@ public class LearnedWordsReviewView extends JFrame {
             reviewStatsSecondaryLabel.setText(ui("Currently in Words definitely learned: ",
                     "Actualmente en Words definitely learned: ") + current);
         } else {
-            int current = gameController.getEnglishExpressionsFromDatabase(ReviewDatabases.LEARNED_WORDS_KEY).size();
+            int current = gameController.getLearnedWordsCurrentCount();
             reviewStatsPrimaryLabel.setVisible(true);
             reviewStatsSecondaryLabel.setVisible(false);
             reviewStatsPrimaryLabel.setText(ui("Learned words: ", "Learned words: ") + current);
@@ -905,7 +925,7 @@ public class LearnedWordsReviewView extends JFrame {
         }
         EnglishExpression current = deck.get(Math.max(0, Math.min(index, deck.size() - 1)));
         Optional<LearnedWordsReviewResult> res =
-                gameController.submitLearnedWordsReviewAnswer(
+                gameController.submitLearnedWordsReviewAnswer(reviewSession,
                         current, answerField.getText(), currentReviewDatabaseKey, selectedPracticeSourceOrNull());
 
         if (res.isEmpty()) {
@@ -629,19 +629,12 @@ public class LearnedWordsView extends JFrame {
             return;
         }
         int moved = 0;
-        int failed = 0;
-        for (String expression : expressions) {
-            try {
-                if (gameController.moveExpression(LEARNED_WORDS_DB, targetDatabase, expression)) {
-                    moved++;
-                } else {
-                    failed++;
-                }
-            } catch (Exception e) {
-                failed++;
-                log.error("Error moving learned word '{}' in bulk", expression, e);
-            }
+        try {
+            moved = gameController.moveExpressions(LEARNED_WORDS_DB, targetDatabase, expressions);
+        } catch (Exception e) {
+            log.error("Error moving learned words in bulk", e);
         }
+        int failed = expressions.size() - moved;
         refreshLearnedWordsTable();
         JOptionPane.showMessageDialog(this,
                 ui("Moved: ", "Movidas: ") + moved
@@ -669,19 +662,12 @@ public class LearnedWordsView extends JFrame {
             return;
         }
         int deleted = 0;
-        int failed = 0;
-        for (String expression : expressions) {
-            try {
-                if (gameController.deleteExpression(LEARNED_WORDS_DB, expression)) {
-                    deleted++;
-                } else {
-                    failed++;
-                }
-            } catch (Exception e) {
-                failed++;
-                log.error("Error deleting learned word '{}' in bulk", expression, e);
-            }
+        try {
+            deleted = gameController.deleteExpressions(LEARNED_WORDS_DB, expressions);
+        } catch (Exception e) {
+            log.error("Error deleting learned words in bulk", e);
         }
+        int failed = expressions.size() - deleted;
         refreshLearnedWordsTable();
         JOptionPane.showMessageDialog(this,
                 ui("Deleted: ", "Borradas: ") + deleted
@@ -0,0 +1,124 @@
+package com.englishgame.view;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Warms up what the first window opened from the landing page would otherwise pay for on the EDT: loading the
+ * view classes, opening the font files and building glyph metrics for the fonts the game view uses, and
+ * initializing the Swing UI delegates of its components.
+ * <p>
+ * Class loading and fonts run on the given executor. The UI delegates are created on the EDT (Swing components
+ * must not be built elsewhere), as one small throwaway panel queued behind whatever the EDT is already doing.
+ */
+@Slf4j
+public final class ViewWarmup {
+
+    /** Family, style and size of the fonts set by the game view and the landing page's next windows. */
+    private static final List<Font> FONTS = List.of(
+            new Font("Arial", Font.PLAIN, 14),
+            new Font("Arial", Font.PLAIN, 16),
+            new Font("Arial", Font.PLAIN, 23),
+            new Font("Arial", Font.BOLD, 13),
+            new Font("Arial", Font.BOLD, 14),
+            new Font("Arial", Font.BOLD, 15),
+            new Font("Arial", Font.BOLD, 28),
+            new Font("Arial", Font.ITALIC, 15),
+            new Font("Segoe UI", Font.PLAIN, 16),
+            new Font("Segoe UI", Font.BOLD, 22),
+            new Font("Monospaced", Font.PLAIN, 12));
+
+    private static final String SAMPLE_TEXT = "ÁÉÍÓÚÑ áéíóúñ ¿¡ ABCXYZ abcxyz 0123456789 .,;:'\"-";
+
+    private ViewWarmup() {
+    }
+
+    /**
+     * Runs the whole warm-up: classes and fonts on {@code executor}, then the UI delegates on the EDT (skipped when
+     * headless). The future completes when all of it has run; failures are logged, never propagated.
+     */
+    public static CompletableFuture<Void> start(Executor executor) {
+        return CompletableFuture.runAsync(() -> {
+                    preloadClasses();
+                    warmUpFonts();
+                }, executor)
+                .thenCompose(ignored -> GraphicsEnvironment.isHeadless()
+                        ? CompletableFuture.completedFuture(null)
+                        : CompletableFuture.runAsync(ViewWarmup::warmUpComponents, SwingUtilities::invokeLater))
+                .exceptionally(error -> {
+                    log.debug("View warm-up failed: {}", error.getMessage());
+                    return null;
+                });
+    }
+
+    /** Loads and initializes the window classes opened from the landing page, so the first click is faster. */
+    public static void preloadClasses() {
+        long start = System.nanoTime();
+        for (Class<?> view : List.of(DataManagementView.class, ViewWordsView.class, GameView.class,
+                MainGameView.class, LearnedWordsView.class, LearnedWordsReviewView.class)) {
+            try {
+                Class.forName(view.getName(), true, view.getClassLoader());
+            } catch (ClassNotFoundException | LinkageError e) {
+                log.debug("Could not preload {}: {}", view.getSimpleName(), e.getMessage());
+            }
+        }
+        log.info("Startup phase 'preloadViews' took {} ms", millisSince(start));
+    }
+
+    /**
+     * Opens the font files and fills the glyph caches by measuring and laying out sample text (Spanish accents
+     * included) with the same rendering hints the components use. Safe off the EDT: nothing here is a component.
+     */
+    static void warmUpFonts() {
+        long start = System.nanoTime();
+        BufferedImage image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            graphics.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+            for (Font font : FONTS) {
+                graphics.setFont(font);
+                FontMetrics metrics = graphics.getFontMetrics();
+                metrics.stringWidth(SAMPLE_TEXT);
+                font.createGlyphVector(graphics.getFontRenderContext(), SAMPLE_TEXT).getVisualBounds();
+                graphics.drawString(SAMPLE_TEXT, 0, metrics.getAscent());
+            }
+        } finally {
+            graphics.dispose();
+        }
+        log.info("Startup phase 'warmUpFonts' took {} ms", millisSince(start));
+    }
+
+    /** Builds and lays out one of each component type the game view uses, then drops it. EDT only. */
+    private static void warmUpComponents() {
+        long start = System.nanoTime();
+        JPanel panel = new JPanel(new BorderLayout());
+        JTextArea area = new JTextArea(SAMPLE_TEXT, 3, 20);
+        area.setLineWrap(true);
+        area.setWrapStyleWord(true);
+        JPanel controls = new JPanel(new FlowLayout());
+        controls.add(new JLabel(SAMPLE_TEXT));
+        controls.add(new JTextField(SAMPLE_TEXT, 20));
+        controls.add(new JCheckBox("Practice"));
+        controls.add(new JComboBox<>(new String[] {"warm-up"}));
+        controls.add(new JButton("OK"));
+        panel.add(new JScrollPane(area), BorderLayout.CENTER);
+        panel.add(controls, BorderLayout.SOUTH);
+        for (Component component : controls.getComponents()) {
+            component.setFont(FONTS.get(0));
+        }
+        panel.setSize(panel.getPreferredSize());
+        panel.doLayout();
+        log.info("Startup phase 'warmUpComponents' took {} ms on the EDT", millisSince(start));
+    }
+
+    private static long millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
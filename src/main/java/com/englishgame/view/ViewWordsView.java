@@ -2,8 +2,7 @@ package com.englishgame.view;
 
 import com.englishgame.UiText;
 import com.englishgame.controller.GameController;
-import com.englishgame.model.EnglishExpression;
-import com.englishgame.model.SpanishExpression;
+import com.englishgame.model.DatabaseSnapshot;
 import com.englishgame.util.InclusionDisplay;
 import lombok.extern.slf4j.Slf4j;
 
@@ -16,6 +15,7 @@ import java.awt.*;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.util.List;
+import java.util.Optional;
 import java.util.ArrayList;
 import java.util.Comparator;
 
@@ -62,6 +62,8 @@ public class ViewWordsView extends JFrame {
     private JButton deleteAllButton;
     private JButton moveSelectedButton;
     private JButton deleteSelectedButton;
+    private JButton undoButton;
+    private JButton redoButton;
     private JButton selectAllRowsButton;
     private JButton clearSelectionButton;
     private JTextField searchField;
@@ -146,6 +148,10 @@ public class ViewWordsView extends JFrame {
         deleteSelectedButton = createStyledButton(ui("Delete selected", "Borrar seleccionados"),
                 ui("Delete selected rows from the current database",
                         "Elimina las filas seleccionadas de la base actual"));
+        undoButton = createStyledButton(ui("Undo", "Deshacer"),
+                ui("Undo the last delete or move", "Deshace el último borrado o movimiento"));
+        redoButton = createStyledButton(ui("Redo", "Rehacer"),
+                ui("Redo what was just undone", "Rehace lo que se acaba de deshacer"));
         selectAllRowsButton = createStyledButton(ui("Select all", "Seleccionar todo"),
                 ui("Select all visible rows in the table",
                         "Selecciona todas las filas visibles en la tabla"));
@@ -311,6 +317,8 @@ public class ViewWordsView extends JFrame {
         JPanel bulkSelectionPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 8, 5));
         bulkSelectionPanel.add(moveSelectedButton);
         bulkSelectionPanel.add(deleteSelectedButton);
+        bulkSelectionPanel.add(undoButton);
+        bulkSelectionPanel.add(redoButton);
         bulkSelectionPanel.add(selectAllRowsButton);
         bulkSelectionPanel.add(clearSelectionButton);
         tableSection.add(bulkSelectionPanel);
@@ -385,6 +393,8 @@ public class ViewWordsView extends JFrame {
         learnedWordsButton.addActionListener(e -> openLearnedWords());
         moveSelectedButton.addActionListener(e -> moveSelectedExpressions());
         deleteSelectedButton.addActionListener(e -> deleteSelectedExpressions());
+        undoButton.addActionListener(e -> undoLastEdit());
+        redoButton.addActionListener(e -> redoLastEdit());
         selectAllRowsButton.addActionListener(e -> selectAllVisibleRows());
         clearSelectionButton.addActionListener(e -> wordsTable.clearSelection());
     }
@@ -396,6 +406,7 @@ public class ViewWordsView extends JFrame {
     }
 
     private void refreshWordsTable() {
+        updateUndoButtons();
         String selectedDb = (String) databaseSelector.getSelectedItem();
         if (selectedDb == null) {
             return;
@@ -406,50 +417,44 @@ public class ViewWordsView extends JFrame {
         allData.clear(); // Clear stored data
         
         try {
-            // Get Spanish expressions
-            List<SpanishExpression> spanishExpressions = gameController.getSpanishExpressionsFromDatabase(selectedDb);
-            for (SpanishExpression spanish : spanishExpressions) {
-                String translations = spanish.getTranslations().stream()
-                    .map(EnglishExpression::getExpression)
+            // One immutable snapshot for both sides of the table: no copies, no locks while iterating
+            DatabaseSnapshot.Database database = gameController.getDatabaseSnapshot()
+                    .find(selectedDb)
+                    .orElse(null);
+            if (database == null) {
+                filterWordsTable();
+                return;
+            }
+
+            // Spanish expressions
+            for (DatabaseSnapshot.PromptRow spanish : database.promptRows()) {
+                String translations = spanish.translations().stream()
+                    .map(DatabaseSnapshot.Translation::expression)
                     .reduce((a, b) -> a + ", " + b)
                     .orElse("None");
                 
-                Object[] rowData = {
-                    spanish.getExpression(),
-                    translations,
-                    spanish.getScore(),
-                    "Move"
-                };
                 allData.add(new RowData(
-                        rowData[0].toString(),
-                        rowData[1].toString(),
-                        (Integer) rowData[2],
-                        spanish.getExpression(),
+                        spanish.expression(),
+                        translations,
+                        spanish.score(),
+                        spanish.expression(),
                         translations,
-                        spanish.getIncludedAtEpochMillis()));
+                        spanish.includedAtEpochMillis()));
             }
             
-            // Get English expressions
-            List<EnglishExpression> englishExpressions = gameController.getEnglishExpressionsFromDatabase(selectedDb);
-            for (EnglishExpression english : englishExpressions) {
-                String translations = english.getTranslations().stream()
-                    .map(SpanishExpression::getExpression)
+            // English expressions
+            for (DatabaseSnapshot.EnglishRow english : database.englishRows()) {
+                String translations = english.spanishSources().stream()
                     .reduce((a, b) -> a + ", " + b)
                     .orElse("None");
                 
-                Object[] rowData = {
-                    english.getExpression(),
-                    translations,
-                    english.getScore(),
-                    "Move"
-                };
                 allData.add(new RowData(
-                        rowData[0].toString(),
-                        rowData[1].toString(),
-                        (Integer) rowData[2],
+                        english.expression(),
                         translations,
-                        english.getExpression(),
-                        english.getIncludedAtEpochMillis()));
+                        english.score(),
+                        translations,
+                        english.expression(),
+                        english.includedAtEpochMillis()));
             }
 
             filterWordsTable();
@@ -574,9 +579,9 @@ public class ViewWordsView extends JFrame {
 
         int result = JOptionPane.showConfirmDialog(this,
                 ui("Are you sure you want to delete ALL expressions from database \"" + databaseName + "\"?\n\n"
-                                + "This action cannot be undone.",
+                                + "You can bring them back with Undo until you close the app.",
                         "¿Seguro de borrar TODAS las expresiones de la base \"" + databaseName
-                                + "\"?\n\nEsta acción no se puede deshacer."),
+                                + "\"?\n\nPuedes recuperarlas con Deshacer hasta cerrar la aplicación."),
                 ui("Confirm delete all", "Confirmar borrar todo"),
                 JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
 
@@ -781,19 +786,12 @@ public class ViewWordsView extends JFrame {
         }
 
         int moved = 0;
-        int failed = 0;
-        for (String expression : expressions) {
-            try {
-                if (gameController.moveExpression(selectedDb, targetDatabase, expression)) {
-                    moved++;
-                } else {
-                    failed++;
-                }
-            } catch (Exception e) {
-                failed++;
-                log.error("Error moving expression '{}' in bulk", expression, e);
-            }
+        try {
+            moved = gameController.moveExpressions(selectedDb, targetDatabase, expressions);
+        } catch (Exception e) {
+            log.error("Error moving expressions in bulk", e);
         }
+        int failed = expressions.size() - moved;
         refreshWordsTable();
         JOptionPane.showMessageDialog(this,
                 ui("Moved: ", "Movidas: ") + moved
@@ -821,9 +819,9 @@ public class ViewWordsView extends JFrame {
 
         int confirm = JOptionPane.showConfirmDialog(this,
                 ui("Delete " + expressions.size() + " expression(s) from \"" + selectedDb
-                                + "\"?\n\nThis action cannot be undone.",
+                                + "\"?\n\nYou can bring them back with Undo until you close the app.",
                         "¿Borrar " + expressions.size() + " expresión(es) de \"" + selectedDb
-                                + "\"?\n\nEsta acción no se puede deshacer."),
+                                + "\"?\n\nPuedes recuperarlas con Deshacer hasta cerrar la aplicación."),
                 ui("Confirm bulk delete", "Confirmar borrado en grupo"),
                 JOptionPane.YES_NO_OPTION,
                 JOptionPane.WARNING_MESSAGE);
@@ -832,19 +830,12 @@ public class ViewWordsView extends JFrame {
         }
 
         int deleted = 0;
-        int failed = 0;
-        for (String expression : expressions) {
-            try {
-                if (gameController.deleteExpression(selectedDb, expression)) {
-                    deleted++;
-                } else {
-                    failed++;
-                }
-            } catch (Exception e) {
-                failed++;
-                log.error("Error deleting expression '{}' in bulk", expression, e);
-            }
+        try {
+            deleted = gameController.deleteExpressions(selectedDb, expressions);
+        } catch (Exception e) {
+            log.error("Error deleting expressions in bulk", e);
         }
+        int failed = expressions.size() - deleted;
         refreshWordsTable();
         JOptionPane.showMessageDialog(this,
                 ui("Deleted: ", "Borradas: ") + deleted
@@ -853,6 +844,38 @@ public class ViewWordsView extends JFrame {
                 failed > 0 ? JOptionPane.WARNING_MESSAGE : JOptionPane.INFORMATION_MESSAGE);
     }
 
+    private void undoLastEdit() {
+        Optional<String> undone = gameController.undoLastEdit();
+        refreshWordsTable();
+        if (undone.isEmpty()) {
+            JOptionPane.showMessageDialog(this,
+                    ui("That change could not be undone: its rows changed since.",
+                            "No se pudo deshacer: sus filas han cambiado desde entonces."),
+                    ui("Undo", "Deshacer"), JOptionPane.WARNING_MESSAGE);
+        }
+    }
+
+    private void redoLastEdit() {
+        Optional<String> redone = gameController.redoLastEdit();
+        refreshWordsTable();
+        if (redone.isEmpty()) {
+            JOptionPane.showMessageDialog(this,
+                    ui("That change could not be redone.", "No se pudo rehacer."),
+                    ui("Redo", "Rehacer"), JOptionPane.WARNING_MESSAGE);
+        }
+    }
+
+    private void updateUndoButtons() {
+        undoButton.setEnabled(gameController.canUndo());
+        undoButton.setToolTipText(gameController.nextUndoDescription()
+                .map(description -> ui("Undo: ", "Deshacer: ") + description)
+                .orElse(ui("Nothing to undo", "Nada que deshacer")));
+        redoButton.setEnabled(gameController.canRedo());
+        redoButton.setToolTipText(gameController.nextRedoDescription()
+                .map(description -> ui("Redo: ", "Rehacer: ") + description)
+                .orElse(ui("Nothing to redo", "Nada que rehacer")));
+    }
+
     private void handleDeleteExpression(int row) {
         String selectedDb = (String) databaseSelector.getSelectedItem();
         if (selectedDb == null) {
@@ -0,0 +1,17 @@
+@echo off
+rem Lanza English Game con el archivo AppCDS (english-game.jsa) junto al JAR; ver english-game.sh.
+rem Si el archivo falta, este arranque lo crea al salir (tras actualizar o mover el JAR, borrar english-game.jsa).
+setlocal
+set "DIR=%~dp0"
+set "JAR=%DIR%english-game-${project.version}.jar"
+set "JSA=%DIR%english-game.jsa"
+set "JAVA=java"
+if defined JAVA_HOME set "JAVA=%JAVA_HOME%\bin\java"
+
+if exist "%JSA%" (
+    set "CDS=-XX:SharedArchiveFile=%JSA%"
+) else (
+    set "CDS=-XX:ArchiveClassesAtExit=%JSA%"
+)
+
+"%JAVA%" %CDS% -Xshare:auto %JAVA_OPTS% -jar "%JAR%" %*
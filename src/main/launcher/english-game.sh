@@ -0,0 +1,18 @@
+#!/bin/sh
+# Lanza English Game con el archivo AppCDS (english-game.jsa) junto al JAR: las clases de Jackson, Swing y
+# Logback se mapean ya verificadas en lugar de cargarse una a una, y la ventana principal sale antes.
+# Si el archivo falta o es más antiguo que el JAR, este arranque lo regenera al salir. El archivo solo vale
+# para la ruta del JAR con la que se creó: tras mover la instalación, borrar english-game.jsa.
+# Opciones extra de la JVM en JAVA_OPTS; los argumentos se pasan a la aplicación (--classic, --server=8080...).
+DIR=$(cd "$(dirname "$0")" && pwd)
+JAR="$DIR/english-game-${project.version}.jar"
+JSA="$DIR/english-game.jsa"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+
+if [ -f "$JSA" ] && [ ! "$JAR" -nt "$JSA" ]; then
+    CDS="-XX:SharedArchiveFile=$JSA"
+else
+    CDS="-XX:ArchiveClassesAtExit=$JSA"
+fi
+
+exec "$JAVA" $CDS -Xshare:auto $JAVA_OPTS -jar "$JAR" "$@"
@@ -0,0 +1,210 @@
+package com.englishgame.controller;
+
+import com.englishgame.AppGameMode;
+import com.englishgame.engine.GameEventListener;
+import com.englishgame.instrumentation.Instrumentation;
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.LearnedWordsReviewResult;
+import com.englishgame.model.ReviewDatabases;
+import com.englishgame.model.SpanishExpression;
+import com.englishgame.repository.implementations.DBRepositoryImpl;
+import com.englishgame.service.implementations.DatabaseServiceImpl;
+import com.englishgame.service.implementations.GameDataServiceImpl;
+import com.englishgame.service.implementations.GameLogicServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EditHistory Tests")
+class EditHistoryTest {
+
+    private static final String TEST_DATA_DIR = "test_data_edit_history";
+
+    private DatabaseServiceImpl databaseService;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Path testPath = Paths.get(TEST_DATA_DIR);
+        if (Files.exists(testPath)) {
+            try (var walk = Files.walk(testPath)) {
+                walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should forget the oldest edit when full and drop redo after a new edit")
+    void shouldKeepBoundedRing() {
+        EditHistory history = new EditHistory(3);
+        List<String> log = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            history.record(edit("e" + i, log));
+        }
+
+        assertEquals(Optional.of("e4"), history.undo());
+        assertEquals(Optional.of("e3"), history.undo());
+        assertEquals(Optional.of("e2"), history.undo());
+        assertFalse(history.canUndo());
+        assertEquals(Optional.of("e2"), history.redo());
+        assertEquals(List.of("undo e4", "undo e3", "undo e2", "redo e2"), log);
+
+        history.record(edit("e5", log));
+        assertFalse(history.canRedo());
+        assertEquals(Optional.of("e5"), history.nextUndo());
+        assertEquals(Optional.of("e5"), history.undo());
+        assertEquals(Optional.of("e2"), history.undo());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    @DisplayName("Should undo a bulk delete in one step and persist the restored rows")
+    void shouldUndoBulkDeleteInOneStep() {
+        GameController controller = newController();
+        assertTrue(controller.createNewDatabase("alpha"));
+        assertTrue(controller.addExpressionToDatabase("alpha", phrase("gato", 7, "cat")));
+        assertTrue(controller.addExpressionToDatabase("alpha", phrase("perro", 3, "dog")));
+
+        int deleted = controller.asOneEdit("Delete 2 expressions",
+                () -> (controller.deleteExpression("alpha", "gato") ? 1 : 0)
+                        + (controller.deleteExpression("alpha", "perro") ? 1 : 0));
+        assertEquals(2, deleted);
+        assertEquals(Optional.of("Delete 2 expressions"), controller.nextUndoDescription());
+
+        assertEquals(Optional.of("Delete 2 expressions"), controller.undoLastEdit());
+        assertFalse(controller.canUndo());
+
+        DatabaseServiceImpl current = databaseService;
+        newController();
+        DatabaseServiceImpl reloaded = databaseService;
+        databaseService = current;
+        assertEquals(2, reloaded.getSpanishExpressions("alpha").size());
+        assertEquals(7, reloaded.getSpanishExpressions("alpha").stream()
+                .filter(row -> "gato".equals(row.getExpression()))
+                .findFirst().orElseThrow().getTranslations().get(0).getScore());
+
+        assertEquals(Optional.of("Delete 2 expressions"), controller.redoLastEdit());
+        assertEquals(0, databaseService.getSpanishExpressionCount("alpha"));
+    }
+
+    @Test
+    @DisplayName("Should bring back a deleted database and undo a move")
+    void shouldUndoDatabaseDeleteAndMove() {
+        GameController controller = newController();
+        assertTrue(controller.createNewDatabase("alpha"));
+        assertTrue(controller.createNewDatabase("beta"));
+        assertTrue(controller.addExpressionToDatabase("alpha", phrase("gato", 0, "cat")));
+        assertTrue(controller.addExpressionToDatabase("beta", phrase("casa", 0, "house")));
+
+        assertTrue(controller.moveExpression("alpha", "beta", "gato"));
+        assertTrue(controller.deleteDatabase("beta"));
+
+        controller.undoLastEdit();
+        assertEquals(2, databaseService.getSpanishExpressionCount("beta"));
+        controller.undoLastEdit();
+        assertEquals(1, databaseService.getSpanishExpressionCount("alpha"));
+        assertEquals(1, databaseService.getSpanishExpressionCount("beta"));
+    }
+
+    @Test
+    @DisplayName("Should journal undo/redo instead of saving and replay them after a restart")
+    void shouldJournalUndoAndRedo() throws Exception {
+        GameController controller = newController();
+        assertTrue(controller.createNewDatabase("alpha"));
+        assertTrue(controller.addExpressionToDatabase("alpha", phrase("gato", 7, "cat")));
+        assertTrue(controller.deleteDatabase("alpha"));
+        Path gameData = Paths.get(TEST_DATA_DIR, "game_data.json");
+        String saved = Files.readString(gameData);
+
+        assertTrue(controller.undoLastEdit().isPresent());
+        assertEquals(saved, Files.readString(gameData));
+        assertTrue(Files.exists(Paths.get(TEST_DATA_DIR, "review_session.journal")));
+
+        // Crash: the next start replays the journal over the last full save
+        newController();
+        assertEquals(7, databaseService.getSpanishExpressions("alpha").get(0).getScore());
+
+        assertTrue(controller.redoLastEdit().isPresent());
+        newController();
+        assertFalse(databaseService.databaseExists("alpha"));
+    }
+
+    @Test
+    @DisplayName("Should put a demoted review card back into learned words with its previous score")
+    void shouldUndoReviewDemotion() throws Exception {
+        GameController controller = newController();
+        List<LearnedWordsReviewResult> attempts = new ArrayList<>();
+        controller.addGameEventListener(new GameEventListener() {
+            @Override
+            public void onReviewAttempt(String reviewDatabase, LearnedWordsReviewResult result) {
+                attempts.add(result);
+            }
+        });
+        assertTrue(controller.createNewDatabase("alpha"));
+        EnglishExpression card = new EnglishExpression("house", 10, new ArrayList<>(List.of(phrase("casa", 0))));
+        card.setPracticeSourceDatabase("alpha");
+        assertTrue(databaseService.addEnglishExpression(ReviewDatabases.LEARNED_WORDS_KEY, card));
+
+        LearnedWordsReviewResult result = controller.submitLearnedWordsReviewAnswer(card, "home",
+                ReviewDatabases.LEARNED_WORDS_KEY).orElseThrow();
+        assertEquals(LearnedWordsReviewResult.Outcome.DEMOTED_TO_PRACTICE, result.outcome());
+        assertTrue(databaseService.getLearnedExpressions().isEmpty());
+        Path gameData = Paths.get(TEST_DATA_DIR, "game_data.json");
+        String saved = Files.readString(gameData);
+
+        assertTrue(controller.undoLastEdit().isPresent());
+        List<EnglishExpression> learned = databaseService.getLearnedExpressions();
+        assertEquals(1, learned.size());
+        assertEquals(10, learned.get(0).getScore());
+        assertEquals(0, databaseService.getSpanishExpressionCount("alpha"));
+        assertEquals(saved, Files.readString(gameData));
+
+        // Crash: the undo comes back from the journal
+        newController();
+        assertEquals(10, databaseService.getLearnedExpressions().get(0).getScore());
+        saved = Files.readString(gameData);
+
+        long demotions = Instrumentation.counter("learning.demoted.practice").sum();
+        assertTrue(controller.redoLastEdit().isPresent());
+        assertEquals(saved, Files.readString(gameData));
+        // Redo is not another answer: no review event, no second demotion counted
+        assertEquals(1, attempts.size());
+        assertEquals(demotions, Instrumentation.counter("learning.demoted.practice").sum());
+
+        newController();
+        assertTrue(databaseService.getLearnedExpressions().isEmpty());
+        assertEquals(1, databaseService.getSpanishExpressionCount("alpha"));
+        assertEquals(result.scoreAfter(),
+                databaseService.getSpanishExpressions("alpha").get(0).getTranslations().get(0).getScore());
+    }
+
+    private GameController newController() {
+        GameDataServiceImpl gameDataService = new GameDataServiceImpl(new DBRepositoryImpl());
+        gameDataService.setDataDirectory(TEST_DATA_DIR);
+        databaseService = new DatabaseServiceImpl(gameDataService);
+        return new GameController(new GameLogicServiceImpl(gameDataService, databaseService), databaseService,
+                gameDataService, AppGameMode.CLASSIC, false);
+    }
+
+    private static EditHistory.Edit edit(String name, List<String> log) {
+        return EditHistory.Edit.of(name, () -> log.add("undo " + name), () -> log.add("redo " + name));
+    }
+
+    private static SpanishExpression phrase(String spanish, int score, String... english) {
+        List<EnglishExpression> translations = new ArrayList<>();
+        for (String en : english) {
+            translations.add(new EnglishExpression(en, score, new ArrayList<>()));
+        }
+        return new SpanishExpression(spanish, score, translations);
+    }
+}
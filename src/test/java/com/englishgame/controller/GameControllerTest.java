@@ -1,5 +1,6 @@
 package com.englishgame.controller;
 
+import com.englishgame.AppGameMode;
 import com.englishgame.model.CorrectAnswerOutcome;
 import com.englishgame.model.EnglishExpression;
 import com.englishgame.model.SpanishExpression;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -62,6 +64,35 @@ class GameControllerTest {
         verify(gameDataService).loadGameData();
     }
 
+    @Test
+    @DisplayName("Should load in the background and skip saves until ready")
+    void shouldLoadInBackgroundAndSkipSavesUntilReady() {
+        // Given
+        List<Runnable> loader = new ArrayList<>();
+        GameController deferred = GameController.loadingInBackground(gameLogicService, databaseService,
+                gameDataService, AppGameMode.CLASSIC, loader::add);
+
+        // When: saved before the load ran
+        deferred.saveGameState();
+
+        // Then
+        assertFalse(deferred.isReady());
+        assertFalse(deferred.whenReady().isDone());
+        verify(gameDataService, never()).saveGameData();
+        verify(gameDataService, times(1)).loadGameData();
+
+        // When: the load runs
+        loader.forEach(Runnable::run);
+        deferred.saveGameState();
+
+        // Then
+        assertTrue(deferred.isReady());
+        assertTrue(deferred.whenReady().isDone());
+        verify(gameDataService, times(2)).loadGameData();
+        verify(databaseService, times(2)).synchronizeWithRepository();
+        verify(gameDataService).saveGameData();
+    }
+
     @Test
     @DisplayName("Should select existing database successfully")
     void shouldSelectExistingDatabaseSuccessfully() {
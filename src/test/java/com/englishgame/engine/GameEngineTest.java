@@ -0,0 +1,104 @@
+package com.englishgame.engine;
+
+import com.englishgame.AppGameMode;
+import com.englishgame.model.AnswerResult;
+import com.englishgame.model.EngineWarning;
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.LearnedWordsReviewResult;
+import com.englishgame.model.ReviewDatabases;
+import com.englishgame.model.SpanishExpression;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GameEngine Tests")
+class GameEngineTest {
+
+    private static final String TEST_DATA_DIR = "test_data_engine";
+
+    private GameEngine engine;
+    private final List<String> events = new ArrayList<>();
+    private final List<EngineWarning> warnings = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        engine = GameEngine.open(Paths.get(TEST_DATA_DIR), AppGameMode.CLASSIC, false);
+        engine.addListener(new GameEventListener() {
+            @Override
+            public void onRoundStarted(String database, SpanishExpression prompt) {
+                events.add("round:" + prompt.getExpression());
+            }
+
+            @Override
+            public void onAnswer(String database, SpanishExpression prompt, String answer, AnswerResult result) {
+                events.add("answer:" + result.correct());
+            }
+
+            @Override
+            public void onReviewAttempt(String reviewDatabase, LearnedWordsReviewResult result) {
+                events.add("review:" + result.outcome());
+            }
+
+            @Override
+            public void onWarning(EngineWarning warning) {
+                warnings.add(warning);
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Path testPath = Paths.get(TEST_DATA_DIR);
+        if (Files.exists(testPath)) {
+            try (var walk = Files.walk(testPath)) {
+                walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should play a round and notify listeners")
+    void shouldPlayRoundAndNotifyListeners() {
+        assertTrue(engine.getController().createNewDatabase("animals"));
+        List<EnglishExpression> translations = new ArrayList<>();
+        translations.add(new EnglishExpression("cat", 0, new ArrayList<>()));
+        assertTrue(engine.getDatabaseService().addSpanishExpression("animals",
+                new SpanishExpression("gato", 0, translations)));
+        assertTrue(engine.selectDatabase("animals"));
+
+        Optional<SpanishExpression> prompt = engine.startRound();
+        assertTrue(prompt.isPresent());
+        assertTrue(engine.answer("cat").correct());
+
+        assertEquals(List.of("round:gato", "answer:true"), events);
+        assertEquals(1, engine.snapshot().find("animals").orElseThrow().promptRows().get(0).score());
+    }
+
+    @Test
+    @DisplayName("Should report review problems as warning events instead of dialogs")
+    void shouldReportReviewProblemsAsWarnings() {
+        EnglishExpression card = new EnglishExpression("dog", 21, new ArrayList<>());
+        assertTrue(engine.getDatabaseService().addEnglishExpression(ReviewDatabases.LEARNED_WORDS_KEY, card));
+
+        Optional<LearnedWordsReviewResult> result =
+                engine.review(card, "wrong", ReviewDatabases.LEARNED_WORDS_KEY, null);
+
+        assertTrue(result.isPresent());
+        assertEquals(LearnedWordsReviewResult.Outcome.STILL_IN_LEARNED, result.get().outcome());
+        assertEquals(List.of(EngineWarning.NO_PRACTICE_DATABASE_FOR_DEMOTION, EngineWarning.REVIEW_DEMOTION_FAILED),
+                warnings);
+        assertEquals(List.of("review:STILL_IN_LEARNED"), events);
+    }
+}
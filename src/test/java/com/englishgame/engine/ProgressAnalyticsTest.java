@@ -0,0 +1,96 @@
+package com.englishgame.engine;
+
+import com.englishgame.model.AnswerResult;
+import com.englishgame.model.DatabaseStats;
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.LearnedWordsReviewResult;
+import com.englishgame.model.ReviewDatabases;
+import com.englishgame.model.SpanishExpression;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProgressAnalytics Tests")
+class ProgressAnalyticsTest {
+
+    private static final long DAY = 86_400_000L;
+    private static final long NOW = 100 * DAY;
+
+    private final ProgressAnalytics analytics = new ProgressAnalytics(() -> 7, () -> NOW);
+
+    @Test
+    @DisplayName("Should fold practice answers into accuracy, score bands and time to learn")
+    void shouldFoldPracticeAnswers() {
+        SpanishExpression casa = prompt("casa", 12, "house");
+        analytics.onAnswer("Animals", casa, " house ", new AnswerResult(true, null));
+        casa.getTranslations().get(0).setScore(7);
+        analytics.onAnswer("Animals", casa, "home", AnswerResult.incorrect());
+        SpanishExpression perro = prompt("perro", 20, "dog");
+        perro.setIncludedAtEpochMillis(NOW - 4 * DAY);
+        analytics.onAnswer("Animals", perro, "dog", new AnswerResult(true, "dog"));
+
+        ProgressAnalytics.Progress progress = analytics.progress("animals").orElseThrow();
+
+        assertFalse(progress.reviewTier());
+        assertEquals(3, progress.attempts());
+        assertEquals(2.0 / 3, progress.accuracy(), 1e-9);
+        assertEquals(1, progress.promoted());
+        assertEquals(1, progress.learnedSamples());
+        assertEquals(4.0, progress.meanDaysToLearn(), 1e-9);
+        assertEquals(List.of(0, 1, 1, 0, 1, 0, 0, 0), progress.recentScoreBands());
+        assertEquals((12 + 7 + DatabaseStats.LEARNED_AT) / 3.0, progress.recentAverageScore(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should count review outcomes per tier, whatever name the tier was given")
+    void shouldCountReviewOutcomesPerTier() {
+        analytics.onReviewAttempt(ReviewDatabases.LEARNED_WORDS_DISPLAY,
+                review(LearnedWordsReviewResult.Outcome.PROMOTED_TO_DEFINITELY_LEARNED, true, 28));
+        analytics.onReviewAttempt(ReviewDatabases.LEARNED_WORDS_KEY,
+                review(LearnedWordsReviewResult.Outcome.DEMOTED_TO_PRACTICE, false, 18));
+        analytics.onReviewAttempt(ReviewDatabases.WORDS_DEFINITELY_LEARNED_KEY,
+                review(LearnedWordsReviewResult.Outcome.MASTERED_REMOVED_EVERYWHERE, true, 35));
+
+        ProgressAnalytics.Progress learned = analytics.progress(ReviewDatabases.LEARNED_WORDS_KEY).orElseThrow();
+        assertTrue(learned.reviewTier());
+        assertEquals(2, learned.attempts());
+        assertEquals(0.5, learned.promotionRate(), 1e-9);
+        assertEquals(0.5, learned.demotionRate(), 1e-9);
+        assertEquals(1, analytics.progress(ReviewDatabases.WORDS_DEFINITELY_LEARNED_KEY).orElseThrow().mastered());
+        assertEquals(7, analytics.wordsDefinitelyMasteredTotal());
+        assertEquals(2, analytics.progress().size());
+    }
+
+    @Test
+    @DisplayName("Should keep only the last window of scores in the distribution")
+    void shouldRollScoreWindow() {
+        SpanishExpression low = prompt("bajo", 0, "low");
+        SpanishExpression high = prompt("alto", 40, "high");
+        for (int i = 0; i < ProgressAnalytics.WINDOW; i++) {
+            analytics.onAnswer("db", low, "low", new AnswerResult(true, null));
+        }
+        for (int i = 0; i < 10; i++) {
+            analytics.onAnswer("db", high, "high", new AnswerResult(true, null));
+        }
+
+        ProgressAnalytics.Progress progress = analytics.progress("db").orElseThrow();
+        assertEquals(ProgressAnalytics.WINDOW + 10, progress.attempts());
+        assertEquals(ProgressAnalytics.WINDOW - 10, progress.recentScoreBands().get(0));
+        assertEquals(10, progress.recentScoreBands().get(DatabaseStats.BANDS - 1));
+    }
+
+    private static SpanishExpression prompt(String spanish, int score, String english) {
+        List<EnglishExpression> translations = new ArrayList<>();
+        translations.add(new EnglishExpression(english, score, new ArrayList<>()));
+        return new SpanishExpression(spanish, 0, translations);
+    }
+
+    private static LearnedWordsReviewResult review(LearnedWordsReviewResult.Outcome outcome, boolean correct,
+            int score) {
+        return new LearnedWordsReviewResult(outcome, correct, score, "word", "word", null, correct, null, null);
+    }
+}
@@ -0,0 +1,133 @@
+package com.englishgame.history;
+
+import com.englishgame.model.AnswerResult;
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.LearnedWordsReviewResult;
+import com.englishgame.model.ReviewDatabases;
+import com.englishgame.model.SpanishExpression;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AnswerLog Tests")
+class AnswerLogTest {
+
+    private static final Path TEST_DIR = Paths.get("test_data_answer_log");
+    private static final long JAN = LocalDate.of(2026, 1, 10).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+    private static final long FEB = LocalDate.of(2026, 2, 3).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (Files.exists(TEST_DIR)) {
+            try (var walk = Files.walk(TEST_DIR)) {
+                walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should start a segment per month and query by time and by phrase")
+    void shouldQueryAcrossMonthlySegments() throws Exception {
+        try (AnswerLog answerLog = new AnswerLog(TEST_DIR)) {
+            answerLog.append(event(JAN, "casa", true));
+            answerLog.append(event(JAN + 1000, "perro", false));
+            answerLog.append(event(FEB, "Casa ", false));
+            answerLog.append(event(FEB + 1000, "gato", true));
+
+            assertEquals(2, answerLog.segmentCount());
+            List<AnswerEvent> february = new ArrayList<>();
+            answerLog.between(FEB, Long.MAX_VALUE, february::add);
+            assertEquals(List.of("Casa ", "gato"), february.stream().map(AnswerEvent::phrase).toList());
+
+            List<AnswerEvent> casa = answerLog.forPhrase("CASA");
+            assertEquals(List.of(JAN, FEB), casa.stream().map(AnswerEvent::timestampMillis).toList());
+            assertEquals(List.of(true, false), casa.stream().map(AnswerEvent::correct).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Should seal full segments with a phrase index and resume the open one after reopening")
+    void shouldSealAndResumeSegments() throws Exception {
+        try (AnswerLog answerLog = new AnswerLog(TEST_DIR, 64)) {
+            for (int i = 0; i < 6; i++) {
+                answerLog.append(event(JAN + i, i % 2 == 0 ? "casa" : "perro", true));
+            }
+        }
+        try (Stream<Path> files = Files.list(TEST_DIR)) {
+            assertTrue(files.anyMatch(path -> path.toString().endsWith(".idx")));
+        }
+
+        try (AnswerLog reopened = new AnswerLog(TEST_DIR, 64)) {
+            reopened.append(event(JAN + 10, "casa", false));
+            assertEquals(4, reopened.forPhrase("casa").size());
+            assertEquals(3, reopened.forPhrase("perro").size());
+        }
+    }
+
+    @Test
+    @DisplayName("Should cut off a record torn by a crash")
+    void shouldDropTornRecord() throws Exception {
+        try (AnswerLog answerLog = new AnswerLog(TEST_DIR)) {
+            answerLog.append(event(JAN, "casa", true));
+            answerLog.append(event(JAN + 1, "perro", true));
+        }
+        Path segment;
+        try (Stream<Path> files = Files.list(TEST_DIR)) {
+            segment = files.filter(path -> path.toString().endsWith(".seg")).findFirst().orElseThrow();
+        }
+        Files.write(segment, new byte[] {0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (AnswerLog reopened = new AnswerLog(TEST_DIR)) {
+            reopened.append(event(JAN + 2, "gato", false));
+            List<AnswerEvent> all = new ArrayList<>();
+            reopened.between(0, Long.MAX_VALUE, all::add);
+            assertEquals(List.of("casa", "perro", "gato"), all.stream().map(AnswerEvent::phrase).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Should record practice latency from the round start and review outcomes")
+    void shouldRecordGameEvents() throws Exception {
+        AtomicLong clock = new AtomicLong(JAN);
+        try (AnswerLog answerLog = new AnswerLog(TEST_DIR)) {
+            AnswerLogRecorder recorder = new AnswerLogRecorder(answerLog, clock::get);
+            SpanishExpression casa = new SpanishExpression("casa", 0,
+                    new ArrayList<>(List.of(new EnglishExpression("house", 0, new ArrayList<>()))));
+            recorder.onRoundStarted("animals", casa);
+            clock.addAndGet(1500);
+            recorder.onAnswer("animals", casa, "house", new AnswerResult(true, "house"));
+            recorder.onReviewAttempt(ReviewDatabases.LEARNED_WORDS_KEY, new LearnedWordsReviewResult(
+                    LearnedWordsReviewResult.Outcome.DEMOTED_TO_PRACTICE, false, 18, "dog", "cat", "animals",
+                    false, null, null));
+
+            List<AnswerEvent> events = new ArrayList<>();
+            answerLog.between(0, Long.MAX_VALUE, events::add);
+            assertEquals(2, events.size());
+            assertEquals(1500, events.get(0).latencyMillis());
+            assertEquals(AnswerEvent.Outcome.PRACTICE_LEARNED, events.get(0).outcome());
+            assertEquals("dog", events.get(1).phrase());
+            assertEquals(-1, events.get(1).latencyMillis());
+            assertEquals(AnswerEvent.Outcome.REVIEW_DEMOTED_TO_PRACTICE, events.get(1).outcome());
+        }
+    }
+
+    private static AnswerEvent event(long timestamp, String phrase, boolean correct) {
+        return new AnswerEvent(timestamp, "animals", phrase, correct, 800,
+                correct ? AnswerEvent.Outcome.PRACTICE_CORRECT : AnswerEvent.Outcome.PRACTICE_INCORRECT);
+    }
+}
@@ -0,0 +1,95 @@
+package com.englishgame.instrumentation;
+
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.SpanishExpression;
+import com.englishgame.repository.implementations.DBRepositoryImpl;
+import com.englishgame.service.implementations.DatabaseServiceImpl;
+import com.englishgame.service.implementations.GameDataServiceImpl;
+import com.englishgame.service.implementations.GameLogicServiceImpl;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FlightEvents Tests")
+class FlightEventsTest {
+
+    private static final String TEST_DATA_DIRECTORY = "test_data_jfr";
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Path testPath = Paths.get(TEST_DATA_DIRECTORY);
+        if (Files.exists(testPath)) {
+            try (Stream<Path> files = Files.walk(testPath)) {
+                files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should record save, load phases and answer validation")
+    void shouldRecordGameAndPersistenceEvents() throws Exception {
+        GameDataServiceImpl gameDataService = new GameDataServiceImpl(new DBRepositoryImpl());
+        gameDataService.setDataDirectory(TEST_DATA_DIRECTORY);
+        DatabaseServiceImpl databaseService = new DatabaseServiceImpl(gameDataService);
+        GameLogicServiceImpl gameLogicService = new GameLogicServiceImpl(gameDataService, databaseService);
+        databaseService.createDatabase("animals");
+        SpanishExpression perro = new SpanishExpression("perro", 0,
+                new ArrayList<>(List.of(new EnglishExpression("dog", 0, new ArrayList<>()))));
+        databaseService.addSpanishExpression("animals", perro);
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("englishgame.Save");
+            recording.enable("englishgame.LoadPhase");
+            recording.enable("englishgame.AnswerValidation");
+            recording.start();
+            assertTrue(gameDataService.saveGameData());
+            assertTrue(gameDataService.loadGameData());
+            databaseService.synchronizeWithRepository();
+            assertTrue(gameLogicService.validateTranslation(perro, "dog", "animals"));
+            recording.stop();
+            Path dump = Paths.get(TEST_DATA_DIRECTORY, "test.jfr");
+            recording.dump(dump);
+            events = RecordingFile.readAllEvents(dump);
+        }
+
+        RecordedEvent save = single(events, "englishgame.Save");
+        assertTrue(save.getInt("records") > 0);
+        assertEquals(Files.size(Paths.get(TEST_DATA_DIRECTORY, "game_data.json")), save.getLong("bytes"));
+        List<String> phases = events.stream()
+                .filter(e -> e.getEventType().getName().equals("englishgame.LoadPhase"))
+                .map(e -> e.getString("phase"))
+                .collect(Collectors.toList());
+        assertEquals(List.of("readFile", "rebuildDatabases", "lemmaIndex", "phraseIndex", "reconcileScores"), phases);
+        RecordedEvent validation = single(events, "englishgame.AnswerValidation");
+        assertEquals("animals", validation.getString("database"));
+        assertEquals(1, validation.getInt("cohortSize"));
+        assertTrue(validation.getBoolean("correct"));
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = new ArrayList<>();
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(name)) {
+                matching.add(event);
+            }
+        }
+        assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+}
@@ -0,0 +1,67 @@
+package com.englishgame.instrumentation;
+
+import com.englishgame.repository.implementations.DBRepositoryImpl;
+import com.englishgame.repository.interfaces.DBRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Instrumentation Tests")
+class InstrumentationTest {
+
+    @Test
+    @DisplayName("Should share one probe and counter per name")
+    void shouldShareProbePerName() {
+        Probe probe = Instrumentation.probe("test.shared");
+        long before = probe.count();
+
+        Instrumentation.probe("test.shared").hit();
+        probe.hit();
+
+        assertSame(probe, Instrumentation.probe("test.shared"));
+        assertEquals(before + 2, probe.count());
+        assertEquals(before + 2, Instrumentation.counters().get("test.shared"));
+    }
+
+    @Test
+    @DisplayName("Should count repository operations")
+    void shouldCountRepositoryOperations() {
+        DBRepository repository = new DBRepositoryImpl();
+        long saves = Instrumentation.probe("repository.save").count();
+        long deletes = Instrumentation.probe("repository.deleteBy").count();
+        Map<String, Object> row = new HashMap<>();
+        row.put("database", "animals");
+
+        repository.save(List.of(row));
+        repository.save(List.of(row));
+        repository.deleteBy("database", "animals");
+
+        assertEquals(saves + 2, Instrumentation.probe("repository.save").count());
+        assertEquals(deletes + 1, Instrumentation.probe("repository.deleteBy").count());
+    }
+
+    @Test
+    @DisplayName("Should publish timers over JMX and in the text report")
+    void shouldPublishTimers() throws Exception {
+        Timer timer = Instrumentation.timer("test.timer");
+        long before = timer.count();
+
+        assertEquals("done", timer.time(() -> "done"));
+        MetricsReporter.install();
+
+        assertSame(timer, Instrumentation.timer("test.timer"));
+        assertEquals(before + 1, timer.count());
+        assertTrue(MetricsReporter.report().contains("test.timer"));
+        TabularData timers = (TabularData) ManagementFactory.getPlatformMBeanServer()
+                .getAttribute(new ObjectName(MetricsReporter.OBJECT_NAME), "Timers");
+        assertNotNull(timers.get(new Object[]{"test.timer"}));
+    }
+}
@@ -0,0 +1,60 @@
+package com.englishgame.instrumentation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LatencyHistogram Tests")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Should place every value in a bucket that contains it")
+    void shouldPlaceValuesInContainingBucket() {
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextLong() >>> (1 + random.nextInt(63));
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(value <= LatencyHistogram.highestValueIn(bucket), "value " + value);
+            assertTrue(bucket == 0 || value > LatencyHistogram.highestValueIn(bucket - 1), "value " + value);
+        }
+        assertTrue(LatencyHistogram.bucketOf(Long.MAX_VALUE) >= 0);
+    }
+
+    @Test
+    @DisplayName("Should report percentiles within bucket precision")
+    void shouldReportPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros * 1000);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(1_000_000, snapshot.getMax());
+        assertEquals(500_500, snapshot.getMean());
+        assertEquals(500_000, snapshot.getP50(), 500_000 * 0.04);
+        assertEquals(990_000, snapshot.getP99(), 990_000 * 0.04);
+        assertTrue(snapshot.getP50() <= snapshot.getP90() && snapshot.getP90() <= snapshot.getP99());
+        assertTrue(snapshot.getP99() <= snapshot.getMax());
+    }
+
+    @Test
+    @DisplayName("Should start empty and clear on reset")
+    void shouldResetToEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.snapshot().getP99());
+
+        histogram.record(42);
+        histogram.record(-5);
+        assertEquals(2, histogram.count());
+        assertEquals(42, histogram.snapshot().getMax());
+
+        histogram.reset();
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.snapshot().getMax());
+    }
+}
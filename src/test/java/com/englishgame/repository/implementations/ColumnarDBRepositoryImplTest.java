@@ -0,0 +1,169 @@
+package com.englishgame.repository.implementations;
+
+import com.englishgame.repository.interfaces.DBRepository;
+import com.englishgame.repository.interfaces.DataBase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The columnar adapters must answer exactly like the list implementations; the tests drive both side by side.
+ */
+@DisplayName("ColumnarDBRepository Tests")
+class ColumnarDBRepositoryImplTest {
+
+    private DBRepository reference;
+    private DBRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        reference = new DBRepositoryImpl();
+        repository = new ColumnarDBRepositoryImpl();
+    }
+
+    @Test
+    @DisplayName("Should round-trip rows with typed, unusual and unknown values")
+    void shouldRoundTripRows() {
+        // Given
+        Map<String, Object> prompt = row("spanish_expression", "animals", "perro", 3);
+        prompt.put("translations", new ArrayList<>(List.of("dog", "hound")));
+        prompt.put("included_at", 1700000000000L);
+        Map<String, Object> learned = row("english_expression", "learned_words", "cat", 21);
+        learned.put("spanish_sources", new ArrayList<>(List.of("gato")));
+        learned.put("included_at", 0);
+        learned.put("practice_source_database", null);
+        Map<String, Object> odd = row("database_metadata", "animals", "x", 0);
+        odd.put("score", 5L);
+        odd.put("created_at", "yesterday");
+        odd.put("translations", new ArrayList<>(Arrays.asList("a", null)));
+        odd.put("words_definitely_mastered_total", 4);
+        saveBoth(List.of(prompt));
+        saveBoth(List.of(learned, odd));
+
+        // Then
+        assertEquals(reference.findAll(), repository.findAll());
+        assertEquals(Long.class, repository.findById(0).get(0).get("included_at").getClass());
+        assertEquals(Integer.class, repository.findById(1).get(0).get("included_at").getClass());
+        assertSameAnswers("score", 5L);
+        assertSameAnswers("score", 5);
+        assertSameAnswers("included_at", 0);
+        assertSameAnswers("included_at", 0L);
+        assertSameAnswers("practice_source_database", null);
+        assertSameAnswers("translations", List.of("dog", "hound"));
+        assertSameAnswers("words_definitely_mastered_total", 4);
+        assertSameAnswers("expression", "never stored");
+    }
+
+    @Test
+    @DisplayName("Should serialize to the same JSON as the list repository")
+    void shouldSerializeToSameJson() throws Exception {
+        // Given
+        Random random = new Random(3);
+        for (int i = 0; i < 50; i++) {
+            saveBoth(randomRecord(random));
+        }
+
+        // Then
+        ObjectMapper objectMapper = new ObjectMapper();
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(reference.findAll())),
+                objectMapper.readTree(objectMapper.writeValueAsString(repository.findAll())));
+    }
+
+    @Test
+    @DisplayName("Should match the list repository on a random operation sequence")
+    void shouldMatchListRepositoryOnRandomOperations() {
+        Random random = new Random(11);
+        for (int step = 0; step < 3000; step++) {
+            int op = random.nextInt(10);
+            int size = reference.size();
+            if (op < 5 || size == 0) {
+                saveBoth(randomRecord(random));
+            } else if (op < 7) {
+                String database = "db" + random.nextInt(5);
+                assertEquals(reference.deleteBy("database", database), repository.deleteBy("database", database));
+            } else if (op < 8) {
+                int index = random.nextInt(size);
+                assertEquals(reference.delete(index), repository.delete(index));
+            } else {
+                int index = random.nextInt(size);
+                List<Map<String, Object>> updated = randomRecord(random);
+                assertEquals(reference.update(index, updated), repository.update(index, updated));
+            }
+            assertEquals(reference.size(), repository.size());
+        }
+
+        assertEquals(reference.findAll(), repository.findAll());
+        for (int i = 0; i < 5; i++) {
+            assertSameAnswers("database", "db" + i);
+        }
+        assertSameAnswers("language", "english");
+        assertSameAnswers("score", 7);
+    }
+
+    @Test
+    @DisplayName("Should back the DataBase interface like DataBaseImpl")
+    void shouldBackDataBaseInterface() {
+        // Given
+        DataBase list = new DataBaseImpl();
+        DataBase columnar = new ColumnarDataBaseImpl();
+        for (int i = 0; i < 20; i++) {
+            Map<String, Object> row = row("spanish_expression", "db" + (i % 3), "word" + i, i % 4);
+            assertEquals(list.add(row), columnar.add(row));
+        }
+
+        // When
+        assertEquals(list.removeBy("database", "db1"), columnar.removeBy("database", "db1"));
+        assertEquals(list.remove(0), columnar.remove(0));
+        Map<String, Object> updated = row("english_expression", "db2", "updated", 9);
+        assertEquals(list.update(3, updated), columnar.update(3, updated));
+
+        // Then
+        assertEquals(list.findAll(), columnar.findAll());
+        assertEquals(list.findBy("score", 2), columnar.findBy("score", 2));
+        assertEquals(list.indexOf("expression", "updated"), columnar.indexOf("expression", "updated"));
+        assertNull(columnar.get(columnar.size()));
+    }
+
+    private void saveBoth(List<Map<String, Object>> record) {
+        assertEquals(reference.save(record), repository.save(record));
+    }
+
+    private void assertSameAnswers(String key, Object value) {
+        assertEquals(reference.findBy(key, value), repository.findBy(key, value), key + "=" + value);
+    }
+
+    private static List<Map<String, Object>> randomRecord(Random random) {
+        Map<String, Object> row = row(random.nextBoolean() ? "spanish_expression" : "english_expression",
+                "db" + random.nextInt(5), "word" + random.nextInt(50), random.nextInt(21));
+        List<String> translations = new ArrayList<>();
+        for (int i = random.nextInt(4); i > 0; i--) {
+            translations.add("translation" + random.nextInt(50));
+        }
+        row.put(random.nextBoolean() ? "translations" : "spanish_sources", translations);
+        row.put("included_at", random.nextBoolean() ? (Object) random.nextLong() : (Object) random.nextInt(100));
+        List<Map<String, Object>> record = new ArrayList<>();
+        record.add(row);
+        if (random.nextInt(4) == 0) {
+            Map<String, Object> extra = new HashMap<>();
+            extra.put("language", "english");
+            extra.put("expression", "translation" + random.nextInt(50));
+            record.add(extra);
+        }
+        return record;
+    }
+
+    private static Map<String, Object> row(String type, String database, String expression, int score) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("type", type);
+        row.put("database", database);
+        row.put("language", "spanish");
+        row.put("expression", expression);
+        row.put("score", score);
+        return row;
+    }
+}
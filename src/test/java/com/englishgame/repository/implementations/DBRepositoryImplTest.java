@@ -217,6 +217,27 @@ class DBRepositoryImplTest {
         assertEquals(0, repository.size());
     }
     
+    @Test
+    @DisplayName("Should stream and page records as read-only views")
+    void shouldStreamAndPageReadOnlyViews() {
+        // Given
+        repository.save(createSpanishExpressionRecord());
+        repository.save(createEnglishExpressionRecord());
+        
+        // When
+        List<List<Map<String, Object>>> streamed = new ArrayList<>();
+        repository.forEach(streamed::add);
+        List<List<Map<String, Object>>> secondPage = repository.page(1, 10);
+        
+        // Then
+        assertEquals(repository.findAll(), streamed);
+        assertEquals(1, secondPage.size());
+        assertEquals("english", secondPage.get(0).get(0).get("language"));
+        assertTrue(repository.page(5, 10).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> streamed.get(0).get(0).put("score", 0));
+        assertThrows(UnsupportedOperationException.class, () -> streamed.get(0).remove(0));
+    }
+    
     // Helper methods to create test data
     private List<Map<String, Object>> createSpanishExpressionRecord() {
         List<Map<String, Object>> record = new ArrayList<>();
@@ -0,0 +1,152 @@
+package com.englishgame.repository.implementations;
+
+import com.englishgame.repository.interfaces.DBRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IndexedDBRepositoryImpl must answer exactly like DBRepositoryImpl; the tests drive both side by side.
+ */
+@DisplayName("IndexedDBRepository Tests")
+class IndexedDBRepositoryImplTest {
+
+    private DBRepository reference;
+    private DBRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        reference = new DBRepositoryImpl();
+        repository = new IndexedDBRepositoryImpl();
+    }
+
+    @Test
+    @DisplayName("Should find by indexed and non-indexed keys in insertion order")
+    void shouldFindByIndexedAndNonIndexedKeys() {
+        // Given
+        saveBoth(record("spanish_expression", "animals", "perro", 3));
+        saveBoth(record("spanish_expression", "colors", "rojo", 5));
+        saveBoth(record("spanish_expression", "animals", "gato", 3));
+
+        // Then
+        assertSameAnswers("database", "animals");
+        assertSameAnswers("expression", "rojo");
+        assertSameAnswers("score", 3);
+        assertSameAnswers("database", "missing");
+        assertEquals(List.of("perro", "gato"), expressions(repository.findBy("database", "animals")));
+    }
+
+    @Test
+    @DisplayName("Should keep positions and indexes consistent after deletes and updates")
+    void shouldKeepPositionsConsistentAfterDeletes() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            saveBoth(record("spanish_expression", "db" + (i % 3), "word" + i, i));
+        }
+
+        // When
+        assertEquals(reference.deleteBy("database", "db1"), repository.deleteBy("database", "db1"));
+        assertTrue(reference.delete(2) && repository.delete(2));
+        assertTrue(reference.update(1, record("english_expression", "db1", "updated", 9))
+                && repository.update(1, record("english_expression", "db1", "updated", 9)));
+
+        // Then
+        assertEquals(reference.size(), repository.size());
+        assertEquals(reference.findAll(), repository.findAll());
+        for (int i = 0; i < reference.size(); i++) {
+            assertEquals(reference.findById(i), repository.findById(i));
+        }
+        assertNull(repository.findById(reference.size()));
+        assertSameAnswers("database", "db1");
+        assertSameAnswers("type", "english_expression");
+        assertSameAnswers("expression", "word1");
+    }
+
+    @Test
+    @DisplayName("Should match the list repository on a random operation sequence")
+    void shouldMatchListRepositoryOnRandomOperations() {
+        Random random = new Random(7);
+        for (int step = 0; step < 2000; step++) {
+            int op = random.nextInt(10);
+            int size = reference.size();
+            if (op < 5 || size == 0) {
+                saveBoth(randomRecord(random));
+            } else if (op < 7) {
+                String database = "db" + random.nextInt(5);
+                assertEquals(reference.deleteBy("database", database), repository.deleteBy("database", database));
+            } else if (op < 8) {
+                int index = random.nextInt(size);
+                assertEquals(reference.delete(index), repository.delete(index));
+            } else {
+                int index = random.nextInt(size);
+                List<Map<String, Object>> updated = randomRecord(random);
+                assertEquals(reference.update(index, updated), repository.update(index, updated));
+            }
+            assertEquals(reference.size(), repository.size());
+        }
+
+        assertEquals(reference.findAll(), repository.findAll());
+        for (int i = 0; i < 5; i++) {
+            assertSameAnswers("database", "db" + i);
+        }
+        assertSameAnswers("language", "english");
+    }
+
+    @Test
+    @DisplayName("Should clear records and indexes")
+    void shouldClearRecordsAndIndexes() {
+        // Given
+        repository.save(record("spanish_expression", "animals", "perro", 0));
+
+        // When
+        repository.clear();
+
+        // Then
+        assertTrue(repository.isEmpty());
+        assertTrue(repository.findBy("database", "animals").isEmpty());
+    }
+
+    private void saveBoth(List<Map<String, Object>> record) {
+        assertEquals(reference.save(record), repository.save(record));
+    }
+
+    private void assertSameAnswers(String key, Object value) {
+        assertEquals(reference.findBy(key, value), repository.findBy(key, value), key + "=" + value);
+    }
+
+    private static List<Object> expressions(List<List<Map<String, Object>>> records) {
+        List<Object> result = new ArrayList<>();
+        for (List<Map<String, Object>> record : records) {
+            result.add(record.get(0).get("expression"));
+        }
+        return result;
+    }
+
+    private static List<Map<String, Object>> randomRecord(Random random) {
+        List<Map<String, Object>> record = record(random.nextBoolean() ? "spanish_expression" : "english_expression",
+                "db" + random.nextInt(5), "word" + random.nextInt(50), random.nextInt(21));
+        if (random.nextBoolean()) {
+            Map<String, Object> translation = new HashMap<>();
+            translation.put("language", "english");
+            translation.put("expression", "translation" + random.nextInt(50));
+            record.add(translation);
+        }
+        return record;
+    }
+
+    private static List<Map<String, Object>> record(String type, String database, String expression, int score) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("type", type);
+        map.put("database", database);
+        map.put("language", "spanish");
+        map.put("expression", expression);
+        map.put("score", score);
+        List<Map<String, Object>> record = new ArrayList<>();
+        record.add(map);
+        return record;
+    }
+}
@@ -0,0 +1,122 @@
+package com.englishgame.server;
+
+import com.englishgame.AppGameMode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GameServer Tests")
+class GameServerTest {
+
+    private static final String TEST_DATA_DIR = "test_data_server";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newHttpClient();
+    private GameServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new GameServer(new ProfileRegistry(Paths.get(TEST_DATA_DIR), AppGameMode.CLASSIC), 0, 8);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.stop(0);
+        Path testPath = Paths.get(TEST_DATA_DIR);
+        if (Files.exists(testPath)) {
+            try (var walk = Files.walk(testPath)) {
+                walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should play a round for independent profiles concurrently")
+    void shouldPlayRoundsForIndependentProfiles() throws Exception {
+        ExecutorService players = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                String profile = "student-" + i;
+                results.add(players.submit(() -> playOneRound(profile)));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            players.shutdownNow();
+        }
+
+        assertTrue(Files.exists(Paths.get(TEST_DATA_DIR, "student-0", "game_data.json")));
+        assertTrue(Files.exists(Paths.get(TEST_DATA_DIR, "student-3", "game_data.json")));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid profile ids and unknown routes")
+    void shouldRejectInvalidRequests() throws Exception {
+        assertEquals(400, send("GET", "/api/profiles/bad.id/databases", null).statusCode());
+        assertEquals(404, send("GET", "/api/profiles/alice/unknown", null).statusCode());
+        assertEquals(400, send("POST", "/api/profiles/alice/round", null).statusCode());
+        assertEquals(404, send("GET", "/api", null).statusCode());
+    }
+
+    @Test
+    @DisplayName("Should listen on the loopback interface by default")
+    void shouldBindLoopbackByDefault() {
+        assertTrue(server.getAddress().getAddress().isLoopbackAddress());
+    }
+
+    private boolean playOneRound(String profile) throws Exception {
+        String base = "/api/profiles/" + profile;
+        assertEquals(200, send("POST", base + "/databases", Map.of("name", "animals")).statusCode());
+        assertEquals(200, send("POST", base + "/expressions", Map.of(
+                "database", "animals", "expression", "perro", "translations", List.of("dog"))).statusCode());
+        assertEquals(200, send("POST", base + "/select", Map.of("database", "animals")).statusCode());
+
+        Map<?, ?> round = json(send("POST", base + "/round", null));
+        assertEquals("perro", round.get("prompt"));
+
+        Map<?, ?> answer = json(send("POST", base + "/answer", Map.of("answer", "dog")));
+        return Boolean.TRUE.equals(answer.get("correct"));
+    }
+
+    private HttpResponse<String> send(String method, String path, Object body) throws Exception {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        String host = server.getAddress().getAddress().getHostAddress();
+        if (host.contains(":")) {
+            host = "[" + host + "]";
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://" + host + ":" + server.getPort() + path))
+                .method(method, publisher)
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private Map<?, ?> json(HttpResponse<String> response) throws Exception {
+        assertEquals(200, response.statusCode(), response.body());
+        return objectMapper.readValue(response.body(), Map.class);
+    }
+}
@@ -0,0 +1,183 @@
+package com.englishgame.service.implementations;
+
+import com.englishgame.model.DatabaseSnapshot;
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.LearnedWordsReviewResult;
+import com.englishgame.model.ReviewDatabases;
+import com.englishgame.model.SpanishExpression;
+import com.englishgame.repository.implementations.DBRepositoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mutations from one thread while another persists (as the shutdown hook does) must not fail.
+ */
+@DisplayName("DatabaseService concurrency Tests")
+class DatabaseServiceImplConcurrencyTest {
+
+    private static final String TEST_DATA_DIR = "test_data_concurrency";
+
+    private GameDataServiceImpl gameDataService;
+    private DatabaseServiceImpl databaseService;
+
+    @BeforeEach
+    void setUp() {
+        gameDataService = new GameDataServiceImpl(new DBRepositoryImpl());
+        gameDataService.setDataDirectory(TEST_DATA_DIR);
+        databaseService = new DatabaseServiceImpl(gameDataService);
+        gameDataService.setDatabaseService(databaseService);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Path testPath = Paths.get(TEST_DATA_DIR);
+        if (Files.exists(testPath)) {
+            try (var walk = Files.walk(testPath)) {
+                walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should persist while another thread mutates databases")
+    void shouldPersistWhileAnotherThreadMutates() throws Exception {
+        assertTrue(databaseService.createDatabase("alpha"));
+        assertTrue(databaseService.createDatabase("beta"));
+
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(2);
+
+        Thread mutator = new Thread(() -> {
+            try {
+                for (int i = 0; i < 60; i++) {
+                    databaseService.addSpanishExpression("alpha", phrase("casa " + i, "house " + i));
+                    if (i % 3 == 0) {
+                        databaseService.moveSpanishExpression("alpha", "beta", "casa " + i);
+                    }
+                    if (i % 5 == 0) {
+                        databaseService.removeSpanishExpression("beta", "casa " + (i - 5));
+                    }
+                }
+            } catch (Throwable t) {
+                failures.add(t);
+            } finally {
+                done.countDown();
+            }
+        });
+        Thread saver = new Thread(() -> {
+            try {
+                for (int i = 0; i < 60; i++) {
+                    assertTrue(gameDataService.saveGameData());
+                    databaseService.getSpanishExpressions("beta");
+                }
+            } catch (Throwable t) {
+                failures.add(t);
+            } finally {
+                done.countDown();
+            }
+        });
+        mutator.start();
+        saver.start();
+
+        assertTrue(done.await(60, TimeUnit.SECONDS), "threads did not finish (possible deadlock)");
+        assertTrue(failures.isEmpty(), () -> "concurrent failures: " + failures);
+        assertEquals(60, databaseService.getSpanishExpressionCount("alpha")
+                + databaseService.getSpanishExpressionCount("beta")
+                + countRemovedFromBeta());
+    }
+
+    @Test
+    @DisplayName("Should reject read-to-write lock upgrades instead of deadlocking")
+    void shouldRejectLockUpgrade() {
+        assertTrue(databaseService.createDatabase("alpha"));
+        assertThrows(IllegalStateException.class, () -> databaseService.readConsistently(
+                () -> databaseService.addSpanishExpression("alpha", phrase("perro", "dog"))));
+    }
+
+    @Test
+    @DisplayName("Should share unchanged databases between snapshots")
+    void shouldShareUnchangedDatabasesBetweenSnapshots() {
+        assertTrue(databaseService.createDatabase("alpha"));
+        assertTrue(databaseService.createDatabase("beta"));
+        databaseService.addSpanishExpression("alpha", phrase("casa", "house"));
+
+        DatabaseSnapshot first = databaseService.snapshot();
+        databaseService.addSpanishExpression("beta", phrase("perro", "dog"));
+        DatabaseSnapshot second = databaseService.snapshot();
+
+        assertSame(first.find("alpha").orElseThrow(), second.find("alpha").orElseThrow());
+        assertNotSame(first.find("beta").orElseThrow(), second.find("beta").orElseThrow());
+        assertEquals(0, first.find("beta").orElseThrow().size());
+        assertEquals(1, second.find("BETA ").orElseThrow().promptRows().size());
+    }
+
+    @Test
+    @DisplayName("Should reflect in-place score changes once the database is marked modified")
+    void shouldReflectMarkedScoreChanges() {
+        assertTrue(databaseService.createDatabase("alpha"));
+        databaseService.addSpanishExpression("alpha", phrase("casa", "house"));
+        DatabaseSnapshot before = databaseService.snapshot();
+
+        databaseService.getSpanishExpressions("alpha").get(0).setScore(7);
+        databaseService.markModified("alpha");
+
+        assertEquals(0, before.find("alpha").orElseThrow().promptRows().get(0).score());
+        assertEquals(7, databaseService.snapshot().find("alpha").orElseThrow().promptRows().get(0).score());
+    }
+
+    @Test
+    @DisplayName("Should share databases a review attempt did not touch")
+    void shouldShareDatabasesUntouchedByReview() {
+        assertTrue(databaseService.createDatabase("alpha"));
+        assertTrue(databaseService.createDatabase("beta"));
+        databaseService.addSpanishExpression("beta", phrase("perro", "dog"));
+        EnglishExpression card = new EnglishExpression("house", 10,
+                new ArrayList<>(List.of(new SpanishExpression("casa", 0, new ArrayList<>()))));
+        card.setPracticeSourceDatabase("alpha");
+        assertTrue(databaseService.addEnglishExpression(ReviewDatabases.LEARNED_WORDS_KEY, card));
+        DatabaseSnapshot first = databaseService.snapshot();
+
+        assertEquals(LearnedWordsReviewResult.Outcome.DEMOTED_TO_PRACTICE, databaseService
+                .submitLearnedWordsReviewAttempt(card, "home", ReviewDatabases.LEARNED_WORDS_KEY, false, null)
+                .orElseThrow().outcome());
+        DatabaseSnapshot second = databaseService.snapshot();
+
+        assertSame(first.find("beta").orElseThrow(), second.find("beta").orElseThrow());
+        assertSame(first.find(ReviewDatabases.WORDS_DEFINITELY_LEARNED_KEY).orElseThrow(),
+                second.find(ReviewDatabases.WORDS_DEFINITELY_LEARNED_KEY).orElseThrow());
+        assertEquals(1, second.find("alpha").orElseThrow().promptRows().size());
+        assertEquals(0, second.find(ReviewDatabases.LEARNED_WORDS_KEY).orElseThrow().englishRows().size());
+    }
+
+    /** Every fifth iteration removes a row that was previously moved to beta (i - 5 divisible by 3). */
+    private static int countRemovedFromBeta() {
+        int removed = 0;
+        for (int i = 5; i < 60; i += 5) {
+            if ((i - 5) % 3 == 0) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private static SpanishExpression phrase(String spanish, String english) {
+        List<EnglishExpression> translations = new ArrayList<>();
+        translations.add(new EnglishExpression(english, 0, new ArrayList<>()));
+        return new SpanishExpression(spanish, 0, translations);
+    }
+}
@@ -0,0 +1,140 @@
+package com.englishgame.service.implementations;
+
+import com.englishgame.model.DatabaseStats;
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.ReviewDatabases;
+import com.englishgame.model.SpanishExpression;
+import com.englishgame.repository.implementations.DBRepositoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DatabaseStats Tests")
+class DatabaseStatsTest {
+
+    private static final String TEST_DATA_DIR = "test_data_database_stats";
+
+    private DatabaseServiceImpl databaseService;
+
+    @BeforeEach
+    void setUp() {
+        GameDataServiceImpl gameDataService = new GameDataServiceImpl(new DBRepositoryImpl());
+        gameDataService.setDataDirectory(TEST_DATA_DIR);
+        databaseService = new DatabaseServiceImpl(gameDataService);
+        gameDataService.setDatabaseService(databaseService);
+        assertTrue(databaseService.createDatabase("alpha"));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Path testPath = Paths.get(TEST_DATA_DIR);
+        if (Files.exists(testPath)) {
+            try (var walk = Files.walk(testPath)) {
+                walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should count rows, playable rows and score bands of a database")
+    void shouldCountDatabase() {
+        assertTrue(databaseService.addSpanishExpression("alpha", phrase("casa", 0, 22)));
+        assertTrue(databaseService.addSpanishExpression("alpha", phrase("perro", 17)));
+        assertTrue(databaseService.addEnglishExpression("alpha", new EnglishExpression("cat", 40, new ArrayList<>())));
+
+        DatabaseStats stats = databaseService.getDatabaseStats("ALPHA ").orElseThrow();
+
+        assertEquals("alpha", stats.database());
+        assertEquals(2, stats.promptRows());
+        assertEquals(1, stats.englishRows());
+        assertEquals(3, stats.playableRows());
+        assertEquals(4, stats.scoredItems());
+        assertEquals(List.of(1, 0, 0, 1, 1, 0, 0, 1), stats.scoreHistogram());
+        assertEquals((0 + 22 + 17 + 40) / 4.0, stats.averageScore(), 1e-9);
+        assertEquals(2, stats.learned());
+        assertEquals(1, stats.nearLearned());
+        assertTrue(databaseService.getDatabaseStats("missing").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reuse stats until the database changes")
+    void shouldReuseStatsUntilChanged() {
+        SpanishExpression casa = phrase("casa", 3);
+        assertTrue(databaseService.addSpanishExpression("alpha", casa));
+        DatabaseStats first = databaseService.getDatabaseStats("alpha").orElseThrow();
+        assertSame(first, databaseService.getDatabaseStats("alpha").orElseThrow());
+        assertSame(databaseService.getDatabaseStats(ReviewDatabases.LEARNED_WORDS_KEY).orElseThrow(),
+                databaseService.getDatabaseStats(ReviewDatabases.LEARNED_WORDS_KEY).orElseThrow());
+
+        casa.getTranslations().get(0).setScore(DatabaseStats.LEARNED_AT);
+        databaseService.markModified("alpha");
+        DatabaseStats updated = databaseService.getDatabaseStats("alpha").orElseThrow();
+
+        assertNotSame(first, updated);
+        assertEquals(0, first.learned());
+        assertEquals(1, updated.learned());
+    }
+
+    @Test
+    @DisplayName("Should keep the counters in step with play, promotion and removal without recounting")
+    void shouldTrackChangesIncrementally() {
+        GameLogicServiceImpl gameLogic = new GameLogicServiceImpl(null, databaseService);
+        SpanishExpression casa = phrase("casa", DatabaseStats.LEARNED_AT - 2);
+        SpanishExpression perro = phrase("perro", 12, 4);
+        assertTrue(databaseService.addSpanishExpression("alpha", casa));
+        assertTrue(databaseService.addSpanishExpression("alpha", perro));
+        assertTrue(databaseService.addEnglishExpression("alpha", new EnglishExpression("cat", 7, new ArrayList<>())));
+        assertEquals(4, databaseService.getDatabaseStats("alpha").orElseThrow().scoredItems());
+
+        gameLogic.processCorrectAnswer(casa, "casa-en0", "alpha");
+        assertEquals(1, databaseService.getDatabaseStats("alpha").orElseThrow().nearLearned());
+        // Llega al umbral: la traducción pasa a learned_words y la fila queda vacía
+        assertTrue(gameLogic.processCorrectAnswer(casa, "casa-en0", "alpha").promotedToLearnedWords());
+        gameLogic.processIncorrectAnswer(perro, "wrong", "alpha");
+        assertTrue(databaseService.removeEnglishExpression("alpha", "cat"));
+
+        DatabaseStats alpha = databaseService.getDatabaseStats("alpha").orElseThrow();
+        DatabaseStats learned = databaseService.getDatabaseStats(ReviewDatabases.LEARNED_WORDS_KEY).orElseThrow();
+        assertEquals(1, alpha.promptRows());
+        assertEquals(0, alpha.englishRows());
+        assertEquals(2, alpha.scoredItems());
+        assertEquals(1, learned.englishRows());
+        assertEquals(1, learned.learned());
+
+        // Un recuento completo da lo mismo que los contadores
+        databaseService.markModified("alpha");
+        databaseService.markModified(ReviewDatabases.LEARNED_WORDS_KEY);
+        assertSameCounts(alpha, databaseService.getDatabaseStats("alpha").orElseThrow());
+        assertSameCounts(learned, databaseService.getDatabaseStats(ReviewDatabases.LEARNED_WORDS_KEY).orElseThrow());
+    }
+
+    private static void assertSameCounts(DatabaseStats expected, DatabaseStats actual) {
+        assertEquals(expected.promptRows(), actual.promptRows());
+        assertEquals(expected.englishRows(), actual.englishRows());
+        assertEquals(expected.playableRows(), actual.playableRows());
+        assertEquals(expected.scoredItems(), actual.scoredItems());
+        assertEquals(expected.scoreHistogram(), actual.scoreHistogram());
+        assertEquals(expected.averageScore(), actual.averageScore(), 1e-9);
+        assertEquals(expected.learned(), actual.learned());
+        assertEquals(expected.nearLearned(), actual.nearLearned());
+    }
+
+    private static SpanishExpression phrase(String spanish, int... scores) {
+        List<EnglishExpression> translations = new ArrayList<>();
+        for (int i = 0; i < scores.length; i++) {
+            translations.add(new EnglishExpression(spanish + "-en" + i, scores[i], new ArrayList<>()));
+        }
+        return new SpanishExpression(spanish, 0, translations);
+    }
+}
@@ -0,0 +1,141 @@
+package com.englishgame.service.implementations;
+
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.LearnedWordsReviewResult;
+import com.englishgame.model.ReviewDatabases;
+import com.englishgame.model.SpanishExpression;
+import com.englishgame.repository.implementations.DBRepositoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EnglishLemmaIndex Tests")
+class EnglishLemmaIndexTest {
+
+    private static final String TEST_DATA_DIR = "test_data_lemma_index";
+
+    private GameDataServiceImpl gameDataService;
+    private DatabaseServiceImpl databaseService;
+
+    @BeforeEach
+    void setUp() {
+        gameDataService = new GameDataServiceImpl(new DBRepositoryImpl());
+        gameDataService.setDataDirectory(TEST_DATA_DIR);
+        databaseService = new DatabaseServiceImpl(gameDataService);
+        gameDataService.setDatabaseService(databaseService);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Path testPath = Paths.get(TEST_DATA_DIR);
+        if (Files.exists(testPath)) {
+            try (var walk = Files.walk(testPath)) {
+                walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should key lemmas by squashed, lower-cased text")
+    void shouldNormalizeKeys() {
+        assertEquals("give up", EnglishLemmaIndex.key("  Give \t UP "));
+        assertEquals("", EnglishLemmaIndex.key("   "));
+        assertEquals("", EnglishLemmaIndex.key(null));
+    }
+
+    @Test
+    @DisplayName("Should track rows by identity and drop entries whose row lost the lemma")
+    void shouldDropStaleOccurrences() {
+        EnglishLemmaIndex index = new EnglishLemmaIndex();
+        SpanishExpression first = phrase("casa", "house");
+        SpanishExpression twin = phrase("casa", "house");
+        index.addPrompt("alpha", first);
+        index.addPrompt("alpha", twin);
+        index.addEnglish("beta", new EnglishExpression("House", 0, new ArrayList<>()));
+
+        assertEquals(3, index.occurrences("house").size());
+
+        first.getTranslations().clear();
+        List<EnglishLemmaIndex.Occurrence> live = index.occurrences("house");
+        assertEquals(2, live.size());
+        assertTrue(live.stream().noneMatch(o -> o.row() == first));
+
+        index.renameDatabase("alpha", "gamma");
+        assertTrue(index.occurrences("house").stream().anyMatch(o -> o.database().equals("gamma")));
+        index.removeDatabase("gamma");
+        index.removeDatabase("beta");
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @DisplayName("Should purge a mastered lemma from renamed and moved databases")
+    void shouldPurgeMasteredLemmaEverywhere() {
+        assertTrue(databaseService.createDatabase("alpha"));
+        assertTrue(databaseService.createDatabase("beta"));
+        assertTrue(databaseService.addSpanishExpression("alpha", phrase("rendirse", "give up")));
+        assertTrue(databaseService.addSpanishExpression("alpha", phrase("abandonar", "give up", "quit")));
+        assertTrue(databaseService.addSpanishExpression("beta", phrase("ceder", "Give  Up")));
+        assertTrue(databaseService.addEnglishExpression("beta",
+                new EnglishExpression("give up", 0, new ArrayList<>())));
+        assertTrue(databaseService.moveSpanishExpression("alpha", "beta", "rendirse"));
+        assertTrue(databaseService.renameDatabase("beta", "gamma").isPresent());
+
+        EnglishExpression card = new EnglishExpression("give up", ReviewDatabases.DEFINITELY_REVIEW_MASTER_SCORE - 1,
+                new ArrayList<>());
+        assertTrue(databaseService.addEnglishExpression(ReviewDatabases.WORDS_DEFINITELY_LEARNED_KEY, card));
+
+        Optional<LearnedWordsReviewResult> result = databaseService.submitLearnedWordsReviewAttempt(card, "give up",
+                ReviewDatabases.WORDS_DEFINITELY_LEARNED_KEY, false, null);
+
+        assertEquals(LearnedWordsReviewResult.Outcome.MASTERED_REMOVED_EVERYWHERE, result.orElseThrow().outcome());
+        assertTrue(databaseService.getSpanishExpressions("gamma").isEmpty());
+        assertTrue(databaseService.getEnglishExpressions("gamma").isEmpty());
+        List<SpanishExpression> alpha = databaseService.getSpanishExpressions("alpha");
+        assertEquals(1, alpha.size());
+        assertEquals(List.of("quit"), alpha.get(0).getTranslations().stream()
+                .map(EnglishExpression::getExpression).toList());
+        assertTrue(databaseService.getEnglishExpressions(ReviewDatabases.WORDS_DEFINITELY_LEARNED_KEY).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should promote a translation only from its phrase in its database")
+    void shouldPromoteFromCohortOnly() {
+        assertTrue(databaseService.createDatabase("alpha"));
+        SpanishExpression host = phrase("casa", "house", "home");
+        assertTrue(databaseService.addSpanishExpression("alpha", host));
+        assertTrue(databaseService.addSpanishExpression("alpha", phrase("casa", "dwelling")));
+        assertTrue(databaseService.addSpanishExpression("alpha", phrase("hogar", "house")));
+        assertTrue(databaseService.addEnglishExpression("alpha", new EnglishExpression("house", 0, new ArrayList<>())));
+
+        assertTrue(databaseService.promoteTranslationToLearned("alpha", host, host.getTranslations().get(0)));
+
+        List<SpanishExpression> rows = databaseService.getSpanishExpressions("alpha");
+        assertEquals(3, rows.size());
+        assertTrue(rows.contains(phrase("casa", "home")));
+        assertTrue(rows.contains(phrase("casa", "dwelling")));
+        assertTrue(rows.contains(phrase("hogar", "house")));
+        assertTrue(databaseService.getEnglishExpressions("alpha").isEmpty());
+        assertEquals(List.of("house"), databaseService.getLearnedExpressions().stream()
+                .map(EnglishExpression::getExpression).toList());
+    }
+
+    private static SpanishExpression phrase(String spanish, String... english) {
+        List<EnglishExpression> translations = new ArrayList<>();
+        for (String en : english) {
+            translations.add(new EnglishExpression(en, 0, new ArrayList<>()));
+        }
+        return new SpanishExpression(spanish, 0, translations);
+    }
+}
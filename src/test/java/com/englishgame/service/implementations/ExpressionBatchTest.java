@@ -0,0 +1,110 @@
+package com.englishgame.service.implementations;
+
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.ExpressionBatchResult;
+import com.englishgame.model.ReviewDatabases;
+import com.englishgame.model.SpanishExpression;
+import com.englishgame.repository.implementations.DBRepositoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Batch delete/move Tests")
+class ExpressionBatchTest {
+
+    private static final String TEST_DATA_DIR = "test_data_expression_batch";
+
+    private GameDataServiceImpl gameDataService;
+    private DatabaseServiceImpl databaseService;
+
+    @BeforeEach
+    void setUp() {
+        gameDataService = spy(new GameDataServiceImpl(new DBRepositoryImpl()));
+        gameDataService.setDataDirectory(TEST_DATA_DIR);
+        databaseService = new DatabaseServiceImpl(gameDataService);
+        gameDataService.setDatabaseService(databaseService);
+        assertTrue(databaseService.createDatabase("alpha"));
+        assertTrue(databaseService.createDatabase("beta"));
+        assertTrue(databaseService.addSpanishExpression("alpha", phrase("casa", "house")));
+        assertTrue(databaseService.addSpanishExpression("alpha", phrase("casa", "home")));
+        assertTrue(databaseService.addSpanishExpression("alpha", phrase("perro", "dog")));
+        assertTrue(databaseService.addSpanishExpression("alpha", phrase("gato", "cat")));
+        assertTrue(databaseService.addEnglishExpression("alpha", new EnglishExpression("tree", 4, new ArrayList<>())));
+        clearInvocations(gameDataService);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Path testPath = Paths.get(TEST_DATA_DIR);
+        if (Files.exists(testPath)) {
+            try (var walk = Files.walk(testPath)) {
+                walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should delete every row of each phrase, fall back to English rows and save once")
+    void shouldDeleteInOneSave() {
+        ExpressionBatchResult result = databaseService.deleteExpressions("ALPHA",
+                List.of(" Casa", "tree", "lobo"));
+
+        assertEquals(List.of(" Casa", "tree"), result.done());
+        assertEquals(List.of("lobo"), result.skipped());
+        assertEquals(2, result.spanishRows().size());
+        assertEquals(1, result.englishRows().size());
+        assertEquals(2, databaseService.getSpanishExpressionCount("alpha"));
+        assertEquals(0, databaseService.getEnglishExpressionCount("alpha"));
+        verify(gameDataService, times(1)).saveGameData();
+    }
+
+    @Test
+    @DisplayName("Should move one row per expression between databases and save once")
+    void shouldMoveInOneSave() {
+        ExpressionBatchResult result = databaseService.moveExpressions("alpha", ReviewDatabases.LEARNED_WORDS_KEY,
+                List.of("perro", "tree", "lobo"));
+        assertEquals(List.of("perro", "tree"), result.done());
+        assertEquals("alpha", result.englishRows().get(0).getPracticeSourceDatabase());
+        verify(gameDataService, times(1)).saveGameData();
+
+        ExpressionBatchResult back = databaseService.moveExpressions(ReviewDatabases.LEARNED_WORDS_KEY, "beta",
+                List.of("perro"));
+        assertEquals(List.of("perro"), back.done());
+        assertEquals(1, databaseService.getSpanishExpressionCount("beta"));
+        assertEquals(3, databaseService.getSpanishExpressionCount("alpha"));
+        assertEquals(1, databaseService.getEnglishExpressionCount(ReviewDatabases.LEARNED_WORDS_KEY));
+    }
+
+    @Test
+    @DisplayName("Should leave a skipped English row untouched")
+    void shouldNotTagSkippedEnglishRow() {
+        assertTrue(databaseService.addEnglishExpression(ReviewDatabases.LEARNED_WORDS_KEY,
+                new EnglishExpression("tree", 4, new ArrayList<>())));
+
+        ExpressionBatchResult result = databaseService.moveExpressions("alpha", ReviewDatabases.LEARNED_WORDS_KEY,
+                List.of("tree"));
+
+        assertEquals(List.of("tree"), result.skipped());
+        assertNull(databaseService.getEnglishExpressions("alpha").get(0).getPracticeSourceDatabase());
+    }
+
+    private static SpanishExpression phrase(String spanish, String... english) {
+        List<EnglishExpression> translations = new ArrayList<>();
+        for (String en : english) {
+            translations.add(new EnglishExpression(en, 0, new ArrayList<>()));
+        }
+        return new SpanishExpression(spanish, 0, translations);
+    }
+}
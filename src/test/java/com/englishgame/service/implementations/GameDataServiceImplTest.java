@@ -1,7 +1,10 @@
 package com.englishgame.service.implementations;
 
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.SpanishExpression;
 import com.englishgame.repository.interfaces.DBRepository;
 import com.englishgame.repository.implementations.DBRepositoryImpl;
+import com.englishgame.repository.implementations.IndexedDBRepositoryImpl;
 import com.englishgame.service.interfaces.GameDataService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +16,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -72,15 +76,53 @@ class GameDataServiceImplTest {
         // Given
         populateRepositoryWithTestData();
         gameDataService.saveGameData();
-        repository.clear(); // Clear to test loading
+        gameDataService.getRepository().clear(); // Clear to test loading
         
         // When
         boolean result = gameDataService.loadGameData();
         
         // Then
         assertTrue(result);
-        assertFalse(repository.isEmpty());
-        assertEquals(2, repository.size());
+        assertFalse(gameDataService.getRepository().isEmpty());
+        assertEquals(2, gameDataService.getRepository().size());
+    }
+    
+    @Test
+    @DisplayName("Should load into a fresh repository of the same kind")
+    void shouldLoadIntoFreshRepositoryOfSameKind() {
+        // Given
+        gameDataService = new GameDataServiceImpl(new IndexedDBRepositoryImpl());
+        gameDataService.setDataDirectory(testDataDirectory);
+        populateRepositoryWithTestData();
+        gameDataService.saveGameData();
+        DBRepository before = gameDataService.getRepository();
+        
+        // When
+        assertTrue(gameDataService.loadGameData());
+        
+        // Then
+        assertNotSame(before, gameDataService.getRepository());
+        assertInstanceOf(IndexedDBRepositoryImpl.class, gameDataService.getRepository());
+        assertEquals(2, gameDataService.getRepository().size());
+    }
+    
+    @Test
+    @DisplayName("Should warm up JSON handling without touching files or the repository")
+    void shouldWarmUpWithoutSideEffects() {
+        // Given
+        populateRepositoryWithTestData();
+        int recordsBefore = gameDataService.getRepository().size();
+        
+        // When
+        ((GameDataServiceImpl) gameDataService).warmUp();
+        
+        // Then
+        assertEquals(recordsBefore, gameDataService.getRepository().size());
+        assertFalse(gameDataService.gameDataExists());
+        assertTrue(gameDataService.saveGameData());
+        gameDataService.getRepository().clear();
+        assertTrue(gameDataService.loadGameData());
+        assertEquals(recordsBefore, gameDataService.getRepository().size());
     }
     
     @Test
@@ -106,14 +148,14 @@ class GameDataServiceImplTest {
         populateRepositoryWithTestData();
         String filename = "custom_game_data.json";
         gameDataService.saveGameDataToFile(filename);
-        repository.clear();
+        gameDataService.getRepository().clear();
         
         // When
         boolean result = gameDataService.loadGameDataFromFile(filename);
         
         // Then
         assertTrue(result);
-        assertFalse(repository.isEmpty());
+        assertFalse(gameDataService.getRepository().isEmpty());
     }
     
     @Test
@@ -149,6 +191,81 @@ class GameDataServiceImplTest {
         assertFalse(result);
     }
     
+    @Test
+    @DisplayName("Should reject a truncated file and leave the repository untouched")
+    void shouldRejectTruncatedFile() throws Exception {
+        // Given
+        populateRepositoryWithTestData();
+        gameDataService.saveGameDataToFile("full.json");
+        String json = Files.readString(Paths.get(testDataDirectory, "full.json"));
+        Files.writeString(Paths.get(testDataDirectory, "truncated.json"), json.substring(0, json.length() / 2));
+        gameDataService.getRepository().clear();
+        gameDataService.getRepository().save(createSpanishExpressionRecord());
+        
+        // When
+        boolean result = gameDataService.loadGameDataFromFile("truncated.json");
+        
+        // Then
+        assertFalse(result);
+        assertEquals(1, gameDataService.getRepository().size());
+        assertTrue(gameDataService.loadGameDataFromFile("full.json"));
+        assertEquals(2, gameDataService.getRepository().size());
+    }
+    
+    @Test
+    @DisplayName("Should keep the loaded data when the latest backup is corrupt")
+    void shouldKeepDataWhenBackupIsCorrupt() throws Exception {
+        // Given
+        populateRepositoryWithTestData();
+        Path backupDir = Files.createDirectories(Paths.get(testDataDirectory, "backups"));
+        Files.writeString(backupDir.resolve("game_data_backup_corrupt.json"), "[[{\"expression\": \"Ho");
+        
+        // When
+        boolean result = gameDataService.restoreFromBackup();
+        
+        // Then
+        assertFalse(result);
+        assertEquals(2, gameDataService.getRepository().size());
+    }
+    
+    @Test
+    @DisplayName("Should defer saves requested while a background load is running")
+    void shouldDeferSavesUntilLoaded() {
+        // Given
+        CompletableFuture<Void> loaded = new CompletableFuture<>();
+        ((GameDataServiceImpl) gameDataService).deferSavesUntil(loaded);
+        populateRepositoryWithTestData();
+        
+        // When
+        boolean first = gameDataService.saveGameData();
+        boolean second = gameDataService.saveGameData();
+        
+        // Then
+        assertFalse(first);
+        assertFalse(second);
+        assertFalse(gameDataService.gameDataExists());
+        loaded.complete(null);
+        assertTrue(gameDataService.gameDataExists());
+        assertTrue(gameDataService.saveGameData());
+    }
+    
+    @Test
+    @DisplayName("Should refuse saves after a failed background load")
+    void shouldRefuseSavesAfterFailedLoad() {
+        // Given
+        CompletableFuture<Void> loaded = new CompletableFuture<>();
+        ((GameDataServiceImpl) gameDataService).deferSavesUntil(loaded);
+        populateRepositoryWithTestData();
+        gameDataService.saveGameData();
+        
+        // When
+        loaded.completeExceptionally(new IllegalStateException("corrupt"));
+        
+        // Then
+        assertFalse(gameDataService.gameDataExists());
+        assertFalse(gameDataService.saveGameData());
+    }
+    
     @Test
     @DisplayName("Should create backup successfully")
     void shouldCreateBackupSuccessfully() {
@@ -170,21 +287,126 @@ class GameDataServiceImplTest {
         assertTrue(backupFiles.length > 0);
     }
     
+    @Test
+    @DisplayName("Should back up the edits made since the last load")
+    void shouldBackUpCurrentState() throws Exception {
+        // Given
+        GameDataServiceImpl service = (GameDataServiceImpl) gameDataService;
+        DatabaseServiceImpl databaseService = new DatabaseServiceImpl(service);
+        service.setDatabaseService(databaseService);
+        assertTrue(databaseService.createDatabase("alpha"));
+        for (String[] pair : List.of(new String[]{"gato", "cat"}, new String[]{"perro", "dog"})) {
+            assertTrue(databaseService.addSpanishExpression("alpha", new SpanishExpression(pair[0], 0,
+                    new ArrayList<>(List.of(new EnglishExpression(pair[1], 0, new ArrayList<>()))))));
+        }
+        assertEquals(List.of("perro"), databaseService.deleteExpressions("alpha", List.of("perro")).done());
+        
+        // When
+        assertTrue(gameDataService.createBackup());
+        
+        // Then
+        File[] backupFiles = Paths.get(testDataDirectory, "backups").toFile().listFiles();
+        assertNotNull(backupFiles);
+        assertEquals(1, backupFiles.length);
+        String backup = Files.readString(backupFiles[0].toPath());
+        assertTrue(backup.contains("\"alpha\""));
+        assertTrue(backup.contains("\"gato\""));
+        assertFalse(backup.contains("\"perro\""));
+    }
+    
     @Test
     @DisplayName("Should restore from backup successfully")
     void shouldRestoreFromBackupSuccessfully() {
         // Given
         populateRepositoryWithTestData();
         gameDataService.createBackup();
-        repository.clear();
+        gameDataService.getRepository().clear();
         
         // When
         boolean result = gameDataService.restoreFromBackup();
         
         // Then
         assertTrue(result);
-        assertFalse(repository.isEmpty());
-        assertEquals(2, repository.size());
+        assertFalse(gameDataService.getRepository().isEmpty());
+        assertEquals(2, gameDataService.getRepository().size());
+    }
+    
+    @Test
+    @DisplayName("Should rebuild the databases from a restored backup so the next save keeps it")
+    void shouldKeepRestoredBackupAcrossSave() {
+        // Given
+        GameDataServiceImpl service = (GameDataServiceImpl) gameDataService;
+        DatabaseServiceImpl databaseService = new DatabaseServiceImpl(service);
+        service.setDatabaseService(databaseService);
+        assertTrue(databaseService.createDatabase("alpha"));
+        assertTrue(databaseService.addSpanishExpression("alpha", spanish("gato", "cat")));
+        assertTrue(gameDataService.createBackup());
+        assertTrue(databaseService.addSpanishExpression("alpha", spanish("perro", "dog")));
+        
+        // When
+        assertTrue(gameDataService.restoreFromBackup());
+        assertTrue(gameDataService.saveGameData());
+        
+        // Then
+        GameDataServiceImpl reloaded = new GameDataServiceImpl(new DBRepositoryImpl());
+        reloaded.setDataDirectory(testDataDirectory);
+        DatabaseServiceImpl reloadedDatabases = new DatabaseServiceImpl(reloaded);
+        reloaded.setDatabaseService(reloadedDatabases);
+        assertTrue(reloaded.loadGameData());
+        reloadedDatabases.synchronizeWithRepository();
+        assertEquals(List.of("gato"), reloadedDatabases.getSpanishExpressions("alpha").stream()
+                .map(SpanishExpression::getExpression).toList());
+    }
+    
+    @Test
+    @DisplayName("Should build the lemma and phrase indexes as separate startup tasks")
+    void shouldBuildIndexesAsSeparateTasks() {
+        // Given
+        GameDataServiceImpl service = (GameDataServiceImpl) gameDataService;
+        DatabaseServiceImpl databaseService = new DatabaseServiceImpl(service);
+        service.setDatabaseService(databaseService);
+        assertTrue(databaseService.createDatabase("alpha"));
+        assertTrue(databaseService.addSpanishExpression("alpha", spanish("gato", "cat")));
+        assertTrue(databaseService.addEnglishExpression("alpha", new EnglishExpression("bird", 0, new ArrayList<>())));
+        assertTrue(gameDataService.saveGameData());
+        GameDataServiceImpl reloaded = new GameDataServiceImpl(new DBRepositoryImpl());
+        reloaded.setDataDirectory(testDataDirectory);
+        DatabaseServiceImpl reloadedDatabases = new DatabaseServiceImpl(reloaded);
+        reloaded.setDatabaseService(reloadedDatabases);
+        assertTrue(reloaded.loadGameData());
+        List<Runnable> startup = new ArrayList<>();
+        
+        // When
+        CompletableFuture<Void> synchronizing = reloadedDatabases.synchronizeWithRepository(startup::add);
+        
+        // Then: the buckets are there, the indexes are two pending tasks
+        assertEquals(1, reloadedDatabases.getSpanishExpressionCount("alpha"));
+        assertEquals(2, startup.size());
+        assertFalse(synchronizing.isDone());
+        startup.forEach(Runnable::run);
+        assertTrue(synchronizing.isDone());
+        // Both lookups go through the indexes
+        assertEquals(List.of("gato", "bird"),
+                reloadedDatabases.deleteExpressions("alpha", List.of("gato", "bird")).done());
+    }
+    
+    @Test
+    @DisplayName("Should rebuild the databases from imported JSON")
+    void shouldSynchronizeImportedData() {
+        // Given
+        GameDataServiceImpl service = (GameDataServiceImpl) gameDataService;
+        DatabaseServiceImpl databaseService = new DatabaseServiceImpl(service);
+        service.setDatabaseService(databaseService);
+        assertTrue(databaseService.createDatabase("alpha"));
+        assertTrue(databaseService.addSpanishExpression("alpha", spanish("gato", "cat")));
+        String exported = gameDataService.exportToJSON();
+        assertTrue(databaseService.addSpanishExpression("alpha", spanish("perro", "dog")));
+        
+        // When
+        assertTrue(gameDataService.importFromJSON(exported));
+        
+        // Then
+        assertEquals(1, databaseService.getSpanishExpressionCount("alpha"));
     }
     
     @Test
@@ -218,15 +440,15 @@ class GameDataServiceImplTest {
     void shouldImportFromJSONString() {
         // Given
         String jsonData = createTestJSONData();
-        repository.clear();
+        gameDataService.getRepository().clear();
         
         // When
         boolean result = gameDataService.importFromJSON(jsonData);
         
         // Then
         assertTrue(result);
-        assertFalse(repository.isEmpty());
-        assertEquals(2, repository.size());
+        assertFalse(gameDataService.getRepository().isEmpty());
+        assertEquals(2, gameDataService.getRepository().size());
     }
     
     @Test
@@ -310,12 +532,17 @@ class GameDataServiceImplTest {
     }
     
     // Helper methods
+    private static SpanishExpression spanish(String spanish, String english) {
+        return new SpanishExpression(spanish, 0,
+                new ArrayList<>(List.of(new EnglishExpression(english, 0, new ArrayList<>()))));
+    }
+    
     private void populateRepositoryWithTestData() {
         List<Map<String, Object>> spanishRecord = createSpanishExpressionRecord();
         List<Map<String, Object>> englishRecord = createEnglishExpressionRecord();
         
-        repository.save(spanishRecord);
-        repository.save(englishRecord);
+        gameDataService.getRepository().save(spanishRecord);
+        gameDataService.getRepository().save(englishRecord);
     }
     
     private List<Map<String, Object>> createSpanishExpressionRecord() {
@@ -0,0 +1,117 @@
+package com.englishgame.service.implementations;
+
+import com.englishgame.instrumentation.Instrumentation;
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.SpanishExpression;
+import com.englishgame.repository.implementations.DBRepositoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PruneCandidates Tests")
+class PruneCandidatesTest {
+
+    private static final String TEST_DATA_DIR = "test_data_prune_candidates";
+
+    private DatabaseServiceImpl databaseService;
+
+    @BeforeEach
+    void setUp() {
+        GameDataServiceImpl gameDataService = new GameDataServiceImpl(new DBRepositoryImpl());
+        gameDataService.setDataDirectory(TEST_DATA_DIR);
+        databaseService = new DatabaseServiceImpl(gameDataService);
+        gameDataService.setDatabaseService(databaseService);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Path testPath = Paths.get(TEST_DATA_DIR);
+        if (Files.exists(testPath)) {
+            try (var walk = Files.walk(testPath)) {
+                walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should hand out each candidate once and follow renames")
+    void shouldDrainCandidatesOnce() {
+        PruneCandidates candidates = new PruneCandidates();
+        SpanishExpression casa = phrase("casa");
+        candidates.markRow("alpha", casa);
+        candidates.markRow("alpha", phrase("perro"));
+        candidates.remove("alpha", phrase("perro"));
+        candidates.markDatabase("beta");
+        candidates.renameDatabase("alpha", "gamma");
+
+        assertEquals(Set.of("gamma", "beta"), candidates.databases());
+        PruneCandidates.Batch gamma = candidates.drain("gamma");
+        assertFalse(gamma.wholeDatabase());
+        assertEquals(2, gamma.rows().size(), "rows compare by identity");
+        assertTrue(gamma.rows().stream().anyMatch(row -> row == casa));
+        assertTrue(candidates.drain("beta").wholeDatabase());
+        assertSame(PruneCandidates.Batch.NONE, candidates.drain("gamma"));
+        assertTrue(candidates.databases().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should prune registered rows and databases modified in place, and count them")
+    void shouldPruneOnlyCandidates() {
+        long before = Instrumentation.counter("database.pruned.spanish").sum();
+        assertTrue(databaseService.createDatabase("alpha"));
+        assertTrue(databaseService.createDatabase("beta"));
+        assertTrue(databaseService.addSpanishExpression("alpha", phrase("vacío")));
+        assertTrue(databaseService.addSpanishExpression("beta", phrase("casa", "house")));
+
+        databaseService.pruneSpanishRowsWithoutTranslations();
+        assertTrue(databaseService.getSpanishExpressions("alpha").isEmpty());
+        assertEquals(1, databaseService.getSpanishExpressions("beta").size());
+
+        // Mutado fuera del servicio: solo markModified lo avisa
+        databaseService.getSpanishExpressions("beta").get(0).getTranslations().clear();
+        databaseService.markModified("beta");
+        databaseService.pruneSpanishRowsWithoutTranslations();
+
+        assertTrue(databaseService.getSpanishExpressions("beta").isEmpty());
+        assertEquals(2, Instrumentation.counter("database.pruned.spanish").sum() - before);
+    }
+
+    @Test
+    @DisplayName("Should flag only rows whose translations changed, not databases whose scores changed")
+    void shouldNotFlagScoreChanges() {
+        assertTrue(databaseService.createDatabase("beta"));
+        assertTrue(databaseService.addSpanishExpression("beta", phrase("casa", "house")));
+        assertTrue(databaseService.addSpanishExpression("beta", phrase("perro", "dog")));
+        SpanishExpression casa = databaseService.getSpanishExpressions("beta").stream()
+                .filter(row -> row.getExpression().equals("casa")).findFirst().orElseThrow();
+        casa.getTranslations().clear();
+
+        databaseService.markScoresModified("beta", List.of(casa));
+        databaseService.pruneSpanishRowsWithoutTranslations();
+        assertEquals(2, databaseService.getSpanishExpressions("beta").size());
+
+        databaseService.markTranslationsModified("beta", casa);
+        databaseService.pruneSpanishRowsWithoutTranslations();
+        assertEquals(1, databaseService.getSpanishExpressions("beta").size());
+    }
+
+    private static SpanishExpression phrase(String spanish, String... english) {
+        List<EnglishExpression> translations = new ArrayList<>();
+        for (String en : english) {
+            translations.add(new EnglishExpression(en, 0, new ArrayList<>()));
+        }
+        return new SpanishExpression(spanish, 0, translations);
+    }
+}
@@ -0,0 +1,184 @@
+package com.englishgame.service.implementations;
+
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.LearnedWordsReviewResult;
+import com.englishgame.model.ReviewDatabases;
+import com.englishgame.model.SpanishExpression;
+import com.englishgame.repository.implementations.DBRepositoryImpl;
+import com.englishgame.service.interfaces.ReviewSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReviewSession Tests")
+class ReviewSessionTest {
+
+    private static final String TEST_DATA_DIR = "test_data_review_session";
+    private static final Path GAME_DATA = Paths.get(TEST_DATA_DIR, "game_data.json");
+    private static final Path JOURNAL = Paths.get(TEST_DATA_DIR, ReviewJournal.FILE_NAME);
+
+    private DatabaseServiceImpl databaseService;
+
+    @BeforeEach
+    void setUp() {
+        databaseService = newService();
+        assertTrue(databaseService.createDatabase("alpha"));
+        assertTrue(databaseService.addSpanishExpression("alpha", phrase("gato", "cat")));
+        addLearned("house", "casa", 10);
+        addLearned("dog", "perro", 10);
+        addLearned("tree", "árbol", ReviewDatabases.LEARNED_REVIEW_GRADUATE_SCORE - 1);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Path testPath = Paths.get(TEST_DATA_DIR);
+        if (Files.exists(testPath)) {
+            try (var walk = Files.walk(testPath)) {
+                walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should apply attempts in memory and save only when the session closes")
+    void shouldDeferSaveUntilClose() throws Exception {
+        Files.delete(GAME_DATA);
+        ReviewSession session = databaseService.beginReviewSession(false);
+
+        LearnedWordsReviewResult result = session.submit(learned("house"), "house",
+                ReviewDatabases.LEARNED_WORDS_KEY, null).orElseThrow();
+
+        assertEquals(11, result.scoreAfter());
+        assertEquals(11, learned("house").getScore());
+        assertEquals(1, session.pendingAttempts());
+        assertFalse(Files.exists(GAME_DATA));
+
+        session.close();
+
+        assertTrue(Files.exists(GAME_DATA));
+        assertFalse(Files.exists(JOURNAL));
+        assertThrows(IllegalStateException.class, () -> session.submit(learned("dog"), "dog",
+                ReviewDatabases.LEARNED_WORDS_KEY, null));
+    }
+
+    @Test
+    @DisplayName("Should recover checkpointed attempts after a crash and roll back the rest")
+    void shouldRecoverCheckpointedAttempts() {
+        ReviewSession session = databaseService.beginReviewSession(false);
+        session.submit(learned("house"), "house", ReviewDatabases.LEARNED_WORDS_KEY, null).orElseThrow();
+        LearnedWordsReviewResult promoted = session.submit(learned("tree"), "tree",
+                ReviewDatabases.LEARNED_WORDS_KEY, null).orElseThrow();
+        assertEquals(LearnedWordsReviewResult.Outcome.PROMOTED_TO_DEFINITELY_LEARNED, promoted.outcome());
+        session.checkpoint();
+        assertEquals(0, session.pendingAttempts());
+        assertTrue(Files.exists(JOURNAL));
+        session.submit(learned("dog"), "dog", ReviewDatabases.LEARNED_WORDS_KEY, null).orElseThrow();
+
+        // Crash: the session is never closed and the next start loads the last saved file
+        DatabaseServiceImpl restarted = newService();
+        assertEquals(2, restarted.recoverReviewSession());
+
+        assertEquals(11, find(restarted, ReviewDatabases.LEARNED_WORDS_KEY, "house").getScore());
+        assertEquals(10, find(restarted, ReviewDatabases.LEARNED_WORDS_KEY, "dog").getScore());
+        assertEquals(ReviewDatabases.LEARNED_REVIEW_GRADUATE_SCORE,
+                find(restarted, ReviewDatabases.WORDS_DEFINITELY_LEARNED_KEY, "tree").getScore());
+        assertFalse(Files.exists(JOURNAL));
+        assertEquals(0, restarted.recoverReviewSession());
+    }
+
+    @Test
+    @DisplayName("Should replay a journal idempotently over a file that already has its attempts")
+    void shouldReplayIdempotently() throws Exception {
+        ReviewSession session = databaseService.beginReviewSession(false);
+        session.submit(learned("tree"), "tree", ReviewDatabases.LEARNED_WORDS_KEY, null).orElseThrow();
+        session.checkpoint();
+        List<String> journal = Files.readAllLines(JOURNAL);
+        session.close();
+        Files.write(JOURNAL, journal);
+
+        DatabaseServiceImpl restarted = newService();
+        assertEquals(0, restarted.recoverReviewSession());
+        assertNotNull(find(restarted, ReviewDatabases.WORDS_DEFINITELY_LEARNED_KEY, "tree"));
+        assertTrue(restarted.getLearnedExpressions().stream().noneMatch(en -> "tree".equals(en.getExpression())));
+    }
+
+    @Test
+    @DisplayName("Should leave the score alone when a replayed return to learned words cannot move the card")
+    void shouldNotScoreFailedReplayedReturn() throws Exception {
+        EnglishExpression mastered = new EnglishExpression("house", 30, new ArrayList<>(List.of(phrase("casa"))));
+        assertTrue(databaseService.addEnglishExpression(ReviewDatabases.WORDS_DEFINITELY_LEARNED_KEY, mastered));
+        ReviewJournal.in(TEST_DATA_DIR).append(List.of(ReviewJournal.Entry.review(
+                ReviewDatabases.WORDS_DEFINITELY_LEARNED_KEY, "house",
+                LearnedWordsReviewResult.Outcome.RETURNED_TO_LEARNED, 20, null)));
+
+        // learned_words already holds "house", so the card cannot go back there
+        DatabaseServiceImpl restarted = newService();
+        assertEquals(0, restarted.recoverReviewSession());
+        assertEquals(30, find(restarted, ReviewDatabases.WORDS_DEFINITELY_LEARNED_KEY, "house").getScore());
+        assertEquals(10, find(restarted, ReviewDatabases.LEARNED_WORDS_KEY, "house").getScore());
+    }
+
+    @Test
+    @DisplayName("Should journal pending attempts before an edit that undoes one of them")
+    void shouldCheckpointBeforeJournalingEdits() {
+        ReviewSession session = databaseService.beginReviewSession(false);
+        LearnedWordsReviewResult demoted = session.submit(learned("house"), "home",
+                ReviewDatabases.LEARNED_WORDS_KEY, null).orElseThrow();
+        assertEquals(LearnedWordsReviewResult.Outcome.DEMOTED_TO_PRACTICE, demoted.outcome());
+        assertEquals(1, session.pendingAttempts());
+
+        assertTrue(databaseService.restoreDemotedTranslation("alpha", "casa", "house", 10).isPresent());
+        assertEquals(0, session.pendingAttempts());
+
+        // Crash: the undo is replayed after the demotion it reverts
+        DatabaseServiceImpl restarted = newService();
+        assertEquals(2, restarted.recoverReviewSession());
+        assertEquals(10, find(restarted, ReviewDatabases.LEARNED_WORDS_KEY, "house").getScore());
+    }
+
+    private static DatabaseServiceImpl newService() {
+        GameDataServiceImpl gameDataService = new GameDataServiceImpl(new DBRepositoryImpl());
+        gameDataService.setDataDirectory(TEST_DATA_DIR);
+        DatabaseServiceImpl service = new DatabaseServiceImpl(gameDataService);
+        gameDataService.setDatabaseService(service);
+        gameDataService.loadGameData();
+        service.synchronizeWithRepository();
+        return service;
+    }
+
+    private void addLearned(String english, String spanish, int score) {
+        EnglishExpression card = new EnglishExpression(english, score, new ArrayList<>(List.of(phrase(spanish))));
+        card.setPracticeSourceDatabase("alpha");
+        assertTrue(databaseService.addEnglishExpression(ReviewDatabases.LEARNED_WORDS_KEY, card));
+    }
+
+    private EnglishExpression learned(String english) {
+        return find(databaseService, ReviewDatabases.LEARNED_WORDS_KEY, english);
+    }
+
+    private static EnglishExpression find(DatabaseServiceImpl service, String database, String english) {
+        return service.getEnglishExpressions(database).stream()
+                .filter(en -> english.equals(en.getExpression()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static SpanishExpression phrase(String spanish, String... english) {
+        List<EnglishExpression> translations = new ArrayList<>();
+        for (String en : english) {
+            translations.add(new EnglishExpression(en, 0, new ArrayList<>()));
+        }
+        return new SpanishExpression(spanish, 0, translations);
+    }
+}
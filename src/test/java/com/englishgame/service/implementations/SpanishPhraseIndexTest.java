@@ -0,0 +1,105 @@
+package com.englishgame.service.implementations;
+
+import com.englishgame.model.EnglishExpression;
+import com.englishgame.model.LearnedWordsReviewResult;
+import com.englishgame.model.ReviewDatabases;
+import com.englishgame.model.SpanishExpression;
+import com.englishgame.repository.implementations.DBRepositoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SpanishPhraseIndex Tests")
+class SpanishPhraseIndexTest {
+
+    private static final String TEST_DATA_DIR = "test_data_phrase_index";
+
+    private DatabaseServiceImpl databaseService;
+
+    @BeforeEach
+    void setUp() {
+        GameDataServiceImpl gameDataService = new GameDataServiceImpl(new DBRepositoryImpl());
+        gameDataService.setDataDirectory(TEST_DATA_DIR);
+        databaseService = new DatabaseServiceImpl(gameDataService);
+        gameDataService.setDatabaseService(databaseService);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Path testPath = Paths.get(TEST_DATA_DIR);
+        if (Files.exists(testPath)) {
+            try (var walk = Files.walk(testPath)) {
+                walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should list databases per phrase and follow renames and deletions")
+    void shouldTrackDatabasesPerPhrase() {
+        SpanishPhraseIndex index = new SpanishPhraseIndex();
+        SpanishExpression casa = phrase("casa", "house");
+        index.add("casa", "alpha", casa);
+        index.add("casa", "alpha", phrase("casa", "home"));
+        index.add("casa", "beta", phrase("casa", "dwelling"));
+
+        assertEquals(Set.of("alpha", "beta"), Set.copyOf(index.databases("casa")));
+
+        index.remove("casa", "beta", phrase("casa", "dwelling"));
+        assertEquals(Set.of("alpha", "beta"), Set.copyOf(index.databases("casa")), "rows compare by identity");
+
+        index.renameDatabase("alpha", "gamma");
+        index.removeDatabase("beta");
+        assertEquals(List.of("gamma"), index.databases("casa"));
+        assertTrue(index.anyRow("casa", "gamma").isPresent());
+        assertTrue(index.anyRow("casa", "alpha").isEmpty());
+        assertTrue(index.databases("perro").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should demote a card without practice source to the only database holding its phrase")
+    void shouldDemoteToDatabaseHoldingPhrase() {
+        assertTrue(databaseService.createDatabase("alpha"));
+        assertTrue(databaseService.createDatabase("beta"));
+        assertTrue(databaseService.createDatabase("gamma"));
+        assertTrue(databaseService.addSpanishExpression("alpha", phrase("perro", "dog")));
+        assertTrue(databaseService.addSpanishExpression("beta", phrase("casa", "home")));
+        assertTrue(databaseService.renameDatabase("beta", "hogar").isPresent());
+
+        EnglishExpression card = new EnglishExpression("house", ReviewDatabases.REVIEW_DEMOTION_UNDER_SCORE,
+                new ArrayList<>(List.of(phrase("casa"))));
+        assertTrue(databaseService.addEnglishExpression(ReviewDatabases.LEARNED_WORDS_KEY, card));
+
+        LearnedWordsReviewResult result = databaseService.submitLearnedWordsReviewAttempt(card, "wrong",
+                ReviewDatabases.LEARNED_WORDS_KEY, false, null).orElseThrow();
+
+        assertEquals(LearnedWordsReviewResult.Outcome.DEMOTED_TO_PRACTICE, result.outcome());
+        assertEquals("hogar", card.getPracticeSourceDatabase());
+        List<SpanishExpression> rows = databaseService.getSpanishExpressions("hogar");
+        assertEquals(1, rows.size());
+        assertEquals(Set.of("home", "house"), rows.get(0).getTranslations().stream()
+                .map(EnglishExpression::getExpression).collect(Collectors.toSet()));
+        assertTrue(databaseService.getLearnedExpressions().isEmpty());
+    }
+
+    private static SpanishExpression phrase(String spanish, String... english) {
+        List<EnglishExpression> translations = new ArrayList<>();
+        for (String en : english) {
+            translations.add(new EnglishExpression(en, 0, new ArrayList<>()));
+        }
+        return new SpanishExpression(spanish, 0, translations);
+    }
+}